@@ -4,6 +4,8 @@
  */
 package software.amazon.smithy.aws.cloudformation.schema.fromsmithy.mappers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import software.amazon.smithy.aws.cloudformation.schema.CfnException;
@@ -14,6 +16,7 @@ import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.NodePointer;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 /**
@@ -44,20 +47,18 @@ final class JsonAddMapper implements CfnMapper {
         }
 
         // Apply the set of pointers for this resource.
-        ObjectNode result = node;
+        List<Pair<NodePointer, Node>> additions = new ArrayList<>();
         for (Map.Entry<String, Node> entry : add.get(resourceShapeId).entrySet()) {
             try {
                 LOGGER.info(() -> String.format("CloudFormation `jsonAdd` for `%s`: adding `%s`",
                         resourceShapeId,
                         entry.getKey()));
-                result = NodePointer.parse(entry.getKey())
-                        .addWithIntermediateValues(result, entry.getValue().toNode())
-                        .expectObjectNode();
+                additions.add(Pair.of(NodePointer.parse(entry.getKey()), entry.getValue().toNode()));
             } catch (IllegalArgumentException e) {
                 throw new CfnException(e.getMessage(), e);
             }
         }
 
-        return result;
+        return NodePointer.addValuesWithIntermediateValues(node, additions).expectObjectNode();
     }
 }
@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import software.amazon.smithy.model.jfr.JfrEvents;
+
+/**
+ * Emits Java Flight Recorder events for build plugins.
+ *
+ * <p>Like {@link JfrEvents}, event classes are only loaded if the JFR API
+ * is available, and events are represented as opaque objects that are
+ * null when they aren't recorded.
+ */
+final class BuildEvents {
+
+    private BuildEvents() {}
+
+    static Object beginPluginExecuted() {
+        if (JfrEvents.isAvailable()) {
+            PluginExecutedEvent event = new PluginExecutedEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    static void commitPluginExecuted(Object event, String projection, PluginId plugin) {
+        if (event != null) {
+            PluginExecutedEvent e = (PluginExecutedEvent) event;
+            e.end();
+            if (e.shouldCommit()) {
+                e.projection = projection;
+                e.plugin = plugin.toString();
+                e.commit();
+            }
+        }
+    }
+}
@@ -4,29 +4,58 @@
  */
 package software.amazon.smithy.build;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
 
 /**
  * @see FileManifest#create
  */
 final class DefaultFileManifest implements FileManifest {
+    // Limits the memory used by the contents of files that are waiting to be written asynchronously.
+    private static final int MAX_PENDING_WRITES = 256;
+    // Contents larger than this are spooled to a temporary file instead of being held in memory.
+    private static final int MAX_BUFFERED_BYTES = 256 * 1024;
+
     private final Set<Path> files = new ConcurrentSkipListSet<>(Comparator.comparing(Path::toString));
     private final Path baseDir;
+    private final Executor writeExecutor;
+    private final Semaphore writePermits = new Semaphore(MAX_PENDING_WRITES);
+    private final Map<Path, CompletableFuture<Void>> pendingWrites = new ConcurrentHashMap<>();
+    private final Queue<SmithyBuildException> writeFailures = new ConcurrentLinkedQueue<>();
 
     DefaultFileManifest(Path baseDir) {
+        this(baseDir, null);
+    }
+
+    DefaultFileManifest(Path baseDir, Executor writeExecutor) {
         this.baseDir = baseDir;
+        this.writeExecutor = writeExecutor;
     }
 
     @Override
@@ -64,30 +93,252 @@ final class DefaultFileManifest implements FileManifest {
 
     @Override
     public Path writeFile(Path path, Reader fileContentsReader) {
-        path = addFile(path);
+        return write(path, out -> {
+            try (BufferedReader bufferedReader = new BufferedReader(fileContentsReader)) {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                int len;
+                char[] buffer = new char[4096];
+                while ((len = bufferedReader.read(buffer)) != -1) {
+                    writer.write(buffer, 0, len);
+                }
+                writer.flush();
+            }
+        });
+    }
 
-        try (BufferedReader bufferedReader = new BufferedReader(fileContentsReader);
-                BufferedWriter writer = Files.newBufferedWriter(path)) {
+    @Override
+    public Path writeFile(Path path, InputStream fileContentsInputStream) {
+        return write(path, out -> {
             int len;
-            char[] buffer = new char[4096];
-            while ((len = bufferedReader.read(buffer)) != -1) {
-                writer.write(buffer, 0, len);
+            byte[] buffer = new byte[8192];
+            while ((len = fileContentsInputStream.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
             }
-            return path;
-        } catch (IOException e) {
-            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+        });
+    }
+
+    @Override
+    public Path writeUsing(Path path, Consumer<Writer> consumer) {
+        Path resolved = addFile(path);
+        return write(resolved, out -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            // Exceptions thrown by the consumer propagate unchanged, as they do with FileManifest#writeUsing.
+            consumer.accept(writer);
+            try {
+                writer.write('\n');
+                writer.flush();
+            } catch (IOException e) {
+                throw new SmithyBuildException(
+                        "Unable to create a write to file `" + resolved + "`: " + e.getMessage(), e);
+            }
+        });
+    }
+
+    @Override
+    public Path writeUsingOutputStream(Path path, Consumer<OutputStream> consumer) {
+        return write(path, out -> {
+            try {
+                consumer.accept(out);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        });
+    }
+
+    @Override
+    public Path copyFile(Path path, Path source) {
+        Path resolved = addFile(path);
+
+        // The source is read when the copy runs, so it must not change until the manifest is flushed.
+        if (writeExecutor == null) {
+            copyContents(source, resolved);
+        } else {
+            submit(resolved, () -> copyContents(source, resolved));
         }
+
+        return resolved;
     }
 
     @Override
-    public Path writeFile(Path path, InputStream fileContentsInputStream) {
-        path = addFile(path);
+    public void flush() {
+        for (CompletableFuture<Void> write : pendingWrites.values()) {
+            write.join();
+        }
+        pendingWrites.values().removeIf(CompletableFuture::isDone);
+
+        SmithyBuildException failure = writeFailures.poll();
+        if (failure != null) {
+            SmithyBuildException suppressed;
+            while ((suppressed = writeFailures.poll()) != null) {
+                failure.addSuppressed(suppressed);
+            }
+            throw failure;
+        }
+    }
 
+    private Path write(Path path, ContentWriter contents) {
+        Path resolved = addFile(path);
+
+        if (writeExecutor == null) {
+            writeContents(resolved, contents);
+            return resolved;
+        }
+
+        // The contents are read now since the caller owns the reader, stream, or consumer that provides them.
+        SpoolingOutputStream spool = new SpoolingOutputStream();
         try {
-            Files.copy(fileContentsInputStream, path, StandardCopyOption.REPLACE_EXISTING);
-            return path;
+            contents.write(spool);
+            spool.close();
         } catch (IOException e) {
-            throw new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+            spool.discard();
+            throw writeError(resolved, e);
+        } catch (RuntimeException e) {
+            spool.discard();
+            throw e;
+        }
+
+        Path spooled = spool.getFile();
+        if (spooled == null) {
+            submit(resolved, () -> writeContents(resolved, spool::writeTo));
+        } else {
+            try {
+                submit(resolved, () -> {
+                    try {
+                        copyContents(spooled, resolved);
+                    } finally {
+                        spool.discard();
+                    }
+                });
+            } catch (RuntimeException e) {
+                spool.discard();
+                throw e;
+            }
+        }
+
+        return resolved;
+    }
+
+    private void submit(Path resolved, Runnable write) {
+        writePermits.acquireUninterruptibly();
+        try {
+            // Writes to the same file are chained so that the last write wins.
+            pendingWrites.compute(resolved, (p, previous) -> {
+                Runnable task = () -> {
+                    try {
+                        write.run();
+                    } catch (SmithyBuildException e) {
+                        writeFailures.add(e);
+                    } catch (RuntimeException e) {
+                        writeFailures.add(new SmithyBuildException(
+                                "Unable to write file `" + resolved + "`: " + e.getMessage(), e));
+                    } finally {
+                        writePermits.release();
+                    }
+                };
+                // Each write runs even if an earlier one failed so that every permit is released.
+                return previous == null
+                        ? CompletableFuture.runAsync(task, writeExecutor)
+                        : previous.handleAsync((result, error) -> {
+                            task.run();
+                            return null;
+                        }, writeExecutor);
+            });
+        } catch (RuntimeException e) {
+            writePermits.release();
+            throw e;
+        }
+    }
+
+    private static void writeContents(Path path, ContentWriter contents) {
+        try (OutputStream out = new WriteIfChangedOutputStream(path)) {
+            contents.write(out);
+        } catch (IOException e) {
+            throw writeError(path, e);
+        }
+    }
+
+    private static void copyContents(Path source, Path target) {
+        try {
+            if (Files.isRegularFile(target) && Files.size(target) == Files.size(source)) {
+                // The file might be unchanged, so compare the contents and only write if they differ.
+                writeContents(target, out -> Files.copy(source, out));
+            } else {
+                Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to copy `" + source + "` to `" + target + "`: " + e.getMessage(), e);
+        }
+    }
+
+    private static SmithyBuildException writeError(Path path, IOException e) {
+        return new SmithyBuildException("Unable to write contents of file `" + path + "`: " + e.getMessage(), e);
+    }
+
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    // Buffers contents in memory until they exceed MAX_BUFFERED_BYTES, and then in a temporary file.
+    private static final class SpoolingOutputStream extends OutputStream {
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private Path file;
+        private OutputStream fileOut;
+
+        @Override
+        public void write(int b) throws IOException {
+            spillIfNeeded(1);
+            if (fileOut != null) {
+                fileOut.write(b);
+            } else {
+                memory.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            spillIfNeeded(len);
+            if (fileOut != null) {
+                fileOut.write(b, off, len);
+            } else {
+                memory.write(b, off, len);
+            }
+        }
+
+        private void spillIfNeeded(int len) throws IOException {
+            if (fileOut == null && memory.size() + len > MAX_BUFFERED_BYTES) {
+                file = Files.createTempFile("smithy-manifest", ".tmp");
+                fileOut = new BufferedOutputStream(Files.newOutputStream(file));
+                memory.writeTo(fileOut);
+                memory = null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (fileOut != null) {
+                fileOut.close();
+            }
+        }
+
+        // Returns the temporary file that holds the contents, or null if they're held in memory.
+        Path getFile() {
+            return file;
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            memory.writeTo(out);
+        }
+
+        void discard() {
+            if (file != null) {
+                try {
+                    fileOut.close();
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+            }
         }
     }
 }
@@ -4,8 +4,11 @@
  */
 package software.amazon.smithy.build;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
@@ -13,7 +16,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.node.Node;
@@ -28,6 +33,10 @@ public interface FileManifest {
     /**
      * Create a default file manifest for the given base path.
      *
+     * <p>Files are written when they're added to the manifest. A file is
+     * only modified if its contents change, which preserves the last
+     * modified time of files that a build regenerates unchanged.
+     *
      * @param basePath Base path where files are written.
      * @return Returns the created manifest.
      */
@@ -35,6 +44,28 @@ public interface FileManifest {
         return new DefaultFileManifest(basePath);
     }
 
+    /**
+     * Create a default file manifest for the given base path that writes
+     * files asynchronously.
+     *
+     * <p>The contents of a file are read when the file is added to the
+     * manifest and then written to disk using the given executor, so that
+     * plugins that generate many files aren't blocked on each write. Until
+     * they're written, the contents of readers, input streams, and writer
+     * consumers are buffered in memory, or in a temporary file if they're
+     * large. Files might not be written until {@link #flush()} is called,
+     * and errors that occur while writing are thrown from {@code flush}.
+     * Files added using {@link #copyFile} are read when they're copied, so
+     * they must not change until the manifest is flushed.
+     *
+     * @param basePath Base path where files are written.
+     * @param writeExecutor Executor used to write files.
+     * @return Returns the created manifest.
+     */
+    static FileManifest create(Path basePath, Executor writeExecutor) {
+        return new DefaultFileManifest(basePath, Objects.requireNonNull(writeExecutor));
+    }
+
     /**
      * Gets the base directory of the manifest.
      *
@@ -206,6 +237,46 @@ public interface FileManifest {
         return writeFile(Paths.get(path), fileContentsInputStream);
     }
 
+    /**
+     * Adds a file to the result by copying an existing file.
+     *
+     * <p>The default implementation streams the contents of the file to
+     * {@link #writeFile(Path, InputStream)}. Implementations should
+     * override this method to copy the file without reading it into the
+     * JVM when possible.
+     *
+     * @param path Relative path to the file to create.
+     * @param source File to copy.
+     * @return Returns the resolved path.
+     */
+    default Path copyFile(Path path, Path source) {
+        try (InputStream inputStream = Files.newInputStream(source)) {
+            return writeFile(path, inputStream);
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to copy `" + source + "` to `" + path + "`: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Opens a file of the manifest to read its contents.
+     *
+     * <p>The default implementation reads the file from disk, so files that
+     * are written asynchronously can only be read after the manifest is
+     * {@link #flush() flushed}.
+     *
+     * @param path Relative or absolute path of the file to read.
+     * @return Returns a stream of the contents of the file that the caller must close.
+     * @throws SmithyBuildException if the file cannot be read.
+     */
+    default InputStream readFile(Path path) {
+        Path resolved = resolvePath(path);
+        try {
+            return Files.newInputStream(resolved);
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to read file `" + resolved + "`: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Adds a Node artifact, converting it automatically to JSON.
      *
@@ -250,6 +321,34 @@ public interface FileManifest {
         return resolved;
     }
 
+    /**
+     * Adds a file to the result generated by passing an output stream to the consumer.
+     *
+     * <p>Unlike {@link #writeUsing}, no trailing newline is written. The
+     * default implementation buffers the written bytes and then calls
+     * {@link #writeFile(Path, InputStream)}. Implementations should
+     * override this method to stream the bytes directly to the file.
+     *
+     * @param path Relative path to write to.
+     * @param consumer Consumer that writes the contents of the file.
+     * @return Returns the resolved path.
+     */
+    default Path writeUsingOutputStream(Path path, Consumer<OutputStream> consumer) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        consumer.accept(outputStream);
+        return writeFile(path, new ByteArrayInputStream(outputStream.toByteArray()));
+    }
+
+    /**
+     * Waits for every file added to the manifest to be written to disk.
+     *
+     * <p>This does nothing by default since files are written when they're
+     * added to the manifest.
+     *
+     * @throws SmithyBuildException if a file could not be written.
+     */
+    default void flush() {}
+
     /**
      * Checks if the given file is stored in the manifest.
      *
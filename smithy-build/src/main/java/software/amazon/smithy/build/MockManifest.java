@@ -4,9 +4,11 @@
  */
 package software.amazon.smithy.build;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringWriter;
 import java.io.Writer;
@@ -138,6 +140,13 @@ public final class MockManifest implements FileManifest {
         return writeFile(path, writer.toString());
     }
 
+    @Override
+    public Path writeUsingOutputStream(Path path, Consumer<OutputStream> consumer) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        consumer.accept(outputStream);
+        return storeFile(path, outputStream.toByteArray());
+    }
+
     /**
      * Gets the contents of a stored file as a String.
      *
@@ -182,6 +191,23 @@ public final class MockManifest implements FileManifest {
         return expectFileString(Paths.get(file));
     }
 
+    /**
+     * Opens a file stored in memory.
+     *
+     * @param path Relative or absolute path of the file to read.
+     * @return Returns a stream of the stored bytes of the file.
+     * @throws SmithyBuildException if the file isn't stored in memory.
+     */
+    @Override
+    public InputStream readFile(Path path) {
+        if (storeMode != StoreMode.IN_MEMORY) {
+            throw new SmithyBuildException("File contents are not stored in memory: " + path);
+        }
+        byte[] bytes = getFileBytes(path)
+                .orElseThrow(() -> new SmithyBuildException("File is not in the manifest: " + path));
+        return new ByteArrayInputStream(bytes);
+    }
+
     /**
      * Gets the bytes of a stored file.
      *
@@ -0,0 +1,364 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import software.amazon.smithy.build.model.ProjectionConfig;
+import software.amazon.smithy.build.model.TransformConfig;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.CborNodeWriter;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.IoUtils;
+
+/**
+ * Caches the artifacts created by plugins so that plugins don't need to be
+ * executed again when their inputs didn't change.
+ *
+ * <p>Each plugin of each projection has a single cache entry, stored in
+ * {@code <cache directory>/<projection>/<artifact name>}. An entry contains
+ * a fingerprint of the inputs given to the plugin, the files the plugin
+ * wrote to its manifest, and the files it added to the shared manifest of
+ * the projection.
+ *
+ * <p>The fingerprint covers the projected and original models, the
+ * validation events of the projection, the transforms and imports of the
+ * projection, the plugin ID and settings, the contents of every source
+ * file, the location and version of the jars that contain the plugin,
+ * smithy-model, and smithy-build, and the location, size, and modification
+ * time of every jar on the class path of the plugin, since dependencies of a
+ * plugin can change its output without the plugin's own jar changing. Class
+ * directories on the class path are only identified by their location. Files
+ * that plugins write outside of their manifests, and changes plugins make to
+ * shared files added by other plugins, are not cached.
+ */
+final class PluginCache {
+
+    private static final Logger LOGGER = Logger.getLogger(PluginCache.class.getName());
+
+    // Changing how entries are fingerprinted or stored must change this version.
+    private static final String FORMAT_VERSION = "1";
+    private static final String FINGERPRINT_FILE = "fingerprint";
+    private static final String FILES_DIR = "files";
+    private static final String SHARED_DIR = "shared";
+
+    private final Path directory;
+    private final ClassLoader pluginClassLoader;
+    private final Map<Model, byte[]> modelHashes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<ClassLoader, byte[]> classPathHashes = Collections.synchronizedMap(new IdentityHashMap<>());
+    private volatile byte[] sourcesHash;
+
+    PluginCache(Path directory, ClassLoader pluginClassLoader) {
+        this.directory = directory;
+        this.pluginClassLoader = pluginClassLoader;
+    }
+
+    /**
+     * Computes the fingerprint of the inputs of a plugin.
+     *
+     * @return Returns the hex encoded fingerprint.
+     */
+    String fingerprint(
+            String projectionName,
+            ProjectionConfig projection,
+            PluginId id,
+            SmithyBuildPlugin plugin,
+            ObjectNode settings,
+            Model projectedModel,
+            Model originalModel,
+            List<ValidationEvent> events,
+            Set<Path> sources
+    ) {
+        MessageDigest digest = createDigest();
+        try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(NullOutputStream.INSTANCE, digest))) {
+            writeString(out, FORMAT_VERSION);
+            writeString(out, describeCodeSource(Model.class));
+            writeString(out, describeCodeSource(SmithyBuild.class));
+            writeString(out, describeCodeSource(plugin.getClass()));
+            out.write(hashClassPath(plugin.getClass().getClassLoader()));
+            if (pluginClassLoader != null) {
+                out.write(hashClassPath(pluginClassLoader));
+            }
+            writeString(out, projectionName);
+            for (TransformConfig transform : projection.getTransforms()) {
+                writeString(out, transform.getName());
+                writeString(out, Node.printJson(transform.getArgs()));
+            }
+            writeString(out, String.join(",", projection.getImports()));
+            writeString(out, id.toString());
+            writeString(out, Node.printJson(settings));
+            out.write(hashModel(projectedModel));
+            out.write(hashModel(originalModel));
+            List<String> eventStrings = new ArrayList<>(events.size());
+            for (ValidationEvent event : events) {
+                eventStrings.add(event.toString());
+            }
+            Collections.sort(eventStrings);
+            for (String event : eventStrings) {
+                writeString(out, event);
+            }
+            out.write(hashSources(sources));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Restores the files of a cache entry if its fingerprint matches.
+     *
+     * @return Returns true if the entry was restored.
+     */
+    boolean restore(
+            String projectionName,
+            PluginId id,
+            String fingerprint,
+            FileManifest manifest,
+            FileManifest sharedManifest
+    ) {
+        Path entry = getEntry(projectionName, id);
+        Path fingerprintFile = entry.resolve(FINGERPRINT_FILE);
+        try {
+            if (!Files.isRegularFile(fingerprintFile)
+                    || !IoUtils.readUtf8File(fingerprintFile).equals(fingerprint)) {
+                return false;
+            }
+            restoreFiles(entry.resolve(FILES_DIR), manifest);
+            restoreFiles(entry.resolve(SHARED_DIR), sharedManifest);
+            return true;
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warning(() -> String.format("Unable to restore the `%s` plugin of the `%s` projection from "
+                    + "the build cache: %s", id, projectionName, e.getMessage()));
+            return false;
+        }
+    }
+
+    private void restoreFiles(Path root, FileManifest manifest) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+                try (InputStream stream = Files.newInputStream(file)) {
+                    manifest.writeFile(root.relativize(file), stream);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the cache entry of a plugin with the files it created.
+     *
+     * @param sharedFiles Files the plugin wrote to the shared manifest.
+     */
+    void store(
+            String projectionName,
+            PluginId id,
+            String fingerprint,
+            FileManifest manifest,
+            FileManifest sharedManifest,
+            Collection<Path> sharedFiles
+    ) {
+        Path entry = getEntry(projectionName, id);
+        Path staging = entry.resolveSibling(".staging-" + id.getArtifactName() + "-" + System.nanoTime());
+        try {
+            Files.createDirectories(staging);
+            storeFiles(manifest, manifest.getFiles(), staging.resolve(FILES_DIR));
+            storeFiles(sharedManifest, sharedFiles, staging.resolve(SHARED_DIR));
+            // The fingerprint is written last so that incomplete entries never match.
+            Files.write(staging.resolve(FINGERPRINT_FILE), fingerprint.getBytes(StandardCharsets.UTF_8));
+            IoUtils.rmdir(entry);
+            Files.move(staging, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | UncheckedIOException | SmithyBuildException e) {
+            LOGGER.warning(() -> String.format("Unable to store the `%s` plugin of the `%s` projection in "
+                    + "the build cache: %s", id, projectionName, e.getMessage()));
+        } finally {
+            IoUtils.rmdir(staging);
+        }
+    }
+
+    private void storeFiles(FileManifest manifest, Collection<Path> files, Path root) throws IOException {
+        for (Path file : files) {
+            Path target = root.resolve(manifest.getBaseDir().relativize(file).toString());
+            Files.createDirectories(target.getParent());
+            try (InputStream contents = manifest.readFile(file)) {
+                Files.copy(contents, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private Path getEntry(String projectionName, PluginId id) {
+        return directory.resolve(projectionName).resolve(id.getArtifactName());
+    }
+
+    private byte[] hashModel(Model model) {
+        return modelHashes.computeIfAbsent(model, m -> {
+            MessageDigest digest = createDigest();
+            Node node = ModelSerializer.builder().build().serialize(m);
+            try (CborNodeWriter writer = new CborNodeWriter(new DigestOutputStream(NullOutputStream.INSTANCE,
+                    digest))) {
+                writer.write(node);
+            }
+            return digest.digest();
+        });
+    }
+
+    private byte[] hashClassPath(ClassLoader loader) {
+        return classPathHashes.computeIfAbsent(loader, l -> {
+            MessageDigest digest = createDigest();
+            try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(NullOutputStream.INSTANCE,
+                    digest))) {
+                for (ClassLoader current = l; current != null; current = current.getParent()) {
+                    if (current instanceof URLClassLoader) {
+                        for (URL url : ((URLClassLoader) current).getURLs()) {
+                            writeString(out, describeLocation(url));
+                        }
+                    }
+                }
+                // The application class loader isn't a URLClassLoader since Java 9, so its class path is read
+                // from the system property instead.
+                for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+                    if (!entry.isEmpty()) {
+                        writeString(out, describeLocation(Paths.get(entry)));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return digest.digest();
+        });
+    }
+
+    private byte[] hashSources(Set<Path> sources) throws IOException {
+        byte[] result = sourcesHash;
+        if (result == null) {
+            MessageDigest digest = createDigest();
+            try (DataOutputStream out = new DataOutputStream(new DigestOutputStream(NullOutputStream.INSTANCE,
+                    digest))) {
+                List<Path> files = new ArrayList<>();
+                for (Path source : sources) {
+                    if (Files.isDirectory(source)) {
+                        try (Stream<Path> walk = Files.walk(source)) {
+                            walk.filter(Files::isRegularFile).forEach(files::add);
+                        }
+                    } else if (Files.isRegularFile(source)) {
+                        files.add(source);
+                    }
+                }
+                Collections.sort(files);
+                for (Path file : files) {
+                    writeString(out, file.toString());
+                    out.write(Files.readAllBytes(file));
+                }
+            }
+            result = digest.digest();
+            sourcesHash = result;
+        }
+        return result;
+    }
+
+    // Describes the jar or directory a class was loaded from, so that upgrading it changes fingerprints.
+    private static String describeCodeSource(Class<?> type) {
+        StringBuilder result = new StringBuilder(type.getName());
+        Package pkg = type.getPackage();
+        if (pkg != null && pkg.getImplementationVersion() != null) {
+            result.append('@').append(pkg.getImplementationVersion());
+        }
+        CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+        if (codeSource != null && codeSource.getLocation() != null) {
+            try {
+                Path location = Paths.get(codeSource.getLocation().toURI());
+                if (Files.isDirectory(location)) {
+                    location = location.resolve(type.getName().replace('.', '/') + ".class");
+                }
+                result.append(' ').append(describeLocation(location));
+            } catch (URISyntaxException | RuntimeException e) {
+                result.append(' ').append(codeSource.getLocation());
+            }
+        }
+        return result.toString();
+    }
+
+    private static String describeLocation(URL url) {
+        try {
+            return describeLocation(Paths.get(url.toURI()));
+        } catch (URISyntaxException | RuntimeException e) {
+            return url.toString();
+        }
+    }
+
+    // Describes a jar by its location, size, and modification time, or anything else by its location.
+    private static String describeLocation(Path location) {
+        if (Files.isRegularFile(location)) {
+            try {
+                return location + " " + Files.size(location) + " " + Files.getLastModifiedTime(location).toMillis();
+            } catch (IOException e) {
+                // Fall back to only the location if the file can't be read.
+            }
+        }
+        return location.toString();
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            result.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return result.toString();
+    }
+
+    private static final class NullOutputStream extends OutputStream {
+        private static final NullOutputStream INSTANCE = new NullOutputStream();
+
+        @Override
+        public void write(int b) {}
+
+        @Override
+        public void write(byte[] b, int off, int len) {}
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("software.amazon.smithy.PluginExecuted")
+@Label("Plugin Executed")
+@Description("A build plugin was applied to a projection")
+@Category({"Smithy", "Build"})
+@StackTrace(false)
+final class PluginExecutedEvent extends Event {
+    @Label("Projection")
+    String projection;
+
+    @Label("Plugin")
+    String plugin;
+}
@@ -27,6 +27,11 @@ public interface ProjectionTransformer {
     /**
      * Transforms the given model using the provided {@link TransformContext}.
      *
+     * <p>When multiple projections apply the same transform with the same
+     * settings to the same model, the transform is only applied once and
+     * its result is shared by each projection. The projection name of the
+     * given context is the name of one of those projections.
+     *
      * @param context Transformation context.
      * @return Returns the created transformer.
      * @throws IllegalArgumentException if the arguments are invalid.
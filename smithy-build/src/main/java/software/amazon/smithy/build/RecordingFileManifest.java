@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link FileManifest} that records the files written through it to
+ * another manifest.
+ *
+ * <p>This is used to find the shared files written by a plugin while other
+ * plugins write to the same shared manifest.
+ */
+final class RecordingFileManifest implements FileManifest {
+    private final FileManifest delegate;
+    private final Set<Path> writtenFiles = new LinkedHashSet<>();
+
+    RecordingFileManifest(FileManifest delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Gets the resolved paths of the files written through this manifest.
+     *
+     * @return Returns the written files.
+     */
+    synchronized Set<Path> getWrittenFiles() {
+        return new LinkedHashSet<>(writtenFiles);
+    }
+
+    private synchronized Path record(Path path) {
+        writtenFiles.add(path);
+        return path;
+    }
+
+    @Override
+    public Path getBaseDir() {
+        return delegate.getBaseDir();
+    }
+
+    @Override
+    public Set<Path> getFiles() {
+        return delegate.getFiles();
+    }
+
+    @Override
+    public Path addFile(Path path) {
+        return record(delegate.addFile(path));
+    }
+
+    @Override
+    public Path writeFile(Path path, Reader fileContentsReader) {
+        return record(delegate.writeFile(path, fileContentsReader));
+    }
+
+    @Override
+    public Path writeFile(Path path, InputStream fileContentsInputStream) {
+        return record(delegate.writeFile(path, fileContentsInputStream));
+    }
+
+    @Override
+    public Path copyFile(Path path, Path source) {
+        return record(delegate.copyFile(path, source));
+    }
+
+    @Override
+    public Path writeUsing(Path path, Consumer<Writer> consumer) {
+        return record(delegate.writeUsing(path, consumer));
+    }
+
+    @Override
+    public Path writeUsingOutputStream(Path path, Consumer<OutputStream> consumer) {
+        return record(delegate.writeUsingOutputStream(path, consumer));
+    }
+
+    @Override
+    public void flush() {
+        delegate.flush();
+    }
+}
@@ -26,6 +26,7 @@ import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
 import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.utils.Tracer;
 
 /**
  * Runs the projections and plugins found in a {@link SmithyBuildConfig}
@@ -50,6 +51,10 @@ public final class SmithyBuild {
     Set<Path> sources = new HashSet<>();
     Predicate<String> projectionFilter = name -> true;
     Predicate<String> pluginFilter = name -> true;
+    Path cacheDirectory;
+    int threads;
+    boolean asyncFileWrites;
+    Tracer tracer;
 
     public SmithyBuild() {}
 
@@ -119,7 +124,11 @@ public final class SmithyBuild {
     public SmithyBuildResult build() {
         SmithyBuildResult.Builder resultBuilder = SmithyBuildResult.builder();
         Map<String, Throwable> errors = Collections.synchronizedMap(new TreeMap<>());
-        build(resultBuilder::addProjectionResult, errors::put);
+        build(result -> {
+            synchronized (resultBuilder) {
+                resultBuilder.addProjectionResult(result);
+            }
+        }, errors::put);
 
         if (!errors.isEmpty()) {
             StringBuilder message = new StringBuilder();
@@ -424,6 +433,81 @@ public final class SmithyBuild {
         return this;
     }
 
+    /**
+     * Enables incremental builds by caching the artifacts of plugins in the
+     * given directory.
+     *
+     * <p>Plugins are skipped and their previously created artifacts are
+     * restored from the cache when the projected model, the projection's
+     * transforms, the plugin's settings, the source files, and the version of
+     * the plugin are unchanged since the last build. Plugins can opt out of
+     * caching using {@link SmithyBuildPlugin#isCacheable()}.
+     *
+     * @param cacheDirectory Directory used to cache plugin artifacts.
+     * @return Returns the builder.
+     */
+    public SmithyBuild cacheDirectory(Path cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of threads used to create projections and
+     * run plugins.
+     *
+     * <p>Plugins of any projection run concurrently unless one has to run
+     * before the other, or one of them is
+     * {@link SmithyBuildPlugin#isSerial() serial}. Defaults to the number of
+     * available processors.
+     *
+     * @param threads Number of threads to use.
+     * @return Returns the builder.
+     * @throws IllegalArgumentException if the number of threads is less than 1.
+     */
+    public SmithyBuild threads(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be greater than 0: " + threads);
+        }
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * Sets whether the default {@link FileManifest} writes files
+     * asynchronously.
+     *
+     * <p>When enabled, plugins aren't blocked while the files they generate
+     * are written to disk. Every file is written before the plugin's
+     * artifacts are reported as complete, but plugins can't read files
+     * from disk while they're still running. This has no effect when a
+     * custom {@link #fileManifestFactory} is provided. Defaults to false.
+     *
+     * @param asyncFileWrites Set to true to write files asynchronously.
+     * @return Returns the builder.
+     * @see FileManifest#create(Path, java.util.concurrent.Executor)
+     */
+    public SmithyBuild asyncFileWrites(boolean asyncFileWrites) {
+        this.asyncFileWrites = asyncFileWrites;
+        return this;
+    }
+
+    /**
+     * Sets the tracer used to record the time spent creating the base
+     * model, creating and validating each projection, applying each
+     * transform, running each plugin, and writing files.
+     *
+     * <p>Spans are started on the threads that perform the work, so the
+     * tracer must be thread-safe.
+     *
+     * @param tracer Tracer to use.
+     * @return Returns the builder.
+     * @see TraceEventRecorder
+     */
+    public SmithyBuild tracer(Tracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
     // Lazy initialization holder class idiom.
     private static final class DefaultPathHolder {
         private static final Path DEFAULT_PATH = resolveDefaultPath();
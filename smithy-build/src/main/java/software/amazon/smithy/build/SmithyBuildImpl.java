@@ -11,12 +11,20 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -30,13 +38,16 @@ import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.build.model.TransformConfig;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.loader.ValidationBaseline;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.transform.ModelTransformer;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.utils.CycleException;
 import software.amazon.smithy.utils.DependencyGraph;
+import software.amazon.smithy.utils.MapUtils;
 import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.Tracer;
 
 final class SmithyBuildImpl {
     private static final Logger LOGGER = Logger.getLogger(SmithyBuild.class.getName());
@@ -52,6 +63,7 @@ final class SmithyBuildImpl {
             .compile("^" + PATTERN_PART + "(::" + PATTERN_PART + ")?$");
 
     private static final String SHARED_MANIFEST_NAME = "shared";
+    private static final String BUILT_IN_TRANSFORMS_PACKAGE = "software.amazon.smithy.build.transforms.";
 
     private final SmithyBuildConfig config;
     private final Function<Path, FileManifest> fileManifestFactory;
@@ -66,6 +78,13 @@ final class SmithyBuildImpl {
     private final Set<Path> sources;
     private final Predicate<String> projectionFilter;
     private final Predicate<String> pluginFilter;
+    private final PluginCache pluginCache;
+    private final ValidationBaseline validationBaseline = new ValidationBaseline();
+    private final int threads;
+    private final ExecutorService writeExecutor;
+    private final Tracer tracer;
+    private final Map<List<Pair<ObjectNode, ProjectionTransformer>>, SharedTransforms> sharedTransforms =
+            new ConcurrentHashMap<>();
 
     private static final class ResolvedPlugin {
         final PluginId id;
@@ -79,12 +98,101 @@ final class SmithyBuildImpl {
         }
     }
 
+    // Identifies the inputs of a transform. The sources and model transformer of a TransformContext are the same
+    // for every projection of a build, and the validation events of the original model belong to the original
+    // model, so they aren't part of the key. The projection name is part of the key unless the transformer is one
+    // of the built-in transforms, none of which read it, so custom transformers aren't shared across projections.
+    private static final class TransformStep {
+        private final ProjectionTransformer transformer;
+        private final ObjectNode settings;
+        private final Model model;
+        private final Model originalModel;
+        private final String projectionName;
+        private final int hash;
+
+        TransformStep(ProjectionTransformer transformer, TransformContext context) {
+            this.transformer = transformer;
+            this.settings = context.getSettings();
+            this.model = context.getModel();
+            this.originalModel = context.getOriginalModel().orElse(null);
+            this.projectionName = isBuiltIn(transformer) ? null : context.getProjectionName();
+            // Models are compared by identity, since comparing their shapes would cost more than most transforms.
+            this.hash = Objects.hash(System.identityHashCode(transformer),
+                    settings,
+                    System.identityHashCode(model),
+                    System.identityHashCode(originalModel),
+                    projectionName);
+        }
+
+        private static boolean isBuiltIn(ProjectionTransformer transformer) {
+            Class<?> type = transformer.getClass();
+            return type.getClassLoader() == SmithyBuildImpl.class.getClassLoader()
+                    && type.getName().startsWith(BUILT_IN_TRANSFORMS_PACKAGE);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof TransformStep)) {
+                return false;
+            }
+            TransformStep step = (TransformStep) other;
+            return transformer == step.transformer
+                    && model == step.model
+                    && originalModel == step.originalModel
+                    && settings.equals(step.settings)
+                    && Objects.equals(projectionName, step.projectionName);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // The models created by the transforms at the start of a projection, and the number of projections that start
+    // with the same transforms and haven't been created yet. Only those projections can reuse the models, so they
+    // are released when the last of them is created instead of being kept for the whole build.
+    private static final class SharedTransforms {
+        final Map<TransformStep, CompletableFuture<Model>> models = new ConcurrentHashMap<>();
+        int consumers;
+    }
+
+    private static final class ProjectedModel {
+        final Model model;
+        final Model resolvedModel;
+        final ValidatedResult<Model> result;
+        final Path baseDirectory;
+        final FileManifest sharedManifest;
+
+        ProjectedModel(
+                Model model,
+                Model resolvedModel,
+                ValidatedResult<Model> result,
+                Path baseDirectory,
+                FileManifest sharedManifest
+        ) {
+            this.model = model;
+            this.resolvedModel = resolvedModel;
+            this.result = result;
+            this.baseDirectory = baseDirectory;
+            this.sharedManifest = sharedManifest;
+        }
+    }
+
     SmithyBuildImpl(SmithyBuild builder) {
         config = prepareConfig(SmithyBuilder.requiredState("config", builder.config));
         sources = builder.sources;
-        fileManifestFactory = builder.fileManifestFactory != null
-                ? builder.fileManifestFactory
-                : FileManifest::create;
+        threads = builder.threads > 0 ? builder.threads : Runtime.getRuntime().availableProcessors();
+        if (builder.fileManifestFactory != null) {
+            fileManifestFactory = builder.fileManifestFactory;
+            writeExecutor = null;
+        } else if (builder.asyncFileWrites) {
+            writeExecutor = createWriteExecutor(threads);
+            fileManifestFactory = path -> FileManifest.create(path, writeExecutor);
+        } else {
+            fileManifestFactory = FileManifest::create;
+            writeExecutor = null;
+        }
         modelAssemblerSupplier = builder.modelAssemblerSupplier != null
                 ? builder.modelAssemblerSupplier
                 : Model::assembler;
@@ -118,6 +226,19 @@ final class SmithyBuildImpl {
         pluginClassLoader = builder.pluginClassLoader;
         projectionFilter = builder.projectionFilter;
         pluginFilter = builder.pluginFilter;
+        pluginCache = builder.cacheDirectory != null
+                ? new PluginCache(builder.cacheDirectory, pluginClassLoader)
+                : null;
+        tracer = builder.tracer != null ? builder.tracer : Tracer.NONE;
+    }
+
+    private static ExecutorService createWriteExecutor(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "smithy-build-writer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     private static SmithyBuildConfig prepareConfig(SmithyBuildConfig config) {
@@ -173,12 +294,9 @@ final class SmithyBuildImpl {
     ) {
         ValidatedResult<Model> resolvedModel = createBaseModel();
 
-        // Some plugins need things like file locks and can't be run in parallel with other plugins.
-        // When a serial plugin is encountered for a projection, run the projection immediately.
-        // Parallel projections are collected into a list and run in parallel after serial projections.
-        // Note: we may later decide to run all parallel plugins in parallel across projections.
-        List<Runnable> parallelProjections = new ArrayList<>();
-
+        // Resolve the plugins of every projection first so that invalid plugin configurations fail the build
+        // before anything is executed.
+        Map<String, List<ResolvedPlugin>> projections = new LinkedHashMap<>();
         for (Map.Entry<String, ProjectionConfig> entry : config.getProjections().entrySet()) {
             String projectionName = entry.getKey();
             ProjectionConfig config = entry.getValue();
@@ -187,31 +305,35 @@ final class SmithyBuildImpl {
                 continue;
             }
 
-            List<ResolvedPlugin> resolvedPlugins = resolvePlugins(projectionName, config);
+            projections.put(projectionName, resolvePlugins(projectionName, config));
+            retainSharedTransforms(projectionName);
+        }
 
-            if (areAnyResolvedPluginsSerial(resolvedPlugins)) {
-                executeSerialProjection(resolvedModel,
+        // Projections and plugins are run as a single graph of tasks. Each projection is created by a task that
+        // then schedules a task for each of its plugins, so plugins of different projections are interleaved, and
+        // plugins of the same projection that don't depend on each other run concurrently. Some plugins need
+        // things like file locks, so serial plugins never run at the same time as other plugins.
+        try (TaskScheduler scheduler = new TaskScheduler(threads)) {
+            List<TaskScheduler.Task> tasks = new ArrayList<>();
+            for (Map.Entry<String, List<ResolvedPlugin>> entry : projections.entrySet()) {
+                String projectionName = entry.getKey();
+                ProjectionConfig projection = config.getProjections().get(projectionName);
+                tasks.add(scheduler.createTask(TaskScheduler.Access.NONE, () -> executeProjection(
+                        scheduler,
+                        resolvedModel,
                         projectionName,
-                        config,
-                        resolvedPlugins,
+                        projection,
+                        entry.getValue(),
                         projectionResultConsumer,
-                        projectionExceptionConsumer);
-            } else {
-                parallelProjections.add(() -> {
-                    executeSerialProjection(resolvedModel,
-                            projectionName,
-                            config,
-                            resolvedPlugins,
-                            projectionResultConsumer,
-                            projectionExceptionConsumer);
-                });
+                        projectionExceptionConsumer)));
+            }
+            scheduler.schedule(tasks);
+            scheduler.await();
+        } finally {
+            // Every manifest is flushed by the plugin that wrote to it, so no writes are pending.
+            if (writeExecutor != null) {
+                writeExecutor.shutdown();
             }
-        }
-
-        if (parallelProjections.size() == 1) {
-            parallelProjections.get(0).run();
-        } else if (!parallelProjections.isEmpty()) {
-            parallelProjections.parallelStream().forEach(Runnable::run);
         }
     }
 
@@ -322,16 +444,9 @@ final class SmithyBuildImpl {
         LOGGER.warning(message.toString());
     }
 
-    private boolean areAnyResolvedPluginsSerial(List<ResolvedPlugin> resolvedPlugins) {
-        for (ResolvedPlugin plugin : resolvedPlugins) {
-            if (plugin.plugin.isSerial()) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private void executeSerialProjection(
+    @SuppressWarnings("try")
+    private void executeProjection(
+            TaskScheduler scheduler,
             ValidatedResult<Model> baseModel,
             String name,
             ProjectionConfig config,
@@ -339,38 +454,131 @@ final class SmithyBuildImpl {
             Consumer<ProjectionResult> projectionResultConsumer,
             BiConsumer<String, Throwable> projectionExceptionConsumer
     ) {
-        // Errors that occur while invoking the result callback must not
-        // cause the exception callback to be invoked.
-        ProjectionResult result = null;
+        ProjectionResult.Builder resultBuilder = ProjectionResult.builder().projectionName(name);
+        ProjectedModel projected;
 
-        try {
-            result = applyProjection(name, config, baseModel, resolvedPlugins);
+        try (Tracer.Span span = tracer.startSpan("projection", name)) {
+            projected = createProjectedModel(name, config, baseModel, resultBuilder);
         } catch (Throwable e) {
             projectionExceptionConsumer.accept(name, e);
+            return;
+        } finally {
+            releaseSharedTransforms(name);
         }
 
-        if (result != null) {
-            projectionResultConsumer.accept(result);
+        if (projected == null) {
+            projectionResultConsumer.accept(resultBuilder.build());
+            return;
         }
+
+        int pluginCount = resolvedPlugins.size();
+        FileManifest[] manifests = new FileManifest[pluginCount];
+        Throwable[] errors = new Throwable[pluginCount];
+        Map<PluginId, TaskScheduler.Task> pluginTasks = new HashMap<>();
+
+        for (int i = 0; i < pluginCount; i++) {
+            ResolvedPlugin resolvedPlugin = resolvedPlugins.get(i);
+            int index = i;
+            TaskScheduler.Task task;
+            if (pluginFilter.test(resolvedPlugin.id.getArtifactName())) {
+                // Create the manifest where plugin artifacts are stored.
+                FileManifest manifest = fileManifestFactory.apply(
+                        projected.baseDirectory.resolve(resolvedPlugin.id.getArtifactName()));
+                TaskScheduler.Access access = resolvedPlugin.plugin.isSerial()
+                        ? TaskScheduler.Access.EXCLUSIVE
+                        : TaskScheduler.Access.SHARED;
+                task = scheduler.createTask(access, () -> {
+                    try {
+                        if (applyPlugin(name, config, resolvedPlugin, projected, manifest)) {
+                            manifests[index] = manifest;
+                        }
+                    } catch (Throwable e) {
+                        errors[index] = e;
+                    }
+                });
+            } else {
+                // Filtered plugins still order the plugins that run before and after them.
+                task = scheduler.createTask(TaskScheduler.Access.NONE, () -> { });
+            }
+            pluginTasks.put(resolvedPlugin.id, task);
+        }
+
+        for (ResolvedPlugin resolvedPlugin : resolvedPlugins) {
+            TaskScheduler.Task task = pluginTasks.get(resolvedPlugin.id);
+            for (String dependency : resolvedPlugin.plugin.runAfter()) {
+                TaskScheduler.Task dependencyTask = pluginTasks.get(PluginId.from(dependency));
+                if (dependencyTask != null) {
+                    task.dependsOn(dependencyTask);
+                }
+            }
+            for (String dependant : resolvedPlugin.plugin.runBefore()) {
+                TaskScheduler.Task dependantTask = pluginTasks.get(PluginId.from(dependant));
+                if (dependantTask != null) {
+                    dependantTask.dependsOn(task);
+                }
+            }
+        }
+
+        TaskScheduler.Task completion = scheduler.createTask(TaskScheduler.Access.NONE, () -> {
+            // Fail the projection with the first error created by plugins, in the order plugins are sorted.
+            Throwable firstPluginError = null;
+            for (int i = 0; i < pluginCount; i++) {
+                if (manifests[i] != null) {
+                    resultBuilder.addPluginManifest(resolvedPlugins.get(i).id.getArtifactName(), manifests[i]);
+                }
+                if (errors[i] != null) {
+                    if (firstPluginError == null) {
+                        firstPluginError = errors[i];
+                    } else {
+                        // Only log subsequent errors, since the first one is reported.
+                        LOGGER.severe(String.format("Plugin `%s` failed: %s", resolvedPlugins.get(i).id, errors[i]));
+                    }
+                }
+            }
+
+            // Errors that occur while invoking the result callback must not
+            // cause the exception callback to be invoked.
+            if (firstPluginError != null) {
+                projectionExceptionConsumer.accept(name, firstPluginError);
+            } else {
+                projectionResultConsumer.accept(resultBuilder.build());
+            }
+        });
+
+        List<TaskScheduler.Task> tasks = new ArrayList<>(pluginTasks.values());
+        for (TaskScheduler.Task task : pluginTasks.values()) {
+            completion.dependsOn(task);
+        }
+        tasks.add(completion);
+        scheduler.schedule(tasks);
     }
 
+    @SuppressWarnings("try")
     private ValidatedResult<Model> createBaseModel() {
         if (!config.getImports().isEmpty()) {
             LOGGER.fine(() -> "Merging the following imports into the loaded model: " + config.getImports());
         }
 
-        ModelAssembler assembler = modelAssemblerSupplier.get().addModel(model);
+        // Record the validation results so that projected models can be validated incrementally.
+        ModelAssembler assembler = modelAssemblerSupplier.get()
+                .addModel(model)
+                .recordValidationBaseline(validationBaseline)
+                .tracer(tracer);
         config.getImports().forEach(assembler::addImport);
-        return assembler.assemble();
+        try (Tracer.Span span = tracer.startSpan("build", "base model")) {
+            return assembler.assemble();
+        }
     }
 
-    private ProjectionResult applyProjection(
+    // Creates the model that plugins are applied to, or returns null if the model can't be created.
+    private ProjectedModel createProjectedModel(
             String projectionName,
             ProjectionConfig projection,
             ValidatedResult<Model> baseModel,
-            List<ResolvedPlugin> resolvedPlugins
-    ) throws Throwable {
+            ProjectionResult.Builder resultBuilder
+    ) {
         Model resolvedModel = baseModel.unwrap();
+        ValidationBaseline baseline = validationBaseline;
         LOGGER.fine(() -> String.format("Creating the `%s` projection", projectionName));
 
         // Resolve imports, and overwrite baseModel.
@@ -379,7 +587,11 @@ final class SmithyBuildImpl {
                     "Merging the following `%s` projection imports into the loaded model: %s",
                     projectionName,
                     projection.getImports()));
-            ModelAssembler assembler = modelAssemblerSupplier.get().addModel(resolvedModel);
+            baseline = new ValidationBaseline();
+            ModelAssembler assembler = modelAssemblerSupplier.get()
+                    .addModel(resolvedModel)
+                    .recordValidationBaseline(baseline)
+                    .tracer(tracer);
             projection.getImports().forEach(assembler::addImport);
             baseModel = assembler.assemble();
 
@@ -388,13 +600,10 @@ final class SmithyBuildImpl {
                 LOGGER.severe(String.format(
                         "The model could not be merged with the following imports: [%s]",
                         projection.getImports()));
-                return ProjectionResult.builder()
-                        // Create an empty model so that ProjectionResult can be created when
-                        // the Model can't be assembled.
-                        .model(Model.builder().build())
-                        .projectionName(projectionName)
-                        .events(baseModel.getValidationEvents())
-                        .build();
+                // Create an empty model so that ProjectionResult can be created when
+                // the Model can't be assembled.
+                resultBuilder.model(Model.builder().build()).events(baseModel.getValidationEvents());
+                return null;
             }
 
             resolvedModel = baseModel.unwrap();
@@ -417,7 +626,12 @@ final class SmithyBuildImpl {
                     resolvedModel,
                     projectionName,
                     Collections.emptySet());
-            modelResult = modelAssemblerSupplier.get().addModel(projectedModel).assemble();
+            // Only revalidate the parts of the model that the transforms changed.
+            modelResult = modelAssemblerSupplier.get()
+                    .addModel(projectedModel)
+                    .validationBaseline(baseline)
+                    .tracer(tracer)
+                    .assemble();
         } else {
             LOGGER.fine(() -> String.format("No transforms to apply for projection %s", projectionName));
         }
@@ -426,42 +640,11 @@ final class SmithyBuildImpl {
         Path sharedPluginDir = baseProjectionDir.resolve(SHARED_MANIFEST_NAME);
         FileManifest sharedManifest = fileManifestFactory.apply(sharedPluginDir);
 
-        // Keep track of the first error created by plugins to fail the build after all plugins have run.
-        Throwable firstPluginError = null;
-        ProjectionResult.Builder resultBuilder = ProjectionResult.builder()
-                .projectionName(projectionName)
-                .model(projectedModel)
+        resultBuilder.model(projectedModel)
                 .events(modelResult.getValidationEvents())
                 .sharedFileManifest(sharedManifest);
 
-        for (ResolvedPlugin resolvedPlugin : resolvedPlugins) {
-            if (pluginFilter.test(resolvedPlugin.id.getArtifactName())) {
-                try {
-                    applyPlugin(projectionName,
-                            projection,
-                            baseProjectionDir,
-                            resolvedPlugin,
-                            projectedModel,
-                            resolvedModel,
-                            modelResult,
-                            resultBuilder,
-                            sharedManifest);
-                } catch (Throwable e) {
-                    if (firstPluginError == null) {
-                        firstPluginError = e;
-                    } else {
-                        // Only log subsequent errors, since the first one is thrown.
-                        LOGGER.severe(String.format("Plugin `%s` failed: %s", resolvedPlugin.id, e));
-                    }
-                }
-            }
-        }
-
-        if (firstPluginError != null) {
-            throw firstPluginError;
-        }
-
-        return resultBuilder.build();
+        return new ProjectedModel(projectedModel, resolvedModel, modelResult, baseProjectionDir, sharedManifest);
     }
 
     private Model applyProjectionTransforms(
@@ -471,8 +654,10 @@ final class SmithyBuildImpl {
             Set<String> visited
     ) {
         Model originalModel = baseModel.unwrap();
+        List<Pair<ObjectNode, ProjectionTransformer>> chain = transformers.get(projectionName);
 
-        for (Pair<ObjectNode, ProjectionTransformer> transformerBinding : transformers.get(projectionName)) {
+        for (int i = 0; i < chain.size(); i++) {
+            Pair<ObjectNode, ProjectionTransformer> transformerBinding = chain.get(i);
             TransformContext context = TransformContext.builder()
                     .model(currentModel)
                     .originalModel(originalModel)
@@ -482,52 +667,218 @@ final class SmithyBuildImpl {
                     .sources(sources)
                     .settings(transformerBinding.left)
                     .build();
-            currentModel = transformerBinding.right.transform(context);
             Collection<String> queuedProjections = transformerBinding.right.getAdditionalProjections(context);
-            currentModel = applyQueuedProjections(queuedProjections, context, currentModel, visited);
+            SharedTransforms shared = sharedTransforms.get(chain.subList(0, i + 1));
+            if (!queuedProjections.isEmpty()) {
+                // Applying other projections depends on the name of this projection, so it can't be shared.
+                currentModel = applyTransform(transformerBinding.right, context);
+                currentModel = applyQueuedProjections(queuedProjections, context, currentModel, visited);
+            } else if (shared != null) {
+                currentModel = applySharedTransform(shared, transformerBinding.right, context);
+            } else {
+                // No projection that is still to be created starts with these transforms.
+                currentModel = applyTransform(transformerBinding.right, context);
+            }
         }
 
         return currentModel;
     }
 
-    private void applyPlugin(
+    // Projections often start with the same transforms, so the model created by a transform is shared by every
+    // projection that applies the same transform with the same settings to the same model, subject to the key
+    // described by TransformStep. Because the models created by shared transforms are shared too, projections
+    // share every transform up to the first one that differs.
+    private Model applySharedTransform(
+            SharedTransforms shared,
+            ProjectionTransformer transformer,
+            TransformContext context
+    ) {
+        TransformStep step = new TransformStep(transformer, context);
+        CompletableFuture<Model> result = new CompletableFuture<>();
+        CompletableFuture<Model> existing = shared.models.putIfAbsent(step, result);
+
+        if (existing != null) {
+            LOGGER.fine(() -> String.format("Reusing the result of the `%s` transform in projection %s",
+                    transformer.getName(),
+                    context.getProjectionName()));
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+
+        try {
+            Model model = applyTransform(transformer, context);
+            result.complete(model);
+            return model;
+        } catch (RuntimeException | Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Registers the projection as a consumer of the models created by each prefix of its transforms.
+    private void retainSharedTransforms(String projectionName) {
+        List<Pair<ObjectNode, ProjectionTransformer>> chain = transformers.get(projectionName);
+        for (int i = 1; i <= chain.size(); i++) {
+            sharedTransforms.compute(new ArrayList<>(chain.subList(0, i)), (prefix, shared) -> {
+                SharedTransforms result = shared == null ? new SharedTransforms() : shared;
+                result.consumers++;
+                return result;
+            });
+        }
+    }
+
+    // Releases the models that no other projection can reuse once the projection is created.
+    private void releaseSharedTransforms(String projectionName) {
+        List<Pair<ObjectNode, ProjectionTransformer>> chain = transformers.get(projectionName);
+        for (int i = 1; i <= chain.size(); i++) {
+            sharedTransforms.computeIfPresent(chain.subList(0, i),
+                    (prefix, shared) -> --shared.consumers == 0 ? null : shared);
+        }
+    }
+
+    @SuppressWarnings("try")
+    private Model applyTransform(ProjectionTransformer transformer, TransformContext context) {
+        try (Tracer.Span span = tracer.startSpan("transform",
+                transformer.getName(),
+                MapUtils.of("projection", context.getProjectionName()))) {
+            return transformer.transform(context);
+        }
+    }
+
+    // Returns true if the plugin was applied, or false if it was skipped.
+    @SuppressWarnings("try")
+    private boolean applyPlugin(
             String projectionName,
             ProjectionConfig projection,
-            Path baseProjectionDir,
             ResolvedPlugin resolvedPlugin,
-            Model projectedModel,
-            Model resolvedModel,
-            ValidatedResult<Model> modelResult,
-            ProjectionResult.Builder resultBuilder,
-            FileManifest sharedManifest
+            ProjectedModel projected,
+            FileManifest manifest
     ) {
         PluginId id = resolvedPlugin.id;
 
-        // Create the manifest where plugin artifacts are stored.
-        Path pluginBaseDir = baseProjectionDir.resolve(id.getArtifactName());
-        FileManifest manifest = fileManifestFactory.apply(pluginBaseDir);
-
-        if (resolvedPlugin.plugin.requiresValidModel() && modelResult.isBroken()) {
+        if (resolvedPlugin.plugin.requiresValidModel() && projected.result.isBroken()) {
             LOGGER.fine(() -> String.format("Skipping `%s` plugin for `%s` projection because the model is broken",
                     id,
                     projectionName));
+            return false;
+        } else if (pluginCache != null && resolvedPlugin.plugin.isCacheable()) {
+            String fingerprint = pluginCache.fingerprint(projectionName,
+                    projection,
+                    id,
+                    resolvedPlugin.plugin,
+                    resolvedPlugin.config,
+                    projected.model,
+                    projected.resolvedModel,
+                    projected.result.getValidationEvents(),
+                    sources);
+            boolean restored;
+            try (Tracer.Span span = tracer.startSpan("cache", "restore " + id, traceArgs(projectionName, id))) {
+                restored = pluginCache.restore(projectionName, id, fingerprint, manifest, projected.sharedManifest);
+                if (restored) {
+                    manifest.flush();
+                    projected.sharedManifest.flush();
+                }
+            }
+            if (restored) {
+                LOGGER.info(() -> String.format("Restored `%s` plugin of `%s` projection from the build cache",
+                        id,
+                        projectionName));
+            } else {
+                // Other plugins of the projection can write shared files at the same time, so only the files
+                // written by this plugin are cached.
+                RecordingFileManifest sharedManifest = new RecordingFileManifest(projected.sharedManifest);
+                executePlugin(projectionName, projection, resolvedPlugin, projected, manifest, sharedManifest);
+                try (Tracer.Span span = tracer.startSpan("cache", "store " + id, traceArgs(projectionName, id))) {
+                    pluginCache.store(projectionName,
+                            id,
+                            fingerprint,
+                            manifest,
+                            projected.sharedManifest,
+                            sharedManifest.getWrittenFiles());
+                }
+            }
         } else {
-            LOGGER.info(() -> String.format("Applying `%s` plugin to `%s` projection", id, projectionName));
-            resolvedPlugin.plugin
-                    .execute(PluginContext.builder()
-                            .model(projectedModel)
-                            .originalModel(resolvedModel)
-                            .projection(projectionName, projection)
-                            .events(modelResult.getValidationEvents())
-                            .settings(resolvedPlugin.config)
-                            .fileManifest(manifest)
-                            .sharedFileManifest(sharedManifest)
-                            .pluginClassLoader(pluginClassLoader)
-                            .sources(sources)
-                            .artifactName(id.hasArtifactName() ? id.getArtifactName() : null)
-                            .build());
-            resultBuilder.addPluginManifest(id.getArtifactName(), manifest);
+            executePlugin(projectionName, projection, resolvedPlugin, projected, manifest, projected.sharedManifest);
+        }
+
+        return true;
+    }
+
+    @SuppressWarnings("try")
+    private void executePlugin(
+            String projectionName,
+            ProjectionConfig projection,
+            ResolvedPlugin resolvedPlugin,
+            ProjectedModel projected,
+            FileManifest manifest,
+            FileManifest sharedManifest
+    ) {
+        PluginId id = resolvedPlugin.id;
+        LOGGER.info(() -> String.format("Applying `%s` plugin to `%s` projection", id, projectionName));
+        Object event = BuildEvents.beginPluginExecuted();
+        Throwable failure = null;
+        try (Tracer.Span span = tracer.startSpan("plugin", id.toString(), traceArgs(projectionName, id))) {
+            resolvedPlugin.plugin.execute(PluginContext.builder()
+                    .model(projected.model)
+                    .originalModel(projected.resolvedModel)
+                    .projection(projectionName, projection)
+                    .events(projected.result.getValidationEvents())
+                    .settings(resolvedPlugin.config)
+                    .fileManifest(manifest)
+                    .sharedFileManifest(sharedManifest)
+                    .pluginClassLoader(pluginClassLoader)
+                    .sources(sources)
+                    .artifactName(id.hasArtifactName() ? id.getArtifactName() : null)
+                    .build());
+            BuildEvents.commitPluginExecuted(event, projectionName, id);
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            flushManifests(projectionName, id, failure, manifest, sharedManifest);
+        }
+    }
+
+    // Files written asynchronously have to be on disk before the plugin's artifacts are cached or reported. They're
+    // also flushed when the plugin fails so that no writes are left running, and flush failures are added to the
+    // plugin's failure rather than replacing it.
+    @SuppressWarnings("try")
+    private void flushManifests(
+            String projectionName,
+            PluginId id,
+            Throwable pluginFailure,
+            FileManifest... manifests
+    ) {
+        RuntimeException flushFailure = null;
+        try (Tracer.Span span = tracer.startSpan("files", "write " + id, traceArgs(projectionName, id))) {
+            for (FileManifest manifest : manifests) {
+                try {
+                    manifest.flush();
+                } catch (RuntimeException e) {
+                    if (pluginFailure != null) {
+                        pluginFailure.addSuppressed(e);
+                    } else if (flushFailure != null) {
+                        flushFailure.addSuppressed(e);
+                    } else {
+                        flushFailure = e;
+                    }
+                }
+            }
         }
+
+        if (flushFailure != null) {
+            throw flushFailure;
+        }
+    }
+
+    private static Map<String, String> traceArgs(String projectionName, PluginId id) {
+        return MapUtils.of("projection", projectionName, "plugin", id.toString());
     }
 
     // Creates pairs where the left value is the configuration arguments of the
@@ -41,10 +41,11 @@ public interface SmithyBuildPlugin {
     }
 
     /**
-     * Plugins can choose whether or not projections they are in can be run in
-     * parallel with other projections.
+     * Plugins can choose whether or not they can be run in parallel with
+     * other plugins.
      *
-     * <p>By default plugins allow parallel execution.</p>
+     * <p>Serial plugins never run at the same time as any other plugin of
+     * any projection. By default plugins allow parallel execution.</p>
      *
      * @return Returns true if the plugin should be run serially, false if it
      *  can be run in parallel with other plugins.
@@ -53,6 +54,21 @@ public interface SmithyBuildPlugin {
         return false;
     }
 
+    /**
+     * Plugins can choose whether or not the artifacts they create can be
+     * restored from the build cache when their inputs are unchanged.
+     *
+     * <p>Plugins that read or write files outside of their manifests, or
+     * that depend on anything other than the model, settings, and sources
+     * given to them, should return false. By default plugins are cacheable.
+     *
+     * @return Returns true if the plugin's artifacts can be cached.
+     * @see SmithyBuild#cacheDirectory(java.nio.file.Path)
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
     /**
      * Executes the plugin, creating any number of artifacts.
      *
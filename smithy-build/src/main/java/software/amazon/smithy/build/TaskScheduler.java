@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Runs a graph of tasks on a bounded pool of threads.
+ *
+ * <p>A task is submitted to the pool once it has been scheduled and every
+ * task it depends on has completed, regardless of whether they failed.
+ * Tasks can schedule more tasks while they run, which allows the plugins
+ * of a projection to be scheduled once the projected model is created.
+ *
+ * <p>{@link Access#SHARED} tasks can run at the same time as each other,
+ * while {@link Access#EXCLUSIVE} tasks never run at the same time as any
+ * other shared or exclusive task. This is used to run plugins that are
+ * {@link SmithyBuildPlugin#isSerial() serial}.
+ */
+final class TaskScheduler implements AutoCloseable {
+
+    enum Access {
+        /** The task doesn't need to coordinate with other tasks. */
+        NONE,
+
+        /** The task can run at the same time as other shared tasks. */
+        SHARED,
+
+        /** The task can't run at the same time as any shared or exclusive task. */
+        EXCLUSIVE
+    }
+
+    private final ExecutorService executor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // The thread that awaits the tasks is registered as a party, and every scheduled task that hasn't completed
+    // is registered as a party. Tasks that schedule more tasks do so before deregistering themselves.
+    private final Phaser pending = new Phaser(1);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    TaskScheduler(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The number of threads must be greater than 0: " + threads);
+        }
+
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "smithy-build-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a task that isn't scheduled yet.
+     *
+     * @param access How the task coordinates with other tasks.
+     * @param action Action to perform.
+     * @return Returns the created task.
+     */
+    Task createTask(Access access, Runnable action) {
+        return new Task(access, action);
+    }
+
+    /**
+     * Schedules tasks to run once their dependencies have completed.
+     *
+     * <p>Dependencies between the given tasks must be added before they're
+     * scheduled.
+     *
+     * @param tasks Tasks to schedule.
+     */
+    void schedule(Collection<Task> tasks) {
+        // Register every task before any of them can complete and deregister.
+        for (int i = 0; i < tasks.size(); i++) {
+            pending.register();
+        }
+        for (Task task : tasks) {
+            task.release();
+        }
+    }
+
+    /**
+     * Waits for every scheduled task, including tasks scheduled by other
+     * tasks, to complete.
+     *
+     * <p>Tasks are expected to handle their own errors. If a task throws,
+     * the remaining tasks still run and the first exception is rethrown.
+     */
+    void await() {
+        pending.arriveAndAwaitAdvance();
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        } else if (e instanceof Error) {
+            throw (Error) e;
+        } else if (e != null) {
+            throw new SmithyBuildException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    final class Task {
+        private final Access access;
+        private final Runnable action;
+        private final List<Task> dependants = new ArrayList<>();
+
+        // Starts at 1 so that the task isn't submitted until it's scheduled.
+        private final AtomicInteger blockers = new AtomicInteger(1);
+
+        private Task(Access access, Runnable action) {
+            this.access = access;
+            this.action = action;
+        }
+
+        /**
+         * Prevents the task from running until another task completes.
+         *
+         * <p>Both tasks must not be scheduled yet.
+         *
+         * @param dependency Task that has to complete first.
+         */
+        void dependsOn(Task dependency) {
+            dependency.dependants.add(this);
+            blockers.incrementAndGet();
+        }
+
+        private void release() {
+            if (blockers.decrementAndGet() == 0) {
+                executor.execute(this::run);
+            }
+        }
+
+        private void run() {
+            Lock taskLock = access == Access.EXCLUSIVE
+                    ? lock.writeLock()
+                    : access == Access.SHARED ? lock.readLock() : null;
+            try {
+                if (taskLock != null) {
+                    taskLock.lock();
+                }
+                try {
+                    action.run();
+                } finally {
+                    if (taskLock != null) {
+                        taskLock.unlock();
+                    }
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                for (Task dependant : dependants) {
+                    dependant.release();
+                }
+                pending.arriveAndDeregister();
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.SmithyUnstableApi;
+import software.amazon.smithy.utils.Tracer;
+
+/**
+ * A {@link Tracer} that records spans as trace events.
+ *
+ * <p>The recorded spans are written as JSON in the Chrome trace event
+ * format, which can be viewed using {@code chrome://tracing} or
+ * <a href="https://ui.perfetto.dev">Perfetto</a>. Each span is recorded
+ * with the ID and name of the thread that started it, so spans that run
+ * concurrently, like the plugins of different projections, are shown on
+ * separate tracks.
+ *
+ * <pre>{@code
+ * TraceEventRecorder recorder = new TraceEventRecorder();
+ * new SmithyBuild().config(config).tracer(recorder).build();
+ * recorder.write(Paths.get("trace.json"));
+ * }</pre>
+ */
+@SmithyUnstableApi
+public final class TraceEventRecorder implements Tracer {
+    private static final int PROCESS_ID = 1;
+
+    private final long startTime = System.nanoTime();
+    private final Queue<RecordedSpan> spans = new ConcurrentLinkedQueue<>();
+    private final Map<Long, String> threadNames = new ConcurrentHashMap<>();
+
+    @Override
+    public Span startSpan(String category, String name, Map<String, String> args) {
+        Thread thread = Thread.currentThread();
+        threadNames.putIfAbsent(thread.getId(), thread.getName());
+        long start = System.nanoTime();
+        return () -> spans.add(new RecordedSpan(category, name, args, thread.getId(), start, System.nanoTime()));
+    }
+
+    /**
+     * Creates a trace event JSON document that contains every span that
+     * has been closed.
+     *
+     * @return Returns the created document.
+     */
+    public ObjectNode toNode() {
+        ArrayNode.Builder events = ArrayNode.builder();
+
+        for (Map.Entry<Long, String> entry : threadNames.entrySet()) {
+            events.withValue(Node.objectNodeBuilder()
+                    .withMember("name", "thread_name")
+                    .withMember("ph", "M")
+                    .withMember("pid", PROCESS_ID)
+                    .withMember("tid", entry.getKey())
+                    .withMember("args", Node.objectNode().withMember("name", entry.getValue()))
+                    .build());
+        }
+
+        for (RecordedSpan span : spans) {
+            ObjectNode.Builder event = Node.objectNodeBuilder()
+                    .withMember("name", span.name)
+                    .withMember("cat", span.category)
+                    .withMember("ph", "X")
+                    .withMember("ts", toMicros(span.start - startTime))
+                    .withMember("dur", toMicros(span.end - span.start))
+                    .withMember("pid", PROCESS_ID)
+                    .withMember("tid", span.threadId);
+            if (!span.args.isEmpty()) {
+                ObjectNode.Builder args = Node.objectNodeBuilder();
+                span.args.forEach(args::withMember);
+                event.withMember("args", args.build());
+            }
+            events.withValue(event.build());
+        }
+
+        return Node.objectNodeBuilder()
+                .withMember("traceEvents", events.build())
+                .withMember("displayTimeUnit", "ms")
+                .build();
+    }
+
+    /**
+     * Writes every span that has been closed to a trace event JSON file.
+     *
+     * @param path File to write.
+     * @throws SmithyBuildException if the file can't be written.
+     */
+    public void write(Path path) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(path, Node.printJson(toNode()).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new SmithyBuildException("Unable to write trace to `" + path + "`: " + e.getMessage(), e);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static final class RecordedSpan {
+        private final String category;
+        private final String name;
+        private final Map<String, String> args;
+        private final long threadId;
+        private final long start;
+        private final long end;
+
+        RecordedSpan(String category, String name, Map<String, String> args, long threadId, long start, long end) {
+            this.category = category;
+            this.name = name;
+            this.args = args;
+            this.threadId = threadId;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An output stream that only writes to a file if the written bytes differ
+ * from the current contents of the file.
+ *
+ * <p>Written bytes are compared with the existing file as they're written.
+ * The bytes that matched are already in the file, so when the contents
+ * first differ, the remaining bytes are written over the file starting at
+ * that position, and the file is truncated when the stream is closed. If
+ * the contents are the same, the file isn't modified, so its last modified
+ * time is preserved and tools that watch the output directory don't see a
+ * change.
+ */
+final class WriteIfChangedOutputStream extends OutputStream {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Path path;
+    private final byte[] compareBuffer = new byte[BUFFER_SIZE];
+
+    // Set while the written bytes match the existing file.
+    private InputStream existing;
+    private long matched;
+
+    // Set once the written bytes differ from the existing file, or if there's no existing file.
+    private OutputStream out;
+    private FileChannel channel;
+
+    WriteIfChangedOutputStream(Path path) throws IOException {
+        this.path = path;
+        if (Files.isRegularFile(path)) {
+            existing = new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE);
+        } else {
+            out = new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE);
+        }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (out == null) {
+            if (existing.read() == (b & 0xFF)) {
+                matched++;
+                return;
+            }
+            diverge();
+        }
+        out.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (out == null) {
+            if (matches(b, off, len)) {
+                matched += len;
+                return;
+            }
+            diverge();
+        }
+        out.write(b, off, len);
+    }
+
+    private boolean matches(byte[] b, int off, int len) throws IOException {
+        int compared = 0;
+        while (compared < len) {
+            int read = existing.read(compareBuffer, 0, Math.min(compareBuffer.length, len - compared));
+            if (read == -1) {
+                return false;
+            }
+            for (int i = 0; i < read; i++) {
+                if (compareBuffer[i] != b[off + compared + i]) {
+                    return false;
+                }
+            }
+            compared += read;
+        }
+        return true;
+    }
+
+    private void diverge() throws IOException {
+        existing.close();
+        existing = null;
+        channel = FileChannel.open(path, StandardOpenOption.WRITE);
+        channel.position(matched);
+        out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            out.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (existing != null) {
+            // Every written byte matched, but the existing file might have more bytes.
+            boolean longer = existing.read() != -1;
+            existing.close();
+            existing = null;
+            if (longer) {
+                try (FileChannel truncated = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    truncated.truncate(matched);
+                }
+            }
+        } else if (out != null) {
+            try {
+                out.flush();
+                if (channel != null) {
+                    channel.truncate(channel.position());
+                }
+            } finally {
+                out.close();
+                out = null;
+                channel = null;
+            }
+        }
+    }
+}
@@ -4,10 +4,12 @@
  */
 package software.amazon.smithy.build.plugins;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 import software.amazon.smithy.build.PluginContext;
 import software.amazon.smithy.build.SmithyBuildPlugin;
-import software.amazon.smithy.model.Model;
-import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.ModelSerializer;
 
 /**
@@ -24,10 +26,19 @@ public final class ModelPlugin implements SmithyBuildPlugin {
     @Override
     public void execute(PluginContext context) {
         boolean includePrelude = context.getSettings().getBooleanMemberOrDefault("includePreludeShapes");
-        context.getFileManifest().writeJson("model.json", serializeModel(context.getModel(), includePrelude));
+        ModelSerializer serializer = ModelSerializer.builder().includePrelude(includePrelude).build();
+        context.getFileManifest().writeUsingOutputStream(Paths.get("model.json"), outputStream -> {
+            // Stream shapes to the file as they're serialized rather than creating a Node for the entire model.
+            serializer.serialize(context.getModel(), outputStream);
+            writeNewLine(outputStream);
+        });
     }
 
-    private static Node serializeModel(Model model, boolean includePrelude) {
-        return ModelSerializer.builder().includePrelude(includePrelude).build().serialize(model);
+    private static void writeNewLine(OutputStream outputStream) {
+        try {
+            outputStream.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -43,6 +43,12 @@ public final class RunPlugin implements SmithyBuildPlugin {
         return true;
     }
 
+    @Override
+    public boolean isCacheable() {
+        // The command can read and write anything, so its results can't be reused.
+        return false;
+    }
+
     @Override
     public void execute(PluginContext context) {
         NodeMapper mapper = new NodeMapper();
@@ -25,7 +25,6 @@ import software.amazon.smithy.model.loader.ModelDiscovery;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.shapes.ModelSerializer;
 import software.amazon.smithy.model.validation.ValidationUtils;
-import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
 
 /**
@@ -115,7 +114,11 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
                 } else {
                     // Account for just a simple file vs recursing into directories.
                     Path target = root.equals(current) ? current.getFileName() : root.relativize(current);
-                    copyFile(names, manifest, target, IoUtils.readUtf8File(current));
+                    if (canCopyFile(manifest, target)) {
+                        // Copy the file as-is rather than reading it into memory.
+                        manifest.copyFile(target, current);
+                        names.add(target.toString());
+                    }
                 }
             }
         } catch (IOException e) {
@@ -123,10 +126,10 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
         }
     }
 
-    private static void copyFile(List<String> names, FileManifest manifest, Path target, String contents) {
+    private static boolean canCopyFile(FileManifest manifest, Path target) {
         // Path#getFileName might return null.
         if (target == null) {
-            return;
+            return false;
         }
 
         if (manifest.hasFile(target)) {
@@ -143,10 +146,10 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
         // Even though sources are filtered in SmithyBuild, it's theoretically possible that someone could call this
         // plugin manually. In that case, refuse to write unsupported files to the manifest.
         if (filename.endsWith(".smithy") || filename.endsWith(".json")) {
-            manifest.writeFile(target, contents);
-            names.add(target.toString());
+            return true;
         } else {
             LOGGER.warning("Omitting unrecognized file from Smithy model manifest: " + filename);
+            return false;
         }
     }
 
@@ -173,9 +176,13 @@ public final class SourcesPlugin implements SmithyBuildPlugin {
         for (URL model : ModelDiscovery.findModels(manifestUrl)) {
             String name = ModelDiscovery.getSmithyModelPathFromJarUrl(model);
             Path target = Paths.get(prefix + name);
-            LOGGER.finer(() -> "Copying " + name + " from JAR to " + target);
-            try (InputStream is = model.openStream()) {
-                copyFile(names, manifest, target, IoUtils.toUtf8String(is));
+            if (canCopyFile(manifest, target)) {
+                LOGGER.finer(() -> "Copying " + name + " from JAR to " + target);
+                // Stream the entry to the manifest rather than reading it into memory.
+                try (InputStream is = model.openStream()) {
+                    manifest.writeFile(target, is);
+                }
+                names.add(target.toString());
             }
         }
     }
@@ -9,20 +9,28 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.utils.IoUtils;
 
 public class FileManifestTest {
     private Path outputDirectory;
@@ -60,6 +68,16 @@ public class FileManifestTest {
         assertThat(thrown.getMessage(), containsString("must be relative to the base directory"));
     }
 
+    @Test
+    public void readsWrittenFiles() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        a.writeFile("foo/file.txt", "The contents");
+
+        try (InputStream stream = a.readFile(Paths.get("foo/file.txt"))) {
+            assertThat(IoUtils.toUtf8String(stream), equalTo("The contents"));
+        }
+    }
+
     @Test
     public void mergesRelativeWithBasePath() throws IOException {
         FileManifest a = FileManifest.create(outputDirectory);
@@ -123,4 +141,154 @@ public class FileManifestTest {
         assertThat(Files.isRegularFile(resolved), is(true));
         assertThat(new String(Files.readAllBytes(resolved)).trim(), equalTo("foo"));
     }
+
+    @Test
+    public void writesWithOutputStream() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        Path resolved = a.writeUsingOutputStream(Paths.get("foo/bar.bin"), (out) -> {
+            try {
+                out.write(new byte[] {1, 2, 3});
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(resolved, equalTo(outputDirectory.resolve("foo/bar.bin")));
+        assertThat(a.hasFile("foo/bar.bin"), is(true));
+        assertThat(Files.readAllBytes(resolved), equalTo(new byte[] {1, 2, 3}));
+    }
+
+    @Test
+    public void propagatesWriterConsumerExceptions() {
+        FileManifest a = FileManifest.create(outputDirectory);
+        UncheckedIOException e = new UncheckedIOException(new IOException("nope"));
+
+        UncheckedIOException thrown = Assertions.assertThrows(UncheckedIOException.class, () -> {
+            a.writeUsing(Paths.get("a.txt"), writer -> {
+                throw e;
+            });
+        });
+
+        assertThat(thrown, sameInstance(e));
+    }
+
+    @Test
+    public void wrapsOutputStreamConsumerExceptions() {
+        FileManifest a = FileManifest.create(outputDirectory);
+        IOException e = new IOException("nope");
+
+        SmithyBuildException thrown = Assertions.assertThrows(SmithyBuildException.class, () -> {
+            a.writeUsingOutputStream(Paths.get("a.txt"), out -> {
+                throw new UncheckedIOException(e);
+            });
+        });
+
+        assertThat(thrown.getCause(), sameInstance(e));
+        assertThat(thrown.getMessage(), containsString("nope"));
+    }
+
+    @Test
+    public void doesNotModifyUnchangedFiles() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        Path resolved = a.writeFile("foo/file.txt", "The contents");
+        FileTime lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(resolved, lastModified);
+        a.writeFile("foo/file.txt", "The contents");
+
+        assertThat(Files.getLastModifiedTime(resolved), equalTo(lastModified));
+        assertThat(new String(Files.readAllBytes(resolved)), equalTo("The contents"));
+    }
+
+    @Test
+    public void rewritesChangedFiles() throws IOException {
+        FileManifest a = FileManifest.create(outputDirectory);
+        Path resolved = a.writeFile("foo/file.txt", "The contents");
+
+        for (String contents : new String[] {"The contents changed", "The", "", "Other contents"}) {
+            a.writeFile("foo/file.txt", contents);
+            assertThat(new String(Files.readAllBytes(resolved)), equalTo(contents));
+        }
+    }
+
+    @Test
+    public void copiesFiles() throws IOException {
+        Path source = Files.createTempFile(outputDirectory, "source", ".smithy");
+        Files.write(source, "The contents".getBytes(StandardCharsets.UTF_8));
+        FileManifest a = FileManifest.create(outputDirectory);
+        Path resolved = a.copyFile(Paths.get("foo/copy.smithy"), source);
+
+        assertThat(a.hasFile("foo/copy.smithy"), is(true));
+        assertThat(new String(Files.readAllBytes(resolved)), equalTo("The contents"));
+
+        // Same size, different contents.
+        Files.write(source, "Tho contents".getBytes(StandardCharsets.UTF_8));
+        a.copyFile(Paths.get("foo/copy.smithy"), source);
+
+        assertThat(new String(Files.readAllBytes(resolved)), equalTo("Tho contents"));
+    }
+
+    @Test
+    public void doesNotModifyUnchangedCopies() throws IOException {
+        Path source = Files.createTempFile(outputDirectory, "source", ".smithy");
+        Files.write(source, "The contents".getBytes(StandardCharsets.UTF_8));
+        FileManifest a = FileManifest.create(outputDirectory);
+        Path resolved = a.copyFile(Paths.get("foo/copy.smithy"), source);
+        FileTime lastModified = FileTime.fromMillis(1000);
+        Files.setLastModifiedTime(resolved, lastModified);
+        a.copyFile(Paths.get("foo/copy.smithy"), source);
+
+        assertThat(Files.getLastModifiedTime(resolved), equalTo(lastModified));
+    }
+
+    @Test
+    public void writesFilesAsynchronously() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            FileManifest a = FileManifest.create(outputDirectory, executor);
+            for (int i = 0; i < 100; i++) {
+                a.writeFile("foo/file" + i + ".txt", "Contents " + i);
+            }
+            a.writeFile("foo/file0.txt", "Changed");
+            a.flush();
+
+            assertThat(a.getFiles().size(), equalTo(100));
+            assertThat(new String(Files.readAllBytes(outputDirectory.resolve("foo/file0.txt"))), equalTo("Changed"));
+            assertThat(new String(Files.readAllBytes(outputDirectory.resolve("foo/file99.txt"))),
+                    equalTo("Contents 99"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void writesLargeStreamsAsynchronously() throws IOException {
+        byte[] contents = new byte[1024 * 1024];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) i;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            FileManifest a = FileManifest.create(outputDirectory, executor);
+            a.writeFile("foo/large.bin", new ByteArrayInputStream(contents));
+            a.flush();
+
+            assertThat(Files.readAllBytes(outputDirectory.resolve("foo/large.bin")), equalTo(contents));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void throwsAsynchronousWriteFailuresWhenFlushed() throws IOException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Files.createDirectories(outputDirectory.resolve("foo/dir"));
+            FileManifest a = FileManifest.create(outputDirectory, executor);
+            a.writeFile("foo/dir", "The contents");
+
+            Assertions.assertThrows(SmithyBuildException.class, a::flush);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -12,10 +12,13 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.nio.file.Paths;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
 
 public class MockManifestTest {
     @Test
@@ -53,6 +56,20 @@ public class MockManifestTest {
         assertThat(a.expectFileString("foo/file.txt"), equalTo("The contents"));
     }
 
+    @Test
+    public void writesFromOutputStream() {
+        MockManifest a = new MockManifest();
+        a.writeUsingOutputStream(Paths.get("foo/file.txt"), out -> {
+            try {
+                out.write("The contents".getBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        assertThat(a.expectFileBytes("foo/file.txt"), equalTo("The contents".getBytes()));
+    }
+
     @Test
     public void findsFilesUnderPrefix() {
         MockManifest a = new MockManifest();
@@ -79,4 +96,22 @@ public class MockManifestTest {
         assertThat(a.expectFileString("foo/bar/a"), equalTo(""));
         assertTrue(a.expectFileBytes("foo/bar/a").length == 0);
     }
+
+    @Test
+    public void readsStoredFiles() throws IOException {
+        MockManifest a = new MockManifest();
+        a.writeFile("foo/file.txt", "The contents");
+
+        try (InputStream stream = a.readFile(Paths.get("foo/file.txt"))) {
+            assertThat(IoUtils.toUtf8String(stream), equalTo("The contents"));
+        }
+    }
+
+    @Test
+    public void cannotReadFilesWhenOnlyPathsAreStored() {
+        MockManifest a = new MockManifest(Paths.get("/foo"), MockManifest.StoreMode.PATH_ONLY);
+        a.writeFile("foo/bar/a", "hello");
+
+        Assertions.assertThrows(SmithyBuildException.class, () -> a.readFile(Paths.get("foo/bar/a")));
+    }
 }
@@ -10,8 +10,11 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -22,18 +25,24 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.AfterEach;
@@ -506,11 +515,12 @@ public class SmithyBuildTest {
 
     @Test
     public void appliesSerialPlugins() throws Exception {
+        List<PluginExecution> executions = Collections.synchronizedList(new ArrayList<>());
         Map<String, SmithyBuildPlugin> plugins = new LinkedHashMap<>();
-        plugins.put("test1Serial", new Test1SerialPlugin());
-        plugins.put("test2Serial", new Test2SerialPlugin());
-        plugins.put("test1Parallel", new Test1ParallelPlugin());
-        plugins.put("test2Parallel", new Test2ParallelPlugin());
+        plugins.put("test1Serial", new RecordingPlugin(new Test1SerialPlugin(), executions));
+        plugins.put("test2Serial", new RecordingPlugin(new Test2SerialPlugin(), executions));
+        plugins.put("test1Parallel", new RecordingPlugin(new Test1ParallelPlugin(), executions));
+        plugins.put("test2Parallel", new RecordingPlugin(new Test2ParallelPlugin(), executions));
 
         Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
         Function<String, Optional<SmithyBuildPlugin>> composed = name -> OptionalUtils.or(
@@ -519,6 +529,7 @@ public class SmithyBuildTest {
 
         SmithyBuild builder = new SmithyBuild().pluginFactory(composed);
         builder.fileManifestFactory(MockManifest::new);
+        builder.threads(4);
         builder.config(SmithyBuildConfig.builder()
                 .load(Paths.get(getClass().getResource("applies-serial-plugins.json").toURI()))
                 .outputDirectory("/foo")
@@ -534,12 +545,74 @@ public class SmithyBuildTest {
         assertPluginPresent("test1Parallel", "hello1Parallel", source, b);
         assertPluginPresent("test2Parallel", "hello2Parallel", source);
 
-        // "source" contains serial and parallel plugins, so it runs serially and in insetion order.
-        // This test will need to be changed in the future if we ever optimize how plugins are run in the future.
-        assertTrue(getPluginFileContents(source, "test1Parallel") < getPluginFileContents(source, "test1Serial"));
-        // The "b" projection has only parallel plugins, so it's a parallel projection. Parallel projections are run
-        // after all the serial projections.
-        assertTrue(getPluginFileContents(source, "test1Serial") < getPluginFileContents(b, "test1Parallel"));
+        // Serial plugins never overlap another plugin of any projection, so projections that
+        // contain serial plugins are serialized around them.
+        assertThat(executions, hasSize(6));
+        for (PluginExecution serial : executions) {
+            if (serial.serial) {
+                for (PluginExecution other : executions) {
+                    if (other != serial) {
+                        assertTrue(other.end <= serial.start || other.start >= serial.end,
+                                serial + " overlapped " + other);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class PluginExecution {
+        private final String name;
+        private final String projection;
+        private final boolean serial;
+        private final long start;
+        private final long end;
+
+        PluginExecution(String name, String projection, boolean serial, long start, long end) {
+            this.name = name;
+            this.projection = projection;
+            this.serial = serial;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return projection + "/" + name;
+        }
+    }
+
+    private static final class RecordingPlugin implements SmithyBuildPlugin {
+        private final SmithyBuildPlugin delegate;
+        private final List<PluginExecution> executions;
+
+        RecordingPlugin(SmithyBuildPlugin delegate, List<PluginExecution> executions) {
+            this.delegate = delegate;
+            this.executions = executions;
+        }
+
+        @Override
+        public String getName() {
+            return delegate.getName();
+        }
+
+        @Override
+        public boolean isSerial() {
+            return delegate.isSerial();
+        }
+
+        @Override
+        public void execute(PluginContext context) {
+            long start = System.nanoTime();
+            delegate.execute(context);
+            try {
+                // Keep each plugin running long enough for an overlap to be observable.
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            long end = System.nanoTime();
+            executions.add(new PluginExecution(getName(), context.getProjectionName(), isSerial(), start, end));
+        }
     }
 
     @Test
@@ -572,9 +645,226 @@ public class SmithyBuildTest {
         assertPluginPresent("test2Parallel", "hello2Parallel", b);
     }
 
-    private long getPluginFileContents(ProjectionResult projection, String pluginName) {
-        MockManifest manifest = (MockManifest) projection.getPluginManifest(pluginName).get();
-        return Long.parseLong(manifest.getFileString(manifest.getFiles().iterator().next()).get());
+    @Test
+    public void runsIndependentPluginsConcurrently() {
+        // Each plugin waits for the other one to start, so the build only succeeds if they run at the same time.
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "barrier";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                context.getFileManifest().writeFile("done", "");
+            }
+        };
+
+        SmithyBuildResult results = createConcurrentBuild(MapUtils.of("a", plugin, "b", plugin), 2).build();
+        ProjectionResult source = results.getProjectionResult("source").get();
+
+        assertPluginPresent("a", "done", source);
+        assertPluginPresent("b", "done", source);
+    }
+
+    @Test
+    public void runsSerialPluginsExclusively() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicBoolean overlapped = new AtomicBoolean();
+        Map<String, SmithyBuildPlugin> plugins = new HashMap<>();
+        for (int i = 0; i < 6; i++) {
+            plugins.put("plugin" + i, new ExclusivityPlugin(i % 3 == 0, running, overlapped));
+        }
+
+        createConcurrentBuild(plugins, 4).build();
+
+        assertFalse(overlapped.get());
+    }
+
+    @Test
+    public void rejectsInvalidThreadCounts() {
+        assertThrows(IllegalArgumentException.class, () -> new SmithyBuild().threads(0));
+    }
+
+    @Test
+    public void sharesBuiltInTransformsAcrossProjections() {
+        Model model = Model.assembler()
+                .addUnparsedModel("a.smithy",
+                        "$version: \"2.0\"\nnamespace smithy.example\n@tags([\"foo\"])\nstring A\n")
+                .assemble()
+                .unwrap();
+        TransformConfig transform = TransformConfig.builder()
+                .name("excludeTags")
+                .args(Node.objectNode().withMember("tags", Node.fromStrings("foo")))
+                .build();
+        TransformConfig otherTransform = TransformConfig.builder()
+                .name("excludeTags")
+                .args(Node.objectNode().withMember("tags", Node.fromStrings("bar")))
+                .build();
+        Map<String, ProjectionConfig> projections = new HashMap<>();
+        projections.put("a", ProjectionConfig.builder().transforms(ListUtils.of(transform)).build());
+        projections.put("b", ProjectionConfig.builder().transforms(ListUtils.of(transform)).build());
+        projections.put("c", ProjectionConfig.builder().transforms(ListUtils.of(otherTransform)).build());
+
+        SmithyBuildResult results = new SmithyBuild()
+                .model(model)
+                .fileManifestFactory(MockManifest::new)
+                .config(SmithyBuildConfig.builder()
+                        .version("1.0")
+                        .outputDirectory("/foo")
+                        .projections(projections)
+                        .build())
+                .build();
+
+        assertThat(results.getProjectionResult("a").get().getModel(),
+                sameInstance(results.getProjectionResult("b").get().getModel()));
+        assertThat(results.getProjectionResult("a").get().getModel(),
+                not(sameInstance(results.getProjectionResult("c").get().getModel())));
+    }
+
+    @Test
+    public void doesNotShareCustomTransformsAcrossProjections() {
+        // Custom transforms can read the projection name from their context, so each projection applies them.
+        AtomicInteger count = new AtomicInteger();
+        ProjectionTransformer transformer = new ProjectionTransformer() {
+            @Override
+            public String getName() {
+                return "count";
+            }
+
+            @Override
+            public Model transform(TransformContext context) {
+                count.incrementAndGet();
+                return context.getModel().toBuilder().build();
+            }
+        };
+        TransformConfig transform = TransformConfig.builder().name("count").build();
+        Map<String, ProjectionConfig> projections = new HashMap<>();
+        projections.put("a", ProjectionConfig.builder().transforms(ListUtils.of(transform)).build());
+        projections.put("b", ProjectionConfig.builder().transforms(ListUtils.of(transform)).build());
+
+        new SmithyBuild()
+                .transformFactory(name -> name.equals("count") ? Optional.of(transformer) : Optional.empty())
+                .fileManifestFactory(MockManifest::new)
+                .config(SmithyBuildConfig.builder()
+                        .version("1.0")
+                        .outputDirectory("/foo")
+                        .projections(projections)
+                        .build())
+                .build();
+
+        assertThat(count.get(), equalTo(2));
+    }
+
+    @Test
+    public void writesFilesAsynchronously() throws IOException {
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "files";
+            }
+
+            @Override
+            public void execute(PluginContext context) {
+                for (int i = 0; i < 50; i++) {
+                    context.getFileManifest().writeFile("file" + i + ".txt", "Contents " + i);
+                }
+            }
+        };
+
+        SmithyBuildResult results = createConcurrentBuild(MapUtils.of("files", plugin), 2)
+                .fileManifestFactory(null)
+                .asyncFileWrites(true)
+                .outputDirectory(outputDirectory)
+                .build();
+        ProjectionResult source = results.getProjectionResult("source").get();
+        Path file = source.getPluginManifest("files").get().getBaseDir().resolve("file49.txt");
+
+        assertThat(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), equalTo("Contents 49"));
+    }
+
+    @Test
+    public void tracesPluginsAndProjections() {
+        TraceEventRecorder recorder = new TraceEventRecorder();
+        SmithyBuildPlugin plugin = new SmithyBuildPlugin() {
+            @Override
+            public String getName() {
+                return "traced";
+            }
+
+            @Override
+            public void execute(PluginContext context) {}
+        };
+
+        createConcurrentBuild(MapUtils.of("traced", plugin), 2).tracer(recorder).build();
+        List<String> spans = recorder.toNode()
+                .expectArrayMember("traceEvents")
+                .getElementsAs(ObjectNode.class)
+                .stream()
+                .filter(event -> event.expectStringMember("ph").getValue().equals("X"))
+                .map(event -> event.expectStringMember("cat").getValue() + ":"
+                        + event.expectStringMember("name").getValue())
+                .collect(Collectors.toList());
+
+        assertThat(spans, hasItems("build:base model", "projection:source", "plugin:traced", "model:validate"));
+    }
+
+    private SmithyBuild createConcurrentBuild(Map<String, SmithyBuildPlugin> plugins, int threads) {
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        Map<String, ObjectNode> settings = new HashMap<>();
+        plugins.keySet().forEach(name -> settings.put(name, Node.objectNode()));
+        return new SmithyBuild()
+                .pluginFactory(name -> OptionalUtils.or(Optional.ofNullable(plugins.get(name)),
+                        () -> factory.apply(name)))
+                .fileManifestFactory(MockManifest::new)
+                .threads(threads)
+                .config(SmithyBuildConfig.builder()
+                        .version("1.0")
+                        .outputDirectory("/foo")
+                        .plugins(settings)
+                        .build());
+    }
+
+    private static final class ExclusivityPlugin implements SmithyBuildPlugin {
+        private final boolean serial;
+        private final AtomicInteger running;
+        private final AtomicBoolean overlapped;
+
+        ExclusivityPlugin(boolean serial, AtomicInteger running, AtomicBoolean overlapped) {
+            this.serial = serial;
+            this.running = running;
+            this.overlapped = overlapped;
+        }
+
+        @Override
+        public String getName() {
+            return "exclusivity";
+        }
+
+        @Override
+        public boolean isSerial() {
+            return serial;
+        }
+
+        @Override
+        public void execute(PluginContext context) {
+            int current = running.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (serial && (current != 1 || running.get() != 1)) {
+                overlapped.set(true);
+            }
+            running.decrementAndGet();
+        }
     }
 
     private void assertPluginPresent(String pluginName, String outputFileName, ProjectionResult... results) {
@@ -1125,4 +1415,85 @@ public class SmithyBuildTest {
                 // Test that passing explicit files works too.
                 Arguments.of(ListUtils.of(rootPath.resolve("a.smithy"), rootPath.resolve("foo.md"))));
     }
+
+    @Test
+    public void restoresCacheablePluginsFromCache() throws Exception {
+        Path cache = outputDirectory.resolve(".cache");
+        CountingPlugin plugin = new CountingPlugin();
+
+        SmithyBuildResult first = createCachingBuild(plugin, cache, Node.objectNode()).build();
+        // Remove the artifacts to ensure they're restored from the cache.
+        IoUtils.rmdir(outputDirectory.resolve("source"));
+        SmithyBuildResult second = createCachingBuild(plugin, cache, Node.objectNode()).build();
+
+        assertThat(plugin.count, equalTo(1));
+        for (SmithyBuildResult result : ListUtils.of(first, second)) {
+            FileManifest manifest = result.getProjectionResult("source").get().getPluginManifest("counter").get();
+            assertThat(manifest.getFiles(), containsInAnyOrder(
+                    outputDirectory.resolve("source/counter/a.txt"),
+                    outputDirectory.resolve("source/counter/nested/b.txt")));
+        }
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("source/counter/nested/b.txt")), equalTo("b"));
+        assertThat(IoUtils.readUtf8File(outputDirectory.resolve("source/shared/shared.txt")), equalTo("shared"));
+    }
+
+    @Test
+    public void rerunsCachedPluginsWhenSettingsChange() throws Exception {
+        Path cache = outputDirectory.resolve(".cache");
+        CountingPlugin plugin = new CountingPlugin();
+
+        createCachingBuild(plugin, cache, Node.objectNode()).build();
+        createCachingBuild(plugin, cache, Node.objectNode().withMember("foo", "bar")).build();
+        createCachingBuild(plugin, cache, Node.objectNode().withMember("foo", "bar")).build();
+
+        assertThat(plugin.count, equalTo(2));
+    }
+
+    @Test
+    public void doesNotCacheUncacheablePlugins() throws Exception {
+        Path cache = outputDirectory.resolve(".cache");
+        CountingPlugin plugin = new CountingPlugin();
+        plugin.cacheable = false;
+
+        createCachingBuild(plugin, cache, Node.objectNode()).build();
+        createCachingBuild(plugin, cache, Node.objectNode()).build();
+
+        assertThat(plugin.count, equalTo(2));
+        assertFalse(Files.exists(cache.resolve("source/counter")));
+    }
+
+    private SmithyBuild createCachingBuild(SmithyBuildPlugin plugin, Path cache, ObjectNode settings) {
+        Function<String, Optional<SmithyBuildPlugin>> factory = SmithyBuildPlugin.createServiceFactory();
+        return new SmithyBuild()
+                .pluginFactory(name -> name.equals("counter") ? Optional.of(plugin) : factory.apply(name))
+                .cacheDirectory(cache)
+                .config(SmithyBuildConfig.builder()
+                        .version("1.0")
+                        .outputDirectory(outputDirectory.toString())
+                        .plugins(MapUtils.of("counter", settings))
+                        .build());
+    }
+
+    private static final class CountingPlugin implements SmithyBuildPlugin {
+        private int count;
+        private boolean cacheable = true;
+
+        @Override
+        public String getName() {
+            return "counter";
+        }
+
+        @Override
+        public boolean isCacheable() {
+            return cacheable;
+        }
+
+        @Override
+        public void execute(PluginContext context) {
+            count++;
+            context.getFileManifest().writeFile("a.txt", "a");
+            context.getFileManifest().writeFile("nested/b.txt", "b");
+            context.getSharedFileManifest().writeFile("shared.txt", "shared");
+        }
+    }
 }
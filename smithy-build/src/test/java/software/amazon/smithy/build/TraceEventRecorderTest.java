@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.build;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.IoUtils;
+import software.amazon.smithy.utils.MapUtils;
+import software.amazon.smithy.utils.Tracer;
+
+public class TraceEventRecorderTest {
+    @Test
+    public void recordsClosedSpans() {
+        TraceEventRecorder recorder = new TraceEventRecorder();
+        try (Tracer.Span span = recorder.startSpan("plugin", "test", MapUtils.of("projection", "source"))) {
+            recorder.startSpan("model", "unclosed");
+        }
+
+        List<ObjectNode> spans = getEvents(recorder.toNode(), "X");
+
+        assertThat(spans, hasSize(1));
+        assertThat(spans.get(0).expectStringMember("name").getValue(), equalTo("test"));
+        assertThat(spans.get(0).expectStringMember("cat").getValue(), equalTo("plugin"));
+        assertThat(spans.get(0).expectObjectMember("args").expectStringMember("projection").getValue(),
+                equalTo("source"));
+        assertThat(spans.get(0).expectNumberMember("tid").getValue().longValue(),
+                equalTo(Thread.currentThread().getId()));
+    }
+
+    @Test
+    public void namesThreadsOfSpans() throws InterruptedException {
+        TraceEventRecorder recorder = new TraceEventRecorder();
+        Thread thread = new Thread(() -> recorder.startSpan("plugin", "test").close(), "trace-test-thread");
+        thread.start();
+        thread.join();
+
+        List<ObjectNode> threadNames = getEvents(recorder.toNode(), "M");
+
+        assertThat(threadNames, hasSize(1));
+        assertThat(threadNames.get(0).expectObjectMember("args").expectStringMember("name").getValue(),
+                equalTo("trace-test-thread"));
+    }
+
+    @Test
+    public void writesTraceFiles() throws IOException {
+        Path tempDir = Files.createTempDirectory(getClass().getName());
+        try {
+            TraceEventRecorder recorder = new TraceEventRecorder();
+            recorder.startSpan("plugin", "test").close();
+            Path file = tempDir.resolve("traces/trace.json");
+            recorder.write(file);
+
+            ObjectNode trace = Node.parse(IoUtils.readUtf8File(file)).expectObjectNode();
+
+            assertThat(getEvents(trace, "X"), hasSize(1));
+        } finally {
+            IoUtils.rmdir(tempDir);
+        }
+    }
+
+    private static List<ObjectNode> getEvents(ObjectNode trace, String phase) {
+        return trace.expectArrayMember("traceEvents")
+                .getElementsAs(ObjectNode.class)
+                .stream()
+                .filter(event -> event.expectStringMember("ph").getValue().equals(phase))
+                .collect(Collectors.toList());
+    }
+}
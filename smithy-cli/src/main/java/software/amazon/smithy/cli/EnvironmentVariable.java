@@ -109,7 +109,13 @@ public enum EnvironmentVariable {
      * defined in the smithy-build maven configuration unless a repo-specific
      * configuration is provided.
      */
-    SMITHY_PROXY_CREDENTIALS;
+    SMITHY_PROXY_CREDENTIALS,
+
+    /**
+     * If set to any value, commands run in the CLI process instead of being
+     * forwarded to a daemon started with {@code smithy daemon start}.
+     */
+    SMITHY_NO_DAEMON;
 
     private static final Logger LOGGER = Logger.getLogger(EnvironmentVariable.class.getName());
 
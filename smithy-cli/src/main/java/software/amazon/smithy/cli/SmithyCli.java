@@ -5,6 +5,8 @@
 package software.amazon.smithy.cli;
 
 import java.util.List;
+import java.util.OptionalInt;
+import software.amazon.smithy.cli.commands.DaemonClient;
 import software.amazon.smithy.cli.commands.SmithyCommand;
 import software.amazon.smithy.cli.dependencies.DependencyResolver;
 import software.amazon.smithy.cli.dependencies.MavenDependencyResolver;
@@ -36,7 +38,9 @@ public final class SmithyCli {
      */
     public static void main(String... args) {
         try {
-            int exitCode = SmithyCli.create().run(args);
+            // Commands run in a daemon when one was started with `smithy daemon start`.
+            OptionalInt forwarded = DaemonClient.forward(args);
+            int exitCode = forwarded.isPresent() ? forwarded.getAsInt() : SmithyCli.create().run(args);
             // Only exit with a non-zero status on error since 0 is the default exit code.
             if (exitCode != 0) {
                 System.exit(exitCode);
@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.cli.commands;
 
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.file.Path;
@@ -12,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -19,6 +21,7 @@ import java.util.function.Supplier;
 import software.amazon.smithy.build.FileManifest;
 import software.amazon.smithy.build.ProjectionResult;
 import software.amazon.smithy.build.SmithyBuild;
+import software.amazon.smithy.build.TraceEventRecorder;
 import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.cli.ArgumentReceiver;
 import software.amazon.smithy.cli.Arguments;
@@ -34,11 +37,18 @@ import software.amazon.smithy.cli.Style;
 import software.amazon.smithy.cli.dependencies.DependencyResolver;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.loader.ValidationBaseline;
 import software.amazon.smithy.model.loader.sourcecontext.SourceContextLoader;
+import software.amazon.smithy.model.traits.TraitFactory;
 import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidatorFactory;
+import software.amazon.smithy.utils.Tracer;
 
 final class BuildCommand implements Command {
 
+    // Time to wait for more changes after a file changes before rebuilding in watch mode.
+    private static final long WATCH_DEBOUNCE_MILLIS = 200;
+
     private final String parentCommandName;
     private final DependencyResolver.Factory dependencyResolverFactory;
 
@@ -76,6 +86,28 @@ final class BuildCommand implements Command {
     private static final class Options implements ArgumentReceiver {
         private String projection;
         private String plugin;
+        private boolean incremental;
+        private boolean watch;
+        private boolean asyncWrites;
+        private int threads;
+        private String trace;
+
+        @Override
+        public boolean testOption(String name) {
+            switch (name) {
+                case "--incremental":
+                    incremental = true;
+                    return true;
+                case "--watch":
+                    watch = true;
+                    return true;
+                case "--async-writes":
+                    asyncWrites = true;
+                    return true;
+                default:
+                    return false;
+            }
+        }
 
         @Override
         public Consumer<String> testParameter(String name) {
@@ -84,6 +116,10 @@ final class BuildCommand implements Command {
                     return value -> projection = value;
                 case "--plugin":
                     return value -> plugin = value;
+                case "--threads":
+                    return value -> threads = parseThreads(value);
+                case "--trace":
+                    return value -> trace = value;
                 default:
                     return null;
             }
@@ -93,21 +129,201 @@ final class BuildCommand implements Command {
         public void registerHelp(HelpPrinter printer) {
             printer.param("--projection", null, "PROJECTION_NAME", "Only generate artifacts for this projection.");
             printer.param("--plugin", null, "PLUGIN_NAME", "Only generate artifacts for this plugin.");
+            printer.option("--incremental",
+                    null,
+                    "Reuse the artifacts of plugins whose inputs are unchanged since the last incremental build.");
+            printer.option("--watch",
+                    null,
+                    "Rebuild when model files or smithy-build.json change, until interrupted. Only the shapes that "
+                            + "changed are validated again, and only plugins whose inputs changed are run again.");
+            printer.option("--async-writes",
+                    null,
+                    "Write generated files in the background so that plugins aren't blocked by disk writes. "
+                            + "Plugins can't read the files they generate from disk while they're running.");
+            printer.param("--threads",
+                    null,
+                    "THREADS",
+                    "Maximum number of threads used to run plugins. Defaults to the number of processors.");
+            printer.param("--trace",
+                    null,
+                    "TRACE_FILE",
+                    "Write a trace of where the build spends time to this file. The trace uses the Chrome trace "
+                            + "event format and can be viewed with chrome://tracing or Perfetto.");
+        }
+
+        private static int parseThreads(String value) {
+            int result;
+            try {
+                result = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                result = 0;
+            }
+            if (result < 1) {
+                throw new CliError("Invalid --threads value, expected a positive integer: " + value);
+            }
+            return result;
         }
     }
 
     private int runWithClassLoader(SmithyBuildConfig config, Arguments arguments, Env env) {
+        BuildSession session = new BuildSession(env.classLoader());
+        if (arguments.getReceiver(Options.class).watch) {
+            return watch(config, arguments, env, session);
+        }
+        return traceBuild(config, arguments, env, session);
+    }
+
+    private int traceBuild(SmithyBuildConfig config, Arguments arguments, Env env, BuildSession session) {
+        Options options = arguments.getReceiver(Options.class);
+        TraceEventRecorder recorder = options.trace != null ? new TraceEventRecorder() : null;
+
+        try {
+            return build(config, arguments, env, session, recorder != null ? recorder : Tracer.NONE);
+        } finally {
+            // Write the trace even if the build fails, since it shows how far the build got.
+            if (recorder != null) {
+                recorder.write(Paths.get(options.trace));
+            }
+        }
+    }
+
+    private int watch(SmithyBuildConfig initialConfig, Arguments arguments, Env env, BuildSession session) {
+        ConfigOptions configOptions = arguments.getReceiver(ConfigOptions.class);
+        List<Path> configFiles = new ArrayList<>();
+        for (String configFile : configOptions.config()) {
+            configFiles.add(Paths.get(configFile).toAbsolutePath().normalize());
+        }
+
+        boolean quiet = arguments.getReceiver(StandardOptions.class).quiet();
+        SmithyBuildConfig config = initialConfig;
+        List<Path> watchedPaths = getWatchedPaths(config, arguments, configFiles);
+        FileWatcher watcher = null;
+
+        try {
+            watcher = createWatcher(config, arguments, watchedPaths);
+            boolean rebuild = true;
+
+            while (true) {
+                if (rebuild) {
+                    try {
+                        traceBuild(config, arguments, env, session);
+                    } catch (RuntimeException e) {
+                        // Keep watching after a failed build so that the problem can be fixed.
+                        printWatchError(arguments, env, e);
+                    }
+                }
+
+                if (!quiet) {
+                    env.colors().println(env.stderr(), "Watching for changes...", ColorTheme.MUTED);
+                    env.flush();
+                }
+                Set<Path> changed = watcher.awaitChanges();
+                rebuild = true;
+
+                if (!Collections.disjoint(changed, configFiles)) {
+                    SmithyBuildConfig updated;
+                    try {
+                        updated = configOptions.createSmithyBuildConfig();
+                    } catch (RuntimeException e) {
+                        // Wait for the config to be fixed rather than building with a stale config.
+                        printWatchError(arguments, env, e);
+                        rebuild = false;
+                        continue;
+                    }
+
+                    if (!updated.getMaven().equals(config.getMaven())) {
+                        env.colors()
+                                .println(env.stderr(),
+                                        "Maven dependencies changed in smithy-build.json. Restart the build to "
+                                                + "use the new dependencies.",
+                                        ColorTheme.WARNING);
+                    }
+
+                    List<Path> updatedPaths = getWatchedPaths(updated, arguments, configFiles);
+                    if (!updatedPaths.equals(watchedPaths)) {
+                        watcher.close();
+                        watcher = createWatcher(updated, arguments, updatedPaths);
+                        watchedPaths = updatedPaths;
+                    }
+                    config = updated;
+                }
+
+                if (!quiet) {
+                    env.colors()
+                            .println(env.stderr(),
+                                    String.format("%nChanged: %s. Rebuilding...", formatChangedFiles(changed)),
+                                    ColorTheme.MUTED);
+                }
+            }
+        } catch (IOException e) {
+            throw new CliError("Unable to watch for changes: " + e.getMessage(), 1, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            if (watcher != null) {
+                try {
+                    watcher.close();
+                } catch (IOException e) {
+                    // Ignore errors closing the watcher when stopping.
+                }
+            }
+        }
+    }
+
+    private static List<Path> getWatchedPaths(SmithyBuildConfig config, Arguments arguments, List<Path> configFiles) {
+        List<Path> paths = new ArrayList<>(configFiles);
+        config.getSources().forEach(source -> paths.add(Paths.get(source)));
+        config.getImports().forEach(source -> paths.add(Paths.get(source)));
+        arguments.getPositional().forEach(model -> paths.add(Paths.get(model)));
+        return paths;
+    }
+
+    private static FileWatcher createWatcher(SmithyBuildConfig config, Arguments arguments, List<Path> paths)
+            throws IOException {
+        // Don't watch the output directory, since it's modified by every build.
+        Path output = arguments.getReceiver(BuildOptions.class).resolveOutput(config);
+        return new FileWatcher(paths, Collections.singletonList(output), WATCH_DEBOUNCE_MILLIS);
+    }
+
+    private static String formatChangedFiles(Set<Path> changed) {
+        Path cwd = Paths.get("").toAbsolutePath();
+        List<String> names = new ArrayList<>();
+        for (Path path : changed) {
+            names.add(path.startsWith(cwd) ? cwd.relativize(path).toString() : path.toString());
+            if (names.size() == 3 && changed.size() > 3) {
+                names.add("and " + (changed.size() - 3) + " more");
+                break;
+            }
+        }
+        return String.join(", ", names);
+    }
+
+    private static void printWatchError(Arguments arguments, Env env, RuntimeException e) {
+        if (arguments.getReceiver(StandardOptions.class).stackTrace()) {
+            StringWriter writer = new StringWriter();
+            e.printStackTrace(new PrintWriter(writer));
+            env.colors().println(env.stderr(), writer.toString(), ColorTheme.ERROR);
+        } else {
+            env.colors().println(env.stderr(), e.getMessage(), ColorTheme.ERROR);
+        }
+        env.flush();
+    }
+
+    private int build(SmithyBuildConfig config, Arguments arguments, Env env, BuildSession session, Tracer tracer) {
         List<String> models = arguments.getPositional();
         Options options = arguments.getReceiver(Options.class);
         BuildOptions buildOptions = arguments.getReceiver(BuildOptions.class);
         StandardOptions standardOptions = arguments.getReceiver(StandardOptions.class);
-        ClassLoader classLoader = env.classLoader();
         Model model = new ModelBuilder()
                 .config(config)
                 .arguments(arguments)
                 .env(env)
                 .models(models)
                 .validationPrinter(env.stderr())
+                .tracer(tracer)
+                .modelAssemblerSupplier(session::createAssembler)
+                .validationBaseline(options.watch ? session.validationBaseline : null)
                 .build();
 
         if (!standardOptions.quiet()) {
@@ -116,15 +332,16 @@ final class BuildCommand implements Command {
         }
 
         Supplier<ModelAssembler> modelAssemblerSupplier = () -> {
-            ModelAssembler assembler = Model.assembler(classLoader);
+            ModelAssembler assembler = session.createAssembler();
             if (buildOptions.allowUnknownTraits()) {
                 assembler.putProperty(ModelAssembler.ALLOW_UNKNOWN_TRAITS, true);
             }
             return assembler;
         };
-        SmithyBuild smithyBuild = SmithyBuild.create(classLoader, modelAssemblerSupplier)
+        SmithyBuild smithyBuild = session.createSmithyBuild(modelAssemblerSupplier)
                 .config(config)
-                .model(model);
+                .model(model)
+                .tracer(tracer);
 
         if (buildOptions.output() != null) {
             smithyBuild.outputDirectory(buildOptions.output());
@@ -138,6 +355,19 @@ final class BuildCommand implements Command {
             smithyBuild.projectionFilter(name -> name.equals(options.projection));
         }
 
+        if (options.threads > 0) {
+            smithyBuild.threads(options.threads);
+        }
+
+        if (options.asyncWrites) {
+            smithyBuild.asyncFileWrites(true);
+        }
+
+        if (options.incremental || options.watch) {
+            // Projection names can't start with ".", so the cache can't conflict with projection artifacts.
+            smithyBuild.cacheDirectory(buildOptions.resolveOutput(config).resolve(".cache"));
+        }
+
         // Register sources with the builder.
         models.forEach(path -> smithyBuild.registerSources(Paths.get(path)));
 
@@ -173,6 +403,38 @@ final class BuildCommand implements Command {
         return 0;
     }
 
+    // State shared by the builds run by a command, which lets watch mode keep caches warm between builds.
+    private static final class BuildSession {
+        private final ClassLoader classLoader;
+        private final DaemonCache.Services services;
+        private final TraitFactory traitFactory;
+        private final ValidatorFactory validatorFactory;
+        private final ValidationBaseline validationBaseline = new ValidationBaseline();
+
+        BuildSession(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            DaemonCache cache = DaemonCache.get();
+            services = cache == null ? null : cache.services(classLoader);
+            if (services != null) {
+                traitFactory = services.traitFactory();
+                validatorFactory = services.validatorFactory();
+            } else {
+                traitFactory = TraitFactory.createServiceFactory(classLoader);
+                validatorFactory = ValidatorFactory.createServiceFactory(classLoader);
+            }
+        }
+
+        ModelAssembler createAssembler() {
+            return Model.assembler().traitFactory(traitFactory).validatorFactory(validatorFactory);
+        }
+
+        SmithyBuild createSmithyBuild(Supplier<ModelAssembler> modelAssemblerSupplier) {
+            return services != null
+                    ? services.createSmithyBuild(modelAssemblerSupplier)
+                    : SmithyBuild.create(classLoader, modelAssemblerSupplier);
+        }
+    }
+
     private static final class ResultConsumer implements Consumer<ProjectionResult>, BiConsumer<String, Throwable> {
         private final List<String> failedProjections = Collections.synchronizedList(new ArrayList<>());
         private final AtomicInteger artifactCount = new AtomicInteger();
@@ -108,7 +108,12 @@ class ClasspathAction implements CommandAction {
                     smithyBuildConfig.getMaven().get());
             long end = System.nanoTime();
             LOGGER.fine(() -> "Dependency resolution time in ms: " + ((end - start) / 1000000));
-            new IsolatedRunnable(files, env.classLoader(), consumer).run();
+            // A daemon reuses the class loader of a classpath, so classes are only loaded once.
+            DaemonCache cache = DaemonCache.get();
+            IsolatedRunnable runnable = cache == null
+                    ? new IsolatedRunnable(files, env.classLoader(), consumer)
+                    : new IsolatedRunnable(cache.classLoader(files, env.classLoader()), consumer);
+            runnable.run();
             LOGGER.fine(() -> "Command time in ms: " + ((System.nanoTime() - end) / 1000000));
         } else {
             consumer.accept(env.classLoader());
@@ -0,0 +1,592 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+import software.amazon.smithy.cli.AnsiColorFormatter;
+import software.amazon.smithy.cli.Cli;
+import software.amazon.smithy.cli.CliError;
+import software.amazon.smithy.cli.CliPrinter;
+import software.amazon.smithy.cli.EnvironmentVariable;
+import software.amazon.smithy.cli.SmithyCli;
+import software.amazon.smithy.cli.StandardOptions;
+import software.amazon.smithy.utils.SetUtils;
+
+/**
+ * A long-running process that runs CLI commands sent over a Unix domain socket.
+ *
+ * <p>A daemon serves a single working directory, and the socket path is
+ * derived from that directory, so relative paths in commands and config
+ * files resolve the same way they would in the CLI process. Commands run
+ * one at a time because they configure process-wide logging, and they
+ * share the class loaders, service providers, and dependency models kept
+ * in {@link DaemonCache}.
+ *
+ * <p>Each request starts with the protocol version, the version of the
+ * CLI, the working directory, and the request type. Requests are rejected
+ * if any of them, or any environment variable, differ from the daemon's, so
+ * config files and processes started by plugins see the same environment
+ * and working directory they would in the CLI process. Only variables that
+ * affect colors or describe the client's shell can differ. The daemon
+ * responds with frames of stdout and stderr output followed by the exit
+ * code of the command. Output written directly to {@link System#out} and
+ * {@link System#err} while a command runs is sent to the client too.
+ */
+final class Daemon implements AutoCloseable {
+
+    static final int PROTOCOL_VERSION = 2;
+
+    // Request types.
+    static final byte RUN = 1;
+    static final byte STATUS = 2;
+    static final byte STOP = 3;
+
+    // Response frame types.
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+    static final byte EXIT = 3;
+    static final byte REJECTED = 4;
+
+    private static final Logger LOGGER = Logger.getLogger(Daemon.class.getName());
+    private static final int MAX_STRING_LENGTH = 16 * 1024 * 1024;
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rwx------");
+
+    // Variables that only affect colors are resolved by the client, and the rest only describe the client's shell.
+    private static final Set<String> IGNORED_VARIABLES = SetUtils.of(
+            EnvironmentVariable.NO_COLOR.toString(),
+            EnvironmentVariable.FORCE_COLOR.toString(),
+            EnvironmentVariable.TERM.toString(),
+            EnvironmentVariable.SMITHY_VERSION.toString(),
+            EnvironmentVariable.SMITHY_NO_DAEMON.toString(),
+            "COLORTERM",
+            "COLUMNS",
+            "LINES",
+            "OLDPWD",
+            "PWD",
+            "SHLVL",
+            "TERM_SESSION_ID",
+            "_");
+
+    private final Path socket;
+    private final ServerSocketChannel server;
+    private final long idleTimeoutMillis;
+    private final String directory = getWorkingDirectory().toString();
+    private final long startTime = System.currentTimeMillis();
+    private final Object commandLock = new Object();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private volatile long lastActivity = System.currentTimeMillis();
+
+    private Daemon(Path socket, ServerSocketChannel server, long idleTimeoutMillis) {
+        this.socket = socket;
+        this.server = server;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    /**
+     * Binds a daemon to a socket.
+     *
+     * @param socket Path of the socket to create.
+     * @param idleTimeoutMillis Time to wait for requests before stopping.
+     * @return Returns the bound daemon.
+     * @throws CliError if another daemon is using the socket or the socket can't be created.
+     */
+    static Daemon bind(Path socket, long idleTimeoutMillis) {
+        createSocketDirectory();
+        try {
+            if (Files.exists(socket)) {
+                try (SocketChannel existing = UnixDomainSockets.connect(socket)) {
+                    throw new CliError("A Smithy daemon is already running for " + getWorkingDirectory());
+                } catch (IOException e) {
+                    // The socket was left behind by a daemon that didn't stop cleanly.
+                    Files.delete(socket);
+                }
+            }
+            return new Daemon(socket, UnixDomainSockets.bind(socket), idleTimeoutMillis);
+        } catch (IOException e) {
+            throw new CliError("Unable to create daemon socket " + socket + ": " + e.getMessage(), 1, e);
+        }
+    }
+
+    /**
+     * Gets the socket used by the daemon of the current working directory.
+     *
+     * @return Returns the socket path.
+     */
+    static Path getSocketPath() {
+        return getSocketDirectory().resolve(hash(getWorkingDirectory().toString()) + ".sock");
+    }
+
+    /**
+     * Gets the file that the daemon of the current working directory writes its output to.
+     *
+     * @return Returns the log file path.
+     */
+    static Path getLogPath() {
+        return getSocketDirectory().resolve(hash(getWorkingDirectory().toString()) + ".log");
+    }
+
+    // Sockets are kept in a per-user directory rather than a shared temp directory, so other users can't create
+    // the directory first and plant a socket in it.
+    private static Path getSocketDirectory() {
+        String runtimeDirectory = System.getenv("XDG_RUNTIME_DIR");
+        if (runtimeDirectory != null && !runtimeDirectory.isEmpty()) {
+            return Paths.get(runtimeDirectory).resolve("smithy-daemon");
+        }
+        return Paths.get(System.getProperty("user.home")).resolve(".smithy").resolve("daemon");
+    }
+
+    /**
+     * Creates the directory that contains the daemon sockets and logs of the current user.
+     *
+     * <p>The directory is only accessible by the user, since any process
+     * that can connect to a socket can run commands as that user.
+     *
+     * @throws CliError if the directory can't be created or can't be trusted.
+     */
+    static void createSocketDirectory() {
+        Path directory = getSocketDirectory();
+        try {
+            if (!Files.exists(directory, LinkOption.NOFOLLOW_LINKS)) {
+                if (isPosix()) {
+                    Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+                    // The umask can remove permissions from the created directory, but never adds them.
+                    Files.setPosixFilePermissions(directory, OWNER_ONLY);
+                } else {
+                    Files.createDirectories(directory);
+                }
+            }
+        } catch (IOException e) {
+            throw new CliError("Unable to create daemon directory " + directory + ": " + e.getMessage(), 1, e);
+        }
+        checkSocketDirectory();
+    }
+
+    /**
+     * Checks that the directory that contains daemon sockets belongs to the
+     * current user and can't be accessed by other users.
+     *
+     * <p>Clients send their arguments and environment to the socket and
+     * print whatever is sent back, so a socket in a directory that another
+     * user controls must never be used.
+     *
+     * @throws CliError if the directory can't be trusted.
+     */
+    static void checkSocketDirectory() {
+        Path directory = getSocketDirectory();
+        try {
+            if (Files.isSymbolicLink(directory)
+                    || !Files.isDirectory(directory, LinkOption.NOFOLLOW_LINKS)) {
+                throw new CliError("Refusing to use daemon directory " + directory + ": not a directory");
+            }
+
+            UserPrincipal owner = Files.getOwner(directory, LinkOption.NOFOLLOW_LINKS);
+            UserPrincipal user = directory.getFileSystem()
+                    .getUserPrincipalLookupService()
+                    .lookupPrincipalByName(System.getProperty("user.name"));
+            if (!owner.equals(user)) {
+                throw new CliError("Refusing to use daemon directory " + directory + ": it is owned by " + owner);
+            }
+
+            if (isPosix()) {
+                Set<PosixFilePermission> permissions = Files.getPosixFilePermissions(
+                        directory, LinkOption.NOFOLLOW_LINKS);
+                if (!permissions.equals(OWNER_ONLY)) {
+                    throw new CliError("Refusing to use daemon directory " + directory + ": permissions are "
+                            + PosixFilePermissions.toString(permissions) + " instead of rwx------");
+                }
+            }
+        } catch (IOException e) {
+            throw new CliError("Unable to check daemon directory " + directory + ": " + e.getMessage(), 1, e);
+        }
+    }
+
+    private static boolean isPosix() {
+        return FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+    }
+
+    static Path getWorkingDirectory() {
+        return Paths.get("").toAbsolutePath().normalize();
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder result = new StringBuilder();
+            for (int i = 0; i < 8; i++) {
+                result.append(String.format("%02x", digest[i]));
+            }
+            return result.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Accepts and runs requests until the daemon is stopped or has been idle
+     * longer than the idle timeout.
+     */
+    void run() {
+        Thread idleMonitor = new Thread(this::monitorIdleTime, "smithy-daemon-idle-monitor");
+        idleMonitor.setDaemon(true);
+        idleMonitor.start();
+
+        try {
+            while (true) {
+                SocketChannel client = server.accept();
+                activeRequests.incrementAndGet();
+                // Request threads aren't daemon threads, so running commands finish when the daemon stops.
+                Thread thread = new Thread(() -> {
+                    try {
+                        handle(client);
+                    } finally {
+                        lastActivity = System.currentTimeMillis();
+                        activeRequests.decrementAndGet();
+                    }
+                }, "smithy-daemon-request");
+                thread.start();
+            }
+        } catch (ClosedChannelException e) {
+            LOGGER.fine("Smithy daemon stopped");
+        } catch (IOException e) {
+            throw new CliError("Smithy daemon failed: " + e.getMessage(), 1, e);
+        } finally {
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.close();
+            Files.deleteIfExists(socket);
+        } catch (IOException e) {
+            LOGGER.warning(() -> "Unable to close daemon socket " + socket + ": " + e.getMessage());
+        }
+    }
+
+    private void monitorIdleTime() {
+        try {
+            while (server.isOpen()) {
+                Thread.sleep(Math.min(idleTimeoutMillis, TimeUnit.SECONDS.toMillis(10)));
+                long idle = System.currentTimeMillis() - lastActivity;
+                if (activeRequests.get() == 0 && idle >= idleTimeoutMillis) {
+                    LOGGER.info("Stopping Smithy daemon after being idle for " + idle + "ms");
+                    close();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void handle(SocketChannel client) {
+        try (SocketChannel channel = client;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            Request request = Request.read(in);
+            String rejection = validate(request);
+            if (rejection != null) {
+                out.writeByte(REJECTED);
+                out.writeUTF(rejection);
+                out.flush();
+                return;
+            }
+
+            switch (request.type) {
+                case RUN:
+                    writeExit(out, runCommand(request, out));
+                    break;
+                case STATUS:
+                    writeFrame(out, STDOUT, getStatus().getBytes(StandardCharsets.UTF_8));
+                    writeExit(out, 0);
+                    break;
+                case STOP:
+                    writeFrame(out, STDOUT, ("Stopped Smithy daemon for " + directory + System.lineSeparator())
+                            .getBytes(StandardCharsets.UTF_8));
+                    writeExit(out, 0);
+                    close();
+                    break;
+                default:
+                    throw new IOException("Unknown daemon request type: " + request.type);
+            }
+        } catch (IOException | RuntimeException e) {
+            // The client disconnected or sent an invalid request, which only affects that client.
+            LOGGER.fine(() -> "Smithy daemon request failed: " + e);
+        }
+    }
+
+    private String validate(Request request) {
+        if (request.protocolVersion != PROTOCOL_VERSION) {
+            return "the daemon uses protocol version " + PROTOCOL_VERSION;
+        } else if (!request.cliVersion.equals(SmithyCli.getVersion())) {
+            return "the daemon runs Smithy CLI version " + SmithyCli.getVersion();
+        } else if (!request.directory.equals(directory)) {
+            return "the daemon runs in " + directory;
+        }
+
+        Map<String, String> environment = getEnvironment();
+        Set<String> names = new TreeSet<>(environment.keySet());
+        names.addAll(request.environment.keySet());
+        for (String name : names) {
+            if (!Objects.equals(request.environment.get(name), environment.get(name))) {
+                return "the daemon was started with a different value for " + name;
+            }
+        }
+
+        return null;
+    }
+
+    // Gets the environment variables that requests must match, including Smithy variables set as system properties.
+    private static Map<String, String> getEnvironment() {
+        Map<String, String> environment = new TreeMap<>(System.getenv());
+        for (EnvironmentVariable variable : EnvironmentVariable.values()) {
+            String value = variable.get();
+            if (value != null) {
+                environment.put(variable.toString(), value);
+            }
+        }
+        environment.keySet().removeAll(IGNORED_VARIABLES);
+        return environment;
+    }
+
+    private String getStatus() {
+        long uptime = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis() - startTime);
+        return String.format("Smithy daemon %s is running for %s (up %d minute(s), stops after %d idle minute(s))%n",
+                SmithyCli.getVersion(),
+                directory,
+                uptime,
+                TimeUnit.MILLISECONDS.toMinutes(idleTimeoutMillis));
+    }
+
+    private int runCommand(Request request, DataOutputStream out) {
+        synchronized (commandLock) {
+            Cli cli = SmithyCli.create().createCli();
+            cli.colorFormatter(resolveColors(request));
+            cli.stdout(CliPrinter.fromOutputStream(new FrameOutputStream(out, STDOUT)));
+            cli.stderr(CliPrinter.fromOutputStream(new FrameOutputStream(out, STDERR)));
+
+            // Plugins and libraries that print directly write to the client rather than to the daemon's log.
+            PrintStream originalOut = System.out;
+            PrintStream originalErr = System.err;
+            String encoding = StandardCharsets.UTF_8.name();
+            try (PrintStream commandOut = new PrintStream(new FrameOutputStream(out, STDOUT), true, encoding);
+                 PrintStream commandErr = new PrintStream(new FrameOutputStream(out, STDERR), true, encoding)) {
+                System.setOut(commandOut);
+                System.setErr(commandErr);
+                return cli.run(request.args.toArray(new String[0]));
+            } catch (CliError e) {
+                return e.code;
+            } catch (Exception e) {
+                return 1;
+            } finally {
+                System.setOut(originalOut);
+                System.setErr(originalErr);
+            }
+        }
+    }
+
+    // Colors are detected by the client, since the daemon isn't connected to the client's terminal.
+    private static AnsiColorFormatter resolveColors(Request request) {
+        if (request.args.contains(StandardOptions.NO_COLOR)) {
+            return AnsiColorFormatter.NO_COLOR;
+        } else if (request.args.contains(StandardOptions.FORCE_COLOR)) {
+            return AnsiColorFormatter.FORCE_COLOR;
+        } else {
+            return request.colors ? AnsiColorFormatter.FORCE_COLOR : AnsiColorFormatter.NO_COLOR;
+        }
+    }
+
+    private static void writeFrame(DataOutputStream out, byte type, byte[] bytes) throws IOException {
+        writeFrame(out, type, bytes, 0, bytes.length);
+    }
+
+    private static void writeFrame(DataOutputStream out, byte type, byte[] bytes, int off, int len)
+            throws IOException {
+        synchronized (out) {
+            out.writeByte(type);
+            out.writeInt(len);
+            out.write(bytes, off, len);
+        }
+    }
+
+    private static void writeExit(DataOutputStream out, int code) throws IOException {
+        synchronized (out) {
+            out.writeByte(EXIT);
+            out.writeInt(code);
+            out.flush();
+        }
+    }
+
+    /**
+     * A request sent to a daemon.
+     */
+    static final class Request {
+        final int protocolVersion;
+        final String cliVersion;
+        final String directory;
+        final byte type;
+        final boolean colors;
+        final Map<String, String> environment;
+        final List<String> args;
+
+        private Request(
+                int protocolVersion,
+                String cliVersion,
+                String directory,
+                byte type,
+                boolean colors,
+                Map<String, String> environment,
+                List<String> args
+        ) {
+            this.protocolVersion = protocolVersion;
+            this.cliVersion = cliVersion;
+            this.directory = directory;
+            this.type = type;
+            this.colors = colors;
+            this.environment = environment;
+            this.args = args;
+        }
+
+        /**
+         * Creates a request for the current process.
+         *
+         * @param type Type of request.
+         * @param args Arguments of the command to run.
+         * @return Returns the created request.
+         */
+        static Request create(byte type, List<String> args) {
+            return new Request(PROTOCOL_VERSION,
+                    SmithyCli.getVersion(),
+                    getWorkingDirectory().toString(),
+                    type,
+                    AnsiColorFormatter.detect().isColorEnabled(),
+                    getEnvironment(),
+                    args);
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(protocolVersion);
+            writeString(out, cliVersion);
+            writeString(out, directory);
+            out.writeByte(type);
+            out.writeBoolean(colors);
+            out.writeInt(environment.size());
+            for (Map.Entry<String, String> entry : environment.entrySet()) {
+                writeString(out, entry.getKey());
+                writeString(out, entry.getValue());
+            }
+            out.writeInt(args.size());
+            for (String arg : args) {
+                writeString(out, arg);
+            }
+            out.flush();
+        }
+
+        static Request read(DataInputStream in) throws IOException {
+            int protocolVersion = in.readInt();
+            if (protocolVersion != PROTOCOL_VERSION) {
+                // The rest of the request can't be read, so only report the version mismatch.
+                return new Request(protocolVersion, "", "", (byte) 0, false, Collections.emptyMap(),
+                        Collections.emptyList());
+            }
+            String cliVersion = readString(in);
+            String directory = readString(in);
+            byte type = in.readByte();
+            boolean colors = in.readBoolean();
+            Map<String, String> environment = new LinkedHashMap<>();
+            int environmentSize = in.readInt();
+            for (int i = 0; i < environmentSize; i++) {
+                environment.put(readString(in), readString(in));
+            }
+            int argCount = in.readInt();
+            List<String> args = new ArrayList<>();
+            for (int i = 0; i < argCount; i++) {
+                args.add(readString(in));
+            }
+            return new Request(protocolVersion, cliVersion, directory, type, colors, environment, args);
+        }
+
+        // Strings are written with an int length, since environment variables and arguments can be longer than
+        // the 64 KB supported by writeUTF.
+        private static void writeString(DataOutputStream out, String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+
+        private static String readString(DataInputStream in) throws IOException {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_STRING_LENGTH) {
+                throw new IOException("Invalid string length in daemon request: " + length);
+            }
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    // Writes the output of a command as frames, so stdout and stderr can share a socket.
+    private static final class FrameOutputStream extends OutputStream {
+        private final DataOutputStream out;
+        private final byte type;
+
+        FrameOutputStream(DataOutputStream out, byte type) {
+            this.out = out;
+            this.type = type;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (len > 0) {
+                writeFrame(out, type, b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (out) {
+                out.flush();
+            }
+        }
+    }
+}
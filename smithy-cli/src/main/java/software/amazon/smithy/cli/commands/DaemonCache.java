@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import software.amazon.smithy.build.ProjectionTransformer;
+import software.amazon.smithy.build.SmithyBuild;
+import software.amazon.smithy.build.SmithyBuildPlugin;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.traits.TraitFactory;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.model.validation.ValidatedResult;
+import software.amazon.smithy.model.validation.ValidatorFactory;
+
+/**
+ * Keeps class loaders, service providers, and dependency models in memory
+ * between the commands run by a daemon.
+ *
+ * <p>The cache is only enabled in a daemon process, and {@link #get()}
+ * returns null otherwise, so commands that run once don't hold onto
+ * anything. Class loaders are keyed by the resolved classpath, including
+ * the size and modification time of each artifact, so resolving a
+ * different version of a dependency or rebuilding a local JAR creates a
+ * new class loader.
+ */
+final class DaemonCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DaemonCache.class.getName());
+    private static final int MAX_CLASS_LOADERS = 8;
+    private static volatile DaemonCache instance;
+
+    private final ClassLoader baseClassLoader = DaemonCache.class.getClassLoader();
+    private final Map<List<Object>, URLClassLoader> classLoaders = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<ClassLoader, Services> services = new IdentityHashMap<>();
+
+    DaemonCache() {}
+
+    /**
+     * Enables the cache for the rest of the process.
+     */
+    static void enable() {
+        if (instance == null) {
+            instance = new DaemonCache();
+        }
+    }
+
+    /**
+     * Gets the cache if running as a daemon.
+     *
+     * @return Returns the cache, or null if it isn't enabled.
+     */
+    static DaemonCache get() {
+        return instance;
+    }
+
+    /**
+     * Gets or creates a class loader for a resolved classpath.
+     *
+     * @param artifacts Artifacts to load classes from.
+     * @param parent Parent class loader.
+     * @return Returns the class loader.
+     */
+    synchronized ClassLoader classLoader(Collection<Path> artifacts, ClassLoader parent) {
+        List<Object> key = createKey(artifacts, parent);
+        URLClassLoader result = classLoaders.get(key);
+
+        if (result == null) {
+            LOGGER.fine(() -> "Creating a daemon class loader for " + artifacts);
+            result = IsolatedRunnable.createClassLoaderFromPaths(artifacts, parent);
+            classLoaders.put(key, result);
+            evictClassLoaders();
+        }
+
+        return result;
+    }
+
+    private static List<Object> createKey(Collection<Path> artifacts, ClassLoader parent) {
+        List<Object> key = new ArrayList<>(artifacts.size() * 3 + 1);
+        key.add(parent);
+        for (Path artifact : artifacts) {
+            key.add(artifact.toAbsolutePath().normalize().toString());
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(artifact, BasicFileAttributes.class);
+                key.add(attributes.lastModifiedTime().toMillis());
+                key.add(attributes.size());
+            } catch (IOException e) {
+                // Missing artifacts fail when they're loaded, so don't cache them.
+                key.add(System.nanoTime());
+                key.add(-1L);
+            }
+        }
+        return key;
+    }
+
+    private void evictClassLoaders() {
+        while (classLoaders.size() > MAX_CLASS_LOADERS) {
+            Map.Entry<List<Object>, URLClassLoader> eldest = classLoaders.entrySet().iterator().next();
+            classLoaders.remove(eldest.getKey());
+            services.remove(eldest.getValue());
+            try {
+                eldest.getValue().close();
+            } catch (IOException e) {
+                LOGGER.fine(() -> "Unable to close daemon class loader: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Gets the service providers found using a class loader.
+     *
+     * <p>Service providers are only cached for the CLI's own class loader
+     * and for class loaders created by {@link #classLoader}.
+     *
+     * @param classLoader Class loader used to find service providers.
+     * @return Returns the service providers.
+     */
+    synchronized Services services(ClassLoader classLoader) {
+        Services result = services.get(classLoader);
+        if (result == null) {
+            result = new Services(classLoader);
+            if (classLoader == baseClassLoader || classLoaders.containsValue(classLoader)) {
+                services.put(classLoader, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Service providers and the models discovered using a class loader.
+     */
+    static final class Services {
+        private final ClassLoader classLoader;
+        private final TraitFactory traitFactory;
+        private final ValidatorFactory validatorFactory;
+        private final ModelTransformer modelTransformer;
+        private final Function<String, Optional<ProjectionTransformer>> transformFactory;
+        private final Function<String, Optional<SmithyBuildPlugin>> pluginFactory;
+        private Optional<Model> dependencyModel;
+
+        private Services(ClassLoader classLoader) {
+            this.classLoader = classLoader;
+            traitFactory = TraitFactory.createServiceFactory(classLoader);
+            validatorFactory = ValidatorFactory.createServiceFactory(classLoader);
+            modelTransformer = ModelTransformer.createWithServiceProviders(classLoader);
+            transformFactory = ProjectionTransformer.createServiceFactory(classLoader);
+            pluginFactory = SmithyBuildPlugin.createServiceFactory(classLoader);
+        }
+
+        TraitFactory traitFactory() {
+            return traitFactory;
+        }
+
+        ValidatorFactory validatorFactory() {
+            return validatorFactory;
+        }
+
+        /**
+         * Creates a model assembler that uses the cached trait and validator factories.
+         *
+         * @return Returns the created assembler.
+         */
+        ModelAssembler createAssembler() {
+            return Model.assembler().traitFactory(traitFactory).validatorFactory(validatorFactory);
+        }
+
+        /**
+         * Creates a {@link SmithyBuild} that uses the cached service providers.
+         *
+         * @param modelAssemblerSupplier Supplier used to create assemblers in each build.
+         * @return Returns the created SmithyBuild.
+         */
+        SmithyBuild createSmithyBuild(Supplier<ModelAssembler> modelAssemblerSupplier) {
+            return new SmithyBuild()
+                    .modelAssemblerSupplier(modelAssemblerSupplier)
+                    .modelTransformer(modelTransformer)
+                    .transformFactory(transformFactory)
+                    .pluginFactory(pluginFactory)
+                    .pluginClassLoader(classLoader);
+        }
+
+        /**
+         * Gets the models discovered in the JARs of the class loader.
+         *
+         * <p>The models are loaded without validation the first time they're
+         * needed. Validation happens when they're merged into the model of a
+         * command, just like when they're discovered by each command.
+         *
+         * @return Returns the discovered models, or null if they can't be cached.
+         */
+        synchronized Model dependencyModel() {
+            if (dependencyModel == null) {
+                ValidatedResult<Model> result = createAssembler()
+                        .putProperty(ModelAssembler.DISABLE_JAR_CACHE, true)
+                        .discoverModels(classLoader)
+                        .disableValidation()
+                        .assemble();
+                // Broken models are loaded by each command instead, so their errors are reported normally.
+                dependencyModel = result.isBroken() ? Optional.empty() : result.getResult();
+            }
+            return dependencyModel.orElse(null);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+import software.amazon.smithy.cli.AnsiColorFormatter;
+import software.amazon.smithy.cli.CliError;
+import software.amazon.smithy.cli.CliPrinter;
+import software.amazon.smithy.cli.ColorFormatter;
+import software.amazon.smithy.cli.ColorTheme;
+import software.amazon.smithy.cli.EnvironmentVariable;
+import software.amazon.smithy.cli.StandardOptions;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Forwards commands to a daemon started with {@code smithy daemon start}.
+ */
+@SmithyInternalApi
+public final class DaemonClient {
+
+    private DaemonClient() {}
+
+    /**
+     * Runs a command using the daemon of the current working directory, if one is running.
+     *
+     * <p>Output of the command is written to {@link System#out} and
+     * {@link System#err}. Commands aren't forwarded if
+     * {@link EnvironmentVariable#SMITHY_NO_DAEMON} is set, if they manage the
+     * daemon, or if they need the terminal of the CLI process, like
+     * {@code build --watch}.
+     *
+     * @param args Arguments of the command to run.
+     * @return Returns the exit code of the command, or an empty value if the command needs to run in this process.
+     */
+    public static OptionalInt forward(String... args) {
+        List<String> arguments = Arrays.asList(args);
+        if (!shouldForward(arguments)) {
+            return OptionalInt.empty();
+        }
+
+        Path socket = Daemon.getSocketPath();
+        if (!Files.exists(socket)) {
+            return OptionalInt.empty();
+        }
+
+        ColorFormatter colors = resolveColors(arguments);
+        CliPrinter stderr = CliPrinter.fromOutputStream(System.err);
+
+        try {
+            Daemon.checkSocketDirectory();
+        } catch (CliError e) {
+            printWarning(colors, stderr, "Running without the Smithy daemon. " + e.getMessage());
+            return OptionalInt.empty();
+        }
+
+        try {
+            Daemon.Request request = Daemon.Request.create(Daemon.RUN, arguments);
+            return OptionalInt.of(send(socket, request, System.out, System.err));
+        } catch (UnavailableException e) {
+            if (e.getMessage() != null) {
+                printWarning(colors, stderr, "Running without the Smithy daemon because " + e.getMessage());
+            }
+            return OptionalInt.empty();
+        } catch (IOException e) {
+            colors.println(stderr, "Lost connection to the Smithy daemon: " + e.getMessage(), ColorTheme.ERROR);
+            stderr.flush();
+            return OptionalInt.of(1);
+        }
+    }
+
+    private static ColorFormatter resolveColors(List<String> args) {
+        if (args.contains(StandardOptions.NO_COLOR)) {
+            return AnsiColorFormatter.NO_COLOR;
+        } else if (args.contains(StandardOptions.FORCE_COLOR)) {
+            return AnsiColorFormatter.FORCE_COLOR;
+        } else {
+            return AnsiColorFormatter.detect();
+        }
+    }
+
+    private static void printWarning(ColorFormatter colors, CliPrinter stderr, String message) {
+        colors.println(stderr, message, ColorTheme.WARNING);
+        stderr.flush();
+    }
+
+    static boolean shouldForward(List<String> args) {
+        String command = getCommandName(args);
+        return command != null
+                && !EnvironmentVariable.SMITHY_NO_DAEMON.isSet()
+                && UnixDomainSockets.isSupported()
+                && !command.equals("daemon")
+                && !(command.equals("build") && hasOption(args, "--watch"))
+                // Selectors are read from stdin when --selector isn't given.
+                && !(command.equals("select") && !hasOption(args, "--selector"));
+    }
+
+    // Finds the command the same way SmithyCommand does: the first argument that isn't a standard option.
+    private static String getCommandName(List<String> args) {
+        for (int i = 0; i < args.size(); i++) {
+            String arg = args.get(i);
+            if (arg.equals(StandardOptions.LOGGING)) {
+                i++;
+            } else if (!arg.startsWith("-")) {
+                return arg;
+            }
+        }
+        return null;
+    }
+
+    // Arguments after "--" are positional, so they're never options.
+    private static boolean hasOption(List<String> args, String option) {
+        for (String arg : args) {
+            if (arg.equals("--")) {
+                return false;
+            } else if (arg.equals(option)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sends a request to a daemon and writes the output of the request.
+     *
+     * @param socket Socket of the daemon.
+     * @param request Request to send.
+     * @param stdout Where stdout frames are written.
+     * @param stderr Where stderr frames are written.
+     * @return Returns the exit code sent by the daemon.
+     * @throws UnavailableException if the request can't be sent or is rejected before any output is written.
+     * @throws IOException if the connection is lost after output has been written.
+     */
+    static int send(Path socket, Daemon.Request request, OutputStream stdout, OutputStream stderr)
+            throws IOException {
+        SocketChannel channel;
+        try {
+            channel = UnixDomainSockets.connect(socket);
+        } catch (IOException e) {
+            // The socket was left behind by a daemon that didn't stop cleanly.
+            throw new UnavailableException(null, e);
+        }
+
+        boolean receivedOutput = false;
+        try (SocketChannel c = channel;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(c)));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(c)))) {
+            request.write(out);
+            while (true) {
+                byte type = in.readByte();
+                switch (type) {
+                    case Daemon.REJECTED:
+                        throw new UnavailableException(in.readUTF(), null);
+                    case Daemon.STDOUT:
+                    case Daemon.STDERR:
+                        byte[] bytes = new byte[in.readInt()];
+                        in.readFully(bytes);
+                        OutputStream target = type == Daemon.STDOUT ? stdout : stderr;
+                        target.write(bytes);
+                        target.flush();
+                        receivedOutput = true;
+                        break;
+                    case Daemon.EXIT:
+                        return in.readInt();
+                    default:
+                        throw new IOException("Unexpected response from daemon: " + type);
+                }
+            }
+        } catch (UnavailableException e) {
+            throw e;
+        } catch (IOException e) {
+            // The command can still run in this process if the daemon didn't write anything yet.
+            if (!receivedOutput) {
+                throw new UnavailableException(null, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Thrown when a daemon can't run a request.
+     *
+     * <p>The message explains why the daemon rejected the request, or is
+     * null if the daemon couldn't be reached.
+     */
+    static final class UnavailableException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        UnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import software.amazon.smithy.cli.ArgumentReceiver;
+import software.amazon.smithy.cli.Arguments;
+import software.amazon.smithy.cli.CliError;
+import software.amazon.smithy.cli.ColorFormatter;
+import software.amazon.smithy.cli.ColorTheme;
+import software.amazon.smithy.cli.Command;
+import software.amazon.smithy.cli.HelpPrinter;
+import software.amazon.smithy.cli.SmithyCli;
+import software.amazon.smithy.cli.StandardOptions;
+
+final class DaemonCommand implements Command {
+
+    private static final Logger LOGGER = Logger.getLogger(DaemonCommand.class.getName());
+    private static final long DEFAULT_IDLE_TIMEOUT_MINUTES = 60;
+    private static final long START_TIMEOUT_MILLIS = 30000;
+    private static final long START_POLL_MILLIS = 50;
+
+    private final String parentCommandName;
+
+    DaemonCommand(String parentCommandName) {
+        this.parentCommandName = parentCommandName;
+    }
+
+    @Override
+    public String getName() {
+        return "daemon";
+    }
+
+    @Override
+    public String getSummary() {
+        return "Starts, stops, or checks a daemon that keeps the CLI warm for faster commands.";
+    }
+
+    @Override
+    public int execute(Arguments arguments, Env env) {
+        arguments.addReceiver(new Options());
+
+        CommandAction action = HelpActionWrapper.fromCommand(
+                this,
+                parentCommandName,
+                this::getDocumentation,
+                this::run);
+        return action.apply(arguments, env);
+    }
+
+    private String getDocumentation(ColorFormatter colors) {
+        String ls = System.lineSeparator();
+        return "A daemon runs the commands of the current directory in a JVM that stays running, so classes, "
+                + "plugins, and the models of dependencies are only loaded once. Once a daemon is started, other "
+                + "commands run in the same directory are sent to it automatically. Set the SMITHY_NO_DAEMON "
+                + "environment variable to run a command without the daemon. The daemon requires Java 16 or newer."
+                + ls
+                + ls
+                + "    smithy daemon start"
+                + ls
+                + "    smithy daemon status"
+                + ls
+                + "    smithy daemon stop";
+    }
+
+    private int run(Arguments arguments, Env env) {
+        List<String> positional = arguments.getPositional();
+        if (positional.size() != 1) {
+            throw new CliError("Expected exactly one daemon action: start, stop, status, or run");
+        }
+
+        if (!UnixDomainSockets.isSupported()) {
+            throw new CliError("The Smithy daemon requires Java 16 or newer, but the CLI is running with Java "
+                    + System.getProperty("java.version"));
+        }
+
+        Options options = arguments.getReceiver(Options.class);
+        boolean quiet = arguments.getReceiver(StandardOptions.class).quiet();
+        Path socket = Daemon.getSocketPath();
+
+        switch (positional.get(0)) {
+            case "start":
+                return start(socket, options, quiet, env);
+            case "stop":
+                return sendToDaemon(socket, Daemon.STOP, env);
+            case "status":
+                return sendToDaemon(socket, Daemon.STATUS, env);
+            case "run":
+                try (Daemon daemon = Daemon.bind(socket, TimeUnit.MINUTES.toMillis(options.idleTimeout))) {
+                    LOGGER.info(() -> "Smithy daemon listening on " + socket);
+                    DaemonCache.enable();
+                    daemon.run();
+                }
+                return 0;
+            default:
+                throw new CliError("Unknown daemon action: " + positional.get(0)
+                        + ". Expected one of: start, stop, status, or run");
+        }
+    }
+
+    private int start(Path socket, Options options, boolean quiet, Env env) {
+        Path directory = Daemon.getWorkingDirectory();
+        Daemon.createSocketDirectory();
+
+        if (isRunning(socket)) {
+            if (!quiet) {
+                env.stderr().println("A Smithy daemon is already running for " + directory);
+            }
+            return 0;
+        }
+
+        Path log = Daemon.getLogPath();
+        List<String> command = new ArrayList<>();
+        command.add(findJavaBinary().toString());
+        command.add("-classpath");
+        command.add(System.getProperty("java.class.path"));
+        command.add(SmithyCli.class.getName());
+        Collections.addAll(command, "daemon", "--idle-timeout", String.valueOf(options.idleTimeout), "run");
+        LOGGER.fine(() -> "Starting Smithy daemon: " + command);
+
+        Process process;
+        try {
+            process = new ProcessBuilder(command)
+                    .directory(directory.toFile())
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+        } catch (IOException e) {
+            throw new CliError("Unable to start the Smithy daemon: " + e.getMessage(), 1, e);
+        }
+
+        long deadline = System.currentTimeMillis() + START_TIMEOUT_MILLIS;
+        try {
+            while (System.currentTimeMillis() < deadline) {
+                if (isRunning(socket)) {
+                    if (!quiet) {
+                        env.colors()
+                                .println(env.stderr(), "Started Smithy daemon for " + directory, ColorTheme.SUCCESS);
+                    }
+                    return 0;
+                } else if (!process.isAlive()) {
+                    throw new CliError("The Smithy daemon exited with code " + process.exitValue()
+                            + ". See " + log + " for details.");
+                }
+                Thread.sleep(START_POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        process.destroy();
+        throw new CliError("Timed out waiting for the Smithy daemon to start. See " + log + " for details.");
+    }
+
+    private static Path findJavaBinary() {
+        Path bin = Paths.get(System.getProperty("java.home")).resolve("bin");
+        Path windowsBinary = bin.resolve("java.exe");
+        return Files.exists(windowsBinary) ? windowsBinary : bin.resolve("java");
+    }
+
+    private static boolean isRunning(Path socket) {
+        if (!Files.exists(socket)) {
+            return false;
+        }
+        try (SocketChannel channel = UnixDomainSockets.connect(socket)) {
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private int sendToDaemon(Path socket, byte type, Env env) {
+        Path directory = Daemon.getWorkingDirectory();
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        ByteArrayOutputStream stderr = new ByteArrayOutputStream();
+        int result;
+
+        try {
+            if (!Files.exists(socket)) {
+                return notRunning(directory, type, env);
+            }
+            Daemon.checkSocketDirectory();
+            result = DaemonClient.send(socket, Daemon.Request.create(type, Collections.emptyList()), stdout, stderr);
+        } catch (DaemonClient.UnavailableException e) {
+            if (e.getMessage() == null) {
+                return notRunning(directory, type, env);
+            }
+            throw new CliError("The Smithy daemon for " + directory + " can't be used because " + e.getMessage());
+        } catch (IOException e) {
+            throw new CliError("Lost connection to the Smithy daemon: " + e.getMessage(), 1, e);
+        }
+
+        env.stdout().append(new String(stdout.toByteArray(), StandardCharsets.UTF_8));
+        env.stderr().append(new String(stderr.toByteArray(), StandardCharsets.UTF_8));
+        return result;
+    }
+
+    private static int notRunning(Path directory, byte type, Env env) {
+        env.stderr().println("No Smithy daemon is running for " + directory);
+        return type == Daemon.STATUS ? 1 : 0;
+    }
+
+    private static final class Options implements ArgumentReceiver {
+        private long idleTimeout = DEFAULT_IDLE_TIMEOUT_MINUTES;
+
+        @Override
+        public Consumer<String> testParameter(String name) {
+            if (name.equals("--idle-timeout")) {
+                return value -> idleTimeout = parseIdleTimeout(value);
+            }
+            return null;
+        }
+
+        @Override
+        public void registerHelp(HelpPrinter printer) {
+            printer.param("--idle-timeout",
+                    null,
+                    "MINUTES",
+                    "Stop the daemon after it receives no commands for this many minutes. Defaults to "
+                            + DEFAULT_IDLE_TIMEOUT_MINUTES + ".");
+            printer.positional("<ACTION>", "Daemon action to perform: start, stop, status, or run.");
+        }
+
+        private static long parseIdleTimeout(String value) {
+            long result;
+            try {
+                result = Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                result = 0;
+            }
+            if (result < 1) {
+                throw new CliError("Invalid --idle-timeout value, expected a positive number of minutes: " + value);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Watches model files and config files for changes.
+ *
+ * <p>Directories are watched recursively for files that can be imported
+ * into a model, and files are watched individually. Events are debounced,
+ * so a burst of events, like an editor saving several files or a branch
+ * being checked out, is reported as a single change. Files are only
+ * reported as changed if their contents differ from when they were last
+ * seen, so touching a file or saving it without modifications doesn't
+ * trigger a build.
+ */
+final class FileWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = Logger.getLogger(FileWatcher.class.getName());
+
+    private final WatchService watchService;
+    private final long debounceMillis;
+    private final Set<Path> files = new HashSet<>();
+    private final Set<Path> directories = new HashSet<>();
+    private final List<Path> ignored;
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+    private final Set<Path> watchedDirectories = new HashSet<>();
+    private final Map<Path, byte[]> digests = new HashMap<>();
+
+    /**
+     * @param paths Files and directories to watch.
+     * @param ignored Directories that aren't watched, like the build output directory.
+     * @param debounceMillis Time to wait for more events before reporting a change.
+     * @throws IOException if the paths can't be watched.
+     */
+    FileWatcher(Collection<Path> paths, Collection<Path> ignored, long debounceMillis) throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.debounceMillis = debounceMillis;
+        this.ignored = ignored.stream().map(FileWatcher::normalize).collect(Collectors.toList());
+
+        try {
+            for (Path path : paths) {
+                Path normalized = normalize(path);
+                if (Files.isDirectory(normalized)) {
+                    directories.add(normalized);
+                    for (Path file : registerTree(normalized)) {
+                        updateDigest(file);
+                    }
+                } else {
+                    // Watch the parent directory so the file can be deleted and created again.
+                    files.add(normalized);
+                    Path parent = normalized.getParent();
+                    if (parent != null && Files.isDirectory(parent)) {
+                        register(parent);
+                    }
+                    updateDigest(normalized);
+                }
+            }
+        } catch (RuntimeException e) {
+            watchService.close();
+            throw e;
+        }
+    }
+
+    private static Path normalize(Path path) {
+        return path.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Waits until the contents of watched files change.
+     *
+     * @return Returns the files that were added, changed, or removed.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    Set<Path> awaitChanges() throws InterruptedException {
+        while (true) {
+            Set<Path> candidates = new LinkedHashSet<>();
+            collectEvents(watchService.take(), candidates);
+
+            // Keep collecting events until no new events are seen for the debounce period.
+            WatchKey key;
+            while ((key = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                collectEvents(key, candidates);
+            }
+
+            Set<Path> changed = new LinkedHashSet<>();
+            for (Path candidate : candidates) {
+                changed.addAll(updateDigest(candidate));
+            }
+
+            if (!changed.isEmpty()) {
+                return changed;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+
+    private void collectEvents(WatchKey key, Set<Path> candidates) {
+        Path directory = keys.get(key);
+
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, so check every known file and directory.
+                LOGGER.fine("File watch events overflowed; rescanning watched files");
+                candidates.addAll(digests.keySet());
+                candidates.addAll(files);
+                for (Path root : directories) {
+                    candidates.addAll(registerTree(root));
+                }
+            } else if (directory != null) {
+                Path path = directory.resolve((Path) event.context());
+                if (Files.isDirectory(path)) {
+                    if (isInWatchedDirectory(path)) {
+                        // Directories created after the watch started contain files that need to be watched too.
+                        candidates.addAll(registerTree(path));
+                    }
+                } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE
+                        || files.contains(path)
+                        || isWatchedModelFile(path)) {
+                    // Deleted paths might be directories that contained watched files.
+                    candidates.add(path);
+                }
+            }
+        }
+
+        if (!key.reset()) {
+            // The directory was deleted, so it has to be registered again if it's created again.
+            watchedDirectories.remove(keys.remove(key));
+        }
+    }
+
+    private boolean isInWatchedDirectory(Path path) {
+        if (isIgnored(path)) {
+            return false;
+        }
+        for (Path directory : directories) {
+            if (path.startsWith(directory)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isIgnored(Path path) {
+        for (Path ignore : ignored) {
+            if (path.startsWith(ignore)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isWatchedModelFile(Path path) {
+        return isModelFile(path) && isInWatchedDirectory(path);
+    }
+
+    // Matches the files that ModelAssembler imports from directories.
+    private static boolean isModelFile(Path path) {
+        String name = String.valueOf(path.getFileName());
+        return name.endsWith(".smithy") || name.endsWith(".json") || name.endsWith(".jar");
+    }
+
+    // Registers a directory and its subdirectories, and returns the model files in them that aren't known yet.
+    private List<Path> registerTree(Path root) {
+        List<Path> result = new ArrayList<>();
+        SimpleFileVisitor<Path> visitor = new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (isIgnored(dir)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                register(dir);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (isModelFile(file) && !digests.containsKey(file)) {
+                    result.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // The file was deleted while the tree was walked. Deleted files are detected by their events.
+                return FileVisitResult.CONTINUE;
+            }
+        };
+
+        try {
+            Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, visitor);
+        } catch (IOException e) {
+            LOGGER.fine(() -> "Unable to watch " + root + ": " + e.getMessage());
+        }
+
+        return result;
+    }
+
+    private void register(Path directory) {
+        if (watchedDirectories.contains(directory)) {
+            return;
+        }
+        try {
+            WatchKey key = directory.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+            keys.put(key, directory);
+            watchedDirectories.add(directory);
+        } catch (IOException e) {
+            LOGGER.fine(() -> "Unable to watch " + directory + ": " + e.getMessage());
+        }
+    }
+
+    // Updates the digest of a file, and returns the files whose contents changed as a result.
+    private Set<Path> updateDigest(Path path) {
+        byte[] digest = Files.isRegularFile(path) ? digest(path) : null;
+
+        if (digest == null) {
+            // The file, or a directory that contained files, was removed.
+            Set<Path> removed = new LinkedHashSet<>();
+            digests.keySet().removeIf(file -> file.startsWith(path) && removed.add(file));
+            return removed;
+        }
+
+        byte[] previous = digests.put(path, digest);
+        return Arrays.equals(previous, digest) ? Collections.emptySet() : Collections.singleton(path);
+    }
+
+    private static byte[] digest(Path path) {
+        try (InputStream input = Files.newInputStream(path)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return digest.digest();
+        } catch (IOException e) {
+            // The file was removed or can't be read yet, so treat it as removed until it's seen again.
+            return null;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
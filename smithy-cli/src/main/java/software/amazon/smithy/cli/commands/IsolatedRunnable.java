@@ -21,12 +21,12 @@ final class IsolatedRunnable implements Runnable {
         this(createClassLoaderFromPaths(artifacts, parent), consumer);
     }
 
-    private IsolatedRunnable(ClassLoader classLoader, Consumer<ClassLoader> consumer) {
+    IsolatedRunnable(ClassLoader classLoader, Consumer<ClassLoader> consumer) {
         this.classLoader = classLoader;
         this.consumer = consumer;
     }
 
-    private static ClassLoader createClassLoaderFromPaths(Collection<Path> artifacts, ClassLoader parent) {
+    static URLClassLoader createClassLoaderFromPaths(Collection<Path> artifacts, ClassLoader parent) {
         return new URLClassLoader(createUrlsFromPaths(artifacts), parent);
     }
 
@@ -13,6 +13,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 import software.amazon.smithy.build.model.SmithyBuildConfig;
 import software.amazon.smithy.cli.Arguments;
@@ -25,11 +26,13 @@ import software.amazon.smithy.cli.StandardOptions;
 import software.amazon.smithy.cli.Style;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.loader.ValidationBaseline;
 import software.amazon.smithy.model.loader.sourcecontext.SourceContextLoader;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.Tracer;
 
 /**
  * Loads, builds, and report validation issues with models.
@@ -53,6 +56,9 @@ final class ModelBuilder {
     private ValidationEventFormatOptions.Format validationOutputFormat;
     private boolean disableOutputFormatFraming = false;
     private boolean disableConfigModels;
+    private Tracer tracer = Tracer.NONE;
+    private Supplier<ModelAssembler> modelAssemblerSupplier;
+    private ValidationBaseline validationBaseline;
 
     public ModelBuilder arguments(Arguments arguments) {
         this.arguments = arguments;
@@ -125,6 +131,22 @@ final class ModelBuilder {
         return this;
     }
 
+    public ModelBuilder tracer(Tracer tracer) {
+        this.tracer = tracer;
+        return this;
+    }
+
+    public ModelBuilder modelAssemblerSupplier(Supplier<ModelAssembler> modelAssemblerSupplier) {
+        this.modelAssemblerSupplier = modelAssemblerSupplier;
+        return this;
+    }
+
+    // Validates the model incrementally against the model previously built with the baseline, and records it.
+    public ModelBuilder validationBaseline(ValidationBaseline validationBaseline) {
+        this.validationBaseline = validationBaseline;
+        return this;
+    }
+
     public Model build() {
         SmithyBuilder.requiredState("arguments", arguments);
         SmithyBuilder.requiredState("models", models);
@@ -153,7 +175,14 @@ final class ModelBuilder {
         }
 
         if (validatedResult == null) {
-            ModelAssembler assembler = createModelAssembler(classLoader);
+            ModelAssembler assembler = modelAssemblerSupplier != null
+                    ? modelAssemblerSupplier.get().putProperty(ModelAssembler.DISABLE_JAR_CACHE, true)
+                    : createModelAssembler(classLoader);
+            assembler.tracer(tracer);
+
+            if (validationBaseline != null) {
+                assembler.validationBaseline(validationBaseline).recordValidationBaseline(validationBaseline);
+            }
 
             if (validationMode == Validator.Mode.QUIET_CORE_ONLY) {
                 assembler.disableValidation();
@@ -265,7 +294,13 @@ final class ModelBuilder {
         if (discoverClasspath != null) {
             discoverModelsWithClasspath(discoverClasspath, assembler);
         } else if (shouldDiscoverDependencies(config, discover)) {
-            assembler.discoverModels(baseLoader);
+            DaemonCache cache = DaemonCache.get();
+            Model dependencies = cache == null ? null : cache.services(baseLoader).dependencyModel();
+            if (dependencies != null) {
+                assembler.addModel(dependencies);
+            } else {
+                assembler.discoverModels(baseLoader);
+            }
         }
     }
 
@@ -304,6 +339,10 @@ final class ModelBuilder {
     }
 
     static ModelAssembler createModelAssembler(ClassLoader classLoader) {
-        return Model.assembler(classLoader).putProperty(ModelAssembler.DISABLE_JAR_CACHE, true);
+        DaemonCache cache = DaemonCache.get();
+        ModelAssembler assembler = cache == null
+                ? Model.assembler(classLoader)
+                : cache.services(classLoader).createAssembler();
+        return assembler.putProperty(ModelAssembler.DISABLE_JAR_CACHE, true);
     }
 }
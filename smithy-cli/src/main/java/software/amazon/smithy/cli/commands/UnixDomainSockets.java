@@ -0,0 +1,74 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+/**
+ * Opens Unix domain socket channels.
+ *
+ * <p>Unix domain socket channels were added in Java 16, and the CLI
+ * supports older runtimes. The classes that were added are only referenced
+ * from a nested class that's loaded the first time a socket is opened, so
+ * callers must check {@link #isSupported()} first.
+ */
+final class UnixDomainSockets {
+
+    private static final boolean SUPPORTED = isUnixDomainSocketAddressAvailable();
+
+    private UnixDomainSockets() {}
+
+    private static boolean isUnixDomainSocketAddressAvailable() {
+        try {
+            Class.forName("java.net.UnixDomainSocketAddress", false, UnixDomainSockets.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static boolean isSupported() {
+        return SUPPORTED;
+    }
+
+    static SocketChannel connect(Path path) throws IOException {
+        return Java16.connect(path);
+    }
+
+    static ServerSocketChannel bind(Path path) throws IOException {
+        return Java16.bind(path);
+    }
+
+    private static final class Java16 {
+        private Java16() {}
+
+        static SocketChannel connect(Path path) throws IOException {
+            SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.connect(UnixDomainSocketAddress.of(path));
+                return channel;
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+
+        static ServerSocketChannel bind(Path path) throws IOException {
+            ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+            try {
+                channel.bind(UnixDomainSocketAddress.of(path));
+                return channel;
+            } catch (IOException | RuntimeException e) {
+                channel.close();
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
+
+public class DaemonCacheTest {
+
+    private Path root;
+
+    @BeforeEach
+    public void before() throws IOException {
+        root = Files.createTempDirectory("smithy-daemon-cache");
+    }
+
+    @AfterEach
+    public void after() {
+        IoUtils.rmdir(root);
+    }
+
+    @Test
+    public void reusesClassLoadersOfTheSameClasspath() throws IOException {
+        DaemonCache cache = new DaemonCache();
+        List<Path> classpath = Collections.singletonList(write("a.jar", "a"));
+        ClassLoader loader = cache.classLoader(classpath, getClass().getClassLoader());
+
+        assertThat(cache.classLoader(classpath, getClass().getClassLoader()), sameInstance(loader));
+        assertThat(cache.services(loader), sameInstance(cache.services(loader)));
+    }
+
+    @Test
+    public void createsNewClassLoadersWhenArtifactsChange() throws IOException {
+        DaemonCache cache = new DaemonCache();
+        List<Path> classpath = Collections.singletonList(write("a.jar", "a"));
+        ClassLoader loader = cache.classLoader(classpath, getClass().getClassLoader());
+        write("a.jar", "changed");
+
+        assertThat(cache.classLoader(classpath, getClass().getClassLoader()), not(sameInstance(loader)));
+    }
+
+    @Test
+    public void onlyCachesServicesOfKnownClassLoaders() throws IOException {
+        DaemonCache cache = new DaemonCache();
+
+        try (URLClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            assertThat(cache.services(loader), not(sameInstance(cache.services(loader))));
+        }
+    }
+
+    private Path write(String name, String contents) throws IOException {
+        Path path = root.resolve(name);
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+}
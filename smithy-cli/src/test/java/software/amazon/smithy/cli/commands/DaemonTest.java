@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.cli.CliError;
+import software.amazon.smithy.cli.EnvironmentVariable;
+import software.amazon.smithy.utils.IoUtils;
+
+public class DaemonTest {
+
+    private Path root;
+    private Path socket;
+    private Thread thread;
+
+    @BeforeEach
+    public void before() throws IOException {
+        root = Files.createTempDirectory("smithy-daemon");
+        socket = root.resolve("test.sock");
+        Daemon daemon = Daemon.bind(socket, 60000);
+        thread = new Thread(daemon::run);
+        thread.start();
+    }
+
+    @AfterEach
+    public void after() throws Exception {
+        if (Files.exists(socket)) {
+            send(Daemon.STOP);
+        }
+        thread.join(10000);
+        IoUtils.rmdir(root);
+    }
+
+    @Test
+    public void reportsStatus() throws IOException {
+        ByteArrayOutputStream stdout = new ByteArrayOutputStream();
+        int code = DaemonClient.send(socket,
+                Daemon.Request.create(Daemon.STATUS, Collections.emptyList()),
+                stdout,
+                new ByteArrayOutputStream());
+
+        assertThat(code, equalTo(0));
+        assertThat(new String(stdout.toByteArray(), StandardCharsets.UTF_8), containsString("is running"));
+    }
+
+    @Test
+    public void stopsAndRemovesSocket() throws Exception {
+        assertThat(send(Daemon.STOP), equalTo(0));
+        thread.join(10000);
+
+        assertThat(Files.exists(socket), equalTo(false));
+    }
+
+    @Test
+    public void rejectsRequestsWithDifferentEnvironment() {
+        Daemon.Request request;
+        EnvironmentVariable.SMITHY_DEPENDENCY_MODE.set("forbid");
+        try {
+            request = Daemon.Request.create(Daemon.STATUS, Collections.emptyList());
+        } finally {
+            EnvironmentVariable.SMITHY_DEPENDENCY_MODE.clear();
+        }
+
+        DaemonClient.UnavailableException e = assertThrows(DaemonClient.UnavailableException.class, () -> {
+            DaemonClient.send(socket, request, new ByteArrayOutputStream(), new ByteArrayOutputStream());
+        });
+
+        assertThat(e.getMessage(), containsString("SMITHY_DEPENDENCY_MODE"));
+    }
+
+    @Test
+    public void decidesWhetherToForwardFromTheCommandName() {
+        assertThat(DaemonClient.shouldForward(Arrays.asList("validate", "select")), equalTo(true));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("--debug", "select", "--selector", "*")), equalTo(true));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("build", "--", "--watch")), equalTo(true));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("select")), equalTo(false));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("--logging", "FINE", "daemon", "stop")), equalTo(false));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("build", "--watch")), equalTo(false));
+        assertThat(DaemonClient.shouldForward(Arrays.asList("--help")), equalTo(false));
+    }
+
+    @Test
+    public void failsToBindSocketInUse() {
+        assertThrows(CliError.class, () -> Daemon.bind(socket, 60000));
+    }
+
+    private int send(byte type) throws IOException {
+        return DaemonClient.send(socket,
+                Daemon.Request.create(type, Collections.emptyList()),
+                new ByteArrayOutputStream(),
+                new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.cli.commands;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.IoUtils;
+
+public class FileWatcherTest {
+
+    private Path root;
+
+    @BeforeEach
+    public void before() throws IOException {
+        root = Files.createTempDirectory("smithy-watch").toRealPath();
+    }
+
+    @AfterEach
+    public void after() {
+        IoUtils.rmdir(root);
+    }
+
+    @Test
+    public void detectsChangedModelFiles() throws Exception {
+        Path model = write(root.resolve("model/a.smithy"), "namespace smithy.example\n");
+
+        try (FileWatcher watcher = createWatcher(root.resolve("model"))) {
+            write(model, "namespace smithy.example\nstring A\n");
+
+            assertThat(awaitChanges(watcher), contains(model));
+        }
+    }
+
+    @Test
+    public void ignoresFilesWithUnchangedContents() throws Exception {
+        Path a = write(root.resolve("model/a.smithy"), "namespace smithy.example\n");
+        Path b = write(root.resolve("model/b.smithy"), "namespace smithy.example\n");
+
+        try (FileWatcher watcher = createWatcher(root.resolve("model"))) {
+            write(a, "namespace smithy.example\n");
+            write(root.resolve("model/notes.txt"), "not a model");
+            write(b, "namespace smithy.example\nstring B\n");
+
+            assertThat(awaitChanges(watcher), contains(b));
+        }
+    }
+
+    @Test
+    public void detectsFilesInNewDirectories() throws Exception {
+        Files.createDirectories(root.resolve("model"));
+
+        try (FileWatcher watcher = createWatcher(root.resolve("model"))) {
+            Path nested = write(root.resolve("model/nested/c.smithy"), "namespace smithy.example\n");
+
+            assertThat(awaitChanges(watcher), contains(nested));
+        }
+    }
+
+    @Test
+    public void detectsRemovedFiles() throws Exception {
+        Path model = write(root.resolve("model/a.smithy"), "namespace smithy.example\n");
+
+        try (FileWatcher watcher = createWatcher(root.resolve("model"))) {
+            Files.delete(model);
+
+            assertThat(awaitChanges(watcher), contains(model));
+        }
+    }
+
+    @Test
+    public void watchesIndividualFiles() throws Exception {
+        Path config = write(root.resolve("smithy-build.json"), "{\"version\": \"1.0\"}");
+        write(root.resolve("other.json"), "{}");
+
+        try (FileWatcher watcher = createWatcher(config)) {
+            write(root.resolve("other.json"), "{\"changed\": true}");
+            write(config, "{\"version\": \"1.0\", \"sources\": []}");
+
+            assertThat(awaitChanges(watcher), contains(config));
+        }
+    }
+
+    @Test
+    public void ignoresOutputDirectory() throws Exception {
+        Path model = write(root.resolve("a.smithy"), "namespace smithy.example\n");
+        Path output = Files.createDirectories(root.resolve("build"));
+
+        try (FileWatcher watcher = new FileWatcher(Collections.singletonList(root),
+                Collections.singletonList(output),
+                50)) {
+            write(output.resolve("model.json"), "{}");
+            write(model, "namespace smithy.example\nstring A\n");
+
+            assertThat(awaitChanges(watcher), contains(model));
+        }
+    }
+
+    private static FileWatcher createWatcher(Path... paths) throws IOException {
+        return new FileWatcher(Arrays.asList(paths), Collections.emptyList(), 50);
+    }
+
+    private static Path write(Path path, String contents) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, contents.getBytes(StandardCharsets.UTF_8));
+        return path;
+    }
+
+    private static Set<Path> awaitChanges(FileWatcher watcher) throws Exception {
+        CompletableFuture<Set<Path>> result = CompletableFuture.supplyAsync(() -> {
+            try {
+                return watcher.awaitChanges();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        return result.get(30, TimeUnit.SECONDS);
+    }
+}
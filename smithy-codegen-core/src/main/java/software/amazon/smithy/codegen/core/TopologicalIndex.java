@@ -4,8 +4,12 @@
  */
 package software.amazon.smithy.codegen.core;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -16,6 +20,7 @@ import java.util.TreeSet;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.knowledge.KnowledgeIndex;
 import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.knowledge.StronglyConnectedComponentIndex;
 import software.amazon.smithy.model.loader.Prelude;
 import software.amazon.smithy.model.neighbor.NeighborProvider;
 import software.amazon.smithy.model.neighbor.Relationship;
@@ -47,6 +52,8 @@ public final class TopologicalIndex implements KnowledgeIndex {
 
     private final Set<Shape> shapes = new LinkedHashSet<>();
     private final Map<Shape, Set<PathFinder.Path>> recursiveShapes = new LinkedHashMap<>();
+    private final StronglyConnectedComponentIndex components;
+    private final NeighborProvider provider;
 
     public TopologicalIndex(Model model) {
         // Explore sorted shapes not in the prelude for a stable result order.
@@ -59,10 +66,17 @@ public final class TopologicalIndex implements KnowledgeIndex {
 
         // This map ensures that more recursive shapes come after less recursive shapes.
         Map<Integer, Map<Shape, Set<PathFinder.Path>>> frequencyMap = new TreeMap<>();
-        NeighborProvider provider = NeighborProviderIndex.of(model).getProvider();
+        components = StronglyConnectedComponentIndex.of(model);
+        provider = NeighborProviderIndex.of(model).getProvider();
 
         for (Shape shape : shapes) {
-            Set<PathFinder.Path> paths = explore(shape, Collections.emptyList(), Collections.emptySet(), provider);
+            // Only shapes that can reach a cycle have recursive closures that need to be enumerated.
+            if (!components.reachesRecursiveShape(shape)) {
+                addOrderedShapes(shape);
+                continue;
+            }
+
+            Set<PathFinder.Path> paths = explore(shape, Collections.emptyList(), Collections.emptySet());
             if (!paths.isEmpty()) {
                 int edges = 0;
                 for (PathFinder.Path path : paths) {
@@ -78,28 +92,17 @@ public final class TopologicalIndex implements KnowledgeIndex {
         }
     }
 
-    private Set<PathFinder.Path> explore(
-            Shape shape,
-            List<Relationship> path,
-            Set<Shape> visited,
-            NeighborProvider provider
-    ) {
+    private Set<PathFinder.Path> explore(Shape shape, List<Relationship> path, Set<Shape> visited) {
         if (visited.contains(shape)) {
             return Collections.singleton(new PathFinder.Path(path));
+        } else if (!components.reachesRecursiveShape(shape)) {
+            addOrderedShapes(shape);
+            return Collections.emptySet();
         }
 
         Set<Shape> newVisited = new LinkedHashSet<>(visited);
         newVisited.add(shape);
-
-        // Sort edges alphabetically by shape to make the order predictable.
-        Map<Shape, Relationship> shapeRelationshipMap = new TreeMap<>();
-        for (Relationship rel : provider.getNeighbors(shape)) {
-            if (rel.getRelationshipType().getDirection() == RelationshipDirection.DIRECTED) {
-                if (!rel.getNeighborShapeId().equals(shape.getId()) && rel.getNeighborShape().isPresent()) {
-                    shapeRelationshipMap.put(rel.getNeighborShape().get(), rel);
-                }
-            }
-        }
+        Map<Shape, Relationship> shapeRelationshipMap = getSortedNeighbors(shape);
 
         if (shapeRelationshipMap.isEmpty()) {
             shapes.add(shape);
@@ -111,7 +114,7 @@ public final class TopologicalIndex implements KnowledgeIndex {
             List<Relationship> newPath = new ArrayList<>(path.size() + 1);
             newPath.addAll(path);
             newPath.add(entry.getValue());
-            recursivePaths.addAll(explore(entry.getKey(), newPath, newVisited, provider));
+            recursivePaths.addAll(explore(entry.getKey(), newPath, newVisited));
         }
 
         if (recursivePaths.isEmpty()) {
@@ -121,6 +124,45 @@ public final class TopologicalIndex implements KnowledgeIndex {
         return recursivePaths;
     }
 
+    // Adds a shape that can't reach a recursive shape and everything it references using a depth-first,
+    // post-order traversal. This produces the same order as explore without re-walking shared subgraphs.
+    private void addOrderedShapes(Shape start) {
+        if (shapes.contains(start)) {
+            return;
+        }
+
+        Deque<Map.Entry<Shape, Iterator<Shape>>> stack = new ArrayDeque<>();
+        stack.push(new AbstractMap.SimpleImmutableEntry<>(start, getSortedNeighbors(start).keySet().iterator()));
+
+        while (!stack.isEmpty()) {
+            Map.Entry<Shape, Iterator<Shape>> current = stack.peek();
+            if (current.getValue().hasNext()) {
+                Shape next = current.getValue().next();
+                // Every shape referenced by an ordered shape has already been ordered too.
+                if (!shapes.contains(next)) {
+                    stack.push(new AbstractMap.SimpleImmutableEntry<>(next,
+                            getSortedNeighbors(next).keySet().iterator()));
+                }
+            } else {
+                stack.pop();
+                shapes.add(current.getKey());
+            }
+        }
+    }
+
+    // Sort edges alphabetically by shape to make the order predictable.
+    private Map<Shape, Relationship> getSortedNeighbors(Shape shape) {
+        Map<Shape, Relationship> shapeRelationshipMap = new TreeMap<>();
+        for (Relationship rel : provider.getNeighbors(shape)) {
+            if (rel.getRelationshipType().getDirection() == RelationshipDirection.DIRECTED) {
+                if (!rel.getNeighborShapeId().equals(shape.getId()) && rel.getNeighborShape().isPresent()) {
+                    shapeRelationshipMap.put(rel.getNeighborShape().get(), rel);
+                }
+            }
+        }
+        return shapeRelationshipMap;
+    }
+
     /**
      * Creates a new {@code TopologicalIndex}.
      *
@@ -4,6 +4,7 @@
  */
 plugins {
     id("smithy.module-conventions")
+    id("smithy.profiling-conventions")
 }
 
 description = "This module detects differences between two Smithy models, identifying " +
@@ -14,5 +15,6 @@ extra["moduleName"] = "software.amazon.smithy.diff"
 
 dependencies {
     api(project(":smithy-utils"))
+    jmh(project(":smithy-utils"))
     api(project(":smithy-model"))
 }
@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.diff.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.diff.ModelDiff;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.traits.DynamicTrait;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ModelDiffs {
+    @State(Scope.Thread)
+    public static class DiffState {
+        public Model oldModel;
+        public Model newModel;
+
+        @Setup
+        public void prepare() {
+            // Each model is built separately so that equal trait values don't share any nodes.
+            oldModel = createModel(-1);
+            newModel = createModel(7);
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> diffLargeTraitValues(DiffState state) {
+        return ModelDiff.compare(state.oldModel, state.newModel);
+    }
+
+    // Creates 2,000 shapes that each have a large trait value. Every shape whose index is a multiple
+    // of changeEvery has a small change deep in its trait value.
+    private static Model createModel(int changeEvery) {
+        Model.Builder builder = Model.builder();
+        ShapeId traitId = ShapeId.from("smithy.example#metadata");
+        for (int i = 0; i < 2000; i++) {
+            boolean changed = changeEvery > 0 && i % changeEvery == 0;
+            builder.addShape(StringShape.builder()
+                    .id(ShapeId.fromParts("smithy.example", "Shape" + i))
+                    .addTrait(new DynamicTrait(traitId, createValue(i, changed)))
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static ObjectNode createValue(int seed, boolean changed) {
+        ObjectNode.Builder result = Node.objectNodeBuilder();
+        for (int i = 0; i < 10; i++) {
+            ArrayNode.Builder entries = ArrayNode.builder();
+            for (int j = 0; j < 10; j++) {
+                entries.withValue(Node.objectNodeBuilder()
+                        .withMember("name", "entry" + j)
+                        .withMember("value", seed * 100 + j)
+                        .withMember("enabled", changed && i == 9 && j == 9)
+                        .build());
+            }
+            result.withMember("group" + i, entries.build());
+        }
+        return result.build();
+    }
+}
@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.jsonschema;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +16,7 @@ import software.amazon.smithy.model.node.NodePointer;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.ToNode;
 import software.amazon.smithy.utils.BuilderRef;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.ToSmithyBuilder;
 
@@ -56,16 +58,16 @@ public final class SchemaDocument implements ToNode, ToSmithyBuilder<SchemaDocum
         if (!definitions.isEmpty()) {
             // Merge in each definition using a JSON Patch style "add" operation
             // that creates missing intermediate objects.
+            List<Pair<NodePointer, Node>> additions = new ArrayList<>();
             for (Map.Entry<String, Schema> entry : definitions.entrySet()) {
                 if (entry.getKey().startsWith("http")) {
                     LOGGER.info(() -> "Skipping the serialization of a remote schema reference: " + entry.getKey());
                 } else {
-                    NodePointer pointer = parseCheckedPointer(entry.getKey());
-                    definitionNode = pointer
-                            .addWithIntermediateValues(definitionNode, entry.getValue().toNode())
-                            .expectObjectNode();
+                    additions.add(Pair.of(parseCheckedPointer(entry.getKey()), entry.getValue().toNode()));
                 }
             }
+            definitionNode = NodePointer.addValuesWithIntermediateValues(definitionNode, additions)
+                    .expectObjectNode();
         }
 
         return Node.objectNodeBuilder()
@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.CborNodeReader;
+import software.amazon.smithy.model.node.CborNodeWriter;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+
+/**
+ * Compares the CBOR encoding of nodes to JSON.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class CborNodes {
+    @State(Scope.Thread)
+    public static class CborState {
+        public Node node;
+        public byte[] json;
+        public byte[] cbor;
+        public byte[] cborWithLocations;
+
+        @Setup
+        public void prepare() {
+            // Serialize a model that contains the prelude, and parse it again to get source locations.
+            Model model = Model.assembler()
+                    .addImport(CborNodes.class.getResource("test-model.smithy"))
+                    .assemble()
+                    .unwrap();
+            ModelSerializer serializer = ModelSerializer.builder().includePrelude(true).build();
+            node = Node.parse(Node.prettyPrintJson(serializer.serialize(model)), "model.json");
+            json = Node.printJson(node).getBytes(StandardCharsets.UTF_8);
+            cbor = CborNodeWriter.toBytes(node);
+            cborWithLocations = CborNodeWriter.toBytes(node, true);
+        }
+    }
+
+    @Benchmark
+    public String printJson(CborState state) {
+        return Node.printJson(state.node);
+    }
+
+    @Benchmark
+    public byte[] writeCbor(CborState state) {
+        return CborNodeWriter.toBytes(state.node);
+    }
+
+    @Benchmark
+    public byte[] writeCborWithSourceLocations(CborState state) {
+        return CborNodeWriter.toBytes(state.node, true);
+    }
+
+    @Benchmark
+    public Node parseJson(CborState state) {
+        return Node.parse(new ByteArrayInputStream(state.json), "");
+    }
+
+    @Benchmark
+    public Node readCbor(CborState state) {
+        return CborNodeReader.parse(state.cbor);
+    }
+
+    @Benchmark
+    public Node readCborWithSourceLocations(CborState state) {
+        return CborNodeReader.parse(state.cborWithLocations);
+    }
+}
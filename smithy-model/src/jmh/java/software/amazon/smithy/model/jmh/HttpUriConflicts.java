@@ -0,0 +1,73 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.validators.HttpUriConflictValidator;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class HttpUriConflicts {
+    @State(Scope.Thread)
+    public static class HttpUriConflictsState {
+        public Model model;
+
+        @Setup
+        public void prepare() {
+            // A synthetic service with 3,000 routes that mix literals, labels, greedy labels, and query literals.
+            StringBuilder smithy = new StringBuilder("$version: \"2.0\"\nnamespace smithy.example\n");
+            StringBuilder operations = new StringBuilder();
+            for (int i = 0; i < 3000; i++) {
+                String uri;
+                switch (i % 3) {
+                    case 0:
+                        uri = "/resource" + i + "/{id}";
+                        break;
+                    case 1:
+                        uri = "/resource" + (i - 1) + "/{id}/child/{path+}";
+                        break;
+                    default:
+                        uri = "/resource" + (i - 2) + "/{id}?action=update" + i;
+                        break;
+                }
+                operations.append("Operation").append(i).append(", ");
+                smithy.append("@readonly\n@http(method: \"GET\", uri: \"").append(uri).append("\")\n")
+                        .append("operation Operation").append(i).append(" {\n")
+                        .append("    input := {\n")
+                        .append("        @required @httpLabel id: String\n");
+                if (i % 3 == 1) {
+                    smithy.append("        @required @httpLabel path: String\n");
+                }
+                smithy.append("    }\n}\n");
+            }
+            smithy.append("service Example {\n    operations: [").append(operations).append("]\n}\n");
+
+            model = Model.assembler()
+                    .addUnparsedModel("example.smithy", smithy.toString())
+                    .disableValidation()
+                    .assemble()
+                    .unwrap();
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> validateUriConflicts(HttpUriConflictsState state) {
+        return new HttpUriConflictValidator().validate(state.model);
+    }
+}
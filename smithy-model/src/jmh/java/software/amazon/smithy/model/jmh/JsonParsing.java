@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.IoUtils;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class JsonParsing {
+    @State(Scope.Thread)
+    public static class JsonState {
+        @Param({"test-model.json", "synthetic"})
+        public String source;
+
+        public String json;
+        public byte[] bytes;
+
+        @Setup
+        public void prepare() {
+            if (source.equals("synthetic")) {
+                json = Node.prettyPrintJson(createSyntheticModel());
+            } else {
+                try (InputStream stream = JsonParsing.class.getResourceAsStream(source)) {
+                    json = IoUtils.toUtf8String(stream);
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            bytes = json.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @Benchmark
+    public Node parseString(JsonState state) {
+        return Node.parse(state.json);
+    }
+
+    @Benchmark
+    public Node parseInputStream(JsonState state) {
+        return Node.parse(new ByteArrayInputStream(state.bytes), "");
+    }
+
+    // Creates a JSON AST model that is several megabytes in size.
+    private static ObjectNode createSyntheticModel() {
+        ObjectNode.Builder shapes = Node.objectNodeBuilder();
+        for (int i = 0; i < 5000; i++) {
+            ObjectNode.Builder members = Node.objectNodeBuilder();
+            for (int j = 0; j < 5; j++) {
+                members.withMember("member" + j, Node.objectNode()
+                        .withMember("target", "smithy.api#String")
+                        .withMember("traits", Node.objectNode()
+                                .withMember("smithy.api#documentation", "Documentation for member " + j
+                                        + " of shape " + i + ", which says \"hello\" in caf\u00e9.")
+                                .withMember("smithy.api#length", Node.objectNode()
+                                        .withMember("min", j)
+                                        .withMember("max", 100 + i))));
+            }
+            shapes.withMember("smithy.example#Shape" + i, Node.objectNode()
+                    .withMember("type", "structure")
+                    .withMember("members", members.build())
+                    .withMember("traits", Node.objectNode()
+                            .withMember("smithy.api#tags", ArrayNode.fromStrings("a", "b", "c"))));
+        }
+        return Node.objectNode()
+                .withMember("smithy", "2.0")
+                .withMember("shapes", shapes.build());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ModelAssembler;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * Measures loading JSON AST models that contain large document trait
+ * values, like endpoint rule sets, with and without lazy parsing.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class LazyJsonModels {
+    @State(Scope.Thread)
+    public static class ModelState {
+        public String json;
+
+        @Setup
+        public void prepare() {
+            json = Node.prettyPrintJson(createModel());
+        }
+    }
+
+    @Benchmark
+    public Node parse(ModelState state) {
+        return Node.parse(new ByteArrayInputStream(state.json.getBytes()), "model.json");
+    }
+
+    @Benchmark
+    public Node parseLazily(ModelState state) {
+        return Node.parseLazily(new ByteArrayInputStream(state.json.getBytes()), "model.json");
+    }
+
+    @Benchmark
+    public Model loadModel(ModelState state) {
+        return Model.assembler()
+                .addUnparsedModel("model.json", state.json)
+                .assemble()
+                .unwrap();
+    }
+
+    @Benchmark
+    public Model loadModelLazily(ModelState state) {
+        return Model.assembler()
+                .putProperty(ModelAssembler.LAZY_JSON_PARSING, true)
+                .addUnparsedModel("model.json", state.json)
+                .assemble()
+                .unwrap();
+    }
+
+    // Creates 1,000 small shapes and 20 services that each have a rule set trait
+    // that is about 100 KB in size.
+    private static ObjectNode createModel() {
+        ObjectNode.Builder shapes = Node.objectNodeBuilder();
+        shapes.withMember("smithy.example#ruleSet", Node.objectNode()
+                .withMember("type", "document")
+                .withMember("traits", Node.objectNode().withMember("smithy.api#trait", Node.objectNode())));
+        for (int i = 0; i < 1000; i++) {
+            shapes.withMember("smithy.example#Shape" + i, Node.objectNode()
+                    .withMember("type", "structure")
+                    .withMember("members", Node.objectNode()
+                            .withMember("name", Node.objectNode().withMember("target", "smithy.api#String"))
+                            .withMember("size", Node.objectNode().withMember("target", "smithy.api#Integer")))
+                    .withMember("traits", Node.objectNode()
+                            .withMember("smithy.api#documentation", "Shape " + i)));
+        }
+        for (int i = 0; i < 20; i++) {
+            shapes.withMember("smithy.example#Service" + i, Node.objectNode()
+                    .withMember("type", "service")
+                    .withMember("version", "2024-01-01")
+                    .withMember("traits", Node.objectNode()
+                            .withMember("smithy.example#ruleSet", createRuleSet(i))));
+        }
+        return Node.objectNode()
+                .withMember("smithy", "2.0")
+                .withMember("shapes", shapes.build());
+    }
+
+    private static ObjectNode createRuleSet(int seed) {
+        ArrayNode.Builder rules = ArrayNode.builder();
+        for (int i = 0; i < 300; i++) {
+            rules.withValue(Node.objectNode()
+                    .withMember("conditions", ArrayNode.fromNodes(Node.objectNode()
+                            .withMember("fn", "stringEquals")
+                            .withMember("argv", ArrayNode.fromNodes(
+                                    Node.objectNode().withMember("ref", "Region"),
+                                    Node.from("region-" + seed + "-" + i)))))
+                    .withMember("endpoint", Node.objectNode()
+                            .withMember("url", "https://service." + i + ".example.com")
+                            .withMember("properties", Node.objectNode())
+                            .withMember("headers", Node.objectNode()))
+                    .withMember("type", "endpoint"));
+        }
+        return Node.objectNode()
+                .withMember("version", "1.0")
+                .withMember("parameters", Node.objectNode()
+                        .withMember("Region", Node.objectNode().withMember("type", "String")))
+                .withMember("rules", rules.build());
+    }
+}
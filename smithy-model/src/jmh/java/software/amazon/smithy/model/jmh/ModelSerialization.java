@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ModelSerializer;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.traits.LengthTrait;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ModelSerialization {
+    @State(Scope.Thread)
+    public static class ModelState {
+        public Model model;
+        public ModelSerializer serializer;
+
+        @Setup
+        public void prepare() {
+            Model.Builder builder = Model.builder();
+            StringShape string = StringShape.builder().id("smithy.example#String").build();
+            builder.addShape(string);
+            for (int i = 0; i < 5000; i++) {
+                StructureShape.Builder structure = StructureShape.builder()
+                        .id(ShapeId.fromParts("smithy.example", "Shape" + i))
+                        .addTrait(new DocumentationTrait("Documentation for shape " + i));
+                for (int j = 0; j < 5; j++) {
+                    String docs = "Documentation for member " + j + " in caf\u00e9.";
+                    structure.addMember("member" + j, string.getId(), member -> member
+                            .addTrait(new DocumentationTrait(docs))
+                            .addTrait(LengthTrait.builder().min(1L).max(100L).build()));
+                }
+                builder.addShape(structure.build());
+            }
+            model = builder.build();
+            serializer = ModelSerializer.builder().build();
+        }
+    }
+
+    @Benchmark
+    public void serializeToNodeThenWriter(ModelState state, Blackhole blackhole) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(new BlackholeStream(blackhole),
+                StandardCharsets.UTF_8));
+        Node.prettyPrintJsonToWriter(state.serializer.serialize(state.model), writer);
+        writer.flush();
+    }
+
+    @Benchmark
+    public void serializeToStream(ModelState state, Blackhole blackhole) {
+        state.serializer.serialize(state.model, new BlackholeStream(blackhole));
+    }
+
+    private static final class BlackholeStream extends OutputStream {
+        private final Blackhole blackhole;
+
+        BlackholeStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class NodeDiffs {
+    @State(Scope.Thread)
+    public static class DiffState {
+        public Node oldValue;
+        public Node newValue;
+
+        @Setup
+        public void prepare() {
+            // Each value is built separately so that equal subtrees don't share any nodes.
+            oldValue = createValue(-1);
+            newValue = createValue(1500);
+        }
+    }
+
+    @Benchmark
+    public List<String> diff(DiffState state) {
+        return Node.diff(state.oldValue, state.newValue);
+    }
+
+    @Benchmark
+    public void diffFirstDifference(DiffState state, Blackhole blackhole) {
+        Node.diff(state.oldValue, state.newValue, 1, difference -> blackhole.consume(difference.getPointer()));
+    }
+
+    // Creates a rule set like value with 3,000 rules, where the rule at the given position differs.
+    private static ObjectNode createValue(int changed) {
+        ArrayNode.Builder rules = ArrayNode.builder();
+        for (int i = 0; i < 3000; i++) {
+            rules.withValue(Node.objectNode()
+                    .withMember("conditions", ArrayNode.fromNodes(Node.objectNode()
+                            .withMember("fn", "stringEquals")
+                            .withMember("argv", ArrayNode.fromNodes(
+                                    Node.objectNode().withMember("ref", "Region"),
+                                    Node.from("region-" + (i == changed ? "changed" : i))))))
+                    .withMember("endpoint", Node.objectNode().withMember("url", "https://service" + i)));
+        }
+        return Node.objectNode().withMember("rules", rules.build());
+    }
+}
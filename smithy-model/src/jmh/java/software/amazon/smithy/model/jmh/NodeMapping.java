@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodeMapper;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class NodeMapping {
+    @State(Scope.Thread)
+    public static class MappingState {
+        public NodeMapper mapper;
+        public Config config;
+        public Node node;
+
+        @Setup
+        public void prepare() {
+            mapper = new NodeMapper();
+            config = new Config();
+            config.setName("example");
+            config.setVersion(3);
+            config.setEnabled(true);
+            for (int i = 0; i < 20; i++) {
+                Endpoint endpoint = new Endpoint();
+                endpoint.setUrl("https://example.com/" + i);
+                endpoint.setTimeout(1000L + i);
+                endpoint.setTags(new ArrayList<>());
+                endpoint.getTags().add("tag" + i);
+                endpoint.getTags().add("other");
+                config.getEndpoints().add(endpoint);
+                config.getSettings().put("setting" + i, "value" + i);
+            }
+            node = mapper.serialize(config);
+        }
+    }
+
+    @Benchmark
+    public Node serialize(MappingState state) {
+        return state.mapper.serialize(state.config);
+    }
+
+    @Benchmark
+    public Config deserialize(MappingState state) {
+        return state.mapper.deserialize(state.node, Config.class);
+    }
+
+    @Benchmark
+    public Config roundTrip(MappingState state) {
+        return state.mapper.deserialize(state.mapper.serialize(state.config), Config.class);
+    }
+
+    public static final class Config {
+        private String name;
+        private int version;
+        private boolean enabled;
+        private List<Endpoint> endpoints = new ArrayList<>();
+        private Map<String, String> settings = new LinkedHashMap<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public int getVersion() {
+            return version;
+        }
+
+        public void setVersion(int version) {
+            this.version = version;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public List<Endpoint> getEndpoints() {
+            return endpoints;
+        }
+
+        public void setEndpoints(List<Endpoint> endpoints) {
+            this.endpoints = endpoints;
+        }
+
+        public Map<String, String> getSettings() {
+            return settings;
+        }
+
+        public void setSettings(Map<String, String> settings) {
+            this.settings = settings;
+        }
+    }
+
+    public static final class Endpoint {
+        private String url;
+        private long timeout;
+        private List<String> tags;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public long getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(long timeout) {
+            this.timeout = timeout;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+
+        public void setTags(List<String> tags) {
+            this.tags = tags;
+        }
+    }
+}
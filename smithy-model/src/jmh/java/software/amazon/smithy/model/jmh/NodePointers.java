@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.NodePointer;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.utils.Pair;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class NodePointers {
+    @State(Scope.Thread)
+    public static class PointerState {
+        public ObjectNode document;
+        public List<Pair<NodePointer, Node>> additions = new ArrayList<>();
+
+        @Setup
+        public void prepare() {
+            // An OpenAPI-like document with paths, and an update to each path.
+            ObjectNode.Builder paths = Node.objectNodeBuilder();
+            for (int i = 0; i < 500; i++) {
+                paths.withMember("/operation" + i, Node.objectNode()
+                        .withMember("post", Node.objectNode()
+                                .withMember("operationId", "Operation" + i)
+                                .withMember("tags", Node.fromStrings("a", "b"))));
+                additions.add(Pair.of(NodePointer.parse("/paths/~1operation" + i + "/post/x-extension"), Node.from(i)));
+                additions.add(Pair.of(NodePointer.parse("/paths/~1operation" + i + "/post/tags/-"), Node.from("c")));
+            }
+            document = Node.objectNode()
+                    .withMember("openapi", "3.0.2")
+                    .withMember("paths", paths.build());
+        }
+    }
+
+    @Benchmark
+    public Node addEachValue(PointerState state) {
+        Node result = state.document;
+        for (Pair<NodePointer, Node> entry : state.additions) {
+            result = entry.getKey().addWithIntermediateValues(result, entry.getValue());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Node addValues(PointerState state) {
+        return NodePointer.addValuesWithIntermediateValues(state.document, state.additions);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.NodeValidationVisitor;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class NodeValidation {
+    @State(Scope.Thread)
+    public static class NodeValidationState {
+        public Model model;
+        public Shape shape;
+        public List<Node> values = new ArrayList<>();
+
+        @Setup
+        public void prepare() {
+            model = Model.assembler()
+                    .addUnparsedModel("example.smithy",
+                            "$version: \"2.0\"\n"
+                                    + "namespace smithy.example\n"
+                                    + "structure Input {\n"
+                                    + "    @required\n"
+                                    + "    @length(min: 1, max: 64)\n"
+                                    + "    @pattern(\"^[a-z]+$\")\n"
+                                    + "    name: String\n"
+                                    + "    @range(min: 0, max: 100)\n"
+                                    + "    count: Integer\n"
+                                    + "    tags: Tags\n"
+                                    + "    nested: Nested\n"
+                                    + "}\n"
+                                    + "@length(max: 10)\n"
+                                    + "list Tags {\n"
+                                    + "    member: Tag\n"
+                                    + "}\n"
+                                    + "@length(min: 1)\n"
+                                    + "string Tag\n"
+                                    + "structure Nested {\n"
+                                    + "    @required\n"
+                                    + "    when: Timestamp\n"
+                                    + "    size: Long\n"
+                                    + "}\n")
+                    .assemble()
+                    .unwrap();
+            shape = model.expectShape(ShapeId.from("smithy.example#Input"));
+
+            // Thousands of example payloads that all target the same input structure.
+            for (int i = 0; i < 5000; i++) {
+                values.add(Node.objectNodeBuilder()
+                        .withMember("name", "example")
+                        .withMember("count", i % 100)
+                        .withMember("tags", Node.fromStrings("a", "b", "c"))
+                        .withMember("nested",
+                                Node.objectNode()
+                                        .withMember("when", "2024-01-01T00:00:00Z")
+                                        .withMember("size", i))
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public void validateExamples(NodeValidationState state, Blackhole blackhole) {
+        for (Node value : state.values) {
+            NodeValidationVisitor visitor = NodeValidationVisitor.builder()
+                    .model(state.model)
+                    .value(value)
+                    .build();
+            blackhole.consume(state.shape.accept(visitor));
+        }
+    }
+}
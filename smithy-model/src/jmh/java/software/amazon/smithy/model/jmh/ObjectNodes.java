@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.node.ObjectNode;
+
+/**
+ * Measures creating and querying object nodes.
+ *
+ * <p>Run with {@code -prof gc} to compare the allocation rate and retained
+ * size of the object node representation.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ObjectNodes {
+    @State(Scope.Thread)
+    public static class ObjectNodeState {
+        @Param({"1", "4", "6", "32"})
+        public int members;
+
+        public List<ObjectNode> nodes = new ArrayList<>();
+        public String[] names;
+
+        @Setup
+        public void prepare() {
+            names = new String[members];
+            for (int i = 0; i < members; i++) {
+                names[i] = "member" + i;
+            }
+            nodes = createNodes(this);
+        }
+    }
+
+    @Benchmark
+    public List<ObjectNode> createObjectNodes(ObjectNodeState state) {
+        return createNodes(state);
+    }
+
+    @Benchmark
+    public ObjectNode chainWithMember(ObjectNodeState state) {
+        // Each update creates a new node, like transforms that add one member at a time.
+        ObjectNode result = Node.objectNode();
+        for (int i = 0; i < 1000; i++) {
+            result = result.withMember("member" + i, Node.from(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void getMembers(ObjectNodeState state, Blackhole blackhole) {
+        for (ObjectNode node : state.nodes) {
+            for (String name : state.names) {
+                blackhole.consume(node.getMember(name));
+            }
+            blackhole.consume(node.getMember("missing"));
+        }
+    }
+
+    @Benchmark
+    public void iterateMembers(ObjectNodeState state, Blackhole blackhole) {
+        for (ObjectNode node : state.nodes) {
+            node.getMembers().forEach((k, v) -> blackhole.consume(v));
+        }
+    }
+
+    private static List<ObjectNode> createNodes(ObjectNodeState state) {
+        // 10,000 small objects, similar to trait values and examples in large models.
+        List<ObjectNode> result = new ArrayList<>(10000);
+        for (int i = 0; i < 10000; i++) {
+            ObjectNode.Builder builder = Node.objectNodeBuilder();
+            for (String name : state.names) {
+                builder.withMember(name, Node.from(i));
+            }
+            result.add(builder.build());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.traits.PatternTrait;
+import software.amazon.smithy.utils.ListUtils;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MICROSECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Patterns {
+    @State(Scope.Thread)
+    public static class PatternState {
+        public List<String> patterns = ListUtils.of(
+                "^[a-zA-Z0-9_-]{1,64}$",
+                "^arn:aws:[a-z0-9-]+",
+                "^\\d{4}-\\d{2}-\\d{2}$",
+                "^[^\\s]+$",
+                "^(foo|bar)+[0-9]*$");
+        public List<PatternTrait> traits = new ArrayList<>();
+        public List<String> values = ListUtils.of(
+                "my-resource_name-01",
+                "arn:aws:s3-control",
+                "2024-01-01",
+                "no spaces here?",
+                "foobarfoo123");
+
+        @Setup
+        public void prepare() {
+            for (String pattern : patterns) {
+                traits.add(new PatternTrait(pattern));
+            }
+        }
+    }
+
+    @Benchmark
+    public void createTraits(PatternState state, Blackhole blackhole) {
+        // Compiled patterns are shared, so creating the same traits repeatedly is cheap.
+        for (int i = 0; i < 1000; i++) {
+            for (String pattern : state.patterns) {
+                blackhole.consume(new PatternTrait(pattern));
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchWithRegex(PatternState state, Blackhole blackhole) {
+        for (PatternTrait trait : state.traits) {
+            for (String value : state.values) {
+                blackhole.consume(trait.getPattern().matcher(value).find());
+            }
+        }
+    }
+
+    @Benchmark
+    public void matchWithTrait(PatternState state, Blackhole blackhole) {
+        for (PatternTrait trait : state.traits) {
+            for (String value : state.values) {
+                blackhole.consume(trait.matches(value));
+            }
+        }
+    }
+}
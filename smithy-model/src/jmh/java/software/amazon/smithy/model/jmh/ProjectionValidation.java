@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.loader.ValidationBaseline;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.transform.ModelTransformer;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class ProjectionValidation {
+    @State(Scope.Thread)
+    public static class ProjectionState {
+        public ValidationBaseline baseline = new ValidationBaseline();
+        public Model projected;
+
+        @Setup
+        public void prepare() {
+            // A service with 500 HTTP operations, one of which is removed by the projection.
+            StringBuilder model = new StringBuilder("$version: \"2.0\"\nnamespace smithy.example\n")
+                    .append("service Example {\n    version: \"1\"\n    operations: [");
+            for (int i = 0; i < 500; i++) {
+                model.append("Operation").append(i).append(i < 499 ? ", " : "]\n}\n");
+            }
+            for (int i = 0; i < 500; i++) {
+                model.append("@http(method: \"POST\", uri: \"/op").append(i).append("/{id}\")\n")
+                        .append("operation Operation").append(i).append(" {\n")
+                        .append("    input := {\n")
+                        .append("        @required @httpLabel @length(min: 1) @pattern(\"^[a-z]+$\") id: String\n")
+                        .append("        @httpHeader(\"X-Count\") @range(min: 1, max: 10) count: Integer\n")
+                        .append("    }\n")
+                        .append("    output := { @httpResponseCode code: Integer }\n")
+                        .append("}\n");
+            }
+
+            Model base = Model.assembler()
+                    .addUnparsedModel("example.smithy", model.toString())
+                    .recordValidationBaseline(baseline)
+                    .assemble()
+                    .unwrap();
+            ModelTransformer transformer = ModelTransformer.create();
+            Model removed = transformer.removeShapes(base, Collections.singletonList(
+                    base.expectShape(ShapeId.from("smithy.example#Operation0"))));
+            projected = transformer.removeUnreferencedShapes(removed);
+        }
+    }
+
+    @Benchmark
+    public List<ValidationEvent> fullValidation(ProjectionState state) {
+        return Model.assembler().addModel(state.projected).assemble().getValidationEvents();
+    }
+
+    @Benchmark
+    public List<ValidationEvent> incrementalValidation(ProjectionState state) {
+        return Model.assembler()
+                .addModel(state.projected)
+                .validationBaseline(state.baseline)
+                .assemble()
+                .getValidationEvents();
+    }
+}
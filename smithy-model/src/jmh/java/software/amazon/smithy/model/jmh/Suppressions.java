@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ArrayNode;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.ValidationEventDecorator;
+import software.amazon.smithy.model.validation.suppressions.ModelBasedEventDecorator;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class Suppressions {
+    @State(Scope.Thread)
+    public static class SuppressionState {
+        public List<ValidationEvent> events = new ArrayList<>();
+        public ValidationEventDecorator decorator;
+
+        @Setup
+        public void prepare() {
+            Model.Builder builder = Model.builder();
+            ArrayNode.Builder suppressions = ArrayNode.builder();
+            ArrayNode.Builder overrides = ArrayNode.builder();
+
+            // 500 suppressions and 500 severity overrides spread over 50 namespaces.
+            for (int i = 0; i < 500; i++) {
+                suppressions.withValue(Node.objectNode()
+                        .withMember("id", "Suppressed" + i + ".Nested")
+                        .withMember("namespace", "ns.foo" + (i % 50))
+                        .withMember("reason", "Reason " + i));
+                overrides.withValue(Node.objectNode()
+                        .withMember("id", "Overridden" + i)
+                        .withMember("namespace", i % 2 == 0 ? "*" : "ns.foo" + (i % 50))
+                        .withMember("severity", "DANGER"));
+            }
+
+            builder.putMetadataProperty("suppressions", suppressions.build());
+            builder.putMetadataProperty("severityOverrides", overrides.build());
+
+            // 50,000 warnings, a third of which are suppressed and a third of which are overridden.
+            for (int i = 0; i < 50000; i++) {
+                StringShape shape = StringShape.builder()
+                        .id(ShapeId.fromParts("ns.foo" + (i % 50), "Shape" + i))
+                        .build();
+                String id;
+                switch (i % 3) {
+                    case 0:
+                        id = "Suppressed" + (i % 500) + ".Nested.Event";
+                        break;
+                    case 1:
+                        id = "Overridden" + (i % 500);
+                        break;
+                    default:
+                        id = "Unmatched" + (i % 500);
+                        break;
+                }
+                builder.addShape(shape);
+                events.add(ValidationEvent.builder()
+                        .id(id)
+                        .shape(shape)
+                        .severity(Severity.WARNING)
+                        .message("test")
+                        .build());
+            }
+
+            decorator = new ModelBasedEventDecorator().createDecorator(builder.build()).getResult().get();
+        }
+    }
+
+    @Benchmark
+    public void decorateEvents(SuppressionState state, Blackhole blackhole) {
+        for (ValidationEvent event : state.events) {
+            blackhole.consume(state.decorator.decorate(event));
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Emits Java Flight Recorder events for model loading, validation,
+ * transforms, and selectors.
+ *
+ * <p>Smithy supports Java 8 runtimes that don't provide the JFR API, so
+ * event classes are only referenced from this class and only loaded if
+ * the API is available. Each {@code begin} method returns an opaque event
+ * that's passed to the corresponding {@code commit} method, or null if
+ * the API is unavailable or the event isn't enabled in any recording. The
+ * values of an event are only computed when it's committed with a non-null
+ * event, so events cost next to nothing when they aren't recorded.
+ */
+@SmithyInternalApi
+public final class JfrEvents {
+
+    private static final boolean AVAILABLE = isJfrAvailable();
+
+    private JfrEvents() {}
+
+    private static boolean isJfrAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event", false, JfrEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the Java Flight Recorder API is available.
+     *
+     * @return Returns true if events can be emitted.
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Begins an event for parsing a model file.
+     *
+     * @return Returns the event to commit, or null.
+     */
+    public static Object beginModelFileParsed() {
+        if (AVAILABLE) {
+            ModelFileParsedEvent event = new ModelFileParsedEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Commits an event for parsing a model file.
+     *
+     * @param event Event returned from {@link #beginModelFileParsed()}.
+     * @param file Name of the parsed file.
+     * @param bytes Number of bytes read from the file.
+     */
+    public static void commitModelFileParsed(Object event, String file, long bytes) {
+        if (event != null) {
+            ModelFileParsedEvent e = (ModelFileParsedEvent) event;
+            e.end();
+            if (e.shouldCommit()) {
+                e.file = file;
+                e.bytes = bytes;
+                e.commit();
+            }
+        }
+    }
+
+    /**
+     * Begins an event for applying a validator.
+     *
+     * @return Returns the event to commit, or null.
+     */
+    public static Object beginValidatorRun() {
+        if (AVAILABLE) {
+            ValidatorRunEvent event = new ValidatorRunEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Commits an event for applying a validator.
+     *
+     * @param event Event returned from {@link #beginValidatorRun()}.
+     * @param validator Validator that was applied.
+     * @param model Model that was validated.
+     * @param events Number of emitted validation events.
+     * @param incremental Whether the model was validated incrementally.
+     */
+    public static void commitValidatorRun(
+            Object event,
+            Object validator,
+            Model model,
+            int events,
+            boolean incremental
+    ) {
+        if (event != null) {
+            ValidatorRunEvent e = (ValidatorRunEvent) event;
+            e.end();
+            if (e.shouldCommit()) {
+                e.validator = validator.getClass().getName();
+                e.shapes = model.getShapeIds().size();
+                e.events = events;
+                e.incremental = incremental;
+                e.commit();
+            }
+        }
+    }
+
+    /**
+     * Begins an event for applying a transform.
+     *
+     * @return Returns the event to commit, or null.
+     */
+    public static Object beginTransformApplied() {
+        if (AVAILABLE) {
+            TransformAppliedEvent event = new TransformAppliedEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Commits an event for applying a transform.
+     *
+     * @param event Event returned from {@link #beginTransformApplied()}.
+     * @param transform Name of the transform.
+     * @param before Model before the transform was applied.
+     * @param after Model created by the transform.
+     */
+    public static void commitTransformApplied(Object event, String transform, Model before, Model after) {
+        if (event != null) {
+            TransformAppliedEvent e = (TransformAppliedEvent) event;
+            e.end();
+            if (e.shouldCommit()) {
+                e.transform = transform;
+                e.shapesBefore = before.getShapeIds().size();
+                e.shapesAfter = after.getShapeIds().size();
+                e.commit();
+            }
+        }
+    }
+
+    /**
+     * Begins an event for evaluating a selector.
+     *
+     * @return Returns the event to commit, or null.
+     */
+    public static Object beginSelectorEvaluated() {
+        if (AVAILABLE) {
+            SelectorEvaluatedEvent event = new SelectorEvaluatedEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Commits an event for evaluating a selector.
+     *
+     * @param event Event returned from {@link #beginSelectorEvaluated()}.
+     * @param selector Selector expression.
+     * @param startingShapes Number of shapes the selector was evaluated against.
+     * @param matches Number of matched shapes.
+     */
+    public static void commitSelectorEvaluated(Object event, String selector, int startingShapes, int matches) {
+        if (event != null) {
+            SelectorEvaluatedEvent e = (SelectorEvaluatedEvent) event;
+            e.end();
+            if (e.shouldCommit()) {
+                e.selector = selector;
+                e.startingShapes = startingShapes;
+                e.matches = matches;
+                e.commit();
+            }
+        }
+    }
+}
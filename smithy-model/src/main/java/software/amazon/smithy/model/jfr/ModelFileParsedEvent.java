@@ -0,0 +1,27 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("software.amazon.smithy.ModelFileParsed")
+@Label("Model File Parsed")
+@Description("A Smithy IDL or JSON AST model file was parsed")
+@Category({"Smithy", "Model"})
+@StackTrace(false)
+final class ModelFileParsedEvent extends Event {
+    @Label("File")
+    String file;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("software.amazon.smithy.SelectorEvaluated")
+@Label("Selector Evaluated")
+@Description("A selector was evaluated against a model")
+@Category({"Smithy", "Selector"})
+@StackTrace(false)
+@Threshold("1 ms")
+final class SelectorEvaluatedEvent extends Event {
+    @Label("Selector")
+    String selector;
+
+    @Label("Starting Shapes")
+    int startingShapes;
+
+    @Label("Matches")
+    int matches;
+}
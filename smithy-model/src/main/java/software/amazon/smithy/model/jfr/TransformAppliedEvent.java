@@ -0,0 +1,30 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name("software.amazon.smithy.TransformApplied")
+@Label("Transform Applied")
+@Description("A ModelTransformer transform was applied to a model")
+@Category({"Smithy", "Transform"})
+@StackTrace(false)
+@Threshold("1 ms")
+final class TransformAppliedEvent extends Event {
+    @Label("Transform")
+    String transform;
+
+    @Label("Shapes Before")
+    int shapesBefore;
+
+    @Label("Shapes After")
+    int shapesAfter;
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("software.amazon.smithy.ValidatorRun")
+@Label("Validator Run")
+@Description("A validator was applied to a model")
+@Category({"Smithy", "Validation"})
+@StackTrace(false)
+final class ValidatorRunEvent extends Event {
+    @Label("Validator")
+    String validator;
+
+    @Label("Shapes")
+    @Description("Number of shapes in the validated model")
+    int shapes;
+
+    @Label("Events")
+    @Description("Number of validation events emitted by the validator")
+    int events;
+
+    @Label("Incremental")
+    @Description("Whether only the shapes affected by changes to a previously validated model were validated")
+    boolean incremental;
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.knowledge;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.neighbor.NeighborProvider;
+import software.amazon.smithy.model.neighbor.Relationship;
+import software.amazon.smithy.model.neighbor.RelationshipDirection;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.ToShapeId;
+
+/**
+ * Computes the strongly connected components of the directed relationships
+ * between shapes in a model.
+ *
+ * <p>Shapes are in the same component if each shape can reach the other by
+ * following directed relationships (for example, a structure that contains
+ * a member that targets the structure). A shape is recursive if its
+ * component contains more than one shape, or if the shape has a relationship
+ * to itself.
+ *
+ * <p>Components are found using a single, iterative pass of Tarjan's
+ * algorithm over every shape in the model, so deeply nested models don't
+ * risk overflowing the stack. Components are ordered so that every
+ * component comes after the components it has relationships to, which is
+ * a reverse-topological ordering of the condensation of the graph.
+ */
+public final class StronglyConnectedComponentIndex implements KnowledgeIndex {
+
+    private final Map<ShapeId, Integer> componentIds = new HashMap<>();
+    private final List<Shape> orderedShapes = new ArrayList<>();
+    private final List<Integer> componentStarts = new ArrayList<>();
+    private final boolean[] recursiveComponents;
+    private final boolean[] reachesRecursiveComponents;
+
+    public StronglyConnectedComponentIndex(Model model) {
+        NeighborProvider provider = NeighborProviderIndex.of(model).getProvider();
+
+        // Sort the shapes so that the order of components is stable.
+        List<Shape> shapes = new ArrayList<>(model.toSet());
+        Collections.sort(shapes);
+        Map<ShapeId, Integer> positions = new HashMap<>(shapes.size());
+        for (int i = 0; i < shapes.size(); i++) {
+            positions.put(shapes.get(i).getId(), i);
+        }
+
+        int[][] edges = new int[shapes.size()][];
+        boolean[] selfReferences = new boolean[shapes.size()];
+        for (int i = 0; i < shapes.size(); i++) {
+            List<Relationship> relationships = provider.getNeighbors(shapes.get(i));
+            int[] targets = new int[relationships.size()];
+            int count = 0;
+            for (Relationship relationship : relationships) {
+                if (relationship.getRelationshipType().getDirection() == RelationshipDirection.DIRECTED) {
+                    Integer target = positions.get(relationship.getNeighborShapeId());
+                    if (target != null) {
+                        targets[count++] = target;
+                        selfReferences[i] |= target == i;
+                    }
+                }
+            }
+            edges[i] = count == targets.length ? targets : Arrays.copyOf(targets, count);
+        }
+
+        int[] components = findComponents(shapes, edges);
+        int componentCount = componentStarts.size();
+        recursiveComponents = new boolean[componentCount];
+        reachesRecursiveComponents = new boolean[componentCount];
+
+        for (int component = 0; component < componentCount; component++) {
+            int start = componentStarts.get(component);
+            int end = componentEnd(component);
+            boolean recursive = end - start > 1;
+            boolean reachesRecursive = false;
+            for (int i = start; i < end; i++) {
+                int shape = positions.get(orderedShapes.get(i).getId());
+                recursive |= selfReferences[shape];
+                // Components are created in reverse-topological order, so every component this
+                // component has a relationship to has already been computed.
+                for (int target : edges[shape]) {
+                    reachesRecursive |= components[target] != component
+                            && reachesRecursiveComponents[components[target]];
+                }
+            }
+            recursiveComponents[component] = recursive;
+            reachesRecursiveComponents[component] = recursive || reachesRecursive;
+        }
+    }
+
+    // An iterative version of Tarjan's strongly connected components algorithm.
+    private int[] findComponents(List<Shape> shapes, int[][] edges) {
+        int size = shapes.size();
+        int[] indexes = new int[size];
+        int[] lowLinks = new int[size];
+        int[] edgePositions = new int[size];
+        int[] components = new int[size];
+        boolean[] onStack = new boolean[size];
+        int[] stack = new int[size];
+        int[] callStack = new int[size];
+        int stackSize = 0;
+        int counter = 0;
+        Arrays.fill(indexes, -1);
+
+        for (int root = 0; root < size; root++) {
+            if (indexes[root] != -1) {
+                continue;
+            }
+
+            int callStackSize = 0;
+            indexes[root] = lowLinks[root] = counter++;
+            stack[stackSize++] = root;
+            onStack[root] = true;
+            callStack[callStackSize++] = root;
+
+            while (callStackSize > 0) {
+                int current = callStack[callStackSize - 1];
+                if (edgePositions[current] < edges[current].length) {
+                    int next = edges[current][edgePositions[current]++];
+                    if (indexes[next] == -1) {
+                        indexes[next] = lowLinks[next] = counter++;
+                        stack[stackSize++] = next;
+                        onStack[next] = true;
+                        callStack[callStackSize++] = next;
+                    } else if (onStack[next]) {
+                        lowLinks[current] = Math.min(lowLinks[current], indexes[next]);
+                    }
+                    continue;
+                }
+
+                callStackSize--;
+                if (lowLinks[current] == indexes[current]) {
+                    int component = componentStarts.size();
+                    componentStarts.add(orderedShapes.size());
+                    int member;
+                    do {
+                        member = stack[--stackSize];
+                        onStack[member] = false;
+                        components[member] = component;
+                        orderedShapes.add(shapes.get(member));
+                        componentIds.put(shapes.get(member).getId(), component);
+                    } while (member != current);
+                }
+
+                if (callStackSize > 0) {
+                    int parent = callStack[callStackSize - 1];
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[current]);
+                }
+            }
+        }
+
+        return components;
+    }
+
+    public static StronglyConnectedComponentIndex of(Model model) {
+        return model.getKnowledge(StronglyConnectedComponentIndex.class, StronglyConnectedComponentIndex::new);
+    }
+
+    /**
+     * Gets every strongly connected component of the model.
+     *
+     * <p>Each component comes after every component that its shapes have
+     * relationships to (i.e., referenced shapes come first).
+     *
+     * @return Returns the ordered components.
+     */
+    public List<Set<Shape>> getComponents() {
+        return new AbstractList<Set<Shape>>() {
+            @Override
+            public Set<Shape> get(int index) {
+                return createComponent(index);
+            }
+
+            @Override
+            public int size() {
+                return componentStarts.size();
+            }
+        };
+    }
+
+    /**
+     * Gets the strongly connected component that contains the given shape.
+     *
+     * @param shape Shape to get the component of.
+     * @return Returns the component, or an empty set if the shape is not in the model.
+     */
+    public Set<Shape> getComponent(ToShapeId shape) {
+        Integer component = componentIds.get(shape.toShapeId());
+        return component == null ? Collections.emptySet() : createComponent(component);
+    }
+
+    /**
+     * Checks if the given shape is recursive, meaning the shape can reach
+     * itself through its relationships.
+     *
+     * @param shape Shape to check.
+     * @return Returns true if the shape is recursive.
+     */
+    public boolean isRecursive(ToShapeId shape) {
+        Integer component = componentIds.get(shape.toShapeId());
+        return component != null && recursiveComponents[component];
+    }
+
+    /**
+     * Checks if the given shape is recursive or has relationships that
+     * eventually reach a recursive shape.
+     *
+     * @param shape Shape to check.
+     * @return Returns true if the shape is recursive or references a recursive shape.
+     */
+    public boolean reachesRecursiveShape(ToShapeId shape) {
+        Integer component = componentIds.get(shape.toShapeId());
+        return component != null && reachesRecursiveComponents[component];
+    }
+
+    /**
+     * Gets every recursive shape in the model.
+     *
+     * @return Returns the recursive shapes.
+     */
+    public Set<Shape> getRecursiveShapes() {
+        Set<Shape> result = new LinkedHashSet<>();
+        for (int component = 0; component < componentStarts.size(); component++) {
+            if (recursiveComponents[component]) {
+                result.addAll(orderedShapes.subList(componentStarts.get(component), componentEnd(component)));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets every member that is part of a recursive reference.
+     *
+     * @return Returns the recursive members.
+     */
+    public Set<MemberShape> getRecursiveMembers() {
+        Set<MemberShape> result = new LinkedHashSet<>();
+        for (Shape shape : getRecursiveShapes()) {
+            shape.asMemberShape().ifPresent(result::add);
+        }
+        return result;
+    }
+
+    private int componentEnd(int component) {
+        return component + 1 < componentStarts.size() ? componentStarts.get(component + 1) : orderedShapes.size();
+    }
+
+    private Set<Shape> createComponent(int component) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(
+                orderedShapes.subList(componentStarts.get(component), componentEnd(component))));
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.loader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
+import software.amazon.smithy.model.neighbor.NeighborProvider;
+import software.amazon.smithy.model.neighbor.Relationship;
+import software.amazon.smithy.model.neighbor.RelationshipDirection;
+import software.amazon.smithy.model.neighbor.RelationshipType;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.model.validation.Validator;
+import software.amazon.smithy.utils.ListUtils;
+
+/**
+ * Validates a model derived from a {@link ValidationBaseline} by applying
+ * local validators only to the shapes affected by the differences between
+ * the models.
+ *
+ * <p>A shape is affected if it or any shape it refers to, directly or
+ * transitively, was added, changed, or removed. Operations and resources
+ * bound to services and resources aren't considered to be referenced.
+ * Local validators are applied to a model that contains the affected
+ * shapes, every shape they refer to, and the prelude. The events they
+ * emitted in the baseline are reused for every other shape.
+ */
+final class IncrementalValidation {
+
+    // Validating more than this fraction of the model isn't meaningfully faster than validating all of it.
+    private static final double MAX_AFFECTED_RATIO = 0.5;
+
+    private final ValidationBaseline baseline;
+    private final Model model;
+    private final Set<ShapeId> affected;
+    private final Model affectedModel;
+
+    private IncrementalValidation(
+            ValidationBaseline baseline,
+            Model model,
+            NeighborProvider idRefProvider,
+            Set<ShapeId> affected
+    ) {
+        this.baseline = baseline;
+        this.model = model;
+        this.affected = affected;
+        this.affectedModel = createAffectedModel(model, idRefProvider, affected);
+    }
+
+    /**
+     * Creates an incremental validation of a model.
+     *
+     * @param baseline Baseline the model was derived from.
+     * @param model Model to validate.
+     * @return Returns the incremental validation, or null if the model needs to be fully validated.
+     */
+    static IncrementalValidation create(ValidationBaseline baseline, Model model) {
+        Model base = baseline.getModel();
+
+        // Metadata can define validators and suppressions that apply to any shape.
+        if (base == null || !base.getMetadata().equals(model.getMetadata())) {
+            return null;
+        }
+
+        Set<ShapeId> changed = new HashSet<>();
+        for (Shape shape : model.toSet()) {
+            Optional<Shape> previous = base.getShape(shape.getId());
+            if (!previous.isPresent() || !isSameShape(previous.get(), shape)) {
+                changed.add(shape.getId());
+            }
+        }
+        for (Shape shape : base.toSet()) {
+            if (!model.getShape(shape.getId()).isPresent()) {
+                changed.add(shape.getId());
+            }
+        }
+
+        // Only contains idRef relationships. Other relationships come from the NeighborProviderIndex of the model,
+        // which is shared with the validators that use it.
+        NeighborProvider idRefProvider = NeighborProvider.withIdRefRelationships(model, shape -> ListUtils.of());
+        Set<ShapeId> affected = findAffectedShapes(model, base, idRefProvider, changed);
+        if (affected.size() > model.getShapeIds().size() * MAX_AFFECTED_RATIO) {
+            return null;
+        }
+
+        return new IncrementalValidation(baseline, model, idRefProvider, affected);
+    }
+
+    private static boolean isSameShape(Shape a, Shape b) {
+        // Events refer to source locations, so they can only be reused if the location is unchanged too.
+        return a == b || (a.equals(b) && a.getSourceLocation().equals(b.getSourceLocation()));
+    }
+
+    // Finds the IDs of every shape, without members, that can reach a changed shape.
+    private static Set<ShapeId> findAffectedShapes(
+            Model model,
+            Model base,
+            NeighborProvider idRefProvider,
+            Set<ShapeId> changed
+    ) {
+        NeighborProvider reverse = NeighborProviderIndex.of(model).getReverseProviderWithTraitRelationships();
+        Map<ShapeId, List<ShapeId>> referencedByIdRef = new HashMap<>();
+        for (Shape shape : model.toSet()) {
+            for (Relationship relationship : idRefProvider.getNeighbors(shape)) {
+                referencedByIdRef.computeIfAbsent(relationship.getNeighborShapeId(), id -> new ArrayList<>())
+                        .add(shape.getId());
+            }
+        }
+
+        Set<ShapeId> visited = new HashSet<>();
+        Deque<ShapeId> queue = new ArrayDeque<>();
+        for (ShapeId id : changed) {
+            enqueue(id, visited, queue);
+        }
+
+        Set<ShapeId> result = new HashSet<>();
+        while (!queue.isEmpty()) {
+            ShapeId id = queue.pop();
+            Optional<Shape> shape = model.getShape(id);
+            if (shape.isPresent()) {
+                result.add(id.withoutMember());
+            } else {
+                // Reverse relationships are found by ID, so removed shapes can be looked up using the base model.
+                shape = base.getShape(id);
+            }
+            if (shape.isPresent()) {
+                for (Relationship relationship : reverse.getNeighbors(shape.get())) {
+                    if (isReference(relationship)) {
+                        enqueue(relationship.getShape().getId(), visited, queue);
+                    }
+                }
+            }
+            for (ShapeId source : referencedByIdRef.getOrDefault(id, ListUtils.of())) {
+                enqueue(source, visited, queue);
+            }
+        }
+
+        return result;
+    }
+
+    private static void enqueue(ShapeId id, Set<ShapeId> visited, Deque<ShapeId> queue) {
+        if (visited.add(id)) {
+            queue.push(id);
+        }
+        // Events for members are grouped with their container, so the container is affected too.
+        ShapeId container = id.withoutMember();
+        if (visited.add(container)) {
+            queue.push(container);
+        }
+    }
+
+    private static Model createAffectedModel(Model model, NeighborProvider idRefProvider, Set<ShapeId> affected) {
+        NeighborProvider provider = NeighborProviderIndex.of(model).getProviderWithTraitRelationships();
+        Model.Builder builder = Model.builder().metadata(model.getMetadata());
+        Set<ShapeId> visited = new HashSet<>();
+        Deque<ShapeId> queue = new ArrayDeque<>(affected);
+
+        // Some shapes, like smithy.api#Unit, are used without being the target of a relationship.
+        for (Shape shape : Prelude.getPreludeModel().toSet()) {
+            if (!shape.isMemberShape()) {
+                queue.push(shape.getId());
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            ShapeId id = queue.pop();
+            if (visited.add(id)) {
+                model.getShape(id).ifPresent(shape -> {
+                    // Members are added along with their containers.
+                    builder.addShape(shape);
+                    for (NeighborProvider neighbors : ListUtils.of(provider, idRefProvider)) {
+                        addNeighbors(neighbors, shape, queue);
+                        for (Shape member : shape.members()) {
+                            addNeighbors(neighbors, member, queue);
+                        }
+                    }
+                });
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static void addNeighbors(NeighborProvider provider, Shape shape, Deque<ShapeId> queue) {
+        for (Relationship relationship : provider.getNeighbors(shape)) {
+            if (isReference(relationship)) {
+                queue.push(relationship.getNeighborShapeId().withoutMember());
+            }
+        }
+    }
+
+    // Local validators don't depend on the operations and resources bound to services and resources, otherwise
+    // changing any operation would affect every shape that can reach a service.
+    private static boolean isReference(Relationship relationship) {
+        RelationshipType type = relationship.getRelationshipType();
+        return type.getDirection() == RelationshipDirection.DIRECTED
+                && type != RelationshipType.RESOURCE
+                && !type.isOperationBinding();
+    }
+
+    /**
+     * Applies a local validator to the model.
+     *
+     * @param validator Validator to apply.
+     * @param key Key of the validator in the baseline.
+     * @return Returns the validation events of the validator.
+     */
+    List<ValidationEvent> validate(Validator validator, String key) {
+        Map<ShapeId, List<ValidationEvent>> previous = baseline.getEvents(key);
+        if (previous == null) {
+            return validator.validate(model);
+        }
+
+        List<ValidationEvent> result = new ArrayList<>();
+        for (Map.Entry<ShapeId, List<ValidationEvent>> entry : previous.entrySet()) {
+            if (!affected.contains(entry.getKey()) && model.getShape(entry.getKey()).isPresent()) {
+                result.addAll(entry.getValue());
+            }
+        }
+
+        for (ValidationEvent event : validator.validate(affectedModel)) {
+            // Shapes that are only in the affected model to be referenced are validated by their previous events.
+            if (event.getShapeId().filter(id -> affected.contains(id.withoutMember())).isPresent()) {
+                result.add(event);
+            }
+        }
+
+        return result;
+    }
+}
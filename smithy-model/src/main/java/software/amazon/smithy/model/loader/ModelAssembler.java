@@ -40,6 +40,7 @@ import software.amazon.smithy.model.validation.ValidationEventDecorator;
 import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.utils.Pair;
+import software.amazon.smithy.utils.Tracer;
 
 /**
  * Assembles and validates a {@link Model} from documents, files, shapes, and
@@ -72,6 +73,17 @@ public final class ModelAssembler {
      */
     public static final String DISABLE_JAR_CACHE = "assembler.disableJarCache";
 
+    /**
+     * Defers parsing large values in JSON AST models until they are accessed.
+     *
+     * <p>When set to true, JSON models are parsed using {@link Node#parseLazily}.
+     * This can make loading models that contain large trait values that are
+     * never fully accessed faster, like document traits that are only used by
+     * code generators. The models are still fully validated for JSON syntax
+     * errors.
+     */
+    public static final String LAZY_JSON_PARSING = "assembler.lazyJsonParsing";
+
     private static final Logger LOGGER = Logger.getLogger(ModelAssembler.class.getName());
 
     private static final Consumer<ValidationEvent> DEFAULT_EVENT_LISTENER = ValidationEvent -> {
@@ -92,6 +104,9 @@ public final class ModelAssembler {
     private boolean disablePrelude;
     private Consumer<ValidationEvent> validationEventListener = DEFAULT_EVENT_LISTENER;
     private StringTable stringTable;
+    private ValidationBaseline validationBaseline;
+    private ValidationBaseline recordValidationBaseline;
+    private Tracer tracer = Tracer.NONE;
 
     // Lazy initialization holder class idiom to hold a default trait factory.
     static final class LazyTraitFactoryHolder {
@@ -119,6 +134,9 @@ public final class ModelAssembler {
         assembler.disableValidation = disableValidation;
         assembler.validationEventListener = validationEventListener;
         assembler.stringTable = stringTable;
+        assembler.validationBaseline = validationBaseline;
+        assembler.recordValidationBaseline = recordValidationBaseline;
+        assembler.tracer = tracer;
         return assembler;
     }
 
@@ -138,6 +156,7 @@ public final class ModelAssembler {
      *     <li>Metadata registered via {@link #putMetadata}</li>
      *     <li>Validation is re-enabled if it was disabled.</li>
      *     <li>Validation event listener via {@link #validationEventListener(Consumer)}</li>
+     *     <li>Validation baselines via {@link #validationBaseline} and {@link #recordValidationBaseline}</li>
      * </ul>
      *
      * <p>The state of {@link #disablePrelude} is reset such that the prelude
@@ -156,6 +175,8 @@ public final class ModelAssembler {
         disablePrelude = false;
         disableValidation = false;
         validationEventListener = DEFAULT_EVENT_LISTENER;
+        validationBaseline = null;
+        recordValidationBaseline = null;
         return this;
     }
 
@@ -486,12 +507,65 @@ public final class ModelAssembler {
         return this;
     }
 
+    /**
+     * Records the validated model and the events emitted by each
+     * {@link software.amazon.smithy.model.validation.LocalValidator} in
+     * the given baseline when the model is assembled.
+     *
+     * <p>Nothing is recorded if validation is disabled or stops early
+     * because of errors.
+     *
+     * @param baseline Baseline to populate.
+     * @return Returns the assembler.
+     * @see #validationBaseline(ValidationBaseline)
+     */
+    public ModelAssembler recordValidationBaseline(ValidationBaseline baseline) {
+        recordValidationBaseline = baseline;
+        return this;
+    }
+
+    /**
+     * Incrementally validates the assembled model using a baseline recorded
+     * for a model it was derived from.
+     *
+     * <p>Local validators are only applied to shapes affected by the
+     * differences between the assembled model and the baseline's model,
+     * and the events they emitted in the baseline are reused for every
+     * other shape. Every other validator is applied to the entire model.
+     * The model is fully validated if the baseline is empty, if the
+     * metadata of the models differs, or if most of the model was changed.
+     *
+     * <p>The baseline must have been recorded by an assembler configured
+     * with the same validators and validator factory as this assembler.
+     *
+     * @param baseline Baseline to validate against.
+     * @return Returns the assembler.
+     * @see #recordValidationBaseline(ValidationBaseline)
+     */
+    public ModelAssembler validationBaseline(ValidationBaseline baseline) {
+        validationBaseline = baseline;
+        return this;
+    }
+
+    /**
+     * Sets the tracer used to record the time spent loading and validating
+     * the model.
+     *
+     * @param tracer Tracer to use.
+     * @return Returns the assembler.
+     */
+    public ModelAssembler tracer(Tracer tracer) {
+        this.tracer = Objects.requireNonNull(tracer);
+        return this;
+    }
+
     /**
      * Assembles the model and returns the validated result.
      *
      * @return Returns the validated result that optionally contains a Model
      *  and validation events.
      */
+    @SuppressWarnings("try")
     public ValidatedResult<Model> assemble() {
         if (traitFactory == null) {
             traitFactory = LazyTraitFactoryHolder.INSTANCE;
@@ -515,6 +589,35 @@ public final class ModelAssembler {
                 decorator);
         List<ValidationEvent> events = processor.events();
 
+        Model transformed;
+        try (Tracer.Span span = tracer.startSpan("model", "load")) {
+            transformed = load(processor, events);
+        }
+
+        if (disableValidation || LoaderUtils.containsErrorEvents(events)) {
+            // All events have been emitted and decorated at this point.
+            return new ValidatedResult<>(transformed, events);
+        }
+
+        try (Tracer.Span span = tracer.startSpan("model", "validate")) {
+            List<ValidationEvent> mergedEvents = ModelValidator.builder()
+                    .addValidators(validators)
+                    .validatorFactory(validatorFactory, decorator)
+                    .eventListener(validationEventListener)
+                    .includeEvents(events)
+                    .legacyValidationMode((boolean) properties.getOrDefault("LEGACY_VALIDATION_MODE", false))
+                    .baseline(validationBaseline)
+                    .recordBaseline(recordValidationBaseline)
+                    .build()
+                    .validate(transformed);
+            return new ValidatedResult<>(transformed, mergedEvents);
+        } catch (SourceException e) {
+            events.add(ValidationEvent.fromSourceException(e));
+            return new ValidatedResult<>(transformed, events);
+        }
+    }
+
+    private Model load(LoadOperationProcessor processor, List<ValidationEvent> events) {
         // Register manually added metadata.
         addMetadataToProcessor(metadata, processor);
 
@@ -559,27 +662,7 @@ public final class ModelAssembler {
         Model processedModel = processor.buildModel();
 
         // Do the 1.0 -> 2.0 transform before full-model validation.
-        Model transformed = new ModelInteropTransformer(processedModel, events, processor::getShapeVersion).transform();
-
-        if (disableValidation || LoaderUtils.containsErrorEvents(events)) {
-            // All events have been emitted and decorated at this point.
-            return new ValidatedResult<>(transformed, events);
-        }
-
-        try {
-            List<ValidationEvent> mergedEvents = ModelValidator.builder()
-                    .addValidators(validators)
-                    .validatorFactory(validatorFactory, decorator)
-                    .eventListener(validationEventListener)
-                    .includeEvents(events)
-                    .legacyValidationMode((boolean) properties.getOrDefault("LEGACY_VALIDATION_MODE", false))
-                    .build()
-                    .validate(transformed);
-            return new ValidatedResult<>(transformed, mergedEvents);
-        } catch (SourceException e) {
-            events.add(ValidationEvent.fromSourceException(e));
-            return new ValidatedResult<>(transformed, events);
-        }
+        return new ModelInteropTransformer(processedModel, events, processor::getShapeVersion).transform();
     }
 
     private void addMetadataToProcessor(Map<String, Node> metadataMap, LoadOperationProcessor processor) {
@@ -4,10 +4,12 @@
  */
 package software.amazon.smithy.model.loader;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -15,6 +17,7 @@ import java.util.function.Supplier;
 import java.util.logging.Logger;
 import software.amazon.smithy.model.SourceException;
 import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.jfr.JfrEvents;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
@@ -57,18 +60,30 @@ final class ModelLoader {
     ) {
         try {
             if (filename.endsWith(".smithy")) {
+                Object event = JfrEvents.beginModelFileParsed();
                 try (InputStream inputStream = contentSupplier.get()) {
-                    String contents = IoUtils.toUtf8String(inputStream);
+                    byte[] bytes = IoUtils.toByteArray(inputStream);
+                    String contents = new String(bytes, StandardCharsets.UTF_8);
                     new IdlModelLoader(filename, contents, stringTable).parse(operationConsumer);
+                    JfrEvents.commitModelFileParsed(event, filename, bytes.length);
                 }
                 return true;
             } else if (filename.endsWith(".jar")) {
                 loadJar(traitFactory, properties, filename, operationConsumer, stringTable);
                 return true;
             } else if (filename.endsWith(".json") || filename.equals(SourceLocation.NONE.getFilename())) {
-                try (InputStream inputStream = contentSupplier.get()) {
+                Object event = JfrEvents.beginModelFileParsed();
+                try (InputStream contents = contentSupplier.get()) {
+                    // Only count the bytes that are read if the event is recorded.
+                    CountingInputStream counter = event != null ? new CountingInputStream(contents) : null;
+                    InputStream inputStream = counter != null ? counter : contents;
                     // Assume it's JSON if there's an N/A filename.
-                    return loadParsedNode(Node.parse(inputStream, filename), operationConsumer);
+                    Node node = isLazyJsonParsingEnabled(properties)
+                            ? Node.parseLazily(inputStream, filename)
+                            : Node.parse(inputStream, filename);
+                    boolean result = loadParsedNode(node, operationConsumer);
+                    JfrEvents.commitModelFileParsed(event, filename, counter != null ? counter.count : 0);
+                    return result;
                 }
             } else {
                 LOGGER.warning(() -> "Ignoring unrecognized Smithy model file: " + filename);
@@ -79,6 +94,11 @@ final class ModelLoader {
         }
     }
 
+    private static boolean isLazyJsonParsingEnabled(Map<String, Object> properties) {
+        Object lazy = properties.get(ModelAssembler.LAZY_JSON_PARSING);
+        return lazy != null && (boolean) lazy;
+    }
+
     // Attempts to load a Smithy AST JSON model. JSON files that do not contain a top-level "smithy" key are skipped
     // and false is returned. The "smithy" version is used to delegate loading to different versions of the Smithy
     // JSON AST format.
@@ -143,6 +163,39 @@ final class ModelLoader {
         }
     }
 
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count += result;
+            return result;
+        }
+    }
+
     private static ModelImportException throwIoJarException(URL model, Throwable e) {
         return new ModelImportException(
                 String.format("Error loading Smithy model from URL `%s`: %s", model, e.getMessage()),
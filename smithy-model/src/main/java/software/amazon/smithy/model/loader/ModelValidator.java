@@ -7,14 +7,19 @@ package software.amazon.smithy.model.loader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.jfr.JfrEvents;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.Severity;
 import software.amazon.smithy.model.validation.ValidatedResult;
 import software.amazon.smithy.model.validation.ValidationEvent;
@@ -72,6 +77,8 @@ final class ModelValidator implements Validator {
     private final ValidationEventDecorator validationEventDecorator;
     private final Consumer<ValidationEvent> eventListener;
     private final boolean legacyValidationMode;
+    private final ValidationBaseline baseline;
+    private final ValidationBaseline recordBaseline;
 
     ModelValidator(Builder builder) {
         this.validatorFactory = builder.validatorFactory;
@@ -81,6 +88,8 @@ final class ModelValidator implements Validator {
         this.validators = builder.validators.copy();
         this.criticalValidators = builder.criticalValidators.copy();
         this.legacyValidationMode = builder.legacyValidationMode;
+        this.baseline = builder.baseline;
+        this.recordBaseline = builder.recordBaseline;
     }
 
     @Override
@@ -105,6 +114,8 @@ final class ModelValidator implements Validator {
         private Consumer<ValidationEvent> eventListener = event -> {};
         private ValidationEventDecorator validationEventDecorator;
         private boolean legacyValidationMode = false;
+        private ValidationBaseline baseline;
+        private ValidationBaseline recordBaseline;
 
         private Builder() {}
 
@@ -190,6 +201,28 @@ final class ModelValidator implements Validator {
             return this;
         }
 
+        /**
+         * Sets a baseline used to incrementally validate a model derived from the baseline's model.
+         *
+         * @param baseline Baseline to use, or null to fully validate the model.
+         * @return Returns the builder.
+         */
+        public Builder baseline(ValidationBaseline baseline) {
+            this.baseline = baseline;
+            return this;
+        }
+
+        /**
+         * Sets a baseline to record the validated model and its events in.
+         *
+         * @param recordBaseline Baseline to populate, or null to not record a baseline.
+         * @return Returns the builder.
+         */
+        public Builder recordBaseline(ValidationBaseline recordBaseline) {
+            this.recordBaseline = recordBaseline;
+            return this;
+        }
+
         @Override
         public ModelValidator build() {
             // Adding built-in validators is deferred to allow for a custom factory to be set on the builder.
@@ -207,6 +240,10 @@ final class ModelValidator implements Validator {
         private final ValidationEventDecorator validationEventDecorator;
         private final Consumer<ValidationEvent> eventListener;
         private final boolean legacyValidationMode;
+        private final Map<Validator, String> localValidatorKeys = new IdentityHashMap<>();
+        private final IncrementalValidation incrementalValidation;
+        private final ValidationBaseline recordBaseline;
+        private final Map<String, List<ValidationEvent>> recordedEvents;
 
         private LoadedModelValidator(Model model, ModelValidator validator) {
             this.model = model;
@@ -240,6 +277,27 @@ final class ModelValidator implements Validator {
 
             // The decorator itself doesn't handle loading and applying validators, just modifying events.
             loadModelValidators(validator.validatorFactory);
+
+            assignLocalValidatorKeys();
+            incrementalValidation = validator.baseline != null
+                    ? IncrementalValidation.create(validator.baseline, model)
+                    : null;
+            recordBaseline = validator.recordBaseline;
+            recordedEvents = recordBaseline != null ? new ConcurrentHashMap<>() : null;
+        }
+
+        // Local validators are identified across models by their class and the order they're applied in.
+        private void assignLocalValidatorKeys() {
+            Map<String, Integer> counts = new HashMap<>();
+            for (List<Validator> list : ListUtils.of(criticalValidators, validators)) {
+                for (Validator validator : list) {
+                    if (validator instanceof LocalValidator) {
+                        String name = validator.getClass().getName();
+                        int count = counts.merge(name, 1, Integer::sum);
+                        localValidatorKeys.put(validator, name + '#' + count);
+                    }
+                }
+            }
         }
 
         private void loadModelValidators(ValidatorFactory validatorFactory) {
@@ -307,17 +365,44 @@ final class ModelValidator implements Validator {
             }
 
             events.addAll(streamEvents(validators.parallelStream()));
+
+            // Baselines are only recorded when every validator was applied.
+            if (recordBaseline != null) {
+                recordBaseline.record(model, recordedEvents);
+            }
+
             return events;
         }
 
         private List<ValidationEvent> streamEvents(Stream<Validator> validators) {
             return validators
-                    .flatMap(validator -> validator.validate(model).stream())
+                    .flatMap(validator -> applyValidator(validator).stream())
                     .filter(this::filterPrelude)
                     .map(this::updateAndEmitEvent)
                     .collect(Collectors.toList());
         }
 
+        private List<ValidationEvent> applyValidator(Validator validator) {
+            Object event = JfrEvents.beginValidatorRun();
+            String key = localValidatorKeys.get(validator);
+            if (key == null) {
+                List<ValidationEvent> result = validator.validate(model);
+                JfrEvents.commitValidatorRun(event, validator, model, result.size(), false);
+                return result;
+            }
+
+            List<ValidationEvent> result = incrementalValidation != null
+                    ? incrementalValidation.validate(validator, key)
+                    : validator.validate(model);
+            JfrEvents.commitValidatorRun(event, validator, model, result.size(), incrementalValidation != null);
+
+            if (recordedEvents != null) {
+                recordedEvents.put(key, result);
+            }
+
+            return result;
+        }
+
         private boolean filterPrelude(ValidationEvent event) {
             // Don't emit any non-error events for prelude shapes and traits.
             // This prevents custom validators from unnecessarily needing to worry about prelude shapes and trait
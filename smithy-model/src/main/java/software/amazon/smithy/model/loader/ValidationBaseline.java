@@ -0,0 +1,100 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.loader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.LocalValidator;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+/**
+ * The validation results of a model that are used to incrementally validate
+ * models derived from it.
+ *
+ * <p>A baseline is populated by assembling a model with
+ * {@link ModelAssembler#recordValidationBaseline(ValidationBaseline)}. Models
+ * derived from the recorded model, like the result of applying transforms
+ * to it, can then be assembled with
+ * {@link ModelAssembler#validationBaseline(ValidationBaseline)} to only apply
+ * {@link LocalValidator}s to the shapes that were affected by the changes.
+ *
+ * <p>A recorded baseline can be used by multiple threads at the same time.
+ */
+public final class ValidationBaseline {
+
+    private volatile Recording recording;
+
+    /**
+     * Checks if a validated model was recorded in the baseline.
+     *
+     * <p>Models aren't recorded if validation stopped early because of
+     * errors emitted by critical validators.
+     *
+     * @return Returns true if the baseline can be used.
+     */
+    public boolean isRecorded() {
+        return recording != null;
+    }
+
+    /**
+     * Gets the recorded model.
+     *
+     * @return Returns the recorded model, or null if nothing was recorded.
+     */
+    Model getModel() {
+        Recording current = recording;
+        return current == null ? null : current.model;
+    }
+
+    /**
+     * Gets the events emitted by a local validator, grouped by the ID of
+     * the shape (without a member) they were emitted for.
+     *
+     * @param key Key of the validator to retrieve.
+     * @return Returns the events, or null if the events of the validator can't be reused.
+     */
+    Map<ShapeId, List<ValidationEvent>> getEvents(String key) {
+        Recording current = recording;
+        return current == null ? null : current.events.get(key);
+    }
+
+    void record(Model model, Map<String, List<ValidationEvent>> eventsByValidator) {
+        Map<String, Map<ShapeId, List<ValidationEvent>>> events = new HashMap<>();
+        for (Map.Entry<String, List<ValidationEvent>> entry : eventsByValidator.entrySet()) {
+            Map<ShapeId, List<ValidationEvent>> byShape = groupByShape(entry.getValue());
+            if (byShape != null) {
+                events.put(entry.getKey(), byShape);
+            }
+        }
+        recording = new Recording(model, Collections.unmodifiableMap(events));
+    }
+
+    private static Map<ShapeId, List<ValidationEvent>> groupByShape(List<ValidationEvent> events) {
+        Map<ShapeId, List<ValidationEvent>> result = new HashMap<>();
+        for (ValidationEvent event : events) {
+            if (!event.getShapeId().isPresent()) {
+                // Events that aren't bound to a shape can't be reused.
+                return null;
+            }
+            result.computeIfAbsent(event.getShapeId().get().withoutMember(), id -> new ArrayList<>()).add(event);
+        }
+        return result;
+    }
+
+    private static final class Recording {
+        private final Model model;
+        private final Map<String, Map<ShapeId, List<ValidationEvent>>> events;
+
+        private Recording(Model model, Map<String, Map<ShapeId, List<ValidationEvent>>> events) {
+            this.model = model;
+            this.events = events;
+        }
+    }
+}
@@ -20,6 +20,7 @@ import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.utils.BuilderRef;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.SmithyInternalApi;
 import software.amazon.smithy.utils.ToSmithyBuilder;
 
 /**
@@ -39,7 +40,10 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
     private static final Pattern CAST_PATTERN_TYPE = Pattern.compile(
             "^.* to(?: class)? software\\.amazon\\.smithy\\.model\\.node\\.([A-Za-z]+).*$");
 
-    private final List<Node> elements;
+    // Either a List of nodes or, for nodes created by lazy parsing, the DeferredContents that parse it.
+    private final Object contents;
+    /** The cached deep hash code of the node, or 0 if not computed. */
+    private int hash;
 
     public ArrayNode(List<Node> elements, SourceLocation sourceLocation) {
         this(elements, sourceLocation, true);
@@ -47,14 +51,36 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
 
     ArrayNode(List<Node> elements, SourceLocation sourceLocation, boolean defensiveCopy) {
         super(sourceLocation);
-        this.elements = defensiveCopy
+        this.contents = defensiveCopy
                 ? ListUtils.copyOf(elements)
                 : Collections.unmodifiableList(elements);
     }
 
     private ArrayNode(Builder builder) {
         super(builder.sourceLocation);
-        this.elements = builder.values.copy();
+        this.contents = builder.values.copy();
+    }
+
+    private ArrayNode(SourceLocation sourceLocation, DeferredContents<List<Node>> contents) {
+        super(sourceLocation);
+        this.contents = contents;
+    }
+
+    /**
+     * Creates an array node whose elements are parsed when they are first
+     * accessed.
+     *
+     * <p>The node behaves exactly like an array node that contains the
+     * elements of the node returned by {@code parser}, which is invoked at
+     * most once.
+     *
+     * @param sourceLocation Source location of the node.
+     * @param parser Parses the elements of the node.
+     * @return Returns the created node.
+     */
+    @SmithyInternalApi
+    public static ArrayNode deferred(SourceLocation sourceLocation, Supplier<ArrayNode> parser) {
+        return new ArrayNode(sourceLocation, new DeferredContents<>(() -> parser.get().elements()));
     }
 
     public static Builder builder() {
@@ -102,7 +128,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns a list of nodes.
      */
     public List<Node> getElements() {
-        return elements;
+        return elements();
     }
 
     /**
@@ -112,6 +138,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns an optional node at the given index.
      */
     public Optional<Node> get(int index) {
+        List<Node> elements = elements();
         return elements.size() > index && index > -1
                 ? Optional.of(elements.get(index))
                 : Optional.empty();
@@ -123,7 +150,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns true if the array node is empty.
      */
     public boolean isEmpty() {
-        return elements.isEmpty();
+        return elements().isEmpty();
     }
 
     /**
@@ -132,7 +159,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns the number of elements in the array node.
      */
     public int size() {
-        return elements.size();
+        return elements().size();
     }
 
     /**
@@ -143,7 +170,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns a new array node.
      */
     public ArrayNode withValue(Node node) {
-        ArrayList<Node> newElements = new ArrayList<>(elements);
+        ArrayList<Node> newElements = new ArrayList<>(elements());
         newElements.add(Objects.requireNonNull(node));
         return new ArrayNode(newElements, getSourceLocation(), false);
     }
@@ -182,6 +209,7 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      */
     @SuppressWarnings("unchecked")
     public <T, K extends Node> List<T> getElementsAs(Function<K, T> f) {
+        List<Node> elements = elements();
         List<T> result = new ArrayList<>(elements.size());
         for (int i = 0; i < elements.size(); i++) {
             try {
@@ -225,8 +253,8 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
      * @return Returns a new merged array node.
      */
     public ArrayNode merge(ArrayNode other) {
-        List<Node> result = new ArrayList<>(elements);
-        result.addAll(other.elements);
+        List<Node> result = new ArrayList<>(elements());
+        result.addAll(other.elements());
         return new ArrayNode(
                 result,
                 getSourceLocation() != SourceLocation.NONE ? getSourceLocation() : other.getSourceLocation(),
@@ -259,12 +287,38 @@ public final class ArrayNode extends Node implements Iterable<Node>, ToSmithyBui
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof ArrayNode && elements.equals(((ArrayNode) other).elements);
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ArrayNode)) {
+            return false;
+        }
+
+        // The deep hash codes are cached, so mismatched nodes can usually be rejected without walking them.
+        ArrayNode otherNode = (ArrayNode) other;
+        return elements().size() == otherNode.elements().size()
+                && hashCode() == otherNode.hashCode()
+                && elements().equals(otherNode.elements());
     }
 
     @Override
     public int hashCode() {
-        return getType().hashCode() * 7 + elements.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = getType().hashCode() * 7 + elements().hashCode();
+            hash = h;
+        }
+        return h;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Node> elements() {
+        Object result = contents;
+        return result instanceof List ? (List<Node>) result : parseDeferred(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Node> parseDeferred(Object contents) {
+        return ((DeferredContents<List<Node>>) contents).get();
     }
 
     /**
@@ -0,0 +1,595 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import static software.amazon.smithy.model.node.CborNodeWriter.FALSE;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_ARRAY;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_BYTES;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_MAP;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_NEGATIVE;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_TAG;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_TEXT;
+import static software.amazon.smithy.model.node.CborNodeWriter.MAJOR_UNSIGNED;
+import static software.amazon.smithy.model.node.CborNodeWriter.NULL;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_DECIMAL_FRACTION;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_NEGATIVE_BIGNUM;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_POSITIVE_BIGNUM;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_SOURCE_LOCATIONS;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_STRINGREF;
+import static software.amazon.smithy.model.node.CborNodeWriter.TAG_STRINGREF_NAMESPACE;
+import static software.amazon.smithy.model.node.CborNodeWriter.TRUE;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.loader.ModelSyntaxException;
+
+/**
+ * Reads {@link Node} values from CBOR data items, like the ones written by
+ * {@link CborNodeWriter}.
+ *
+ * <p>Any well-formed CBOR data item that maps to a node can be read,
+ * including items that use indefinite lengths, half-precision floats,
+ * stringrefs, and the self-described CBOR tag (55799). Byte strings (other
+ * than bignums), map keys that are not text strings, and other tags can not
+ * be represented as nodes and are rejected.
+ *
+ * <p>Integers are read as {@code Long} values when they fit in 64 bits,
+ * and as {@link BigInteger} values otherwise. Single-precision floats are
+ * read as {@code Float} values, double-precision floats as {@code Double}
+ * values, and decimal fractions as {@link BigDecimal} values, so a node
+ * written by {@link CborNodeWriter} is read back as an equal node.
+ *
+ * <p>Invalid data is reported by throwing a {@link ModelSyntaxException},
+ * and I/O errors are thrown as {@link UncheckedIOException}.
+ */
+public final class CborNodeReader {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int BREAK = 0xff;
+    private static final long TAG_SELF_DESCRIBED = 55799;
+    private static final int INDEFINITE = 31;
+    private static final int MAX_NESTING_LEVEL = 1000;
+    // Arrays sized by lengths read from the input start no larger than this, and grow as elements are read.
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private final InputStream in;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+    private int nestingLevel;
+    // Number of bytes that were discarded from the start of the buffer, used to report offsets.
+    private long discarded;
+
+    // The stringref table of the innermost namespace, or null outside of a namespace.
+    private List<Object> stringRefs;
+
+    // Filenames and (filename index, line, column) triples read from a source location table.
+    private String[] filenames;
+    private int[] locations;
+    private int nextLocation;
+    // The last source location that was read, used to report errors.
+    private SourceLocation lastLocation = SourceLocation.none();
+
+    /**
+     * Creates a reader that reads data items from a stream.
+     *
+     * <p>The stream is read in chunks, so bytes after the last data item
+     * that is read might be consumed from the stream.
+     *
+     * @param in Stream to read from.
+     */
+    public CborNodeReader(InputStream in) {
+        this.in = in;
+        this.buffer = new byte[BUFFER_SIZE];
+    }
+
+    /**
+     * Creates a reader that reads data items from a byte array.
+     *
+     * <p>The given bytes are not copied and must not be modified while
+     * they are read.
+     *
+     * @param bytes Bytes to read from.
+     */
+    public CborNodeReader(byte[] bytes) {
+        this(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Creates a reader that reads data items from a range of a byte array.
+     *
+     * @param bytes Bytes to read from.
+     * @param offset Position of the first byte to read.
+     * @param length Number of bytes to read.
+     */
+    public CborNodeReader(byte[] bytes, int offset, int length) {
+        this.in = null;
+        this.buffer = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+        this.discarded = -offset;
+    }
+
+    /**
+     * Decodes a node from bytes that contain exactly one CBOR data item.
+     *
+     * @param bytes Bytes to decode.
+     * @return Returns the decoded node.
+     * @throws ModelSyntaxException if the bytes are not a single valid data item.
+     */
+    public static Node parse(byte[] bytes) {
+        CborNodeReader reader = new CborNodeReader(bytes);
+        Node result = reader.read().orElseThrow(() -> reader.error("Unexpected end of input"));
+        if (reader.position != reader.limit) {
+            throw reader.error("Unexpected data after the end of the data item");
+        }
+        return result;
+    }
+
+    /**
+     * Reads the next data item.
+     *
+     * @return Returns the node read from the data item, or an empty Optional at the end of the input.
+     * @throws ModelSyntaxException if the data item is invalid.
+     */
+    public Optional<Node> read() {
+        if (position == limit && !fill(1, false)) {
+            return Optional.empty();
+        }
+        stringRefs = null;
+        filenames = null;
+        locations = null;
+        lastLocation = SourceLocation.none();
+        nestingLevel = 0;
+        return Optional.of(readNode());
+    }
+
+    private Node readNode() {
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        Node result = readNodeValue();
+        nestingLevel--;
+        return result;
+    }
+
+    private Node readNodeValue() {
+        int initial = readByte();
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+
+        if (major == MAJOR_TAG) {
+            long tag = readArgument(info);
+            if (tag == TAG_STRINGREF_NAMESPACE) {
+                List<Object> enclosing = stringRefs;
+                stringRefs = new ArrayList<>();
+                Node result = readNode();
+                stringRefs = enclosing;
+                return result;
+            } else if (tag == TAG_SELF_DESCRIBED) {
+                return readNode();
+            } else if (tag == TAG_SOURCE_LOCATIONS) {
+                return readWithSourceLocations();
+            } else {
+                return readTaggedValue(tag, nextLocation());
+            }
+        }
+
+        SourceLocation location = nextLocation();
+        switch (major) {
+            case MAJOR_UNSIGNED:
+                return new NumberNode(toNumber(readArgument(info), false), location);
+            case MAJOR_NEGATIVE:
+                return new NumberNode(toNumber(readArgument(info), true), location);
+            case MAJOR_BYTES:
+                throw error("Byte strings are not supported");
+            case MAJOR_TEXT:
+                return new StringNode(readText(info), location);
+            case MAJOR_ARRAY:
+                return readArray(info, location);
+            case MAJOR_MAP:
+                return readMap(info, location);
+            default:
+                return readSimpleValue(initial, location);
+        }
+    }
+
+    private Node readTaggedValue(long tag, SourceLocation location) {
+        if (tag == TAG_STRINGREF) {
+            Object value = readStringRef();
+            if (!(value instanceof String)) {
+                throw error("Byte strings are not supported");
+            }
+            return new StringNode((String) value, location);
+        } else if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+            BigInteger value = readBignum(tag);
+            return new NumberNode(value.bitLength() < Long.SIZE ? (Number) value.longValue() : value, location);
+        } else if (tag == TAG_DECIMAL_FRACTION) {
+            return new NumberNode(readDecimalFraction(), location);
+        } else {
+            throw error("Unsupported tag " + Long.toUnsignedString(tag));
+        }
+    }
+
+    private Node readWithSourceLocations() {
+        int initial = readByte();
+        if (initial != ((MAJOR_ARRAY << 5) | 3)) {
+            throw error("Expected an array of filenames, locations, and a value");
+        }
+
+        int fileCount = readLength(expectMajor(MAJOR_ARRAY));
+        List<String> fileList = new ArrayList<>(Math.min(fileCount, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < fileCount; i++) {
+            fileList.add(readKey());
+        }
+        String[] files = fileList.toArray(new String[0]);
+
+        int valueCount = readLength(expectMajor(MAJOR_ARRAY));
+        int[] values = new int[Math.min(valueCount, MAX_INITIAL_CAPACITY)];
+        for (int i = 0; i < valueCount; i++) {
+            long value = readArgument(expectMajor(MAJOR_UNSIGNED));
+            if (value > Integer.MAX_VALUE) {
+                throw error("Invalid source location value " + value);
+            }
+            if (i == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(valueCount, values.length * 2L));
+            }
+            values[i] = (int) value;
+        }
+
+        String[] enclosingFilenames = filenames;
+        int[] enclosingLocations = locations;
+        int enclosingNextLocation = nextLocation;
+        filenames = files;
+        locations = values;
+        nextLocation = 0;
+        Node result = readNode();
+        filenames = enclosingFilenames;
+        locations = enclosingLocations;
+        nextLocation = enclosingNextLocation;
+        return result;
+    }
+
+    private SourceLocation nextLocation() {
+        if (locations == null) {
+            return SourceLocation.none();
+        } else if (nextLocation + 3 > locations.length) {
+            throw error("Missing source location");
+        }
+
+        int file = locations[nextLocation++];
+        int line = locations[nextLocation++];
+        int column = locations[nextLocation++];
+        if (file >= filenames.length) {
+            throw error("Invalid source location filename index " + file);
+        }
+        lastLocation = new SourceLocation(filenames[file], line, column);
+        return lastLocation;
+    }
+
+    private Node readArray(int info, SourceLocation location) {
+        List<Node> elements;
+        if (info == INDEFINITE) {
+            elements = new ArrayList<>();
+            while (peekByte() != BREAK) {
+                elements.add(readNode());
+            }
+            position++;
+        } else {
+            int length = readLength(info);
+            // Avoid trusting the length when allocating, since it might be invalid.
+            elements = new ArrayList<>(Math.min(length, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < length; i++) {
+                elements.add(readNode());
+            }
+        }
+        return new ArrayNode(elements, location, false);
+    }
+
+    private Node readMap(int info, SourceLocation location) {
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        if (info == INDEFINITE) {
+            while (peekByte() != BREAK) {
+                readMember(members);
+            }
+            position++;
+        } else {
+            int length = readLength(info);
+            for (int i = 0; i < length; i++) {
+                readMember(members);
+            }
+        }
+        return new ObjectNode(members, location, false);
+    }
+
+    private void readMember(Map<StringNode, Node> members) {
+        SourceLocation location = nextLocation();
+        StringNode key = new StringNode(readKey(), location);
+        if (members.containsKey(key)) {
+            throw error("Duplicate map key `" + key.getValue() + "`");
+        }
+        members.put(key, readNode());
+    }
+
+    // Reads a text string or a reference to one.
+    private String readKey() {
+        int initial = readByte();
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+        if (major == MAJOR_TEXT) {
+            return readText(info);
+        } else if (major == MAJOR_TAG && readArgument(info) == TAG_STRINGREF) {
+            Object value = readStringRef();
+            if (value instanceof String) {
+                return (String) value;
+            }
+        }
+        throw error("Expected a text string");
+    }
+
+    private Object readStringRef() {
+        long index = readArgument(expectMajor(MAJOR_UNSIGNED));
+        if (stringRefs == null) {
+            throw error("String reference found outside of a stringref namespace");
+        } else if (index < 0 || index >= stringRefs.size()) {
+            throw error("Invalid string reference " + Long.toUnsignedString(index));
+        }
+        return stringRefs.get((int) index);
+    }
+
+    private String readText(int info) {
+        if (info == INDEFINITE) {
+            // Chunks of indefinite length strings are not added to the stringref table.
+            ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+            while (peekByte() != BREAK) {
+                int length = readLength(expectMajor(MAJOR_TEXT));
+                require(length);
+                chunks.write(buffer, position, length);
+                position += length;
+            }
+            position++;
+            return new String(chunks.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+        int length = readLength(info);
+        require(length);
+        String result = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        if (stringRefs != null && CborNodeWriter.isStringRefCandidate(length, stringRefs.size())) {
+            stringRefs.add(result);
+        }
+        return result;
+    }
+
+    private byte[] readByteString() {
+        int initial = readByte();
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+        if (major == MAJOR_TAG && readArgument(info) == TAG_STRINGREF) {
+            Object value = readStringRef();
+            if (value instanceof byte[]) {
+                return (byte[]) value;
+            }
+        } else if (major == MAJOR_BYTES) {
+            if (info == INDEFINITE) {
+                ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+                while (peekByte() != BREAK) {
+                    int length = readLength(expectMajor(MAJOR_BYTES));
+                    require(length);
+                    chunks.write(buffer, position, length);
+                    position += length;
+                }
+                position++;
+                return chunks.toByteArray();
+            }
+            int length = readLength(info);
+            require(length);
+            byte[] result = new byte[length];
+            System.arraycopy(buffer, position, result, 0, length);
+            position += length;
+            if (stringRefs != null && CborNodeWriter.isStringRefCandidate(length, stringRefs.size())) {
+                stringRefs.add(result);
+            }
+            return result;
+        }
+        throw error("Expected a byte string");
+    }
+
+    private BigInteger readBignum(long tag) {
+        BigInteger value = new BigInteger(1, readByteString());
+        return tag == TAG_NEGATIVE_BIGNUM ? value.not() : value;
+    }
+
+    private BigDecimal readDecimalFraction() {
+        if (readByte() != ((MAJOR_ARRAY << 5) | 2)) {
+            throw error("Expected an array of an exponent and a mantissa");
+        }
+        BigInteger exponent = readInteger();
+        BigInteger mantissa = readInteger();
+        // The exponent is negated, so Integer.MIN_VALUE is out of range too.
+        if (exponent.bitLength() >= Integer.SIZE || exponent.intValue() == Integer.MIN_VALUE) {
+            throw error("Decimal fraction exponent is out of range");
+        }
+        return new BigDecimal(mantissa, -exponent.intValue());
+    }
+
+    private BigInteger readInteger() {
+        int initial = readByte();
+        int major = initial >>> 5;
+        int info = initial & 0x1f;
+        if (major == MAJOR_UNSIGNED || major == MAJOR_NEGATIVE) {
+            long value = readArgument(info);
+            BigInteger result = value >= 0 ? BigInteger.valueOf(value) : unsigned(value);
+            return major == MAJOR_NEGATIVE ? result.not() : result;
+        } else if (major == MAJOR_TAG) {
+            long tag = readArgument(info);
+            if (tag == TAG_POSITIVE_BIGNUM || tag == TAG_NEGATIVE_BIGNUM) {
+                return readBignum(tag);
+            }
+        }
+        throw error("Expected an integer");
+    }
+
+    // Converts the argument of an integer to a Long, or to a BigInteger when it doesn't fit in a long.
+    private static Number toNumber(long argument, boolean negative) {
+        if (argument >= 0) {
+            return negative ? ~argument : argument;
+        }
+        BigInteger value = unsigned(argument);
+        return negative ? value.not() : value;
+    }
+
+    private static BigInteger unsigned(long value) {
+        return BigInteger.valueOf(value).and(BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE));
+    }
+
+    private Node readSimpleValue(int initial, SourceLocation location) {
+        switch (initial) {
+            case FALSE:
+                return new BooleanNode(false, location);
+            case TRUE:
+                return new BooleanNode(true, location);
+            case NULL:
+            case 0xf7: // undefined
+                return new NullNode(location);
+            case 0xf9:
+                return new NumberNode(halfToFloat((int) readBits(2)), location);
+            case 0xfa:
+                return new NumberNode(Float.intBitsToFloat((int) readBits(4)), location);
+            case 0xfb:
+                return new NumberNode(Double.longBitsToDouble(readBits(8)), location);
+            default:
+                throw error("Unsupported simple value " + initial);
+        }
+    }
+
+    private static float halfToFloat(int bits) {
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1f;
+        int mantissa = bits & 0x3ff;
+        if (exponent == 0) {
+            float value = mantissa * 0x1p-24f;
+            return sign == 0 ? value : -value;
+        } else if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        } else {
+            return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+        }
+    }
+
+    private int expectMajor(int major) {
+        int initial = readByte();
+        if (initial >>> 5 != major) {
+            throw error("Expected major type " + major + " but found " + (initial >>> 5));
+        }
+        return initial & 0x1f;
+    }
+
+    private int readLength(int info) {
+        long length = readArgument(info);
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            throw error("Length is too large: " + Long.toUnsignedString(length));
+        }
+        return (int) length;
+    }
+
+    // Reads the argument of a data item head. 64-bit arguments are returned as unsigned longs.
+    private long readArgument(int info) {
+        if (info < 24) {
+            return info;
+        }
+        switch (info) {
+            case 24:
+                return readBits(1);
+            case 25:
+                return readBits(2);
+            case 26:
+                return readBits(4);
+            case 27:
+                return readBits(8);
+            default:
+                throw error("Invalid additional information " + info);
+        }
+    }
+
+    private long readBits(int bytes) {
+        require(bytes);
+        long result = 0;
+        for (int i = 0; i < bytes; i++) {
+            result = (result << 8) | (buffer[position++] & 0xff);
+        }
+        return result;
+    }
+
+    private int readByte() {
+        require(1);
+        return buffer[position++] & 0xff;
+    }
+
+    private int peekByte() {
+        require(1);
+        return buffer[position] & 0xff;
+    }
+
+    private void require(int length) {
+        if (limit - position < length) {
+            fill(length, true);
+        }
+    }
+
+    // Reads from the stream until at least length bytes are available.
+    private boolean fill(int length, boolean required) {
+        if (in == null) {
+            if (required) {
+                throw error("Unexpected end of input");
+            }
+            return false;
+        }
+
+        int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        discarded += position;
+        position = 0;
+        limit = remaining;
+
+        try {
+            while (limit < length) {
+                // The buffer only grows as bytes arrive, so an invalid length fails at the end of the input
+                // instead of allocating memory for the whole length.
+                if (limit == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, (int) Math.min(length, buffer.length * 2L));
+                }
+                int read = in.read(buffer, limit, buffer.length - limit);
+                if (read < 0) {
+                    if (required || limit > 0) {
+                        throw error("Unexpected end of input");
+                    }
+                    return false;
+                }
+                limit += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    private ModelSyntaxException error(String message) {
+        return new ModelSyntaxException("Error decoding CBOR at byte " + (discarded + position) + ": " + message,
+                lastLocation);
+    }
+}
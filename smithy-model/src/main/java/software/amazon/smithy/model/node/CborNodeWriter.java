@@ -0,0 +1,438 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.SourceLocation;
+
+/**
+ * Writes {@link Node} values using the Concise Binary Object Representation
+ * (CBOR) defined in RFC 8949.
+ *
+ * <p>Each call to {@link #write} writes a single, self-contained CBOR data
+ * item that can be read using {@link CborNodeReader}. Values are mapped to
+ * CBOR as follows:
+ *
+ * <ul>
+ *     <li>Objects are written as maps with text string keys.</li>
+ *     <li>Arrays are written as arrays.</li>
+ *     <li>Strings are written as text strings.</li>
+ *     <li>Booleans and nulls are written as simple values.</li>
+ *     <li>Integers are written as integers, or as bignums (tags 2 and 3)
+ *     when they do not fit in 64 bits.</li>
+ *     <li>{@code float} and {@code double} values are written as single
+ *     and double precision floats.</li>
+ *     <li>{@link BigDecimal} values are written as decimal fractions
+ *     (tag 4).</li>
+ * </ul>
+ *
+ * <p>Models repeat the same member names, shape IDs, and trait names many
+ * times, so each item is written in a stringref namespace (tag 256), and
+ * strings that were already written are replaced with a reference to the
+ * first occurrence (tag 25). See
+ * <a href="http://cbor.schmorp.de/stringref">http://cbor.schmorp.de/stringref</a>.
+ *
+ * <p>Source locations are discarded unless the writer is created with
+ * {@code includeSourceLocations} set to true, in which case the source
+ * location of every node, including object keys, is written in a table
+ * that precedes the value.
+ *
+ * <p>I/O errors are thrown as {@link UncheckedIOException}.
+ */
+public final class CborNodeWriter implements Flushable, Closeable {
+
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_BYTES = 2;
+    static final int MAJOR_TEXT = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int FALSE = 0xf4;
+    static final int TRUE = 0xf5;
+    static final int NULL = 0xf6;
+    static final int FLOAT32 = 0xfa;
+    static final int FLOAT64 = 0xfb;
+
+    static final long TAG_POSITIVE_BIGNUM = 2;
+    static final long TAG_NEGATIVE_BIGNUM = 3;
+    static final long TAG_DECIMAL_FRACTION = 4;
+    static final long TAG_STRINGREF = 25;
+    static final long TAG_STRINGREF_NAMESPACE = 256;
+
+    // Unregistered tag that wraps [filenames, locations, value]. Locations are a flat array of
+    // (filename index, line, column) triples for every node in pre-order, with keys before their values.
+    static final long TAG_SOURCE_LOCATIONS = 0x534D49;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final boolean includeSourceLocations;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    // Strings that can be referenced, and the number of strings in the stringref table.
+    private final Map<String, Integer> stringRefs = new HashMap<>();
+    private int stringRefCount;
+
+    /**
+     * Creates a writer that discards source locations.
+     *
+     * @param out Stream to write to.
+     */
+    public CborNodeWriter(OutputStream out) {
+        this(out, false);
+    }
+
+    /**
+     * Creates a writer.
+     *
+     * @param out Stream to write to.
+     * @param includeSourceLocations Set to true to write the source location of each node.
+     */
+    public CborNodeWriter(OutputStream out, boolean includeSourceLocations) {
+        this.out = out;
+        this.includeSourceLocations = includeSourceLocations;
+    }
+
+    /**
+     * Encodes a node as CBOR, discarding source locations.
+     *
+     * @param node Node to encode.
+     * @return Returns the encoded bytes.
+     */
+    public static byte[] toBytes(Node node) {
+        return toBytes(node, false);
+    }
+
+    /**
+     * Encodes a node as CBOR.
+     *
+     * @param node Node to encode.
+     * @param includeSourceLocations Set to true to write the source location of each node.
+     * @return Returns the encoded bytes.
+     */
+    public static byte[] toBytes(Node node, boolean includeSourceLocations) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (CborNodeWriter writer = new CborNodeWriter(bytes, includeSourceLocations)) {
+            writer.write(node);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes a node as a single CBOR data item.
+     *
+     * <p>The written bytes are buffered until the writer is flushed or
+     * closed.
+     *
+     * @param node Node to write.
+     */
+    public void write(Node node) {
+        stringRefs.clear();
+        stringRefCount = 0;
+        writeHead(MAJOR_TAG, TAG_STRINGREF_NAMESPACE);
+
+        if (includeSourceLocations) {
+            LocationTable table = new LocationTable();
+            table.add(node);
+            writeHead(MAJOR_TAG, TAG_SOURCE_LOCATIONS);
+            writeHead(MAJOR_ARRAY, 3);
+            writeHead(MAJOR_ARRAY, table.filenames.size());
+            for (String filename : table.filenames.keySet()) {
+                writeString(filename);
+            }
+            writeHead(MAJOR_ARRAY, table.size);
+            for (int i = 0; i < table.size; i++) {
+                writeHead(MAJOR_UNSIGNED, table.values[i]);
+            }
+        }
+
+        writeNode(node);
+    }
+
+    @Override
+    public void flush() {
+        try {
+            flushBuffer();
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            flushBuffer();
+            out.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNode(Node node) {
+        switch (node.getType()) {
+            case OBJECT:
+                Map<StringNode, Node> members = node.expectObjectNode().getMembers();
+                writeHead(MAJOR_MAP, members.size());
+                for (Map.Entry<StringNode, Node> entry : members.entrySet()) {
+                    writeString(entry.getKey().getValue());
+                    writeNode(entry.getValue());
+                }
+                break;
+            case ARRAY:
+                List<Node> elements = node.expectArrayNode().getElements();
+                writeHead(MAJOR_ARRAY, elements.size());
+                for (Node element : elements) {
+                    writeNode(element);
+                }
+                break;
+            case STRING:
+                writeString(node.expectStringNode().getValue());
+                break;
+            case NUMBER:
+                writeNumber(node.expectNumberNode().getValue());
+                break;
+            case BOOLEAN:
+                writeByte(node.expectBooleanNode().getValue() ? TRUE : FALSE);
+                break;
+            default:
+                writeByte(NULL);
+                break;
+        }
+    }
+
+    private void writeNumber(Number value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            writeInteger(value.longValue());
+        } else if (value instanceof Double) {
+            ensureCapacity(9);
+            buffer[position++] = (byte) FLOAT64;
+            writeLongBits(Double.doubleToRawLongBits(value.doubleValue()));
+        } else if (value instanceof Float) {
+            ensureCapacity(5);
+            buffer[position++] = (byte) FLOAT32;
+            writeIntBits(Float.floatToRawIntBits(value.floatValue()));
+        } else if (value instanceof BigInteger) {
+            writeBigInteger((BigInteger) value);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            writeHead(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+            writeHead(MAJOR_ARRAY, 2);
+            writeInteger(-(long) decimal.scale());
+            writeBigInteger(decimal.unscaledValue());
+        } else {
+            // NumberNode treats other kinds of numbers as the decimal value of their string representation.
+            writeNumber(new BigDecimal(value.toString()));
+        }
+    }
+
+    private void writeInteger(long value) {
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, ~value);
+        }
+    }
+
+    private void writeBigInteger(BigInteger value) {
+        if (value.bitLength() < Long.SIZE) {
+            writeInteger(value.longValue());
+            return;
+        }
+
+        // Negative bignums encode -1 - n, which is the bitwise complement of n.
+        boolean negative = value.signum() < 0;
+        byte[] magnitude = (negative ? value.not() : value).toByteArray();
+        int offset = magnitude[0] == 0 ? 1 : 0;
+        int length = magnitude.length - offset;
+        writeHead(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeHead(MAJOR_BYTES, length);
+        writeBytes(magnitude, offset, length);
+        // Byte strings share the stringref table with text strings.
+        if (isStringRefCandidate(length, stringRefCount)) {
+            stringRefCount++;
+        }
+    }
+
+    private void writeString(String value) {
+        Integer ref = stringRefs.get(value);
+        if (ref != null) {
+            writeHead(MAJOR_TAG, TAG_STRINGREF);
+            writeHead(MAJOR_UNSIGNED, ref);
+            return;
+        }
+
+        int length = value.length();
+        if (length <= BUFFER_SIZE && isAscii(value)) {
+            writeHead(MAJOR_TEXT, length);
+            ensureCapacity(length);
+            for (int i = 0; i < length; i++) {
+                buffer[position++] = (byte) value.charAt(i);
+            }
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            length = bytes.length;
+            writeHead(MAJOR_TEXT, length);
+            writeBytes(bytes, 0, length);
+        }
+
+        if (isStringRefCandidate(length, stringRefCount)) {
+            stringRefs.put(value, stringRefCount++);
+        }
+    }
+
+    private static boolean isAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if a string is added to the stringref table.
+     *
+     * <p>Strings are only added when a reference to them would be shorter
+     * than the string itself.
+     *
+     * @param length Length of the string in bytes.
+     * @param tableSize Current number of strings in the table.
+     * @return Returns true if the string is added to the table.
+     */
+    static boolean isStringRefCandidate(int length, int tableSize) {
+        if (tableSize < 24) {
+            return length >= 3;
+        } else if (tableSize < 256) {
+            return length >= 4;
+        } else if (tableSize < 65536) {
+            return length >= 5;
+        } else {
+            return length >= 7;
+        }
+    }
+
+    private void writeHead(int major, long argument) {
+        ensureCapacity(9);
+        int type = major << 5;
+        if (argument < 24) {
+            buffer[position++] = (byte) (type | (int) argument);
+        } else if (argument <= 0xff) {
+            buffer[position++] = (byte) (type | 24);
+            buffer[position++] = (byte) argument;
+        } else if (argument <= 0xffff) {
+            buffer[position++] = (byte) (type | 25);
+            buffer[position++] = (byte) (argument >>> 8);
+            buffer[position++] = (byte) argument;
+        } else if (argument <= 0xffffffffL) {
+            buffer[position++] = (byte) (type | 26);
+            writeIntBits((int) argument);
+        } else {
+            buffer[position++] = (byte) (type | 27);
+            writeLongBits(argument);
+        }
+    }
+
+    private void writeIntBits(int value) {
+        buffer[position++] = (byte) (value >>> 24);
+        buffer[position++] = (byte) (value >>> 16);
+        buffer[position++] = (byte) (value >>> 8);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeLongBits(long value) {
+        writeIntBits((int) (value >>> 32));
+        writeIntBits((int) value);
+    }
+
+    private void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    private void writeBytes(byte[] bytes, int offset, int length) {
+        if (length > BUFFER_SIZE) {
+            try {
+                flushBuffer();
+                out.write(bytes, offset, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            ensureCapacity(length);
+            System.arraycopy(bytes, offset, buffer, position, length);
+            position += length;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (BUFFER_SIZE - position < length) {
+            try {
+                flushBuffer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    // Collects the source locations of a node and its descendants in the order they are written.
+    private static final class LocationTable {
+        private final Map<String, Integer> filenames = new LinkedHashMap<>();
+        private int[] values = new int[48];
+        private int size;
+
+        void add(Node node) {
+            addLocation(node.getSourceLocation());
+            if (node.isObjectNode()) {
+                for (Map.Entry<StringNode, Node> entry : node.expectObjectNode().getMembers().entrySet()) {
+                    addLocation(entry.getKey().getSourceLocation());
+                    add(entry.getValue());
+                }
+            } else if (node.isArrayNode()) {
+                for (Node element : node.expectArrayNode().getElements()) {
+                    add(element);
+                }
+            }
+        }
+
+        private void addLocation(SourceLocation location) {
+            if (size + 3 > values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            Integer file = filenames.get(location.getFilename());
+            if (file == null) {
+                file = filenames.size();
+                filenames.put(location.getFilename(), file);
+            }
+            values[size++] = file;
+            values[size++] = Math.max(0, location.getLine());
+            values[size++] = Math.max(0, location.getColumn());
+        }
+    }
+}
@@ -0,0 +1,479 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable, insertion-ordered map of {@link ObjectNode} members.
+ *
+ * <p>Keys and values are stored in parallel arrays. Most objects found in
+ * models only have a handful of members, so small maps are searched with a
+ * linear scan. Maps with more than {@link #LINEAR_SCAN_THRESHOLD} members
+ * also build an open-addressing hash index of positions into the arrays.
+ *
+ * <p>Members can be looked up using either a {@link StringNode} or a
+ * {@code String}, which removes the need to maintain a second map keyed
+ * by {@code String}.
+ *
+ * <p>Maps created by adding members with {@link #with} share their arrays
+ * with the map they were created from. Each map only sees the first
+ * {@code size} members of the arrays, so a member can be appended in place
+ * as long as no other map has already appended to the same arrays. This
+ * makes chains of single member updates amortized O(1) instead of copying
+ * every member for each update.
+ */
+final class CompactNodeMap extends AbstractMap<StringNode, Node> {
+
+    static final CompactNodeMap EMPTY = new CompactNodeMap(new StringNode[0], new Node[0], 0);
+    static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private static final int MIN_CAPACITY = 4;
+
+    // These arrays may be longer than size and may be shared with maps that appended members.
+    private final StringNode[] keys;
+    private final Node[] values;
+    private final int[] index;
+    private final int size;
+    private final Storage storage;
+    private Set<Entry<StringNode, Node>> entrySet;
+    private Map<String, Node> stringMap;
+
+    private CompactNodeMap(StringNode[] keys, Node[] values, int size) {
+        this.keys = keys;
+        this.values = values;
+        this.size = size;
+        this.index = keys.length > LINEAR_SCAN_THRESHOLD ? createIndex(keys, size) : null;
+        this.storage = new Storage(size);
+    }
+
+    private CompactNodeMap(StringNode[] keys, Node[] values, int[] index, int size, Storage storage) {
+        this.keys = keys;
+        this.values = values;
+        this.index = index;
+        this.size = size;
+        this.storage = storage;
+    }
+
+    // Tracks how many members of the shared arrays are in use by the largest map.
+    private static final class Storage {
+        private int length;
+
+        Storage(int length) {
+            this.length = length;
+        }
+
+        synchronized boolean claim(int expectedLength, int newLength) {
+            if (length != expectedLength) {
+                return false;
+            }
+            length = newLength;
+            return true;
+        }
+    }
+
+    /**
+     * Creates a map that contains the same members as the given map.
+     *
+     * @param map Map to copy.
+     * @return Returns the created map.
+     */
+    static CompactNodeMap copyOf(Map<StringNode, Node> map) {
+        if (map instanceof CompactNodeMap) {
+            return (CompactNodeMap) map;
+        } else if (map.isEmpty()) {
+            return EMPTY;
+        }
+
+        StringNode[] keys = new StringNode[map.size()];
+        Node[] values = new Node[keys.length];
+        int position = 0;
+        for (Entry<StringNode, Node> entry : map.entrySet()) {
+            keys[position] = entry.getKey();
+            values[position] = entry.getValue();
+            position++;
+        }
+
+        return new CompactNodeMap(keys, values, keys.length);
+    }
+
+    // Creates an index sized for the capacity of the arrays rather than the number of members,
+    // so that members can be appended without resizing the index.
+    private static int[] createIndex(StringNode[] keys, int size) {
+        // Keep the table at most half full. Each slot holds a position + 1, so 0 means empty.
+        int[] table = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+        for (int i = 0; i < size; i++) {
+            addToIndex(table, keys[i], i);
+        }
+        return table;
+    }
+
+    private static void addToIndex(int[] table, StringNode key, int position) {
+        int mask = table.length - 1;
+        int slot = spread(key.getValue().hashCode()) & mask;
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = position + 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Finds the position of a member by name.
+     *
+     * @param name Name of the member to find.
+     * @return Returns the position of the member, or -1 if not found.
+     */
+    int indexOf(String name) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].getValue().equals(name)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        int slot = spread(name.hashCode()) & mask;
+        int position;
+        while ((position = index[slot]) != 0) {
+            // Skip members appended to the shared arrays by other maps.
+            if (position <= size && keys[position - 1].getValue().equals(name)) {
+                return position - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a member by name.
+     *
+     * @param name Name of the member to get.
+     * @return Returns the member value, or null if not found.
+     */
+    Node getByName(String name) {
+        int position = indexOf(name);
+        return position == -1 ? null : values[position];
+    }
+
+    /**
+     * Creates a map with the given member added or replaced.
+     *
+     * <p>Like {@link java.util.LinkedHashMap#put}, replacing a member keeps
+     * its original key and position. Adding a new member appends to the
+     * arrays of this map when possible.
+     *
+     * @param key Key of the member.
+     * @param value Value of the member.
+     * @return Returns the updated map.
+     */
+    CompactNodeMap with(StringNode key, Node value) {
+        int position = indexOf(key.getValue());
+        if (position != -1 && values[position] == value) {
+            return this;
+        } else if (position != -1) {
+            StringNode[] newKeys = Arrays.copyOf(keys, size);
+            Node[] newValues = Arrays.copyOf(values, size);
+            newValues[position] = value;
+            return new CompactNodeMap(newKeys, newValues, size);
+        }
+
+        return append(new StringNode[] {key}, new Node[] {value}, 1);
+    }
+
+    /**
+     * Creates a map that contains the members of this map followed by the
+     * members of another map, replacing any conflicting members.
+     *
+     * @param other Map to add.
+     * @return Returns the updated map.
+     */
+    CompactNodeMap withAll(CompactNodeMap other) {
+        if (other.size == 0) {
+            return this;
+        }
+
+        for (int i = 0; i < other.size; i++) {
+            if (indexOf(other.keys[i].getValue()) != -1) {
+                // Replacing members can't be done by appending, so create a new map.
+                Map<StringNode, Node> merged = new LinkedHashMap<>(this);
+                merged.putAll(other);
+                return copyOf(merged);
+            }
+        }
+
+        return append(other.keys, other.values, other.size);
+    }
+
+    // Appends members that aren't in this map. The arrays of this map are reused when no other map has
+    // appended to them and they have enough capacity. Otherwise, the arrays are copied and doubled in size.
+    private CompactNodeMap append(StringNode[] addedKeys, Node[] addedValues, int count) {
+        int newSize = size + count;
+        StringNode[] newKeys = keys;
+        Node[] newValues = values;
+        int[] newIndex = index;
+        Storage newStorage = storage;
+
+        boolean fits = newSize <= keys.length && (index != null || newSize <= LINEAR_SCAN_THRESHOLD);
+        if (!fits || !storage.claim(size, newSize)) {
+            int capacity = Math.max(MIN_CAPACITY, Math.max(newSize, size * 2));
+            // Only copy the members visible to this map, not members other maps appended.
+            newKeys = new StringNode[capacity];
+            newValues = new Node[capacity];
+            System.arraycopy(keys, 0, newKeys, 0, size);
+            System.arraycopy(values, 0, newValues, 0, size);
+            newIndex = capacity > LINEAR_SCAN_THRESHOLD ? createIndex(newKeys, size) : null;
+            newStorage = new Storage(newSize);
+        }
+
+        System.arraycopy(addedKeys, 0, newKeys, size, count);
+        System.arraycopy(addedValues, 0, newValues, size, count);
+        if (newIndex != null) {
+            for (int i = 0; i < count; i++) {
+                addToIndex(newIndex, addedKeys[i], size + i);
+            }
+        }
+
+        return new CompactNodeMap(newKeys, newValues, newIndex, newSize, newStorage);
+    }
+
+    /**
+     * Creates a map without the named member.
+     *
+     * @param name Name of the member to remove.
+     * @return Returns the updated map, or this map if the member isn't present.
+     */
+    CompactNodeMap without(String name) {
+        int position = indexOf(name);
+        if (position == -1) {
+            return this;
+        } else if (size == 1) {
+            return EMPTY;
+        }
+
+        StringNode[] newKeys = new StringNode[size - 1];
+        Node[] newValues = new Node[size - 1];
+        System.arraycopy(keys, 0, newKeys, 0, position);
+        System.arraycopy(keys, position + 1, newKeys, position, size - position - 1);
+        System.arraycopy(values, 0, newValues, 0, position);
+        System.arraycopy(values, position + 1, newValues, position, size - position - 1);
+        return new CompactNodeMap(newKeys, newValues, newKeys.length);
+    }
+
+    /**
+     * Gets a view of the map keyed by {@code String}.
+     *
+     * @return Returns the view.
+     */
+    Map<String, Node> getStringMap() {
+        Map<String, Node> result = stringMap;
+        if (result == null) {
+            stringMap = result = new StringKeyView();
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof StringNode && indexOf(((StringNode) key).getValue()) != -1;
+    }
+
+    @Override
+    public Node get(Object key) {
+        return key instanceof StringNode ? getByName(((StringNode) key).getValue()) : null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof CompactNodeMap)) {
+            return super.equals(other);
+        }
+
+        // Compare members position by position, and only fall back to lookups when the order differs.
+        CompactNodeMap otherMap = (CompactNodeMap) other;
+        if (size != otherMap.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!keys[i].equals(otherMap.keys[i])) {
+                return super.equals(other);
+            } else if (!values[i].equals(otherMap.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 0;
+        for (int i = 0; i < size; i++) {
+            result += keys[i].hashCode() ^ values[i].hashCode();
+        }
+        return result;
+    }
+
+    @Override
+    public Set<Entry<StringNode, Node>> entrySet() {
+        Set<Entry<StringNode, Node>> result = entrySet;
+        if (result == null) {
+            entrySet = result = new AbstractSet<Entry<StringNode, Node>>() {
+                @Override
+                public Iterator<Entry<StringNode, Node>> iterator() {
+                    return new PositionIterator<Entry<StringNode, Node>>() {
+                        @Override
+                        Entry<StringNode, Node> get(int position) {
+                            return new SimpleImmutableEntry<>(keys[position], values[position]);
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return size;
+                }
+            };
+        }
+        return result;
+    }
+
+    @Override
+    public Set<StringNode> keySet() {
+        return new AbstractSet<StringNode>() {
+            @Override
+            public Iterator<StringNode> iterator() {
+                return new PositionIterator<StringNode>() {
+                    @Override
+                    StringNode get(int position) {
+                        return keys[position];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Collection<Node> values() {
+        return new AbstractCollection<Node>() {
+            @Override
+            public Iterator<Node> iterator() {
+                return new PositionIterator<Node>() {
+                    @Override
+                    Node get(int position) {
+                        return values[position];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private abstract class PositionIterator<T> implements Iterator<T> {
+        private int position;
+
+        abstract T get(int position);
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public T next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            return get(position++);
+        }
+    }
+
+    private final class StringKeyView extends AbstractMap<String, Node> {
+        private Set<Entry<String, Node>> entries;
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size == 0;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && indexOf((String) key) != -1;
+        }
+
+        @Override
+        public Node get(Object key) {
+            return key instanceof String ? getByName((String) key) : null;
+        }
+
+        @Override
+        public Set<Entry<String, Node>> entrySet() {
+            Set<Entry<String, Node>> result = entries;
+            if (result == null) {
+                entries = result = new AbstractSet<Entry<String, Node>>() {
+                    @Override
+                    public Iterator<Entry<String, Node>> iterator() {
+                        return new PositionIterator<Entry<String, Node>>() {
+                            @Override
+                            Entry<String, Node> get(int position) {
+                                return new SimpleImmutableEntry<>(keys[position].getValue(), values[position]);
+                            }
+                        };
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+            return result;
+        }
+    }
+}
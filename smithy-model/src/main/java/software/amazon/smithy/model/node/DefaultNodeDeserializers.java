@@ -26,6 +26,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -41,7 +42,6 @@ import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.utils.ListUtils;
 import software.amazon.smithy.utils.MapUtils;
-import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyBuilder;
 import software.amazon.smithy.utils.StringUtils;
 
@@ -346,9 +346,10 @@ final class DefaultNodeDeserializers {
                         && method.getParameters().length == 1
                         && Node.class.isAssignableFrom(method.getParameters()[0].getType())
                         && Modifier.isStatic(method.getModifiers())) {
+                    MethodAccessor fromNode = MethodAccessor.of(method);
                     return (node, targetType, pointer, mapper) -> {
                         try {
-                            return method.invoke(null, node);
+                            return fromNode.invoke(null, node);
                         } catch (ReflectiveOperationException e) {
                             String message = "Unable to deserialize Node using fromNode method: " + getCauseMessage(e);
                             throw NodeDeserializationException
@@ -362,8 +363,16 @@ final class DefaultNodeDeserializers {
     };
 
     static final class BeanMapper {
-        // Cache of Pair<types, member-name> to a setter Method.
-        private static final ConcurrentMap<Pair<Class<?>, String>, Method> SETTER_CACHE = new ConcurrentHashMap<>();
+        // Cache of each class to the setters of its properties.
+        private static final IdentityClassCache<Class<?>, BeanMapper> CACHE = new IdentityClassCache<>();
+
+        // Cache of member names to setters, or NO_SETTER if the class has no matching setter.
+        private final ConcurrentMap<String, Setter> setters = new ConcurrentHashMap<>();
+        private final Class<?> targetType;
+
+        private BeanMapper(Class<?> targetType) {
+            this.targetType = targetType;
+        }
 
         static void apply(
                 Object value,
@@ -372,40 +381,66 @@ final class DefaultNodeDeserializers {
                 String pointer,
                 NodeMapper mapper
         ) throws ReflectiveOperationException {
+            BeanMapper beanMapper = forType(target);
             for (Map.Entry<String, Node> entry : node.expectObjectNode().getStringMap().entrySet()) {
-                Method setter = findSetter(target, entry.getKey());
+                Setter setter = beanMapper == null ? null : beanMapper.findSetter(entry.getKey());
                 if (setter == null) {
                     mapper.getWhenMissingSetter().handle(target, pointer, entry.getKey(), entry.getValue());
                 } else {
                     Object member = mapper.deserializeNext(
                             entry.getValue(),
                             pointer + "/" + entry.getKey(),
-                            setter.getParameters()[0].getParameterizedType(),
+                            setter.parameterType,
                             mapper);
-                    setter.invoke(value, member);
+                    setter.accessor.invoke(value, member);
                 }
             }
         }
 
-        // Return value is null or a setter method to invoke.
-        private static Method findSetter(Type type, String memberName) {
+        private static BeanMapper forType(Type type) {
             Class<?> targetType = classFromType(type);
+            return targetType == null
+                    ? null
+                    : CACHE.getForClass(targetType, targetType, () -> new BeanMapper(targetType));
+        }
 
-            if (targetType == null) {
-                return null;
-            }
+        // Return value is null or a setter to invoke.
+        private static Setter findSetter(Type type, String memberName) {
+            BeanMapper beanMapper = forType(type);
+            return beanMapper == null ? null : beanMapper.findSetter(memberName);
+        }
 
-            return SETTER_CACHE.computeIfAbsent(Pair.of(targetType, memberName), pair -> {
-                String sanitized = sanitizePropertyName(pair.right);
+        private Setter findSetter(String memberName) {
+            Setter result = setters.computeIfAbsent(memberName, name -> {
+                String sanitized = sanitizePropertyName(name);
                 if (sanitized != null) {
                     for (Method method : targetType.getMethods()) {
                         if (isBeanOrBuilderSetter(method, targetType, sanitized)) {
-                            return method;
+                            return new Setter(method);
                         }
                     }
                 }
-                return null;
+                return Setter.NO_SETTER;
             });
+            return result == Setter.NO_SETTER ? null : result;
+        }
+
+        // A setter with a pre-resolved parameter type and method handle.
+        private static final class Setter {
+            private static final Setter NO_SETTER = new Setter();
+
+            private final MethodAccessor accessor;
+            private final Type parameterType;
+
+            private Setter() {
+                accessor = null;
+                parameterType = null;
+            }
+
+            private Setter(Method method) {
+                accessor = MethodAccessor.of(method);
+                parameterType = method.getGenericParameterTypes()[0];
+            }
         }
 
         // Strips special characters by removing special characters and converting the character
@@ -475,9 +510,10 @@ final class DefaultNodeDeserializers {
                     && method.getParameters().length == 0
                     && Modifier.isStatic(method.getModifiers())) {
                 method.setAccessible(true);
+                MethodAccessor builderMethod = MethodAccessor.of(method);
                 return (node, targetType, pointer, mapper) -> {
                     try {
-                        SmithyBuilder<Object> builder = ((SmithyBuilder<Object>) method.invoke(null));
+                        SmithyBuilder<Object> builder = ((SmithyBuilder<Object>) builderMethod.invoke(null));
                         BeanMapper.apply(builder, node, builder.getClass(), pointer, mapper);
                         applySourceLocation(builder, node);
                         return builder.build();
@@ -493,9 +529,9 @@ final class DefaultNodeDeserializers {
 
     private static void applySourceLocation(Object object, FromSourceLocation sourceLocation)
             throws ReflectiveOperationException {
-        Method setter = BeanMapper.findSetter(object.getClass(), "sourceLocation");
+        BeanMapper.Setter setter = BeanMapper.findSetter(object.getClass(), "sourceLocation");
         if (setter != null) {
-            setter.invoke(object, sourceLocation.getSourceLocation());
+            setter.accessor.invoke(object, sourceLocation.getSourceLocation());
         }
     }
 
@@ -654,9 +690,14 @@ final class DefaultNodeDeserializers {
 
     // Creates an ObjectCreatorFactory that caches the result of finding ObjectCreators.
     private static ObjectCreatorFactory cachedCreator(ObjectCreatorFactory delegate) {
-        IdentityClassCache<String, NodeMapper.ObjectCreator> cache = new IdentityClassCache<>();
+        // Use a cache per node type so that cache keys don't need to be created for each lookup.
+        Map<NodeType, IdentityClassCache<String, NodeMapper.ObjectCreator>> caches = new EnumMap<>(NodeType.class);
+        for (NodeType type : NodeType.values()) {
+            caches.put(type, new IdentityClassCache<>());
+        }
         return (nodeType, target, nodeMapper) -> {
-            String key = nodeType.getNodeClass() + ":" + target.getTypeName();
+            IdentityClassCache<String, NodeMapper.ObjectCreator> cache = caches.get(nodeType);
+            String key = target.getTypeName();
             return cache.getForClass(key, target, () -> delegate.getCreator(nodeType, target, nodeMapper));
         };
     }
@@ -15,7 +15,6 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Base64;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -258,6 +257,9 @@ final class DefaultNodeSerializers {
         // Methods aren't returned normally in any particular order, so give them an order.
         final Map<String, Method> getters = new TreeMap<>();
 
+        // The getters in order, with pre-created member names and method handles.
+        final List<Getter> orderedGetters = new ArrayList<>();
+
         static ClassInfo fromClass(Class<?> klass) {
             return CACHE.getForClass(klass, klass, () -> {
                 ClassInfo info = new ClassInfo();
@@ -281,6 +283,9 @@ final class DefaultNodeSerializers {
                     }
                 }
                 LOGGER.fine(() -> "Detected the following getters for " + klass.getName() + ": " + info.getters);
+                for (Map.Entry<String, Method> entry : info.getters.entrySet()) {
+                    info.orderedGetters.add(new Getter(entry.getKey(), entry.getValue()));
+                }
                 return info;
             });
         }
@@ -309,6 +314,18 @@ final class DefaultNodeSerializers {
             return transientFields;
         }
 
+        private static final class Getter {
+            final String name;
+            final StringNode key;
+            final MethodAccessor accessor;
+
+            Getter(String name, Method method) {
+                this.name = name;
+                this.key = Node.from(name);
+                this.accessor = MethodAccessor.of(method);
+            }
+        }
+
         private static int getGetterPrefixCharCount(Method method) {
             // Don't use static methods, or methods with arguments.
             if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == 0) {
@@ -336,15 +353,16 @@ final class DefaultNodeSerializers {
 
             // Add the current value to the set.
             serializedObjects.add(value);
-            Map<StringNode, Node> mappings = new TreeMap<>(Comparator.comparing(StringNode::getValue));
+            // Getters are already sorted by name, so members are added in sorted order.
+            Map<StringNode, Node> mappings = new LinkedHashMap<>();
             ClassInfo info = ClassInfo.fromClass(value.getClass());
 
-            for (Map.Entry<String, Method> entry : info.getters.entrySet()) {
+            for (ClassInfo.Getter getter : info.orderedGetters) {
                 try {
-                    Object getterResult = entry.getValue().invoke(value);
+                    Object getterResult = getter.accessor.invoke(value);
                     Node result = mapper.serialize(getterResult, serializedObjects);
                     if (canSerialize(mapper, result)) {
-                        mappings.put(Node.from(entry.getKey()), result);
+                        mappings.put(getter.key, result);
                     }
                 } catch (ReflectiveOperationException e) {
                     // There's almost always a previous exception, so grab it's more useful message.
@@ -352,9 +370,9 @@ final class DefaultNodeSerializers {
                     String causeMessage = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
                     String message = String.format(
                             "Error serializing `%s` field of %s using %s(): %s",
-                            entry.getKey(),
+                            getter.name,
                             value.getClass().getName(),
-                            entry.getValue().getName(),
+                            getter.accessor.getMethod().getName(),
                             causeMessage);
                     throw new NodeSerializationException(message, e);
                 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.util.function.Supplier;
+
+/**
+ * The contents of an object or array node that are parsed on first access.
+ *
+ * <p>The supplier is invoked at most once, even when the contents are
+ * accessed concurrently, so every thread sees the same member nodes.
+ *
+ * @param <T> Type of contents to parse.
+ */
+final class DeferredContents<T> {
+
+    private Supplier<T> supplier;
+    private volatile T value;
+
+    DeferredContents(Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = supplier.get();
+                    value = result;
+                    // Release the parser, and the input it references, once the contents are parsed.
+                    supplier = null;
+                }
+            }
+        }
+        return result;
+    }
+}
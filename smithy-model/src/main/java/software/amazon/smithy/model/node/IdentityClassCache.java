@@ -35,6 +35,12 @@ final class IdentityClassCache<K, V> {
      * @return Cached value.
      */
     V getForClass(K forKey, Type forClass, Supplier<? extends V> supplierIfNotPresent) {
+        // Avoid locking when the value is already cached and still valid.
+        Pair<Type, V> cached = cache.get(forKey);
+        if (cached != null && cached.getLeft() == forClass) {
+            return cached.getRight();
+        }
+
         return cache.compute(forKey, (key, current) -> {
             if (current == null || current.getLeft() != forClass) {
                 // The key was not present, or the cache was invalidated.
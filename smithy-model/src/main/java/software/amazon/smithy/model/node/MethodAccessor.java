@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes a method with zero or one arguments using a pre-resolved
+ * {@link MethodHandle} rather than {@link Method#invoke}.
+ *
+ * <p>Methods are invoked with the same access rules and failure semantics
+ * as {@link Method#invoke}: exceptions thrown by the method are wrapped in
+ * an {@link InvocationTargetException}. If a handle can't be created for
+ * the method, or if an argument would need a conversion that reflection
+ * treats differently than method handles, the method is invoked using
+ * reflection instead.
+ */
+final class MethodAccessor {
+
+    private final Method method;
+    private final MethodHandle handle;
+    private final Class<?> receiverType;
+    private final Class<?> parameterType;
+    private final boolean primitiveParameter;
+
+    private MethodAccessor(Method method, MethodHandle handle) {
+        this.method = method;
+        this.handle = handle;
+        this.receiverType = Modifier.isStatic(method.getModifiers()) ? null : method.getDeclaringClass();
+        Class<?> parameter = method.getParameterCount() == 1 ? method.getParameterTypes()[0] : null;
+        this.primitiveParameter = parameter != null && parameter.isPrimitive();
+        this.parameterType = primitiveParameter ? box(parameter) : parameter;
+    }
+
+    /**
+     * Creates an accessor for a method that accepts zero or one arguments.
+     *
+     * <p>Static methods ignore the target passed to {@code invoke}.
+     *
+     * @param method Method to access.
+     * @return Returns the created accessor.
+     */
+    static MethodAccessor of(Method method) {
+        if (method.getParameterCount() > 1) {
+            throw new IllegalArgumentException("Methods with more than one parameter are not supported: " + method);
+        }
+
+        MethodHandle handle;
+        try {
+            // A public lookup is subject to the same access checks as Method#invoke, including
+            // bypassing them when the method was made accessible.
+            handle = MethodHandles.publicLookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asType(MethodType.genericMethodType(method.getParameterCount() + 1));
+        } catch (IllegalAccessException | RuntimeException e) {
+            handle = null;
+        }
+
+        return new MethodAccessor(method, handle);
+    }
+
+    /**
+     * Gets the method being accessed.
+     *
+     * @return Returns the method.
+     */
+    Method getMethod() {
+        return method;
+    }
+
+    /**
+     * Invokes a method that has no parameters.
+     *
+     * @param target Object to invoke the method on, or null for static methods.
+     * @return Returns the result of the method, or null for void methods.
+     * @throws ReflectiveOperationException if the method cannot be invoked or throws.
+     */
+    Object invoke(Object target) throws ReflectiveOperationException {
+        if (handle == null || !acceptsTarget(target)) {
+            return method.invoke(target);
+        }
+
+        try {
+            return (Object) handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    /**
+     * Invokes a method that has a single parameter.
+     *
+     * @param target Object to invoke the method on, or null for static methods.
+     * @param argument Argument to pass to the method.
+     * @return Returns the result of the method, or null for void methods.
+     * @throws ReflectiveOperationException if the method cannot be invoked or throws.
+     */
+    Object invoke(Object target, Object argument) throws ReflectiveOperationException {
+        // Let reflection reject or widen arguments that don't exactly match the parameter type.
+        if (handle == null || !acceptsTarget(target) || !acceptsExactly(argument)) {
+            return method.invoke(target, argument);
+        }
+
+        try {
+            return (Object) handle.invokeExact(target, argument);
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private boolean acceptsTarget(Object target) {
+        return receiverType == null || receiverType.isInstance(target);
+    }
+
+    private boolean acceptsExactly(Object argument) {
+        if (argument == null) {
+            return !primitiveParameter;
+        } else if (primitiveParameter) {
+            return argument.getClass() == parameterType;
+        } else {
+            return parameterType.isInstance(argument);
+        }
+    }
+
+    private static Class<?> box(Class<?> type) {
+        if (type == int.class) {
+            return Integer.class;
+        } else if (type == long.class) {
+            return Long.class;
+        } else if (type == boolean.class) {
+            return Boolean.class;
+        } else if (type == double.class) {
+            return Double.class;
+        } else if (type == float.class) {
+            return Float.class;
+        } else if (type == short.class) {
+            return Short.class;
+        } else if (type == byte.class) {
+            return Byte.class;
+        } else {
+            return Character.class;
+        }
+    }
+}
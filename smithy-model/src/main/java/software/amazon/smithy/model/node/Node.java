@@ -8,6 +8,7 @@ import static java.lang.String.format;
 
 import java.io.InputStream;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
@@ -18,6 +19,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import software.amazon.smithy.model.FromSourceLocation;
@@ -94,7 +96,51 @@ public abstract class Node implements FromSourceLocation, ToNode {
      * @throws ModelSyntaxException if the JSON text is invalid.
      */
     public static Node parse(InputStream json, String file) {
-        return parse(IoUtils.toUtf8String(json), file);
+        return NodeHandler.parse(file, IoUtils.toByteArray(json), false);
+    }
+
+    /**
+     * Attempts to parse the given JSON input stream and returns a Node whose
+     * large nested objects and arrays are only parsed when their contents
+     * are first accessed.
+     *
+     * <p>The returned node behaves exactly like the node returned by
+     * {@link #parse(InputStream, String)}, and the entire input is still
+     * validated before this method returns. This can reduce the time and
+     * memory needed to parse documents that contain large values that might
+     * never be accessed, like large trait values in a JSON AST model, but
+     * is slower when the entire document is accessed.
+     *
+     * @param json JSON input stream to parse. The input stream is closed
+     *   automatically when the content is fully read.
+     * @param file Filename corresponding to json text
+     * @return Returns the parsed Node on success.
+     * @throws ModelSyntaxException if the JSON text is invalid.
+     */
+    public static Node parseLazily(InputStream json, String file) {
+        byte[] bytes = IoUtils.toByteArray(json);
+        return NodeHandler.parseLazily(file, bytes, 0, bytes.length, false);
+    }
+
+    /**
+     * Attempts to parse the given UTF-8 encoded JSON bytes and returns a Node.
+     *
+     * <p>The bytes from the current position to the limit of the buffer are
+     * parsed. The position of the buffer is not modified.
+     *
+     * @param json UTF-8 encoded JSON bytes to parse.
+     * @param file Filename corresponding to json text
+     * @return Returns the parsed Node on success.
+     * @throws ModelSyntaxException if the JSON text is invalid.
+     */
+    public static Node parse(ByteBuffer json, String file) {
+        if (json.hasArray()) {
+            return NodeHandler.parse(file, json.array(), json.arrayOffset() + json.position(), json.remaining(), false);
+        }
+
+        byte[] bytes = new byte[json.remaining()];
+        json.duplicate().get(bytes);
+        return NodeHandler.parse(file, bytes, false);
     }
 
     /**
@@ -355,6 +401,32 @@ public abstract class Node implements FromSourceLocation, ToNode {
         return NodeDiff.diff(actual, expected);
     }
 
+    /**
+     * Finds the differences between two Nodes, passing each difference to
+     * the given consumer as it is found.
+     *
+     * <p>Unlike {@link #diff(ToNode, ToNode)}, differences are reported in
+     * the order they are found rather than sorted, each difference has a
+     * JSON pointer to the value that differs, and no messages are created
+     * unless they're requested. Subtrees with equal content are skipped
+     * using their cached hash codes, and the search stops as soon as
+     * {@code maxDifferences} differences are found, so comparing large
+     * values that are mostly equal is cheap.
+     *
+     * @param actual Node to use as the starting node.
+     * @param expected Node to compare against.
+     * @param maxDifferences Maximum number of differences to find.
+     * @param consumer Consumer that receives each difference.
+     */
+    public static void diff(
+            ToNode actual,
+            ToNode expected,
+            int maxDifferences,
+            Consumer<NodeDifference> consumer
+    ) {
+        NodeDiff.diff(actual, expected, maxDifferences, consumer);
+    }
+
     /**
      * Gets the type of the node.
      *
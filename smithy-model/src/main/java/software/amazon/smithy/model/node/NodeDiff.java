@@ -5,127 +5,117 @@
 package software.amazon.smithy.model.node;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.Map;
+import java.util.function.Consumer;
 
 /**
- * Creates a line-by-line diff of two Node values.
+ * Finds the differences between two Node values.
+ *
+ * <p>Both values are walked together, and subtrees are only compared for
+ * equality when their cached deep hash codes match. Values whose hash codes
+ * differ can't be equal, so they are descended into without first being
+ * compared, and equal values are skipped after a single comparison.
  */
 final class NodeDiff {
 
-    NodeDiff() {}
+    private final int maxDifferences;
+    private final Consumer<NodeDifference> consumer;
+    private final List<Object> path = new ArrayList<>();
+    private int differences;
+
+    private NodeDiff(int maxDifferences, Consumer<NodeDifference> consumer) {
+        this.maxDifferences = maxDifferences;
+        this.consumer = consumer;
+    }
 
     static List<String> diff(ToNode actual, ToNode expected) {
-        return new NodeDiff().findDifferences(actual.toNode(), expected.toNode(), "")
-                .sorted()
-                .collect(Collectors.toList());
+        List<String> result = new ArrayList<>();
+        diff(actual, expected, Integer.MAX_VALUE, difference -> result.add(difference.getMessage()));
+        Collections.sort(result);
+        return result;
     }
 
-    private Stream<String> findDifferences(Node actual, Node expected, String prefix) {
-        if (actual.equals(expected)) {
-            return Stream.empty();
+    static void diff(ToNode actual, ToNode expected, int maxDifferences, Consumer<NodeDifference> consumer) {
+        if (maxDifferences > 0) {
+            new NodeDiff(maxDifferences, consumer).findDifferences(actual.toNode(), expected.toNode());
         }
+    }
 
-        if (!actual.getType().equals(expected.getType())) {
-            return Stream.of(String.format(
-                    "[%s]: Expected node of type `%s` but found node of type `%s`.%n%nExpected: %s%n%n Found: %s",
-                    prefix,
-                    expected.getType(),
-                    actual.getType(),
-                    nodeToJson(expected, true),
-                    nodeToJson(actual, true)));
+    // Each method returns false once the maximum number of differences is found, which stops the walk.
+    private boolean findDifferences(Node actual, Node expected) {
+        if (actual.hashCode() == expected.hashCode() && actual.equals(expected)) {
+            return true;
+        } else if (actual.getType() != expected.getType()) {
+            return report(NodeDifference.Kind.TYPE, actual, expected);
         }
 
         switch (actual.getType()) {
             case OBJECT:
-                return findDifferences(actual.expectObjectNode(), expected.expectObjectNode(), prefix);
+                return findDifferences(actual.expectObjectNode(), expected.expectObjectNode());
             case ARRAY:
-                return findDifferences(actual.expectArrayNode(), expected.expectArrayNode(), prefix);
+                return findDifferences(actual.expectArrayNode(), expected.expectArrayNode());
             default:
-                return Stream.of(String.format(
-                        "[%s]: Expected `%s` but found `%s`",
-                        prefix,
-                        nodeToJson(expected, false),
-                        nodeToJson(actual, false)));
+                return report(NodeDifference.Kind.VALUE, actual, expected);
         }
     }
 
-    private Stream<String> findDifferences(ObjectNode actual, ObjectNode expected, String prefix) {
-        List<String> differences = new ArrayList<>();
-        Set<String> actualKeys = actual.getMembers()
-                .keySet()
-                .stream()
-                .map(StringNode::getValue)
-                .collect(Collectors.toSet());
-        Set<String> expectedKeys = expected.getMembers()
-                .keySet()
-                .stream()
-                .map(StringNode::getValue)
-                .collect(Collectors.toSet());
-
-        Set<String> extraKeys = new HashSet<>(actualKeys);
-        extraKeys.removeAll(expectedKeys);
-        for (String extraKey : extraKeys) {
-            differences.add(String.format(
-                    "[%s]: Extra key `%s` encountered with content: %s",
-                    prefix,
-                    extraKey,
-                    nodeToJson(actual.expectMember(extraKey), true)));
+    private boolean findDifferences(ObjectNode actual, ObjectNode expected) {
+        Map<String, Node> expectedMembers = expected.getStringMap();
+        for (Map.Entry<String, Node> entry : actual.getStringMap().entrySet()) {
+            Node expectedValue = expectedMembers.get(entry.getKey());
+            path.add(entry.getKey());
+            boolean proceed = expectedValue == null
+                    ? report(NodeDifference.Kind.EXTRA_MEMBER, entry.getValue(), null)
+                    : findDifferences(entry.getValue(), expectedValue);
+            path.remove(path.size() - 1);
+            if (!proceed) {
+                return false;
+            }
         }
 
-        Set<String> missingKeys = new HashSet<>(expectedKeys);
-        missingKeys.removeAll(actualKeys);
-        for (String missingKey : missingKeys) {
-            differences.add(String.format("[%s]: Expected key `%s` not present.", prefix, missingKey));
+        Map<String, Node> actualMembers = actual.getStringMap();
+        for (Map.Entry<String, Node> entry : expectedMembers.entrySet()) {
+            if (!actualMembers.containsKey(entry.getKey())) {
+                path.add(entry.getKey());
+                boolean proceed = report(NodeDifference.Kind.MISSING_MEMBER, null, entry.getValue());
+                path.remove(path.size() - 1);
+                if (!proceed) {
+                    return false;
+                }
+            }
         }
 
-        Set<String> sharedKeys = new HashSet<>(actualKeys);
-        sharedKeys.retainAll(expectedKeys);
-
-        return Stream.concat(differences.stream(),
-                sharedKeys.stream()
-                        .flatMap(key -> findDifferences(
-                                actual.expectMember(key),
-                                expected.expectMember(key),
-                                String.format("%s/%s", prefix, key.replace("^", "^^").replace("/", "^/")))));
+        return true;
     }
 
-    private Stream<String> findDifferences(ArrayNode actual, ArrayNode expected, String prefix) {
-        List<String> differences = new ArrayList<>();
+    private boolean findDifferences(ArrayNode actual, ArrayNode expected) {
         List<Node> actualElements = actual.getElements();
         List<Node> expectedElements = expected.getElements();
-
-        for (int i = expectedElements.size(); i < actualElements.size(); i++) {
-            differences.add(String.format(
-                    "[%s]: Extra element encountered in list at position %d: %s",
-                    prefix,
-                    i,
-                    nodeToJson(actualElements.get(i), true)));
-        }
-
-        for (int i = actualElements.size(); i < expectedElements.size(); i++) {
-            differences.add(String.format(
-                    "[%s]: Expected element (position %d) not encountered in list: %s",
-                    prefix,
-                    i,
-                    nodeToJson(expectedElements.get(i), true)));
+        int shared = Math.min(actualElements.size(), expectedElements.size());
+
+        for (int i = 0; i < Math.max(actualElements.size(), expectedElements.size()); i++) {
+            path.add(i);
+            boolean proceed;
+            if (i < shared) {
+                proceed = findDifferences(actualElements.get(i), expectedElements.get(i));
+            } else if (i < actualElements.size()) {
+                proceed = report(NodeDifference.Kind.EXTRA_ELEMENT, actualElements.get(i), null);
+            } else {
+                proceed = report(NodeDifference.Kind.MISSING_ELEMENT, null, expectedElements.get(i));
+            }
+            path.remove(path.size() - 1);
+            if (!proceed) {
+                return false;
+            }
         }
 
-        return Stream.concat(
-                differences.stream(),
-                IntStream.range(0, Math.min(actualElements.size(), expectedElements.size()))
-                        .boxed()
-                        .flatMap(i -> findDifferences(
-                                actualElements.get(i),
-                                expectedElements.get(i),
-                                String.format("%s[%d]", prefix, i))));
+        return true;
     }
 
-    private static String nodeToJson(Node node, boolean prettyPrint) {
-        return prettyPrint ? Node.prettyPrintJson(node) : Node.printJson(node);
+    private boolean report(NodeDifference.Kind kind, Node actual, Node expected) {
+        consumer.accept(new NodeDifference(kind, path.toArray(), actual, expected));
+        return ++differences < maxDifferences;
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A difference between two Node values found by
+ * {@link Node#diff(ToNode, ToNode, int, java.util.function.Consumer)}.
+ *
+ * <p>Messages and pointers are only created when they are requested, so
+ * differences can be found in large values without formatting them.
+ */
+public final class NodeDifference {
+
+    enum Kind {
+        TYPE,
+        VALUE,
+        EXTRA_MEMBER,
+        MISSING_MEMBER,
+        EXTRA_ELEMENT,
+        MISSING_ELEMENT
+    }
+
+    private final Kind kind;
+    // Member names as Strings and element positions as Integers.
+    private final Object[] path;
+    private final Node actual;
+    private final Node expected;
+
+    NodeDifference(Kind kind, Object[] path, Node actual, Node expected) {
+        this.kind = kind;
+        this.path = path;
+        this.actual = actual;
+        this.expected = expected;
+    }
+
+    /**
+     * Gets a JSON pointer to the value that differs.
+     *
+     * <p>For extra or missing object members and array elements, the pointer
+     * refers to the member or element itself.
+     *
+     * @return Returns the pointer to the difference.
+     */
+    public NodePointer getPointer() {
+        List<String> parts = new ArrayList<>(path.length);
+        for (Object segment : path) {
+            parts.add(segment.toString());
+        }
+        return NodePointer.fromParts(parts);
+    }
+
+    /**
+     * Gets the actual value, or an empty Optional if the value is missing
+     * from the actual node.
+     *
+     * @return Returns the optional actual value.
+     */
+    public Optional<Node> getActual() {
+        return Optional.ofNullable(actual);
+    }
+
+    /**
+     * Gets the expected value, or an empty Optional if the value is not
+     * present in the expected node.
+     *
+     * @return Returns the optional expected value.
+     */
+    public Optional<Node> getExpected() {
+        return Optional.ofNullable(expected);
+    }
+
+    /**
+     * Gets a human-readable description of the difference.
+     *
+     * <p>These are the messages returned by {@link Node#diff(ToNode, ToNode)}.
+     *
+     * @return Returns the difference message.
+     */
+    public String getMessage() {
+        switch (kind) {
+            case TYPE:
+                return String.format(
+                        "[%s]: Expected node of type `%s` but found node of type `%s`.%n%nExpected: %s%n%n Found: %s",
+                        formatPath(path.length),
+                        expected.getType(),
+                        actual.getType(),
+                        Node.prettyPrintJson(expected),
+                        Node.prettyPrintJson(actual));
+            case VALUE:
+                return String.format("[%s]: Expected `%s` but found `%s`",
+                        formatPath(path.length),
+                        Node.printJson(expected),
+                        Node.printJson(actual));
+            case EXTRA_MEMBER:
+                return String.format("[%s]: Extra key `%s` encountered with content: %s",
+                        formatPath(path.length - 1),
+                        path[path.length - 1],
+                        Node.prettyPrintJson(actual));
+            case MISSING_MEMBER:
+                return String.format("[%s]: Expected key `%s` not present.",
+                        formatPath(path.length - 1),
+                        path[path.length - 1]);
+            case EXTRA_ELEMENT:
+                return String.format("[%s]: Extra element encountered in list at position %d: %s",
+                        formatPath(path.length - 1),
+                        path[path.length - 1],
+                        Node.prettyPrintJson(actual));
+            case MISSING_ELEMENT:
+            default:
+                return String.format("[%s]: Expected element (position %d) not encountered in list: %s",
+                        formatPath(path.length - 1),
+                        path[path.length - 1],
+                        Node.prettyPrintJson(expected));
+        }
+    }
+
+    // Formats a path the way diff messages always have: "/" before member names, where "^" and "/"
+    // are escaped with "^", and element positions in brackets.
+    private String formatPath(int length) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            Object segment = path[i];
+            if (segment instanceof Integer) {
+                result.append('[').append(segment).append(']');
+            } else {
+                result.append('/').append(segment.toString().replace("^", "^^").replace("/", "^/"));
+            }
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String toString() {
+        return getMessage();
+    }
+}
@@ -6,8 +6,11 @@ package software.amazon.smithy.model.node;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.logging.Logger;
+import software.amazon.smithy.model.SourceLocation;
 
 /**
  * JSON Pointer abstraction over Smithy {@link Node} values.
@@ -16,6 +19,11 @@ import java.util.logging.Logger;
  * perform JSON-patch like operations like adding a value to a specific
  * pointer target.
  *
+ * <p>Pointers are parsed once and can be applied to any number of nodes.
+ * When many values are added to the same node, use
+ * {@link #addValues(Node, Map)} to update the node in a single pass rather
+ * than copying it for each value.
+ *
  * @see <a href="https://tools.ietf.org/html/rfc6902">RFC 6902</a>
  */
 public final class NodePointer {
@@ -25,10 +33,16 @@ public final class NodePointer {
 
     private final String originalString;
     private final List<String> parts;
+    // Array indexes of each part, or -1 if a part is not an index.
+    private final int[] indexes;
 
     private NodePointer(String originalString, List<String> parts) {
         this.originalString = originalString;
         this.parts = parts;
+        this.indexes = new int[parts.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = parseIntPart(parts.get(i));
+        }
     }
 
     /**
@@ -85,6 +99,19 @@ public final class NodePointer {
         return pointer.isEmpty() ? empty() : new NodePointer(pointer, parseJsonPointer(pointer));
     }
 
+    // Creates a pointer from unescaped parts.
+    static NodePointer fromParts(List<String> parts) {
+        if (parts.isEmpty()) {
+            return empty();
+        }
+
+        StringBuilder result = new StringBuilder();
+        for (String part : parts) {
+            result.append('/').append(part.replace("~", "~0").replace("/", "~1"));
+        }
+        return new NodePointer(result.toString(), parts);
+    }
+
     private static List<String> parseJsonPointer(String pointer) {
         if (pointer.isEmpty()) {
             return Collections.emptyList();
@@ -152,15 +179,16 @@ public final class NodePointer {
     public Node getValue(Node container) {
         Node result = container;
 
-        for (String part : parts) {
-            if (result.asObjectNode().isPresent()) {
+        for (int i = 0; i < indexes.length; i++) {
+            String part = parts.get(i);
+            if (result.isObjectNode()) {
                 result = result.expectObjectNode().getMember(part).orElse(Node.nullNode());
-            } else if (result.asArrayNode().isPresent()) {
+            } else if (result.isArrayNode()) {
                 ArrayNode array = result.expectArrayNode();
                 if (part.equals("-")) {
                     return array.get(array.size() - 1).orElse(Node.nullNode());
                 } else {
-                    result = array.get(parseIntPart(part)).orElse(Node.nullNode());
+                    result = array.get(indexes[i]).orElse(Node.nullNode());
                 }
             } else {
                 return Node.nullNode();
@@ -273,7 +301,7 @@ public final class NodePointer {
     ) {
         if (!isLast) {
             // "-" is a special case for the last element.
-            int partInt = part.equals("-") ? container.size() - 1 : parseIntPart(part);
+            int partInt = part.equals("-") ? container.size() - 1 : indexes[partPosition];
             if (container.get(partInt).isPresent()) {
                 // Can only traverse into actual array elements.
                 Node item = container.get(partInt).get();
@@ -289,7 +317,7 @@ public final class NodePointer {
             return container.withValue(value);
         } else {
             // Add the value before the given index.
-            int partInt = parseIntPart(part);
+            int partInt = indexes[partPosition];
             if (partInt > -1 && container.size() >= partInt) {
                 List<Node> list = new ArrayList<>(container.getElements());
                 list.add(partInt, value);
@@ -302,6 +330,172 @@ public final class NodePointer {
         }
     }
 
+    /**
+     * Adds or replaces each value in {@code container} at its JSON pointer
+     * location.
+     *
+     * <p>The result is the same as calling {@link #addValue(Node, Node)}
+     * for each entry in order, but each updated object and array is only
+     * copied once. The same pointer can be used more than once, for example
+     * to append several values to an array.
+     *
+     * @param container Node to update.
+     * @param values Pairs of the pointer to add a value at and the value to add.
+     * @return Returns a representation of {@code container} with the updated values.
+     */
+    public static Node addValues(Node container, List<? extends Map.Entry<NodePointer, ? extends Node>> values) {
+        return addAll(container, values, false);
+    }
+
+    /**
+     * Adds or replaces each value in {@code container} at its JSON pointer
+     * location, creating objects for intermediate values that don't exist.
+     *
+     * <p>The result is the same as calling
+     * {@link #addWithIntermediateValues(Node, Node)} for each entry in
+     * order, but each updated object and array is only copied once. The
+     * same pointer can be used more than once, for example to append
+     * several values to an array.
+     *
+     * @param container Node to update.
+     * @param values Pairs of the pointer to add a value at and the value to add.
+     * @return Returns a representation of {@code container} with the updated values.
+     */
+    public static Node addValuesWithIntermediateValues(
+            Node container,
+            List<? extends Map.Entry<NodePointer, ? extends Node>> values
+    ) {
+        return addAll(container, values, true);
+    }
+
+    // Values are added to mutable copies of the containers they update, which are only turned back
+    // into nodes once all values are added.
+    private static Node addAll(
+            Node container,
+            List<? extends Map.Entry<NodePointer, ? extends Node>> values,
+            boolean intermediate
+    ) {
+        Object result = container;
+        for (Map.Entry<NodePointer, ? extends Node> entry : values) {
+            NodePointer pointer = entry.getKey();
+            Node value = entry.getValue();
+            result = pointer.parts.isEmpty() ? value : pointer.addMutable(result, value, 0, intermediate);
+        }
+        return MutableContainer.build(result);
+    }
+
+    private Object addMutable(Object container, Node value, int partPosition, boolean intermediate) {
+        MutableContainer mutable = MutableContainer.of(container);
+        if (mutable == null) {
+            LOGGER.warning(() -> String.format(
+                    "Attempted to add a value through JSON pointer `%s`, but segment %d targets %s",
+                    toString(),
+                    partPosition,
+                    Node.printJson(MutableContainer.build(container))));
+            return container;
+        }
+
+        String part = parts.get(partPosition);
+        boolean isLast = partPosition == parts.size() - 1;
+
+        if (mutable.members != null) {
+            StringNode key = new StringNode(part, SourceLocation.none());
+            Object member = mutable.members.get(key);
+            if (isLast) {
+                mutable.members.put(key, value);
+            } else if (member != null) {
+                mutable.members.put(key, addMutable(member, value, partPosition + 1, intermediate));
+            } else if (intermediate) {
+                Object synthesized = addMutable(Node.objectNode(), value, partPosition + 1, intermediate);
+                mutable.members.put(key, synthesized);
+            } else {
+                LOGGER.warning(() -> String.format(
+                        "Attempted to add a value through JSON pointer `%s`, but `%s` could not be found in %s",
+                        toString(),
+                        part,
+                        Node.printJson(mutable.build())));
+            }
+        } else {
+            List<Object> elements = mutable.elements;
+            if (!isLast) {
+                int partInt = part.equals("-") ? elements.size() - 1 : indexes[partPosition];
+                if (partInt > -1 && partInt < elements.size()) {
+                    elements.set(partInt, addMutable(elements.get(partInt), value, partPosition + 1, intermediate));
+                } else {
+                    logInvalidArrayIndex(mutable.build(), partInt);
+                }
+            } else if (part.equals("-")) {
+                elements.add(value);
+            } else {
+                int partInt = indexes[partPosition];
+                if (partInt > -1 && elements.size() >= partInt) {
+                    elements.add(partInt, value);
+                } else {
+                    logInvalidArrayIndex(mutable.build(), partInt);
+                }
+            }
+        }
+
+        return mutable;
+    }
+
+    // A copy of an object or array that is being updated by addValues. Members and elements are
+    // either nodes or other mutable containers.
+    private static final class MutableContainer {
+        private final SourceLocation sourceLocation;
+        private final Map<StringNode, Object> members;
+        private final List<Object> elements;
+
+        private MutableContainer(
+                SourceLocation sourceLocation,
+                Map<StringNode, Object> members,
+                List<Object> elements
+        ) {
+            this.sourceLocation = sourceLocation;
+            this.members = members;
+            this.elements = elements;
+        }
+
+        // Returns a mutable copy of an object or array, or null if the value isn't a container.
+        static MutableContainer of(Object value) {
+            if (value instanceof MutableContainer) {
+                return (MutableContainer) value;
+            }
+            Node node = (Node) value;
+            if (node.isObjectNode()) {
+                return new MutableContainer(node.getSourceLocation(),
+                        new LinkedHashMap<>(node.expectObjectNode().getMembers()),
+                        null);
+            } else if (node.isArrayNode()) {
+                return new MutableContainer(node.getSourceLocation(),
+                        null,
+                        new ArrayList<>(node.expectArrayNode().getElements()));
+            } else {
+                return null;
+            }
+        }
+
+        static Node build(Object value) {
+            return value instanceof MutableContainer ? ((MutableContainer) value).build() : (Node) value;
+        }
+
+        Node build() {
+            if (members != null) {
+                Map<StringNode, Node> result = new LinkedHashMap<>(members.size());
+                for (Map.Entry<StringNode, Object> entry : members.entrySet()) {
+                    result.put(entry.getKey(), build(entry.getValue()));
+                }
+                return new ObjectNode(result, sourceLocation, false);
+            } else {
+                List<Node> result = new ArrayList<>(elements.size());
+                for (Object element : elements) {
+                    result.add(build(element));
+                }
+                return new ArrayNode(result, sourceLocation, false);
+            }
+        }
+    }
+
     private void logInvalidArrayIndex(Node container, int partInt) {
         LOGGER.warning(() -> String.format(
                 "Attempted to add a value through JSON pointer `%s`, but index %d could not be set in %s",
@@ -310,7 +504,7 @@ public final class NodePointer {
                 Node.printJson(container)));
     }
 
-    private int parseIntPart(String part) {
+    private static int parseIntPart(String part) {
         try {
             return Integer.parseInt(part);
         } catch (NumberFormatException e) {
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.utils.SmithyInternalApi;
 
 /**
  * Represents a number node. Number nodes contain a {@code Number} value.
@@ -20,18 +21,73 @@ import software.amazon.smithy.model.SourceLocation;
  */
 public final class NumberNode extends Node {
 
-    private final BigDecimal value;
-    private final Number originalValue;
-    private final String stringCache;
+    // Numbers parsed from JSON keep their literal and are only decoded when first used. The decoded
+    // fields are written before originalValue, which is volatile so that it safely publishes them.
+    private final String literal;
+    private BigDecimal value;
+    private String stringCache;
     private boolean isNaN;
     private boolean isPositiveInfinity;
     private boolean isNegativeInfinity;
+    private volatile Number originalValue;
 
     public NumberNode(Number value, SourceLocation sourceLocation) {
         super(sourceLocation);
-        originalValue = value;
-        stringCache = value.toString();
-        this.value = toBigDecimal(originalValue);
+        literal = null;
+        decode(value);
+    }
+
+    private NumberNode(String literal, SourceLocation sourceLocation) {
+        super(sourceLocation);
+        this.literal = literal;
+    }
+
+    /**
+     * Checks if a JSON number literal can be decoded lazily using {@link #fromLiteral}.
+     *
+     * @param literal JSON number literal to check.
+     * @return Returns true if the literal is an integer that always fits in a long.
+     */
+    @SmithyInternalApi
+    public static boolean isLazyLiteral(String literal) {
+        int length = literal.length();
+        if (length == 0 || length > 18) {
+            return false;
+        }
+        for (int i = literal.charAt(0) == '-' ? 1 : 0; i < length; i++) {
+            char c = literal.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return length > 1 || literal.charAt(0) != '-';
+    }
+
+    /**
+     * Creates a number node from a JSON integer literal that is decoded when first used.
+     *
+     * @param literal Literal accepted by {@link #isLazyLiteral}.
+     * @param sourceLocation Source location of the number.
+     * @return Returns the created number node.
+     */
+    @SmithyInternalApi
+    public static NumberNode fromLiteral(String literal, SourceLocation sourceLocation) {
+        return new NumberNode(literal, sourceLocation);
+    }
+
+    private Number decoded() {
+        Number result = originalValue;
+        if (result == null) {
+            result = Long.parseLong(literal);
+            decode(result);
+        }
+        return result;
+    }
+
+    private void decode(Number number) {
+        stringCache = number.toString();
+        value = toBigDecimal(number);
+        originalValue = number;
     }
 
     private BigDecimal toBigDecimal(Number value) {
@@ -69,7 +125,7 @@ public final class NumberNode extends Node {
      * @return Returns a number.
      */
     public Number getValue() {
-        return originalValue;
+        return decoded();
     }
 
     /**
@@ -80,6 +136,7 @@ public final class NumberNode extends Node {
      * @return Returns the BigDecimal value of the wrapped number.
      */
     public Optional<BigDecimal> asBigDecimal() {
+        decoded();
         return Optional.ofNullable(value);
     }
 
@@ -96,6 +153,7 @@ public final class NumberNode extends Node {
      * @return Return true if negative.
      */
     public boolean isNegative() {
+        decoded();
         return isNegativeInfinity || (value != null && value.compareTo(BigDecimal.ZERO) < 0);
     }
 
@@ -105,6 +163,7 @@ public final class NumberNode extends Node {
      * @return Returns true if the node contains a floating point number.
      */
     public boolean isFloatingPointNumber() {
+        decoded();
         return value == null || value.scale() > 0 || toString().contains(".");
     }
 
@@ -114,6 +173,7 @@ public final class NumberNode extends Node {
      * @return Return true if NaN.
      */
     public boolean isNaN() {
+        decoded();
         return isNaN;
     }
 
@@ -123,6 +183,7 @@ public final class NumberNode extends Node {
      * @return Return true if infinite.
      */
     public boolean isInfinite() {
+        decoded();
         return isPositiveInfinity || isNegativeInfinity;
     }
 
@@ -168,6 +229,7 @@ public final class NumberNode extends Node {
      * @return Returns true if set to zero.
      */
     public boolean isZero() {
+        decoded();
         return value != null && value.compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -179,6 +241,8 @@ public final class NumberNode extends Node {
             return true;
         } else {
             NumberNode o = (NumberNode) other;
+            decoded();
+            o.decoded();
             return isNaN == o.isNaN
                     && isPositiveInfinity == o.isPositiveInfinity
                     && isNegativeInfinity == o.isNegativeInfinity
@@ -188,11 +252,18 @@ public final class NumberNode extends Node {
 
     @Override
     public int hashCode() {
-        return getType().hashCode() * 7 + stringCache.hashCode();
+        decoded();
+        // Hash the decoded value rather than the string form so that numbers of different
+        // types that are equal, like a float and the double it widens to, hash the same.
+        int valueHash = value != null
+                ? value.hashCode()
+                : isNaN ? 1 : isPositiveInfinity ? 2 : 3;
+        return getType().hashCode() * 7 + valueHash;
     }
 
     @Override
     public String toString() {
+        decoded();
         return stringCache;
     }
 }
@@ -7,7 +7,6 @@ package software.amazon.smithy.model.node;
 import static java.lang.String.format;
 
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -24,36 +23,58 @@ import java.util.stream.Collectors;
 import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.utils.BuilderRef;
-import software.amazon.smithy.utils.MapUtils;
 import software.amazon.smithy.utils.SmithyBuilder;
+import software.amazon.smithy.utils.SmithyInternalApi;
 import software.amazon.smithy.utils.ToSmithyBuilder;
 
 /**
  * Represents an object node.
  */
 public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode> {
-    static final ObjectNode EMPTY = new ObjectNode(MapUtils.of(), SourceLocation.none(), false);
+    static final ObjectNode EMPTY = new ObjectNode(CompactNodeMap.EMPTY, SourceLocation.none(), false);
     private static final Logger LOGGER = Logger.getLogger(ObjectNode.class.getName());
 
-    private final Map<StringNode, Node> nodeMap;
-    /** A cache of computed string to Node values. */
-    private transient Map<String, Node> stringMap;
+    // Either a CompactNodeMap or, for nodes created by lazy parsing, the DeferredContents that parse it.
+    private final Object contents;
+    /** The cached deep hash code of the node, or 0 if not computed. */
+    private int hash;
 
     public ObjectNode(Map<StringNode, Node> members, SourceLocation sourceLocation) {
         this(members, sourceLocation, true);
     }
 
-    // Constructor used internally to reduce copies.
+    // Constructor used internally to reduce copies. Members are always copied into a compact map, so the
+    // given map is never retained or mutated.
     ObjectNode(Map<StringNode, Node> nodeMap, SourceLocation sourceLocation, boolean defensiveCopy) {
         super(sourceLocation);
-        this.nodeMap = defensiveCopy
-                ? Collections.unmodifiableMap(new LinkedHashMap<>(nodeMap))
-                : Collections.unmodifiableMap(nodeMap);
+        this.contents = CompactNodeMap.copyOf(nodeMap);
     }
 
     private ObjectNode(Builder builder) {
         super(builder.sourceLocation);
-        this.nodeMap = builder.nodeMap.copy();
+        this.contents = CompactNodeMap.copyOf(builder.nodeMap.peek());
+    }
+
+    private ObjectNode(SourceLocation sourceLocation, DeferredContents<CompactNodeMap> contents) {
+        super(sourceLocation);
+        this.contents = contents;
+    }
+
+    /**
+     * Creates an object node whose members are parsed when they are first
+     * accessed.
+     *
+     * <p>The node behaves exactly like an object node that contains the
+     * members of the node returned by {@code parser}, which is invoked at
+     * most once.
+     *
+     * @param sourceLocation Source location of the node.
+     * @param parser Parses the members of the node.
+     * @return Returns the created node.
+     */
+    @SmithyInternalApi
+    public static ObjectNode deferred(SourceLocation sourceLocation, Supplier<ObjectNode> parser) {
+        return new ObjectNode(sourceLocation, new DeferredContents<>(() -> parser.get().nodeMap()));
     }
 
     public static ObjectNode fromStringMap(Map<String, String> map) {
@@ -92,16 +113,18 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
     /**
      * Constructs a new object node with the given member added.
      *
+     * <p>The new node shares its members with this node when possible, so
+     * chains of calls that add new members take amortized constant time
+     * rather than copying every member for each call.
+     *
      * @param key Name of the member to add.
      * @param <T> Type of the value member to add.
      * @param value Value of the member to add.
      * @return Returns a new object node.
      */
     public <T extends ToNode> ObjectNode withMember(StringNode key, T value) {
-        Map<StringNode, Node> nodeMapCopy = new LinkedHashMap<>(nodeMap);
-        nodeMapCopy.put(Objects.requireNonNull(key), Objects.requireNonNull(value).toNode());
-        // Use the constructor that doesn't re-copy.
-        return new ObjectNode(nodeMapCopy, getSourceLocation(), false);
+        CompactNodeMap updated = nodeMap().with(Objects.requireNonNull(key), Objects.requireNonNull(value).toNode());
+        return new ObjectNode(updated, getSourceLocation(), false);
     }
 
     /**
@@ -169,13 +192,9 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a new object node.
      */
     public ObjectNode withoutMember(String memberName) {
-        if (!getStringMap().containsKey(memberName)) {
-            return this;
-        }
-        Map<StringNode, Node> copiedMembers = new LinkedHashMap<>(nodeMap);
-        copiedMembers.keySet().removeIf(k -> k.getValue().equals(memberName));
-        // Use the constructor that doesn't re-copy.
-        return new ObjectNode(copiedMembers, getSourceLocation(), false);
+        CompactNodeMap current = nodeMap();
+        CompactNodeMap updated = current.without(memberName);
+        return updated == current ? this : new ObjectNode(updated, getSourceLocation(), false);
     }
 
     /**
@@ -184,7 +203,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns a map of nodes.
      */
     public Map<StringNode, Node> getMembers() {
-        return nodeMap;
+        return nodeMap();
     }
 
     /**
@@ -194,7 +213,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns true if this member is in the ObjectNode.
      */
     public boolean containsMember(String memberName) {
-        return getStringMap().containsKey(memberName);
+        return nodeMap().indexOf(memberName) != -1;
     }
 
     /**
@@ -204,7 +223,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the optional node with the given member name.
      */
     public Optional<Node> getMember(String memberName) {
-        return Optional.ofNullable(getStringMap().get(memberName));
+        return Optional.ofNullable(nodeMap().getByName(memberName));
     }
 
     /**
@@ -226,16 +245,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the immutable map.
      */
     public Map<String, Node> getStringMap() {
-        Map<String, Node> map = stringMap;
-        if (map == null) {
-            map = new LinkedHashMap<>(nodeMap.size());
-            for (Map.Entry<StringNode, Node> entry : nodeMap.entrySet()) {
-                map.put(entry.getKey().getValue(), entry.getValue());
-            }
-            stringMap = Collections.unmodifiableMap(map);
-        }
-
-        return stringMap;
+        return nodeMap().getStringMap();
     }
 
     /**
@@ -681,7 +691,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns if this object is empty.
      */
     public boolean isEmpty() {
-        return nodeMap.isEmpty();
+        return nodeMap().isEmpty();
     }
 
     /**
@@ -690,7 +700,7 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the number of members.
      */
     public int size() {
-        return nodeMap.size();
+        return nodeMap().size();
     }
 
     /**
@@ -704,12 +714,10 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
      * @return Returns the merged object node.
      */
     public ObjectNode merge(ObjectNode other) {
-        Map<StringNode, Node> result = new LinkedHashMap<>(getMembers());
-        result.putAll(other.nodeMap);
         return new ObjectNode(
-                result,
+                nodeMap().withAll(other.nodeMap()),
                 getSourceLocation() != SourceLocation.NONE ? getSourceLocation() : other.getSourceLocation(),
-                false); // Use the constructor that doesn't re-copy.
+                false);
     }
 
     /**
@@ -752,12 +760,27 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof ObjectNode && nodeMap.equals(((ObjectNode) other).nodeMap);
+        if (other == this) {
+            return true;
+        } else if (!(other instanceof ObjectNode)) {
+            return false;
+        }
+
+        // The deep hash codes are cached, so mismatched nodes can usually be rejected without walking them.
+        ObjectNode otherNode = (ObjectNode) other;
+        return nodeMap().size() == otherNode.nodeMap().size()
+                && hashCode() == otherNode.hashCode()
+                && nodeMap().equals(otherNode.nodeMap());
     }
 
     @Override
     public int hashCode() {
-        return getType().hashCode() * 7 + nodeMap.hashCode();
+        int h = hash;
+        if (h == 0) {
+            h = getType().hashCode() * 7 + nodeMap().hashCode();
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -765,6 +788,16 @@ public final class ObjectNode extends Node implements ToSmithyBuilder<ObjectNode
         return new Builder().merge(this);
     }
 
+    private CompactNodeMap nodeMap() {
+        Object result = contents;
+        return result instanceof CompactNodeMap ? (CompactNodeMap) result : parseDeferred(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CompactNodeMap parseDeferred(Object contents) {
+        return ((DeferredContents<CompactNodeMap>) contents).get();
+    }
+
     /**
      * Builder used to efficiently create an ObjectNode.
      */
@@ -0,0 +1,772 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.model.loader.ModelSyntaxException;
+
+/**
+ * A parser for UTF-8 encoded JSON bytes that reports the same events,
+ * errors, and source locations as {@link JsonParser}.
+ *
+ * <p>The input is parsed directly from a byte array rather than first being
+ * decoded into a String and read through a Reader:
+ *
+ * <ul>
+ *     <li>String bodies are scanned in bulk using a lookup table until a quote,
+ *     escape, control character, or non-ASCII byte is found. ASCII strings
+ *     without escapes are created directly from the scanned bytes.</li>
+ *     <li>Object keys that are short ASCII strings are interned against a small
+ *     table, so repeated keys share a single String.</li>
+ *     <li>Non-ASCII bytes are only decoded inside strings and comments.</li>
+ * </ul>
+ *
+ * <p>Columns in source locations count UTF-16 chars like {@link JsonParser}
+ * does, so lines that contain multibyte characters track how many more bytes
+ * than chars have been consumed.
+ *
+ * <p>When parsing lazily, nested objects and arrays that span at least
+ * {@link #DEFER_THRESHOLD} bytes are reported to the handler as
+ * {@link Deferred} values that are parsed later. The first nested value
+ * read at each level is first scanned without creating any values, which
+ * validates it, so errors are still reported while parsing the document,
+ * and records where every deferrable value inside of it ends. Parsing a
+ * deferred value later jumps over the deferrable values it contains, so
+ * each byte is scanned at most once before being parsed.
+ */
+final class JsonByteParser {
+
+    private static final int MAX_NESTING_LEVEL = 1000;
+    private static final int KEY_CACHE_SIZE = 1024;
+    private static final int MAX_CACHED_KEY_LENGTH = 64;
+
+    /** The minimum length in bytes of objects and arrays that are deferred when parsing lazily. */
+    static final int DEFER_THRESHOLD = 1024;
+
+    // Ignores the events of values that are being scanned.
+    private static final JsonHandler<Object, Object> SKIP_HANDLER = new JsonHandler<Object, Object>() {};
+
+    // Bytes that stop the bulk scan of a string body.
+    private static final boolean[] STRING_STOP = new boolean[256];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            STRING_STOP[i] = true;
+        }
+        for (int i = 0x80; i < 256; i++) {
+            STRING_STOP[i] = true;
+        }
+        STRING_STOP['"'] = true;
+        STRING_STOP['\\'] = true;
+    }
+
+    private final String filename;
+    private final boolean allowComments;
+    private final Document document;
+    private final String[] keyCache;
+    private JsonHandler<Object, Object> handler;
+    private byte[] input;
+    private int end;
+    private int pos;
+    private int current;
+    private int line;
+    private int lineStart;
+    private int lineDelta;
+    private int nestingLevel;
+    private StringBuilder captureBuffer;
+
+    // Set when values are scanned to validate them and to find where they end.
+    private boolean skipping;
+    // Set when nested values can be deferred.
+    private boolean deferring;
+    // Set when parsing a deferred value, whose deferrable values are already known.
+    private boolean resumed;
+
+    JsonByteParser(String filename, JsonHandler<?, ?> handler, boolean allowComments) {
+        this(filename, handler, allowComments, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonByteParser(String filename, JsonHandler<?, ?> handler, boolean allowComments, Document document) {
+        if (handler == null) {
+            throw new NullPointerException("handler is null");
+        }
+        this.handler = (JsonHandler<Object, Object>) handler;
+        this.filename = filename;
+        this.allowComments = allowComments;
+        this.document = document;
+        this.keyCache = document == null ? new String[KEY_CACHE_SIZE] : document.keyCache;
+        this.deferring = document != null;
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON, deferring nested objects and arrays that
+     * span at least {@link #DEFER_THRESHOLD} bytes.
+     *
+     * <p>Deferred values are reported to the handler using
+     * {@link JsonHandler#endDeferredObject} and {@link JsonHandler#endDeferredArray}.
+     * The given bytes must not be modified after they are parsed.
+     *
+     * @param filename Filename to use in source locations.
+     * @param handler Handler that receives parser events.
+     * @param allowComments Set to true to allow comments.
+     * @param bytes Bytes to parse.
+     * @param offset Position of the first byte to parse.
+     * @param length Number of bytes to parse.
+     * @throws ModelSyntaxException if the input is not valid JSON
+     */
+    static void parseLazily(
+            String filename,
+            JsonHandler<?, ?> handler,
+            boolean allowComments,
+            byte[] bytes,
+            int offset,
+            int length
+    ) {
+        Document document = new Document(filename, allowComments, bytes, offset + length);
+        synchronized (document) {
+            new JsonByteParser(filename, handler, allowComments, document).parse(bytes, offset, length);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON. The input must contain a valid JSON value,
+     * optionally padded with whitespace.
+     *
+     * @param bytes Bytes to parse.
+     * @param offset Position of the first byte to parse.
+     * @param length Number of bytes to parse.
+     * @throws ModelSyntaxException if the input is not valid JSON
+     */
+    void parse(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            throw new NullPointerException("bytes is null");
+        }
+        input = bytes;
+        pos = offset;
+        end = offset + length;
+        line = 1;
+        lineStart = offset;
+        lineDelta = 0;
+        current = pos < end ? input[pos] & 0xFF : -1;
+        skipWhiteSpace();
+        readValue();
+        skipWhiteSpace();
+        if (!isEndOfText()) {
+            throw error("Unexpected character");
+        }
+    }
+
+    private void readValue() {
+        switch (current) {
+            case 'n':
+                readNull();
+                break;
+            case 't':
+                readTrue();
+                break;
+            case 'f':
+                readFalse();
+                break;
+            case '"':
+                readString();
+                break;
+            case '[':
+            case '{':
+                if (deferring && nestingLevel > 0) {
+                    readDeferrableValue();
+                } else {
+                    readContainer();
+                }
+                break;
+            case '-':
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                readNumber();
+                break;
+            default:
+                throw expected("value");
+        }
+    }
+
+    private void readContainer() {
+        if (current == '[') {
+            readArray();
+        } else {
+            readObject();
+        }
+    }
+
+    private void readDeferrableValue() {
+        Span span = document.spans.get(pos);
+
+        if (span == null && !resumed) {
+            // Scan the value to validate it and to record the deferrable values it contains.
+            int start = pos;
+            int startLine = line;
+            int startLineStart = lineStart;
+            int startLineDelta = lineDelta;
+            JsonHandler<Object, Object> target = handler;
+            handler = SKIP_HANDLER;
+            skipping = true;
+            deferring = false;
+            readContainer();
+            handler = target;
+            skipping = false;
+            deferring = true;
+            span = document.spans.get(start);
+            moveTo(start, startLine, startLineStart, startLineDelta);
+        }
+
+        if (span == null) {
+            // The value is too small to defer, and so is every value inside of it.
+            deferring = false;
+            readContainer();
+            deferring = true;
+            return;
+        }
+
+        Deferred deferred = new Deferred(document, pos, line, lineStart, lineDelta, nestingLevel);
+        SourceLocation location = getSourceLocation();
+        boolean isArray = current == '[';
+        moveTo(span.end, span.line, span.lineStart, span.lineDelta);
+        if (isArray) {
+            handler.endDeferredArray(deferred, location);
+        } else {
+            handler.endDeferredObject(deferred, location);
+        }
+    }
+
+    private void moveTo(int position, int newLine, int newLineStart, int newLineDelta) {
+        pos = position;
+        line = newLine;
+        lineStart = newLineStart;
+        lineDelta = newLineDelta;
+        current = pos < end ? input[pos] & 0xFF : -1;
+    }
+
+    // Records where values end while they are scanned, so they can be deferred without scanning them again.
+    private void recordSpan(int start) {
+        if (skipping && pos - start >= DEFER_THRESHOLD) {
+            document.spans.put(start, new Span(pos, line, lineStart, lineDelta));
+        }
+    }
+
+    private void readArray() {
+        int start = pos;
+        SourceLocation location = valueLocation();
+        Object array = handler.startArray();
+        read();
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhiteSpace();
+        if (readChar(']')) {
+            nestingLevel--;
+            handler.endArray(array, location);
+            recordSpan(start);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            readValue();
+            handler.endArrayValue(array);
+            skipWhiteSpace();
+        } while (readChar(','));
+        if (!readChar(']')) {
+            throw expected("',' or ']'");
+        }
+        nestingLevel--;
+        handler.endArray(array, location);
+        recordSpan(start);
+    }
+
+    private void readObject() {
+        int start = pos;
+        SourceLocation objectLocation = valueLocation();
+        Object object = handler.startObject();
+        read();
+        if (++nestingLevel > MAX_NESTING_LEVEL) {
+            throw error("Nesting too deep");
+        }
+        skipWhiteSpace();
+        if (readChar('}')) {
+            nestingLevel--;
+            handler.endObject(object, objectLocation);
+            recordSpan(start);
+            return;
+        }
+        do {
+            skipWhiteSpace();
+            SourceLocation nameLocation = valueLocation();
+            if (current != '"') {
+                throw expected("name");
+            }
+            String name = readStringInternal(true);
+            skipWhiteSpace();
+            if (!readChar(':')) {
+                throw expected("':'");
+            }
+            skipWhiteSpace();
+            readValue();
+            handler.endObjectValue(object, name, nameLocation);
+            skipWhiteSpace();
+        } while (readChar(','));
+        if (!readChar('}')) {
+            throw expected("',' or '}'");
+        }
+        nestingLevel--;
+        handler.endObject(object, objectLocation);
+        recordSpan(start);
+    }
+
+    private void readNull() {
+        SourceLocation location = valueLocation();
+        read();
+        readRequiredChar('u');
+        readRequiredChar('l');
+        readRequiredChar('l');
+        handler.endNull(location);
+    }
+
+    private void readTrue() {
+        SourceLocation location = valueLocation();
+        read();
+        readRequiredChar('r');
+        readRequiredChar('u');
+        readRequiredChar('e');
+        handler.endBoolean(true, location);
+    }
+
+    private void readFalse() {
+        SourceLocation location = valueLocation();
+        read();
+        readRequiredChar('a');
+        readRequiredChar('l');
+        readRequiredChar('s');
+        readRequiredChar('e');
+        handler.endBoolean(false, location);
+    }
+
+    private void readRequiredChar(char ch) {
+        if (!readChar(ch)) {
+            throw expected("'" + ch + "'");
+        }
+    }
+
+    private void readString() {
+        SourceLocation location = valueLocation();
+        handler.endString(readStringInternal(false), location);
+    }
+
+    private String readStringInternal(boolean isName) {
+        read();
+        int start = pos;
+        int i = start;
+        int hash = 0;
+        while (i < end && !STRING_STOP[input[i] & 0xFF]) {
+            hash = 31 * hash + input[i];
+            i++;
+        }
+
+        String result;
+        if (i < end && input[i] == '"') {
+            // Fast path: the string only contains ASCII characters and no escapes.
+            if (skipping) {
+                result = null;
+            } else if (isName) {
+                result = createName(start, i - start, hash);
+            } else {
+                result = createAscii(start, i - start);
+            }
+            pos = i;
+        } else {
+            pos = i;
+            result = readComplexString(start);
+        }
+
+        // Skip the closing quote.
+        current = '"';
+        read();
+        return result;
+    }
+
+    // Reads a string that contains escapes, non-ASCII characters, or invalid characters.
+    // The position is at the first byte that stopped the bulk scan.
+    private String readComplexString(int start) {
+        StringBuilder builder = captureBuffer;
+        if (builder == null) {
+            captureBuffer = builder = new StringBuilder();
+        }
+        builder.setLength(0);
+        builder.append(createAscii(start, pos - start));
+
+        while (true) {
+            if (pos >= end) {
+                current = -1;
+                throw expected("valid string character");
+            }
+            int b = input[pos] & 0xFF;
+            if (b == '"') {
+                String result = builder.toString();
+                builder.setLength(0);
+                return result;
+            } else if (b == '\\') {
+                current = b;
+                readEscape(builder);
+            } else if (b >= 0x80) {
+                int runStart = pos;
+                while (pos < end && input[pos] < 0) {
+                    pos++;
+                }
+                String decoded = new String(input, runStart, pos - runStart, StandardCharsets.UTF_8);
+                builder.append(decoded);
+                lineDelta += (pos - runStart) - decoded.length();
+            } else if (b < 0x20) {
+                current = b;
+                throw expected("valid string character");
+            } else {
+                int segmentStart = pos;
+                while (pos < end && !STRING_STOP[input[pos] & 0xFF]) {
+                    pos++;
+                }
+                builder.append(createAscii(segmentStart, pos - segmentStart));
+            }
+        }
+    }
+
+    // Reads an escape sequence starting at the current backslash, leaving the position
+    // at the byte that follows the escape sequence.
+    private void readEscape(StringBuilder builder) {
+        read();
+        switch (current) {
+            case '"':
+            case '/':
+            case '\\':
+                builder.append((char) current);
+                break;
+            case 'b':
+                builder.append('\b');
+                break;
+            case 'f':
+                builder.append('\f');
+                break;
+            case 'n':
+                builder.append('\n');
+                break;
+            case 'r':
+                builder.append('\r');
+                break;
+            case 't':
+                builder.append('\t');
+                break;
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    read();
+                    if (!isHexDigit()) {
+                        throw expected("hexadecimal digit");
+                    }
+                    value = (value << 4) + Character.digit(current, 16);
+                }
+                builder.append((char) value);
+                break;
+            default:
+                throw expected("valid escape sequence");
+        }
+        read();
+    }
+
+    private String createAscii(int start, int length) {
+        return length == 0 ? "" : new String(input, start, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private String createName(int start, int length, int hash) {
+        if (length > MAX_CACHED_KEY_LENGTH) {
+            return createAscii(start, length);
+        }
+
+        int slot = (hash ^ (hash >>> 16)) & (KEY_CACHE_SIZE - 1);
+        String cached = keyCache[slot];
+        if (cached != null && cached.length() == length) {
+            boolean matches = true;
+            for (int i = 0; i < length; i++) {
+                if (cached.charAt(i) != input[start + i]) {
+                    matches = false;
+                    break;
+                }
+            }
+            if (matches) {
+                return cached;
+            }
+        }
+
+        String result = createAscii(start, length);
+        keyCache[slot] = result;
+        return result;
+    }
+
+    private void readNumber() {
+        SourceLocation location = valueLocation();
+        int start = pos;
+        readChar('-');
+        int firstDigit = current;
+        if (!readDigit()) {
+            throw expected("digit");
+        }
+        if (firstDigit != '0') {
+            while (readDigit()) {}
+        }
+        readFraction();
+        readExponent();
+        handler.endNumber(skipping ? null : createAscii(start, pos - start), location);
+    }
+
+    private boolean readFraction() {
+        if (!readChar('.')) {
+            return false;
+        }
+        if (!readDigit()) {
+            throw expected("digit");
+        }
+        while (readDigit()) {}
+        return true;
+    }
+
+    private boolean readExponent() {
+        if (!readChar('e') && !readChar('E')) {
+            return false;
+        }
+        if (!readChar('+')) {
+            readChar('-');
+        }
+        if (!readDigit()) {
+            throw expected("digit");
+        }
+        while (readDigit()) {}
+        return true;
+    }
+
+    private boolean readChar(char ch) {
+        if (current != ch) {
+            return false;
+        }
+        read();
+        return true;
+    }
+
+    private boolean readDigit() {
+        if (!isDigit()) {
+            return false;
+        }
+        read();
+        return true;
+    }
+
+    private void skipWhiteSpace() {
+        do {
+            if (isWhiteSpace()) {
+                // Skip runs of whitespace like indentation without calling read() for each byte.
+                int i = pos;
+                while (i < end) {
+                    byte b = input[i];
+                    if (b == '\n') {
+                        if (i + 1 < end) {
+                            line++;
+                            lineStart = i + 1;
+                            lineDelta = 0;
+                        }
+                    } else if (b != ' ' && b != '\t' && b != '\r') {
+                        break;
+                    }
+                    i++;
+                }
+                pos = i;
+                current = pos < end ? input[pos] & 0xFF : -1;
+            }
+        } while (skipComment());
+    }
+
+    private boolean skipComment() {
+        // Skip comments that can appear anywhere whitespace can appear.
+        if (allowComments && current == '/') {
+            // Skip the opening '/'.
+            read();
+
+            // The next character must be "/";
+            if (!readChar('/')) {
+                throw expected("Expected '/' to form a valid comment");
+            }
+
+            // Read until EOF or a newline.
+            int start = pos;
+            boolean hasNonAscii = false;
+            while (!isEndOfText() && current != '\n') {
+                hasNonAscii |= current >= 0x80;
+                read();
+            }
+
+            if (hasNonAscii) {
+                // Count columns in chars rather than bytes in case the input ends on this line.
+                lineDelta += (pos - start) - new String(input, start, pos - start, StandardCharsets.UTF_8).length();
+            }
+
+            // Skip the newline.
+            if (current == '\n') {
+                read();
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private void read() {
+        if (pos < end) {
+            // Like JsonParser, only start a new line when a character follows the newline.
+            if (input[pos] == '\n' && pos + 1 < end) {
+                line++;
+                lineStart = pos + 1;
+                lineDelta = 0;
+            }
+            pos++;
+        }
+        current = pos < end ? input[pos] & 0xFF : -1;
+    }
+
+    // Source locations of values are only created when they're reported to the handler.
+    private SourceLocation valueLocation() {
+        return skipping ? null : getSourceLocation();
+    }
+
+    private SourceLocation getSourceLocation() {
+        return new SourceLocation(filename, line, pos - lineStart - lineDelta + 1);
+    }
+
+    private ModelSyntaxException expected(String expected) {
+        if (isEndOfText()) {
+            return error("Unexpected end of input");
+        }
+        return error("Expected " + expected);
+    }
+
+    private ModelSyntaxException error(String message) {
+        return new ModelSyntaxException("Error parsing JSON: " + message, getSourceLocation());
+    }
+
+    private boolean isWhiteSpace() {
+        return current == ' ' || current == '\t' || current == '\n' || current == '\r';
+    }
+
+    private boolean isDigit() {
+        return current >= '0' && current <= '9';
+    }
+
+    private boolean isHexDigit() {
+        return current >= '0' && current <= '9'
+                || current >= 'a' && current <= 'f'
+                || current >= 'A' && current <= 'F';
+    }
+
+    private boolean isEndOfText() {
+        return current == -1;
+    }
+
+    /**
+     * The input of a lazily parsed document, shared by every value deferred
+     * while parsing it.
+     *
+     * <p>Parsers synchronize on the document, since they share its key cache
+     * and record spans in it.
+     */
+    private static final class Document {
+        private final String filename;
+        private final boolean allowComments;
+        private final byte[] input;
+        private final int end;
+        private final String[] keyCache = new String[KEY_CACHE_SIZE];
+        // Deferrable values, keyed by the position of their first byte.
+        private final Map<Integer, Span> spans = new HashMap<>();
+
+        private Document(String filename, boolean allowComments, byte[] input, int end) {
+            this.filename = filename;
+            this.allowComments = allowComments;
+            this.input = input;
+            this.end = end;
+        }
+    }
+
+    /**
+     * The parser state that follows a deferrable value.
+     */
+    private static final class Span {
+        private final int end;
+        private final int line;
+        private final int lineStart;
+        private final int lineDelta;
+
+        private Span(int end, int line, int lineStart, int lineDelta) {
+            this.end = end;
+            this.line = line;
+            this.lineStart = lineStart;
+            this.lineDelta = lineDelta;
+        }
+    }
+
+    /**
+     * An object or array whose contents are parsed on demand.
+     */
+    static final class Deferred {
+        private final Document document;
+        private final int start;
+        private final int line;
+        private final int lineStart;
+        private final int lineDelta;
+        private final int nestingLevel;
+
+        private Deferred(Document document, int start, int line, int lineStart, int lineDelta, int nestingLevel) {
+            this.document = document;
+            this.start = start;
+            this.line = line;
+            this.lineStart = lineStart;
+            this.lineDelta = lineDelta;
+            this.nestingLevel = nestingLevel;
+        }
+
+        /**
+         * Parses the value, sending its events to the given handler.
+         *
+         * <p>Deferrable values nested in the value are deferred again.
+         *
+         * @param handler Handler that receives parser events.
+         */
+        void parse(JsonHandler<?, ?> handler) {
+            synchronized (document) {
+                new JsonByteParser(document.filename, handler, document.allowComments, document).resume(this);
+            }
+        }
+    }
+
+    private void resume(Deferred value) {
+        input = document.input;
+        end = document.end;
+        resumed = true;
+        nestingLevel = value.nestingLevel;
+        moveTo(value.start, value.line, value.lineStart, value.lineDelta);
+        readContainer();
+    }
+}
@@ -62,4 +62,8 @@ abstract class JsonHandler<A, O> {
     void endObject(O object, SourceLocation location) {}
 
     void endObjectValue(O object, String name, SourceLocation keyLocation) {}
+
+    void endDeferredArray(JsonByteParser.Deferred array, SourceLocation location) {}
+
+    void endDeferredObject(JsonByteParser.Deferred object, SourceLocation location) {}
 }
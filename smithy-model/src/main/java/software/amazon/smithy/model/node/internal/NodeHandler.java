@@ -30,6 +30,45 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
         return handler.value;
     }
 
+    @SmithyInternalApi
+    public static Node parse(String filename, byte[] content, boolean allowComments) {
+        return parse(filename, content, 0, content.length, allowComments);
+    }
+
+    @SmithyInternalApi
+    public static Node parse(String filename, byte[] content, int offset, int length, boolean allowComments) {
+        NodeHandler handler = new NodeHandler();
+        new JsonByteParser(filename, handler, allowComments).parse(content, offset, length);
+        return handler.value;
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON, deferring the parsing of large nested
+     * objects and arrays until their contents are accessed.
+     *
+     * <p>The input is fully validated before this method returns. The given
+     * bytes are referenced by deferred nodes and must not be modified.
+     *
+     * @param filename Filename to use in source locations.
+     * @param content Bytes to parse.
+     * @param offset Position of the first byte to parse.
+     * @param length Number of bytes to parse.
+     * @param allowComments Set to true to allow comments.
+     * @return Returns the parsed node.
+     */
+    @SmithyInternalApi
+    public static Node parseLazily(String filename, byte[] content, int offset, int length, boolean allowComments) {
+        NodeHandler handler = new NodeHandler();
+        JsonByteParser.parseLazily(filename, handler, allowComments, content, offset, length);
+        return handler.value;
+    }
+
+    private static Node parseDeferred(JsonByteParser.Deferred deferred) {
+        NodeHandler handler = new NodeHandler();
+        deferred.parse(handler);
+        return handler.value;
+    }
+
     @SmithyInternalApi
     public static String print(Node node) {
         StringWriter writer = new StringWriter();
@@ -69,7 +108,9 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
 
     @Override
     void endNumber(String string, SourceLocation location) {
-        if (string.contains("e") || string.contains("E") || string.contains(".")) {
+        if (NumberNode.isLazyLiteral(string)) {
+            value = NumberNode.fromLiteral(string, location);
+        } else if (string.contains("e") || string.contains("E") || string.contains(".")) {
             double doubleValue = Double.parseDouble(string);
             if (Double.isFinite(doubleValue)) {
                 value = new NumberNode(doubleValue, location);
@@ -116,4 +157,14 @@ public final class NodeHandler extends JsonHandler<ArrayNode.Builder, ObjectNode
     void endObject(ObjectNode.Builder object, SourceLocation location) {
         value = object.sourceLocation(location).build();
     }
+
+    @Override
+    void endDeferredArray(JsonByteParser.Deferred array, SourceLocation location) {
+        value = ArrayNode.deferred(location, () -> parseDeferred(array).expectArrayNode());
+    }
+
+    @Override
+    void endDeferredObject(JsonByteParser.Deferred object, SourceLocation location) {
+        value = ObjectNode.deferred(location, () -> parseDeferred(object).expectObjectNode());
+    }
 }
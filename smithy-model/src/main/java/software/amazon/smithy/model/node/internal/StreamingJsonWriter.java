@@ -0,0 +1,153 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Arrays;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.utils.SmithyInternalApi;
+
+/**
+ * Writes pretty-printed JSON objects incrementally, one member at a time.
+ *
+ * <p>This allows large documents, like serialized models, to be written
+ * without first creating a {@link Node} for the entire document. The
+ * output is identical to pretty-printing an equivalent {@link Node}.
+ *
+ * <p>I/O errors are thrown as {@link UncheckedIOException}.
+ */
+@SmithyInternalApi
+public final class StreamingJsonWriter implements Flushable {
+
+    private final Writer writer;
+    private final JsonWriter jsonWriter;
+    private final NodeWriter nodeWriter;
+
+    // Tracks if each open object has written a member. Objects aren't opened until
+    // their first member is written, so empty objects can be written as "{}".
+    private boolean[] hasMembers = new boolean[8];
+    private int depth;
+
+    /**
+     * Creates a writer that encodes JSON as UTF-8 to the given stream.
+     *
+     * @param outputStream Stream to write to.
+     * @param indentString String to use for indentation.
+     */
+    public StreamingJsonWriter(OutputStream outputStream, String indentString) {
+        this(new Utf8Writer(outputStream), indentString);
+    }
+
+    /**
+     * Creates a writer that writes JSON to the given writer.
+     *
+     * @param writer Writer to write to.
+     * @param indentString String to use for indentation.
+     */
+    public StreamingJsonWriter(Writer writer, String indentString) {
+        this.writer = writer;
+        this.jsonWriter = new PrettyPrintWriter(writer, indentString);
+        this.nodeWriter = new NodeWriter(jsonWriter);
+    }
+
+    /**
+     * Starts a new object in the current value position.
+     */
+    public void startObject() {
+        if (depth == hasMembers.length) {
+            hasMembers = Arrays.copyOf(hasMembers, depth * 2);
+        }
+        hasMembers[depth++] = false;
+    }
+
+    /**
+     * Writes the name of a member of the current object.
+     *
+     * <p>The member's value must be written next using {@link #writeValue}
+     * or {@link #startObject}.
+     *
+     * @param name Name of the member to write.
+     */
+    public void writeMemberName(String name) {
+        if (depth == 0) {
+            throw new IllegalStateException("Cannot write a member name outside of an object");
+        }
+
+        try {
+            if (hasMembers[depth - 1]) {
+                jsonWriter.writeObjectSeparator();
+            } else {
+                hasMembers[depth - 1] = true;
+                jsonWriter.writeObjectOpen();
+            }
+            jsonWriter.writeMemberName(name);
+            jsonWriter.writeMemberSeparator();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes a member of the current object.
+     *
+     * @param name Name of the member.
+     * @param value Value of the member.
+     */
+    public void writeMember(String name, Node value) {
+        writeMemberName(name);
+        writeValue(value);
+    }
+
+    /**
+     * Writes a complete value in the current value position.
+     *
+     * @param value Value to write.
+     */
+    public void writeValue(Node value) {
+        try {
+            value.accept(nodeWriter);
+        } catch (RuntimeException e) {
+            if (e.getCause() instanceof IOException) {
+                throw new UncheckedIOException((IOException) e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Ends the current object.
+     */
+    public void endObject() {
+        if (depth == 0) {
+            throw new IllegalStateException("No object to end");
+        }
+
+        try {
+            if (hasMembers[--depth]) {
+                jsonWriter.writeObjectClose();
+            } else {
+                jsonWriter.writeLiteral("{}");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Flushes buffered output to the underlying stream or writer.
+     */
+    @Override
+    public void flush() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
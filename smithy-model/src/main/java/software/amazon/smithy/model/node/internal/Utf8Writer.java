@@ -0,0 +1,131 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.MalformedInputException;
+
+/**
+ * A buffered, unsynchronized writer that encodes characters as UTF-8
+ * directly into a reusable byte buffer.
+ *
+ * <p>JSON output is written as many small strings and single characters.
+ * Encoding them here avoids wrapping each write in a {@code CharBuffer}
+ * like {@link java.io.OutputStreamWriter} does. Unpaired surrogates throw a
+ * {@link MalformedInputException}, matching the writers created by
+ * {@link java.nio.file.Files#newBufferedWriter}.
+ */
+final class Utf8Writer extends Writer {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private char highSurrogate;
+
+    Utf8Writer(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (position + 4 > BUFFER_SIZE) {
+            flushBuffer();
+        }
+        encode((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (position + 4 > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            char c = chars[i];
+            if (c < 0x80 && highSurrogate == 0) {
+                buffer[position++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            if (position + 4 > BUFFER_SIZE) {
+                flushBuffer();
+            }
+            char c = string.charAt(i);
+            if (c < 0x80 && highSurrogate == 0) {
+                buffer[position++] = (byte) c;
+            } else {
+                encode(c);
+            }
+        }
+    }
+
+    private void encode(char c) throws IOException {
+        if (highSurrogate != 0) {
+            char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                int codePoint = Character.toCodePoint(high, c);
+                buffer[position++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                return;
+            }
+            throw new MalformedInputException(1);
+        }
+
+        if (c < 0x80) {
+            buffer[position++] = (byte) c;
+        } else if (c < 0x800) {
+            buffer[position++] = (byte) (0xC0 | (c >> 6));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            throw new MalformedInputException(1);
+        } else {
+            buffer[position++] = (byte) (0xE0 | (c >> 12));
+            buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            buffer[position++] = (byte) (0x80 | (c & 0x3F));
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (highSurrogate != 0) {
+                highSurrogate = 0;
+                throw new MalformedInputException(1);
+            }
+            flush();
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jfr.JfrEvents;
 import software.amazon.smithy.model.knowledge.NeighborProviderIndex;
 import software.amazon.smithy.model.shapes.Shape;
 
@@ -57,19 +58,24 @@ final class WrappedSelector implements Selector {
 
     @Override
     public Set<Shape> select(Model model, StartingContext startingContext) {
+        Object event = JfrEvents.beginSelectorEvaluated();
         Collection<? extends Shape> startingShapes = getStartingShapes(model, startingContext);
+        Set<Shape> result;
 
         if (isParallel(startingShapes)) {
-            return shapes(model).collect(Collectors.toSet());
+            result = shapes(model).collect(Collectors.toSet());
         } else {
             // This is more optimized than using shapes() for smaller models that aren't parallelized.
-            Set<Shape> result = new HashSet<>();
+            Set<Shape> collected = new HashSet<>();
             pushShapes(model, startingShapes, (ctx, s) -> {
-                result.add(s);
+                collected.add(s);
                 return InternalSelector.Response.CONTINUE;
             });
-            return result;
+            result = collected;
         }
+
+        JfrEvents.commitSelectorEvaluated(event, expression, startingShapes.size(), result.size());
+        return result;
     }
 
     private Collection<? extends Shape> getStartingShapes(Model model, StartingContext startingContext) {
@@ -91,11 +97,15 @@ final class WrappedSelector implements Selector {
         // This is more optimized than using matches() and collecting to a Set
         // because it avoids creating streams and buffering the result of
         // pushing each shape into internal selectors.
+        Object event = JfrEvents.beginSelectorEvaluated();
         Collection<? extends Shape> startingShapes = getStartingShapes(model, context);
+        int[] matches = new int[1];
         pushShapes(model, startingShapes, (ctx, s) -> {
+            matches[0]++;
             shapeMatchConsumer.accept(new ShapeMatch(s, ctx.getVars()));
             return InternalSelector.Response.CONTINUE;
         });
+        JfrEvents.commitSelectorEvaluated(event, expression, startingShapes.size(), matches[0]);
     }
 
     @Override
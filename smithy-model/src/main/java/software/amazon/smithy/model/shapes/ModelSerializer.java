@@ -4,9 +4,13 @@
  */
 package software.amazon.smithy.model.shapes;
 
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,6 +18,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -24,6 +29,7 @@ import software.amazon.smithy.model.node.ArrayNode;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.ObjectNode;
 import software.amazon.smithy.model.node.StringNode;
+import software.amazon.smithy.model.node.internal.StreamingJsonWriter;
 import software.amazon.smithy.model.traits.AddedDefaultTrait;
 import software.amazon.smithy.model.traits.BoxTrait;
 import software.amazon.smithy.model.traits.ClientOptionalTrait;
@@ -45,7 +51,8 @@ import software.amazon.smithy.utils.StringUtils;
  * serialized model.
  *
  * <p>After serializing to an ObjectNode, the node can then be serialized
- * to formats like JSON, YAML, Ion, etc.
+ * to formats like JSON, YAML, Ion, etc. Models can also be written directly
+ * to an {@link OutputStream} as JSON using {@link #serialize(Model, OutputStream)}.
  */
 public final class ModelSerializer {
 
@@ -96,8 +103,6 @@ public final class ModelSerializer {
     }
 
     public ObjectNode serialize(Model model) {
-        ShapeSerializer shapeSerializer = new ShapeSerializer();
-
         if (version.equals("1.0")) {
             model = ModelTransformer.create().downgradeToV1(model);
         }
@@ -106,35 +111,79 @@ public final class ModelSerializer {
                 .withMember("smithy", Node.from(version))
                 .withOptionalMember("metadata", createMetadata(model).map(Node::withDeepSortedKeys));
 
-        // Sort shapes by ID.
-        Map<StringNode, Node> shapes = new TreeMap<>();
+        Map<StringNode, Node> shapes = new LinkedHashMap<>();
+        serializeShapes(model, (id, value) -> shapes.put(Node.from(id), value));
+        builder.withMember("shapes", new ObjectNode(shapes, SourceLocation.NONE));
+
+        return builder.build();
+    }
+
+    /**
+     * Serializes a model as pretty-printed JSON to the given output stream.
+     *
+     * <p>Each shape is written to the stream as soon as it is serialized
+     * rather than first creating an {@link ObjectNode} for the entire model.
+     * The written UTF-8 bytes are identical to pretty-printing the result
+     * of {@link #serialize(Model)} with {@link Node#prettyPrintJson(Node)}.
+     *
+     * <p>The stream is flushed but not closed.
+     *
+     * @param model Model to serialize.
+     * @param outputStream Stream to write to.
+     * @throws UncheckedIOException if an error occurs while writing.
+     */
+    public void serialize(Model model, OutputStream outputStream) {
+        if (version.equals("1.0")) {
+            model = ModelTransformer.create().downgradeToV1(model);
+        }
+
+        StreamingJsonWriter writer = new StreamingJsonWriter(outputStream, "    ");
+        writer.startObject();
+        writer.writeMember("smithy", Node.from(version));
+        createMetadata(model).ifPresent(metadata -> writer.writeMember("metadata", metadata.withDeepSortedKeys()));
+        writer.writeMemberName("shapes");
+        writer.startObject();
+        serializeShapes(model, writer::writeMember);
+        writer.endObject();
+        writer.endObject();
+        writer.flush();
+    }
+
+    // Serializes shapes sorted by shape ID. Apply statements for mixin members are
+    // sorted along with shapes, which always places them right after their container.
+    private void serializeShapes(Model model, BiConsumer<String, Node> consumer) {
+        ShapeSerializer shapeSerializer = new ShapeSerializer();
+        List<Shape> sortedShapes = new ArrayList<>();
         for (Shape shape : model.toSet()) {
             // Members are serialized inside of other shapes, so filter them out.
             if (!shape.isMemberShape() && shapeFilter.test(shape)) {
-                Node value = shape.accept(shapeSerializer);
-                shapes.put(Node.from(shape.getId().toString()), value);
-                // Add any necessary apply statements to inherited mixin members that added traits, but only if there
-                // are actually traits to serialize. Apply statements are used here instead of redefining members on
-                // structures because apply statements are more resilient to change over time if the shapes targeted by
-                // an inherited member changes.
-                if (!shapeSerializer.mixinMemberTraits.isEmpty()) {
-                    for (MemberShape member : shapeSerializer.mixinMemberTraits) {
-                        Map<StringNode, Node> introducedTraits = createIntroducedTraitsMap(
-                                member.getIntroducedTraits().values());
-                        if (!introducedTraits.isEmpty()) {
-                            ObjectNode.Builder applyBuilder = Node.objectNodeBuilder();
-                            applyBuilder.withMember("type", "apply");
-                            ObjectNode traits = serializeTraits(applyBuilder, introducedTraits).build();
-                            shapes.put(Node.from(member.getId().toString()), traits);
-                        }
+                sortedShapes.add(shape);
+            }
+        }
+        sortedShapes.sort(Comparator.comparing(shape -> shape.getId().toString()));
+
+        for (Shape shape : sortedShapes) {
+            consumer.accept(shape.getId().toString(), shape.accept(shapeSerializer));
+            // Add any necessary apply statements to inherited mixin members that added traits, but only if there
+            // are actually traits to serialize. Apply statements are used here instead of redefining members on
+            // structures because apply statements are more resilient to change over time if the shapes targeted by
+            // an inherited member changes.
+            if (!shapeSerializer.mixinMemberTraits.isEmpty()) {
+                Map<String, Node> applies = new TreeMap<>();
+                for (MemberShape member : shapeSerializer.mixinMemberTraits) {
+                    Map<StringNode, Node> introducedTraits = createIntroducedTraitsMap(
+                            member.getIntroducedTraits().values());
+                    if (!introducedTraits.isEmpty()) {
+                        ObjectNode.Builder applyBuilder = Node.objectNodeBuilder();
+                        applyBuilder.withMember("type", "apply");
+                        ObjectNode traits = serializeTraits(applyBuilder, introducedTraits).build();
+                        applies.put(member.getId().toString(), traits);
                     }
                 }
+                applies.forEach(consumer);
+                shapeSerializer.mixinMemberTraits.clear();
             }
         }
-
-        builder.withMember("shapes", new ObjectNode(shapes, SourceLocation.NONE));
-
-        return builder.build();
     }
 
     private Optional<Node> createMetadata(Model model) {
@@ -4,6 +4,9 @@
  */
 package software.amazon.smithy.model.traits;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 import software.amazon.smithy.model.FromSourceLocation;
@@ -17,11 +20,25 @@ import software.amazon.smithy.model.shapes.ShapeId;
 public final class PatternTrait extends StringTrait {
     public static final ShapeId ID = ShapeId.from("smithy.api#pattern");
 
+    // Models tend to repeat the same patterns across many shapes, so compiled patterns are
+    // shared across every PatternTrait in the process using a bounded LRU cache.
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final Map<String, CompiledPattern> CACHE = Collections.synchronizedMap(
+            new LinkedHashMap<String, CompiledPattern>(MAX_CACHE_SIZE + 1, .75F, true) {
+                @Override
+                public boolean removeEldestEntry(Map.Entry<String, CompiledPattern> eldest) {
+                    return size() > MAX_CACHE_SIZE;
+                }
+            });
+
     private final Pattern pattern;
+    private final SimplePatternMatcher simpleMatcher;
 
     public PatternTrait(String value, SourceLocation sourceLocation) {
         super(ID, value, sourceLocation);
-        this.pattern = compilePattern(value, sourceLocation);
+        CompiledPattern compiled = compilePattern(value, sourceLocation);
+        this.pattern = compiled.pattern;
+        this.simpleMatcher = compiled.simpleMatcher;
     }
 
     public PatternTrait(String value) {
@@ -43,13 +60,46 @@ public final class PatternTrait extends StringTrait {
         return pattern;
     }
 
-    private static Pattern compilePattern(String value, FromSourceLocation sourceLocation) {
-        try {
-            return Pattern.compile(value);
-        } catch (PatternSyntaxException e) {
-            throw new SourceException(
-                    "Invalid pattern trait regular expression: `" + value + "`. " + e.getMessage(),
-                    sourceLocation);
+    /**
+     * Tests if the given value matches the pattern.
+     *
+     * <p>Patterns are not implicitly anchored, so this is equivalent to
+     * {@code getPattern().matcher(value).find()}. Simple patterns, like an
+     * anchored character class or a literal prefix, are matched in linear
+     * time without using the regular expression engine.
+     *
+     * @param value Value to test.
+     * @return Returns true if the value matches the pattern.
+     */
+    public boolean matches(CharSequence value) {
+        if (simpleMatcher != null && SimplePatternMatcher.canMatch(value)) {
+            return simpleMatcher.find(value);
+        }
+        return pattern.matcher(value).find();
+    }
+
+    private static CompiledPattern compilePattern(String value, FromSourceLocation sourceLocation) {
+        CompiledPattern compiled = CACHE.get(value);
+        if (compiled == null) {
+            try {
+                compiled = new CompiledPattern(Pattern.compile(value), SimplePatternMatcher.parse(value));
+            } catch (PatternSyntaxException e) {
+                throw new SourceException(
+                        "Invalid pattern trait regular expression: `" + value + "`. " + e.getMessage(),
+                        sourceLocation);
+            }
+            CACHE.put(value, compiled);
+        }
+        return compiled;
+    }
+
+    private static final class CompiledPattern {
+        private final Pattern pattern;
+        private final SimplePatternMatcher simpleMatcher;
+
+        CompiledPattern(Pattern pattern, SimplePatternMatcher simpleMatcher) {
+            this.pattern = pattern;
+            this.simpleMatcher = simpleMatcher;
         }
     }
 }
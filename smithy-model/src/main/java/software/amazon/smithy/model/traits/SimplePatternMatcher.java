@@ -0,0 +1,374 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.traits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A linear-time matcher for simple, start-anchored regular expressions.
+ *
+ * <p>Most pattern traits found in models are a literal prefix and one or more character
+ * classes anchored to the start and end of the string (for example, {@code ^[a-zA-Z0-9_-]{1,64}$}
+ * or {@code ^arn:aws:}). These patterns are parsed into a sequence of character class atoms.
+ * Every atom except the last must repeat a fixed number of times, which means the value can be
+ * checked with a single pass and no backtracking.
+ *
+ * <p>The matcher behaves exactly like {@code Pattern.compile(regex).matcher(value).find()}
+ * for values accepted by {@link #canMatch}. Values that contain line terminators or
+ * surrogate pairs must be matched using {@link java.util.regex.Pattern} instead, since
+ * {@code $}, {@code .}, and negated character classes treat them specially.
+ */
+final class SimplePatternMatcher {
+
+    private static final int MAX_REPETITIONS = 100_000;
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final Atom[] atoms;
+    private final boolean anchoredEnd;
+
+    private SimplePatternMatcher(List<Atom> atoms, boolean anchoredEnd) {
+        this.atoms = atoms.toArray(new Atom[0]);
+        this.anchoredEnd = anchoredEnd;
+    }
+
+    /**
+     * Attempts to create a simple matcher for the given regular expression.
+     *
+     * @param regex Regular expression to parse.
+     * @return Returns the created matcher, or null if the regex is not simple enough.
+     */
+    static SimplePatternMatcher parse(String regex) {
+        if (!regex.startsWith("^")) {
+            return null;
+        }
+
+        List<Atom> atoms = new ArrayList<>();
+        boolean anchoredEnd = false;
+        int[] position = {1};
+        int length = regex.length();
+
+        while (position[0] < length) {
+            char c = regex.charAt(position[0]);
+            CharClass charClass;
+            if (c == '$') {
+                if (position[0] != length - 1) {
+                    return null;
+                }
+                anchoredEnd = true;
+                break;
+            } else if (c == '[') {
+                charClass = parseClass(regex, position);
+            } else if (c == '\\') {
+                charClass = parseEscape(regex, position);
+            } else if (c == '.') {
+                charClass = CharClass.ANY;
+                position[0]++;
+            } else if (isMetaCharacter(c) || Character.isSurrogate(c)) {
+                return null;
+            } else {
+                charClass = CharClass.literal(c);
+                position[0]++;
+            }
+
+            if (charClass == null) {
+                return null;
+            }
+
+            Atom atom = parseQuantifier(regex, position, charClass);
+            if (atom == null) {
+                return null;
+            }
+
+            // Only the last atom can have a variable number of repetitions without backtracking.
+            if (!atoms.isEmpty() && atoms.get(atoms.size() - 1).min != atoms.get(atoms.size() - 1).max) {
+                return null;
+            }
+
+            atoms.add(atom);
+        }
+
+        return new SimplePatternMatcher(atoms, anchoredEnd);
+    }
+
+    /**
+     * Checks if the value can be matched by this matcher rather than a full regex.
+     *
+     * @param value Value to check.
+     * @return Returns true if {@link #find} can be used with the value.
+     */
+    static boolean canMatch(CharSequence value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029'
+                    || Character.isSurrogate(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds a match in the given value.
+     *
+     * @param value Value to match. The value must be accepted by {@link #canMatch}.
+     * @return Returns true if the pattern matches.
+     */
+    boolean find(CharSequence value) {
+        int length = value.length();
+        int position = 0;
+
+        for (Atom atom : atoms) {
+            int count = 0;
+            while (count < atom.max && position < length && atom.charClass.test(value.charAt(position))) {
+                count++;
+                position++;
+            }
+            if (count < atom.min) {
+                return false;
+            }
+        }
+
+        return !anchoredEnd || position == length;
+    }
+
+    private static boolean isMetaCharacter(char c) {
+        return "^$|?*+(){}[]".indexOf(c) != -1;
+    }
+
+    private static Atom parseQuantifier(String regex, int[] position, CharClass charClass) {
+        int min = 1;
+        int max = 1;
+        int length = regex.length();
+
+        if (position[0] < length) {
+            char c = regex.charAt(position[0]);
+            if (c == '*') {
+                min = 0;
+                max = UNBOUNDED;
+                position[0]++;
+            } else if (c == '+') {
+                max = UNBOUNDED;
+                position[0]++;
+            } else if (c == '?') {
+                min = 0;
+                position[0]++;
+            } else if (c == '{') {
+                int close = regex.indexOf('}', position[0]);
+                if (close == -1) {
+                    return null;
+                }
+                String body = regex.substring(position[0] + 1, close);
+                int comma = body.indexOf(',');
+                min = parseCount(comma == -1 ? body : body.substring(0, comma));
+                if (comma == -1) {
+                    max = min;
+                } else if (comma == body.length() - 1) {
+                    max = UNBOUNDED;
+                } else {
+                    max = parseCount(body.substring(comma + 1));
+                }
+                if (min == -1 || max == -1 || min > max) {
+                    return null;
+                }
+                position[0] = close + 1;
+            }
+
+            // Reluctant and possessive quantifiers are not supported.
+            if (position[0] < length && (min != 1 || max != 1)) {
+                char next = regex.charAt(position[0]);
+                if (next == '?' || next == '+') {
+                    return null;
+                }
+            }
+        }
+
+        return new Atom(charClass, min, max);
+    }
+
+    private static int parseCount(String value) {
+        if (value.isEmpty() || value.length() > 6) {
+            return -1;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < '0' || value.charAt(i) > '9') {
+                return -1;
+            }
+        }
+        int result = Integer.parseInt(value);
+        return result > MAX_REPETITIONS ? -1 : result;
+    }
+
+    private static CharClass parseEscape(String regex, int[] position) {
+        if (position[0] + 1 >= regex.length()) {
+            return null;
+        }
+
+        char c = regex.charAt(position[0] + 1);
+        position[0] += 2;
+        switch (c) {
+            case 'd':
+                return CharClass.DIGIT;
+            case 'D':
+                return CharClass.DIGIT.negate();
+            case 'w':
+                return CharClass.WORD;
+            case 'W':
+                return CharClass.WORD.negate();
+            case 's':
+                return CharClass.SPACE;
+            case 'S':
+                return CharClass.SPACE.negate();
+            default:
+                // Escaped punctuation is a literal. Escaped letters and digits have special meanings.
+                return isEscapedLiteral(c) ? CharClass.literal(c) : null;
+        }
+    }
+
+    private static boolean isEscapedLiteral(char c) {
+        return c < 128 && !Character.isLetterOrDigit(c) && !Character.isWhitespace(c);
+    }
+
+    private static CharClass parseClass(String regex, int[] position) {
+        int length = regex.length();
+        int i = position[0] + 1;
+        boolean negated = false;
+        if (i < length && regex.charAt(i) == '^') {
+            negated = true;
+            i++;
+        }
+
+        CharClass result = new CharClass();
+        boolean first = true;
+        while (i < length) {
+            char c = regex.charAt(i);
+            if (c == ']' && !first) {
+                position[0] = i + 1;
+                return negated ? result.negate() : result;
+            } else if (c == '[' || c == ']' || Character.isSurrogate(c)
+                    || (c == '&' && i + 1 < length && regex.charAt(i + 1) == '&')) {
+                // Nested classes, intersections, and an empty class aren't supported.
+                return null;
+            }
+
+            char start;
+            if (c == '\\') {
+                if (i + 1 >= length) {
+                    return null;
+                }
+                char escaped = regex.charAt(i + 1);
+                i += 2;
+                CharClass shorthand = escaped == 'd'
+                        ? CharClass.DIGIT
+                        : escaped == 'w' ? CharClass.WORD : escaped == 's' ? CharClass.SPACE : null;
+                if (shorthand != null) {
+                    // Don't try to interpret ranges that start with a shorthand class.
+                    if (i + 1 < length && regex.charAt(i) == '-' && regex.charAt(i + 1) != ']') {
+                        return null;
+                    }
+                    result.addAll(shorthand);
+                    first = false;
+                    continue;
+                } else if (!isEscapedLiteral(escaped)) {
+                    return null;
+                }
+                start = escaped;
+            } else {
+                start = c;
+                i++;
+            }
+
+            // Ranges like "a-z". A trailing "-" is a literal.
+            if (i + 1 < length && regex.charAt(i) == '-' && regex.charAt(i + 1) != ']') {
+                char end = regex.charAt(i + 1);
+                if (end == '\\' || end == '[' || Character.isSurrogate(end) || end < start) {
+                    return null;
+                }
+                result.addRange(start, end);
+                i += 2;
+            } else {
+                result.addRange(start, start);
+            }
+            first = false;
+        }
+
+        return null;
+    }
+
+    private static final class Atom {
+        private final CharClass charClass;
+        private final int min;
+        private final int max;
+
+        Atom(CharClass charClass, int min, int max) {
+            this.charClass = charClass;
+            this.min = min;
+            this.max = max;
+        }
+    }
+
+    /**
+     * A set of chars that uses a lookup table for ASCII and a list of ranges for everything else.
+     */
+    private static final class CharClass {
+        private static final CharClass ANY = new CharClass().negate();
+        private static final CharClass DIGIT = new CharClass().addRange('0', '9');
+        private static final CharClass WORD = new CharClass()
+                .addRange('a', 'z')
+                .addRange('A', 'Z')
+                .addRange('0', '9')
+                .addRange('_', '_');
+        private static final CharClass SPACE = new CharClass()
+                .addRange(' ', ' ')
+                .addRange('\t', '\r');
+
+        private final boolean[] ascii = new boolean[128];
+        private final List<char[]> ranges = new ArrayList<>();
+        private boolean negated;
+
+        static CharClass literal(char c) {
+            return new CharClass().addRange(c, c);
+        }
+
+        CharClass addRange(char start, char end) {
+            for (char c = start; c <= end && c < 128; c++) {
+                ascii[c] = true;
+            }
+            if (end >= 128) {
+                ranges.add(new char[] {(char) Math.max(start, 128), end});
+            }
+            return this;
+        }
+
+        CharClass addAll(CharClass other) {
+            for (int i = 0; i < 128; i++) {
+                ascii[i] |= other.ascii[i];
+            }
+            ranges.addAll(other.ranges);
+            return this;
+        }
+
+        CharClass negate() {
+            CharClass result = new CharClass().addAll(this);
+            result.negated = !negated;
+            return result;
+        }
+
+        boolean test(char c) {
+            boolean found = false;
+            if (c < 128) {
+                found = ascii[c];
+            } else {
+                for (char[] range : ranges) {
+                    if (c >= range[0] && c <= range[1]) {
+                        found = true;
+                        break;
+                    }
+                }
+            }
+            return found != negated;
+        }
+    }
+}
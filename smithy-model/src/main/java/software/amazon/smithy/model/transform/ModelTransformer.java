@@ -17,6 +17,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.jfr.JfrEvents;
 import software.amazon.smithy.model.loader.ModelAssembler;
 import software.amazon.smithy.model.neighbor.UnreferencedShapes;
 import software.amazon.smithy.model.neighbor.UnreferencedTraitDefinitions;
@@ -86,6 +87,14 @@ public final class ModelTransformer {
         return createWithServiceLoader(ServiceLoader.load(ModelTransformerPlugin.class, classLoader));
     }
 
+    // Records a Java Flight Recorder event for each transform implemented by this class.
+    private Model traced(String transform, Model model, Supplier<Model> applier) {
+        Object event = JfrEvents.beginTransformApplied();
+        Model result = applier.get();
+        JfrEvents.commitTransformApplied(event, transform, model, result);
+        return result;
+    }
+
     /**
      * Adds or replaces shapes into the model while ensuring that the model
      * is in a consistent state.
@@ -99,7 +108,7 @@ public final class ModelTransformer {
             return model;
         }
 
-        return new ReplaceShapes(shapes).transform(this, model);
+        return traced("replaceShapes", model, () -> new ReplaceShapes(shapes).transform(this, model));
     }
 
     /**
@@ -115,7 +124,7 @@ public final class ModelTransformer {
             return model;
         }
 
-        return new RemoveShapes(shapes, plugins).transform(this, model);
+        return traced("removeShapes", model, () -> new RemoveShapes(shapes, plugins).transform(this, model));
     }
 
     /**
@@ -165,7 +174,9 @@ public final class ModelTransformer {
             Map<ShapeId, ShapeId> renamed,
             Supplier<ModelAssembler> modelAssemblerSupplier
     ) {
-        return new RenameShapes(renamed, modelAssemblerSupplier).transform(this, model);
+        return traced("renameShapes",
+                model,
+                () -> new RenameShapes(renamed, modelAssemblerSupplier).transform(this, model));
     }
 
     /**
@@ -180,7 +191,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model filterShapes(Model model, Predicate<Shape> predicate) {
-        return new FilterShapes(predicate).transform(this, model);
+        return traced("filterShapes", model, () -> new FilterShapes(predicate).transform(this, model));
     }
 
     /**
@@ -196,7 +207,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model filterTraits(Model model, BiPredicate<Shape, Trait> predicate) {
-        return new FilterTraits(predicate).transform(this, model);
+        return traced("filterTraits", model, () -> new FilterTraits(predicate).transform(this, model));
     }
 
     /**
@@ -226,7 +237,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model filterMetadata(Model model, BiPredicate<String, Node> predicate) {
-        return new FilterMetadata(predicate).transform(model);
+        return traced("filterMetadata", model, () -> new FilterMetadata(predicate).transform(model));
     }
 
     /**
@@ -243,7 +254,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model mapTraits(Model model, BiFunction<Shape, Trait, Trait> mapper) {
-        return new MapTraits(mapper).transform(this, model);
+        return traced("mapTraits", model, () -> new MapTraits(mapper).transform(this, model));
     }
 
     /**
@@ -280,7 +291,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model mapShapes(Model model, Function<Shape, Shape> mapper) {
-        return new MapShapes(mapper).transform(this, model);
+        return traced("mapShapes", model, () -> new MapShapes(mapper).transform(this, model));
     }
 
     /**
@@ -327,7 +338,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model removeUnreferencedShapes(Model model, Predicate<Shape> keepFilter) {
-        return removeShapes(model, new UnreferencedShapes(keepFilter).compute(model));
+        return traced("removeUnreferencedShapes",
+                model,
+                () -> removeShapes(model, new UnreferencedShapes(keepFilter).compute(model)));
     }
 
     /**
@@ -356,7 +369,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.base.
      */
     public Model removeUnreferencedTraitDefinitions(Model model, Predicate<Shape> keepFilter) {
-        return removeShapes(model, new UnreferencedTraitDefinitions(keepFilter).compute(model));
+        return traced("removeUnreferencedTraitDefinitions",
+                model,
+                () -> removeShapes(model, new UnreferencedTraitDefinitions(keepFilter).compute(model)));
     }
 
     /**
@@ -391,7 +406,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model scrubTraitDefinitions(Model model, Predicate<Shape> keepFilter) {
-        return new ScrubTraitDefinitions().transform(this, model, keepFilter);
+        return traced("scrubTraitDefinitions",
+                model,
+                () -> new ScrubTraitDefinitions().transform(this, model, keepFilter));
     }
 
     /**
@@ -447,7 +464,7 @@ public final class ModelTransformer {
      * @return Returns a model that contains matching shapes.
      */
     public Model sortMembers(Model model, Comparator<MemberShape> comparator) {
-        return new SortMembers(comparator).transform(this, model);
+        return traced("sortMembers", model, () -> new SortMembers(comparator).transform(this, model));
     }
 
     /**
@@ -469,7 +486,7 @@ public final class ModelTransformer {
      * @throws ModelTransformException if an incompatible type transform is attempted.
      */
     public Model changeShapeType(Model model, Map<ShapeId, ShapeType> shapeToType) {
-        return new ChangeShapeType(shapeToType).transform(this, model);
+        return traced("changeShapeType", model, () -> new ChangeShapeType(shapeToType).transform(this, model));
     }
 
     /**
@@ -497,7 +514,9 @@ public final class ModelTransformer {
             ChangeShapeTypeOption... changeShapeTypeOptions
     ) {
         boolean synthesizeNames = ChangeShapeTypeOption.SYNTHESIZE_ENUM_NAMES.hasFeature(changeShapeTypeOptions);
-        return new ChangeShapeType(shapeToType, synthesizeNames).transform(this, model);
+        return traced("changeShapeType",
+                model,
+                () -> new ChangeShapeType(shapeToType, synthesizeNames).transform(this, model));
     }
 
     /**
@@ -514,7 +533,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model changeStringEnumsToEnumShapes(Model model, boolean synthesizeEnumNames) {
-        return ChangeShapeType.upgradeEnums(model, synthesizeEnumNames).transform(this, model);
+        return traced("changeStringEnumsToEnumShapes",
+                model,
+                () -> ChangeShapeType.upgradeEnums(model, synthesizeEnumNames).transform(this, model));
     }
 
     /**
@@ -528,7 +549,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model changeStringEnumsToEnumShapes(Model model) {
-        return ChangeShapeType.upgradeEnums(model, false).transform(this, model);
+        return traced("changeStringEnumsToEnumShapes",
+                model,
+                () -> ChangeShapeType.upgradeEnums(model, false).transform(this, model));
     }
 
     /**
@@ -538,7 +561,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model downgradeEnums(Model model) {
-        return ChangeShapeType.downgradeEnums(model).transform(this, model);
+        return traced("downgradeEnums", model, () -> ChangeShapeType.downgradeEnums(model).transform(this, model));
     }
 
     /**
@@ -550,7 +573,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model copyServiceErrorsToOperations(Model model, ServiceShape forService) {
-        return new CopyServiceErrorsToOperationsTransform(forService).transform(this, model);
+        return traced("copyServiceErrorsToOperations",
+                model,
+                () -> new CopyServiceErrorsToOperationsTransform(forService).transform(this, model));
     }
 
     /**
@@ -604,7 +629,9 @@ public final class ModelTransformer {
      * @throws ModelTransformException if an input or output shape name conflict occurs.
      */
     public Model createDedicatedInputAndOutput(Model model, String inputSuffix, String outputSuffix) {
-        return new CreateDedicatedInputAndOutput(inputSuffix, outputSuffix).transform(this, model);
+        return traced("createDedicatedInputAndOutput",
+                model,
+                () -> new CreateDedicatedInputAndOutput(inputSuffix, outputSuffix).transform(this, model));
     }
 
     /**
@@ -614,7 +641,7 @@ public final class ModelTransformer {
      * @return Returns the flattened model.
      */
     public Model flattenAndRemoveMixins(Model model) {
-        return new FlattenAndRemoveMixins().transform(this, model);
+        return traced("flattenAndRemoveMixins", model, () -> new FlattenAndRemoveMixins().transform(this, model));
     }
 
     /**
@@ -628,7 +655,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model addClientOptional(Model model, boolean applyWhenNoDefaultValue) {
-        return new AddClientOptional(applyWhenNoDefaultValue).transform(this, model);
+        return traced("addClientOptional",
+                model,
+                () -> new AddClientOptional(applyWhenNoDefaultValue).transform(this, model));
     }
 
     /**
@@ -644,7 +673,7 @@ public final class ModelTransformer {
      * @return Returns the downgraded model.
      */
     public Model downgradeToV1(Model model) {
-        return new DowngradeToV1().transform(this, model);
+        return traced("downgradeToV1", model, () -> new DowngradeToV1().transform(this, model));
     }
 
     /**
@@ -654,7 +683,7 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model removeInvalidDefaults(Model model) {
-        return new RemoveInvalidDefaults().transform(this, model);
+        return traced("removeInvalidDefaults", model, () -> new RemoveInvalidDefaults().transform(this, model));
 
     }
 
@@ -665,7 +694,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model deconflictErrorsWithSharedStatusCode(Model model, ServiceShape forService) {
-        return new DeconflictErrorsWithSharedStatusCode(forService).transform(this, model);
+        return traced("deconflictErrorsWithSharedStatusCode",
+                model,
+                () -> new DeconflictErrorsWithSharedStatusCode(forService).transform(this, model));
     }
 
     /**
@@ -675,7 +706,9 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model flattenPaginationInfoIntoOperations(Model model, ServiceShape forService) {
-        return new FlattenPaginationInfo(forService).transform(this, model);
+        return traced("flattenPaginationInfoIntoOperations",
+                model,
+                () -> new FlattenPaginationInfo(forService).transform(this, model));
     }
 
     /**
@@ -692,7 +725,9 @@ public final class ModelTransformer {
      * @see <a href="https://www.iso.org/iso-8601-date-and-time-format.html">ISO 8601</a>
      */
     public Model filterDeprecatedRelativeDate(Model model, String relativeDate) {
-        return new FilterDeprecatedRelativeDate(relativeDate).transform(this, model);
+        return traced("filterDeprecatedRelativeDate",
+                model,
+                () -> new FilterDeprecatedRelativeDate(relativeDate).transform(this, model));
     }
 
     /**
@@ -708,7 +743,9 @@ public final class ModelTransformer {
      * @see <a href="https://semver.org/">SemVer</a>
      */
     public Model filterDeprecatedRelativeVersion(Model model, String relativeVersion) {
-        return new FilterDeprecatedRelativeVersion(relativeVersion).transform(this, model);
+        return traced("filterDeprecatedRelativeVersion",
+                model,
+                () -> new FilterDeprecatedRelativeVersion(relativeVersion).transform(this, model));
     }
 
     /**
@@ -721,6 +758,8 @@ public final class ModelTransformer {
      * @return Returns the transformed model.
      */
     public Model makeIdempotencyTokensClientOptional(Model model) {
-        return MakeIdempotencyTokenClientOptional.transform(model);
+        return traced("makeIdempotencyTokensClientOptional",
+                model,
+                () -> MakeIdempotencyTokenClientOptional.transform(model));
     }
 }
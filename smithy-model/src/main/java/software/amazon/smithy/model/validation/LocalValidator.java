@@ -0,0 +1,31 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation;
+
+/**
+ * A {@link Validator} whose events for a shape only depend on that shape
+ * and the shapes it refers to.
+ *
+ * <p>Local validators must follow these rules:
+ *
+ * <ul>
+ *     <li>Every event emitted by the validator refers to a shape.</li>
+ *     <li>The events emitted for a shape or any of its members only depend
+ *     on the shapes it refers to, directly or transitively, and on the
+ *     metadata of the model. Shapes refer to the shapes targeted by their
+ *     directed relationships, including trait and idRef relationships, but
+ *     services and resources don't refer to the operations and resources
+ *     bound to them.</li>
+ * </ul>
+ *
+ * <p>Validators that don't implement this interface are considered to
+ * depend on the entire model. When a model derived from a previously
+ * validated model is assembled with a
+ * {@link software.amazon.smithy.model.loader.ValidationBaseline}, local
+ * validators are only applied to shapes affected by the differences
+ * between the models, and the events they previously emitted for other
+ * shapes are reused.
+ */
+public interface LocalValidator extends Validator {}
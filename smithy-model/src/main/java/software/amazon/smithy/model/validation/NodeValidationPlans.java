@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.KnowledgeIndex;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.node.NodeValidatorPlugin;
+import software.amazon.smithy.model.validation.node.TimestampValidationStrategy;
+
+/**
+ * Caches the parts of {@link NodeValidationVisitor} validation that only depend on a shape.
+ *
+ * <p>Trait values, defaults, and examples are often validated against the same shapes over
+ * and over. Each shape gets a {@link Plan} that resolves the plugins that can apply to the
+ * shape, the target of a member, and the required members of a structure once per model.
+ */
+final class NodeValidationPlans implements KnowledgeIndex {
+
+    private final WeakReference<Model> model;
+    private final List<NodeValidatorPlugin> plugins;
+    private final Map<ShapeId, Plan> plans = new ConcurrentHashMap<>();
+
+    NodeValidationPlans(Model model, List<NodeValidatorPlugin> plugins) {
+        this.model = new WeakReference<>(model);
+        this.plugins = plugins;
+    }
+
+    static NodeValidationPlans of(Model model, List<NodeValidatorPlugin> plugins) {
+        return model.getKnowledge(NodeValidationPlans.class, m -> new NodeValidationPlans(m, plugins));
+    }
+
+    /**
+     * Gets the validation plan of a shape.
+     *
+     * @param shape Shape to get the plan of.
+     * @return Returns the plan.
+     */
+    Plan getPlan(Shape shape) {
+        Plan plan = plans.get(shape.getId());
+
+        // Shapes that aren't part of the model can be validated too, so don't share plans across
+        // different shapes that have the same ID.
+        if (plan == null || plan.shape != shape) {
+            plan = new Plan(shape, getModel(), plugins);
+            if (getModel().getShape(shape.getId()).orElse(null) == shape) {
+                plans.put(shape.getId(), plan);
+            }
+        }
+
+        return plan;
+    }
+
+    private Model getModel() {
+        return Objects.requireNonNull(model.get(), "The dereferenced WeakReference<Model> is null");
+    }
+
+    /**
+     * The validation work that only depends on the shape being validated.
+     */
+    static final class Plan {
+        private final Shape shape;
+        private final List<NodeValidatorPlugin> plugins;
+        private final Set<TimestampValidationStrategy> timestampStrategies;
+        private final Shape target;
+        private final List<MemberShape> requiredMembers;
+
+        private Plan(Shape shape, Model model, List<NodeValidatorPlugin> builtins) {
+            this.shape = shape;
+
+            List<NodeValidatorPlugin> applicable = new ArrayList<>();
+            for (NodeValidatorPlugin plugin : builtins) {
+                if (plugin.appliesTo(shape, model)) {
+                    applicable.add(plugin);
+                }
+            }
+            this.plugins = applicable.isEmpty() ? Collections.emptyList() : applicable;
+
+            timestampStrategies = EnumSet.noneOf(TimestampValidationStrategy.class);
+            for (TimestampValidationStrategy strategy : TimestampValidationStrategy.values()) {
+                if (strategy.appliesTo(shape, model)) {
+                    timestampStrategies.add(strategy);
+                }
+            }
+
+            target = shape.asMemberShape().flatMap(member -> model.getShape(member.getTarget())).orElse(null);
+
+            List<MemberShape> required = new ArrayList<>();
+            if (shape.isStructureShape()) {
+                for (MemberShape member : shape.getAllMembers().values()) {
+                    if (member.isRequired()) {
+                        required.add(member);
+                    }
+                }
+            }
+            this.requiredMembers = required.isEmpty() ? Collections.emptyList() : required;
+        }
+
+        /**
+         * @return Returns the plugins that can apply to values of the shape.
+         */
+        List<NodeValidatorPlugin> getPlugins() {
+            return plugins;
+        }
+
+        /**
+         * @param strategy Timestamp validation strategy to check.
+         * @return Returns true if the timestamp validation strategy can apply to values of the shape.
+         */
+        boolean appliesTimestampStrategy(TimestampValidationStrategy strategy) {
+            return timestampStrategies.contains(strategy);
+        }
+
+        /**
+         * @return Returns the resolved target of a member shape, or null.
+         */
+        Shape getTarget() {
+            return target;
+        }
+
+        /**
+         * @return Returns the required members of a structure shape.
+         */
+        List<MemberShape> getRequiredMembers() {
+            return requiredMembers;
+        }
+    }
+}
@@ -72,10 +72,12 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
     private String startingContext;
     private NodeValidatorPlugin.Context validationContext;
     private final NullableIndex nullableIndex;
+    private final NodeValidationPlans plans;
 
     private NodeValidationVisitor(Builder builder) {
         this.model = SmithyBuilder.requiredState("model", builder.model);
         this.nullableIndex = NullableIndex.of(model);
+        this.plans = NodeValidationPlans.of(model, BUILTIN);
         this.validationContext = new NodeValidatorPlugin.Context(model, Feature.enumSet(builder.features));
         this.timestampValidationStrategy = builder.timestampValidationStrategy;
         setValue(SmithyBuilder.requiredState("value", builder.value));
@@ -85,6 +87,21 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
         setEventId(builder.eventId);
     }
 
+    private NodeValidationVisitor(NodeValidationVisitor parent, String segment, Node value) {
+        this.model = parent.model;
+        this.nullableIndex = parent.nullableIndex;
+        this.plans = parent.plans;
+        this.timestampValidationStrategy = parent.timestampValidationStrategy;
+        // Use the same validation context.
+        this.validationContext = parent.validationContext;
+        this.value = value;
+        this.eventShapeId = parent.eventShapeId;
+        this.eventId = parent.eventId;
+        this.startingContext = parent.startingContext.isEmpty()
+                ? segment
+                : (parent.startingContext + "." + segment);
+    }
+
     /**
      * Features to use when validating.
      */
@@ -171,17 +188,7 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
     }
 
     private NodeValidationVisitor traverse(String segment, Node node) {
-        Builder builder = builder();
-        builder.eventShapeId(eventShapeId);
-        builder.eventId(eventId);
-        builder.value(node);
-        builder.model(model);
-        builder.startingContext(startingContext.isEmpty() ? segment : (startingContext + "." + segment));
-        builder.timestampValidationStrategy(timestampValidationStrategy);
-        NodeValidationVisitor visitor = new NodeValidationVisitor(builder);
-        // Use the same validation context.
-        visitor.validationContext = this.validationContext;
-        return visitor;
+        return new NodeValidationVisitor(this, segment, node);
     }
 
     @Override
@@ -352,8 +359,8 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
                         }
                     }
 
-                    for (MemberShape member : members.values()) {
-                        if (member.isRequired() && !object.getMember(member.getMemberName()).isPresent()) {
+                    for (MemberShape member : plans.getPlan(shape).getRequiredMembers()) {
+                        if (!object.containsMember(member.getMemberName())) {
                             Severity severity = this.validationContext.hasFeature(Feature.ALLOW_CONSTRAINT_ERRORS)
                                     ? Severity.WARNING
                                     : Severity.ERROR;
@@ -398,13 +405,14 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
         if (value.isNullNode()) {
             events.addAll(checkNullMember(shape));
         }
-        model.getShape(shape.getTarget()).ifPresent(target -> {
+        Shape target = plans.getPlan(shape).getTarget();
+        if (target != null) {
             // We only need to keep track of a single referring member, so a stack of members or anything like that
             // isn't needed here.
             validationContext.setReferringMember(shape);
             events.addAll(target.accept(this));
             validationContext.setReferringMember(null);
-        });
+        }
         return events;
     }
 
@@ -512,18 +520,17 @@ public final class NodeValidationVisitor implements ShapeVisitor<List<Validation
 
     private List<ValidationEvent> applyPlugins(Shape shape) {
         List<ValidationEvent> events = new ArrayList<>();
-        timestampValidationStrategy.apply(shape,
-                value,
-                validationContext,
-                (location, severity, message, additionalEventIdParts) -> events
-                        .add(event(message, severity, location.getSourceLocation(), additionalEventIdParts)));
-
-        for (NodeValidatorPlugin plugin : BUILTIN) {
-            plugin.apply(shape,
-                    value,
-                    validationContext,
-                    (location, severity, message, additionalEventIdParts) -> events
-                            .add(event(message, severity, location.getSourceLocation(), additionalEventIdParts)));
+        NodeValidationPlans.Plan plan = plans.getPlan(shape);
+        NodeValidatorPlugin.Emitter emitter = (location, severity, message, additionalEventIdParts) -> events
+                .add(event(message, severity, location.getSourceLocation(), additionalEventIdParts));
+
+        if (plan.appliesTimestampStrategy(timestampValidationStrategy)) {
+            timestampValidationStrategy.apply(shape, value, validationContext, emitter);
+        }
+
+        // Only plugins that can apply to the shape are part of its plan.
+        for (NodeValidatorPlugin plugin : plan.getPlugins()) {
+            plugin.apply(shape, value, validationContext, emitter);
         }
 
         return events;
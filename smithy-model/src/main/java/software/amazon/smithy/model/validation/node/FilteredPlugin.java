@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.model.validation.node;
 
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.Shape;
 
@@ -24,5 +25,10 @@ abstract class FilteredPlugin<S extends Shape, N extends Node> implements NodeVa
         }
     }
 
+    @Override
+    public final boolean appliesTo(Shape shape, Model model) {
+        return shapeClass.isInstance(shape);
+    }
+
     abstract void check(S shape, N node, Context context, Emitter emitter);
 }
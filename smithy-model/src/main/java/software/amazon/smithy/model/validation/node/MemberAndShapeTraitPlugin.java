@@ -32,6 +32,11 @@ abstract class MemberAndShapeTraitPlugin<S extends Shape, N extends Node, T exte
         }
     }
 
+    @Override
+    public final boolean appliesTo(Shape shape, Model model) {
+        return shape.hasTrait(traitClass) && isMatchingShape(shape, model);
+    }
+
     private boolean isMatchingShape(Shape shape, Model model) {
         // Is the shape the expected shape type?
         if (targetShapeClass.isInstance(shape)) {
@@ -40,6 +40,21 @@ public interface NodeValidatorPlugin {
      */
     void apply(Shape shape, Node value, Context context, Emitter emitter);
 
+    /**
+     * Tests if the plugin can emit events for values validated against the given shape.
+     *
+     * <p>The result must only depend on the shape and the model and not on the value being
+     * validated, which allows the result to be computed once per shape and reused for every
+     * value validated against it. Plugins that return false are not applied to the shape.
+     *
+     * @param shape Shape being checked.
+     * @param model Model that contains the shape.
+     * @return Returns true if the plugin could apply to values of the shape.
+     */
+    default boolean appliesTo(Shape shape, Model model) {
+        return true;
+    }
+
     /**
      * @return Gets the built-in Node validation plugins.
      */
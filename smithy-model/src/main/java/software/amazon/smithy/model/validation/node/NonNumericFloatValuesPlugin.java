@@ -5,6 +5,7 @@
 package software.amazon.smithy.model.validation.node;
 
 import java.util.Set;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.Node.NonNumericFloat;
 import software.amazon.smithy.model.shapes.Shape;
@@ -30,4 +31,9 @@ final class NonNumericFloatValuesPlugin implements NodeValidatorPlugin {
                             nodeValue));
         }
     }
+
+    @Override
+    public boolean appliesTo(Shape shape, Model model) {
+        return shape.isFloatShape() || shape.isDoubleShape();
+    }
 }
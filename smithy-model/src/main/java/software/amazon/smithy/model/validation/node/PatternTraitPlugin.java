@@ -22,7 +22,7 @@ final class PatternTraitPlugin extends MemberAndShapeTraitPlugin<StringShape, St
 
     @Override
     protected void check(Shape shape, PatternTrait trait, StringNode node, Context context, Emitter emitter) {
-        if (!trait.getPattern().matcher(node.getValue()).find()) {
+        if (!trait.matches(node.getValue())) {
             emitter.accept(node,
                     getSeverity(context),
                     String.format(
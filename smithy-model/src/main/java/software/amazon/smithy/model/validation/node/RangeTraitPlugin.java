@@ -4,6 +4,7 @@
  */
 package software.amazon.smithy.model.validation.node;
 
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.node.Node.NonNumericFloat;
 import software.amazon.smithy.model.node.NumberNode;
@@ -36,6 +37,11 @@ class RangeTraitPlugin implements NodeValidatorPlugin {
         }
     }
 
+    @Override
+    public boolean appliesTo(Shape shape, Model model) {
+        return shape.hasTrait(RangeTrait.ID);
+    }
+
     private void checkNonNumeric(Shape shape, RangeTrait trait, StringNode node, Emitter emitter, Context context) {
         NonNumericFloat.fromStringRepresentation(node.getValue()).ifPresent(value -> {
             if (value.equals(NonNumericFloat.NAN)) {
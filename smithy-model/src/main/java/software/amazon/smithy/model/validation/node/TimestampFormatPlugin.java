@@ -7,6 +7,7 @@ package software.amazon.smithy.model.validation.node;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.logging.Logger;
+import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.node.Node;
 import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
@@ -42,6 +43,12 @@ final class TimestampFormatPlugin implements NodeValidatorPlugin {
         }
     }
 
+    @Override
+    public boolean appliesTo(Shape shape, Model model) {
+        return shape instanceof TimestampShape
+                || (shape instanceof MemberShape && shape.hasTrait(TimestampFormatTrait.ID));
+    }
+
     private void validate(Shape shape, TimestampFormatTrait trait, Node value, Emitter emitter) {
         if (trait == null) {
             defaultValidation(shape, value, emitter);
@@ -25,6 +25,11 @@ public enum TimestampValidationStrategy implements NodeValidatorPlugin {
         public void apply(Shape shape, Node value, Context context, Emitter emitter) {
             new TimestampFormatPlugin().apply(shape, value, context, emitter);
         }
+
+        @Override
+        public boolean appliesTo(Shape shape, Model model) {
+            return new TimestampFormatPlugin().appliesTo(shape, model);
+        }
     },
 
     /**
@@ -41,6 +46,11 @@ public enum TimestampValidationStrategy implements NodeValidatorPlugin {
                                 + "seconds with optional millisecond precision");
             }
         }
+
+        @Override
+        public boolean appliesTo(Shape shape, Model model) {
+            return isTimestampMember(model, shape);
+        }
     };
 
     private static boolean isTimestampMember(Model model, Shape shape) {
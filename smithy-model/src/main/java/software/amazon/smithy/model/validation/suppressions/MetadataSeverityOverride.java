@@ -42,6 +42,18 @@ final class MetadataSeverityOverride implements SeverityOverride {
         return new MetadataSeverityOverride(id, namespace, Severity.valueOf(severity));
     }
 
+    String getId() {
+        return id;
+    }
+
+    String getNamespace() {
+        return namespace;
+    }
+
+    Severity getSeverity() {
+        return severity;
+    }
+
     @Override
     public Severity apply(ValidationEvent event) {
         return event.containsId(id) && namespaceMatcher.test(event) ? severity : event.getSeverity();
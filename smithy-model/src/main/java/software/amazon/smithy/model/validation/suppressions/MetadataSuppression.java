@@ -46,6 +46,14 @@ final class MetadataSuppression implements Suppression {
         return new MetadataSuppression(id, namespace, reason);
     }
 
+    String getId() {
+        return id;
+    }
+
+    String getNamespace() {
+        return namespace;
+    }
+
     @Override
     public boolean test(ValidationEvent event) {
         return event.containsId(id) && namespaceMatcher.test(event);
@@ -74,9 +74,12 @@ public final class ModelBasedEventDecorator {
         List<SeverityOverride> loadedSeverityOverrides = new ArrayList<>(severityOverrides);
         loadMetadataSeverityOverrides(model, loadedSeverityOverrides, events);
 
+        // Index the rules once so that each event only needs to be tested against the rules that can match it.
+        SuppressionIndex index = new SuppressionIndex(loadedSuppressions, loadedSeverityOverrides);
+
         // Modify severities and overrides of each encountered event.
         for (int i = 0; i < events.size(); i++) {
-            events.set(i, modifyEventSeverity(model, events.get(i), loadedSuppressions, loadedSeverityOverrides));
+            events.set(i, modifyEventSeverity(model, events.get(i), index));
         }
 
         return new ValidatedResult<>(new ValidationEventDecorator() {
@@ -87,7 +90,7 @@ public final class ModelBasedEventDecorator {
 
             @Override
             public ValidationEvent decorate(ValidationEvent ev) {
-                return modifyEventSeverity(model, ev, loadedSuppressions, loadedSeverityOverrides);
+                return modifyEventSeverity(model, ev, index);
             }
         }, events);
     }
@@ -134,12 +137,7 @@ public final class ModelBasedEventDecorator {
         });
     }
 
-    private static ValidationEvent modifyEventSeverity(
-            Model model,
-            ValidationEvent event,
-            List<Suppression> suppressions,
-            List<SeverityOverride> severityOverrides
-    ) {
+    private static ValidationEvent modifyEventSeverity(Model model, ValidationEvent event, SuppressionIndex index) {
         // ERROR and SUPPRESSED events cannot be suppressed.
         if (!event.getSeverity().canSuppress()) {
             return event;
@@ -160,21 +158,12 @@ public final class ModelBasedEventDecorator {
         }
 
         // Check metadata and manual suppressions.
-        for (Suppression suppression : suppressions) {
-            if (suppression.test(event)) {
-                return changeSeverity(event, Severity.SUPPRESSED, suppression.getReason().orElse(null));
-            }
-        }
-
-        Severity appliedSeverity = event.getSeverity();
-        for (SeverityOverride override : severityOverrides) {
-            Severity overrideResult = override.apply(event);
-            if (overrideResult.ordinal() > appliedSeverity.ordinal()) {
-                appliedSeverity = overrideResult;
-            }
+        Suppression suppression = index.findSuppression(event);
+        if (suppression != null) {
+            return changeSeverity(event, Severity.SUPPRESSED, suppression.getReason().orElse(null));
         }
 
-        return changeSeverity(event, appliedSeverity, null);
+        return changeSeverity(event, index.applySeverityOverrides(event), null);
     }
 
     private static ValidationEvent changeSeverity(ValidationEvent event, Severity severity, String reason) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation.suppressions;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+/**
+ * Indexes suppressions and severity overrides by event ID and namespace.
+ *
+ * <p>Metadata based suppressions and severity overrides are keyed by their event ID and then by
+ * their namespace so that an event only needs to be tested against the rules that can possibly
+ * match it. Each hierarchical prefix of an event ID is looked up (for example, an event ID of
+ * {@code "Foo.Bar.Baz"} looks up {@code "Foo"}, {@code "Foo.Bar"}, and {@code "Foo.Bar.Baz"}),
+ * and each prefix is checked for both the event's namespace and the {@code "*"} namespace.
+ *
+ * <p>Custom suppressions and overrides are opaque, so they are tested linearly. The index
+ * preserves the semantics of testing each suppression in order: the first matching suppression
+ * wins, and the highest matching severity override wins.
+ */
+final class SuppressionIndex {
+
+    private static final String STAR = "*";
+
+    private final List<Suppression> suppressions;
+    private final Map<String, Map<String, Integer>> suppressionPositions = new HashMap<>();
+    private final List<Integer> unindexedSuppressions = new ArrayList<>();
+    private final Map<String, Map<String, Severity>> overrideSeverities = new HashMap<>();
+    private final List<SeverityOverride> unindexedOverrides = new ArrayList<>();
+
+    SuppressionIndex(List<Suppression> suppressions, List<SeverityOverride> severityOverrides) {
+        this.suppressions = suppressions;
+
+        for (int i = 0; i < suppressions.size(); i++) {
+            Suppression suppression = suppressions.get(i);
+            if (suppression instanceof MetadataSuppression) {
+                MetadataSuppression metadata = (MetadataSuppression) suppression;
+                // Only the first suppression for an ID and namespace pair can ever be selected.
+                suppressionPositions.computeIfAbsent(metadata.getId(), id -> new HashMap<>())
+                        .putIfAbsent(metadata.getNamespace(), i);
+            } else {
+                unindexedSuppressions.add(i);
+            }
+        }
+
+        for (SeverityOverride override : severityOverrides) {
+            if (override instanceof MetadataSeverityOverride) {
+                MetadataSeverityOverride metadata = (MetadataSeverityOverride) override;
+                overrideSeverities.computeIfAbsent(metadata.getId(), id -> new HashMap<>())
+                        .merge(metadata.getNamespace(), metadata.getSeverity(), SuppressionIndex::max);
+            } else {
+                unindexedOverrides.add(override);
+            }
+        }
+    }
+
+    /**
+     * Finds the first suppression that applies to the given event.
+     *
+     * @param event Event to test.
+     * @return Returns the matching suppression, or null if none match.
+     */
+    Suppression findSuppression(ValidationEvent event) {
+        int best = Integer.MAX_VALUE;
+
+        if (!suppressionPositions.isEmpty()) {
+            String namespace = getNamespace(event);
+            String eventId = event.getId();
+            for (int i = 0; i <= eventId.length(); i++) {
+                if (i == eventId.length() || eventId.charAt(i) == '.') {
+                    Map<String, Integer> byNamespace = suppressionPositions.get(eventId.substring(0, i));
+                    if (byNamespace != null) {
+                        best = Math.min(best, byNamespace.getOrDefault(STAR, Integer.MAX_VALUE));
+                        if (namespace != null) {
+                            best = Math.min(best, byNamespace.getOrDefault(namespace, Integer.MAX_VALUE));
+                        }
+                    }
+                }
+            }
+        }
+
+        // Custom suppressions only need to be tested if they come before the best indexed match.
+        for (int position : unindexedSuppressions) {
+            if (position > best) {
+                break;
+            } else if (suppressions.get(position).test(event)) {
+                best = position;
+                break;
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? null : suppressions.get(best);
+    }
+
+    /**
+     * Computes the severity to apply to the event after applying every matching severity override.
+     *
+     * @param event Event to test.
+     * @return Returns the highest severity of the event and any matching override.
+     */
+    Severity applySeverityOverrides(ValidationEvent event) {
+        Severity applied = event.getSeverity();
+
+        if (!overrideSeverities.isEmpty()) {
+            String namespace = getNamespace(event);
+            String eventId = event.getId();
+            for (int i = 0; i <= eventId.length(); i++) {
+                if (i == eventId.length() || eventId.charAt(i) == '.') {
+                    Map<String, Severity> byNamespace = overrideSeverities.get(eventId.substring(0, i));
+                    if (byNamespace != null) {
+                        applied = max(applied, byNamespace.get(STAR));
+                        if (namespace != null) {
+                            applied = max(applied, byNamespace.get(namespace));
+                        }
+                    }
+                }
+            }
+        }
+
+        for (SeverityOverride override : unindexedOverrides) {
+            applied = max(applied, override.apply(event));
+        }
+
+        return applied;
+    }
+
+    private static String getNamespace(ValidationEvent event) {
+        ShapeId id = event.getShapeId().orElse(null);
+        return id == null ? null : id.getNamespace();
+    }
+
+    private static Severity max(Severity a, Severity b) {
+        return b != null && b.ordinal() > a.ordinal() ? b : a;
+    }
+}
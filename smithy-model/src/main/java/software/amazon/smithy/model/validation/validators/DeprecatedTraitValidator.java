@@ -17,13 +17,14 @@ import software.amazon.smithy.model.traits.DeprecatedTrait;
 import software.amazon.smithy.model.traits.EnumTrait;
 import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.SetUtils;
 
 /**
  * Emits a validation event if a model contains shapes that are bound to deprecated traits.
  */
-public final class DeprecatedTraitValidator extends AbstractValidator {
+public final class DeprecatedTraitValidator extends AbstractValidator implements LocalValidator {
 
     // The set of trait shape IDs where deprecation warnings are emitted elsewhere.
     // For example, enum trait deprecation warnings are only emitted when loading 2.0 models.
@@ -20,6 +20,7 @@ import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.EnumValueTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
@@ -30,7 +31,7 @@ import software.amazon.smithy.model.validation.ValidationEvent;
  * <p>Additionally, emits warning events when enum member names don't follow the recommended
  * naming convention of all upper case letters separated by underscores.
  */
-public final class EnumShapeValidator extends AbstractValidator {
+public final class EnumShapeValidator extends AbstractValidator implements LocalValidator {
     private static final Pattern RECOMMENDED_NAME_PATTERN = Pattern.compile("^[A-Z]+[A-Z_0-9]*$");
 
     @Override
@@ -14,6 +14,7 @@ import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.EnumDefinition;
 import software.amazon.smithy.model.traits.EnumTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
@@ -23,7 +24,7 @@ import software.amazon.smithy.model.validation.ValidationEvent;
  * a name. All enum values and names must be unique across the list of
  * definitions.
  */
-public final class EnumTraitValidator extends AbstractValidator {
+public final class EnumTraitValidator extends AbstractValidator implements LocalValidator {
     private static final Pattern RECOMMENDED_NAME_PATTERN = Pattern.compile("^[A-Z]+[A-Z_0-9]*$");
 
     @Override
@@ -15,13 +15,14 @@ import software.amazon.smithy.model.shapes.ShapeId;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.traits.TraitDefinition;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationUtils;
 
 /**
  * Validates traits that can only be applied to a single structure member.
  */
-public final class ExclusiveStructureMemberTraitValidator extends AbstractValidator {
+public final class ExclusiveStructureMemberTraitValidator extends AbstractValidator implements LocalValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
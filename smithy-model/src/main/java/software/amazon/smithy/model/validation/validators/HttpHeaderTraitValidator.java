@@ -19,6 +19,7 @@ import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.traits.HttpHeaderTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.utils.SetUtils;
@@ -26,7 +27,7 @@ import software.amazon.smithy.utils.SetUtils;
 /**
  * Validates that httpHeader traits are case-insensitively unique.
  */
-public final class HttpHeaderTraitValidator extends AbstractValidator {
+public final class HttpHeaderTraitValidator extends AbstractValidator implements LocalValidator {
 
     /** Gather the allowed characters for HTTP headers (tchar from RFC 9110 section 5.6.2). **/
     private static final Set<Character> TCHAR = SetUtils.of(
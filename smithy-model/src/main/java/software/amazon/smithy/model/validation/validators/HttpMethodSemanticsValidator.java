@@ -17,6 +17,7 @@ import software.amazon.smithy.model.traits.HttpTrait;
 import software.amazon.smithy.model.traits.IdempotentTrait;
 import software.amazon.smithy.model.traits.ReadonlyTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.model.validation.ValidationUtils;
 import software.amazon.smithy.utils.ListUtils;
@@ -26,7 +27,7 @@ import software.amazon.smithy.utils.MapUtils;
  * Validates that `http` traits applied to operation shapes use the most
  * semantically appropriate HTTP method according to RFC 9110.
  */
-public final class HttpMethodSemanticsValidator extends AbstractValidator {
+public final class HttpMethodSemanticsValidator extends AbstractValidator implements LocalValidator {
     /**
      * Provides the configuration for each HTTP method name:
      *
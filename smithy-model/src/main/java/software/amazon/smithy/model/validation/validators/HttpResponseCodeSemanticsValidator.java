@@ -17,12 +17,13 @@ import software.amazon.smithy.model.traits.HttpErrorTrait;
 import software.amazon.smithy.model.traits.HttpTrait;
 import software.amazon.smithy.model.traits.Trait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
  * Ensures that HTTP response codes are appropriate for operations and errors.
  */
-public final class HttpResponseCodeSemanticsValidator extends AbstractValidator {
+public final class HttpResponseCodeSemanticsValidator extends AbstractValidator implements LocalValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
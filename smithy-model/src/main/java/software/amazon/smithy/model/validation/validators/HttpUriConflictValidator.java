@@ -57,14 +57,50 @@ public final class HttpUriConflictValidator extends AbstractValidator {
             }
         }
 
+        // Two URIs only conflict when they use the same method and have the same literal, label, and greedy
+        // label segments and query string literals. Grouping operations by that route means each operation
+        // is only compared against the operations it actually conflicts with rather than every operation.
+        Map<List<Object>, List<OperationShape>> routes = new HashMap<>();
+        for (OperationShape operation : operations) {
+            routes.computeIfAbsent(createRoute(operation.expectTrait(HttpTrait.class)), r -> new ArrayList<>())
+                    .add(operation);
+        }
+
         List<ValidationEvent> events = new ArrayList<>();
         for (OperationShape operation : operations) {
-            events.addAll(checkConflicts(model, operation, operation.expectTrait(HttpTrait.class), operations));
+            HttpTrait httpTrait = operation.expectTrait(HttpTrait.class);
+            List<OperationShape> candidates = routes.get(createRoute(httpTrait));
+            if (candidates.size() > 1) {
+                events.addAll(checkConflicts(model, operation, httpTrait, candidates));
+            }
         }
 
         return events;
     }
 
+    // Creates a key that is equal for two HTTP traits if and only if UriPattern#conflictsWith
+    // returns true for their URIs and they use the same method.
+    private static List<Object> createRoute(HttpTrait httpTrait) {
+        UriPattern uri = httpTrait.getUri();
+        List<Object> route = new ArrayList<>(uri.getSegments().size() + 2);
+        route.add(httpTrait.getMethod());
+        for (Segment segment : uri.getSegments()) {
+            if (segment.isGreedyLabel()) {
+                route.add(RouteSegment.GREEDY_LABEL);
+            } else if (segment.isLabel()) {
+                route.add(RouteSegment.LABEL);
+            } else {
+                route.add(segment.getContent());
+            }
+        }
+        route.add(uri.getQueryLiterals());
+        return route;
+    }
+
+    private enum RouteSegment {
+        LABEL, GREEDY_LABEL
+    }
+
     private List<ValidationEvent> checkConflicts(
             Model model,
             OperationShape operation,
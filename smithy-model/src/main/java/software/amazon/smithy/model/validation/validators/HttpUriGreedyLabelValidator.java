@@ -12,6 +12,7 @@ import software.amazon.smithy.model.pattern.UriPattern;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.HttpTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
@@ -19,7 +20,7 @@ import software.amazon.smithy.model.validation.ValidationEvent;
  * the last label in the pattern. This validation emits DANGER events which can be suppressed if the server allows
  * any of these. Some servers do, but most don't.
  */
-public class HttpUriGreedyLabelValidator extends AbstractValidator {
+public class HttpUriGreedyLabelValidator extends AbstractValidator implements LocalValidator {
 
     private static final String MULTIPLE_GREEDY_LABELS = "MultipleGreedyLabels";
     private static final String GREEDY_LABEL_IS_NOT_LAST_LABEL = "GreedyLabelIsNotLastLabel";
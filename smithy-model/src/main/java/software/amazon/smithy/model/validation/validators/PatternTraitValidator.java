@@ -11,12 +11,13 @@ import software.amazon.smithy.model.Model;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.PatternTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 
 /**
  * Emits a validation event if a pattern trait is not anchored.
  */
-public final class PatternTraitValidator extends AbstractValidator {
+public final class PatternTraitValidator extends AbstractValidator implements LocalValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
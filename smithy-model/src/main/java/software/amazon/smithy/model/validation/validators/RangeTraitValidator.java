@@ -15,13 +15,14 @@ import software.amazon.smithy.model.shapes.MemberShape;
 import software.amazon.smithy.model.shapes.Shape;
 import software.amazon.smithy.model.traits.RangeTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.Pair;
 
 /**
  * Ensures that range traits are valid.
  */
-public final class RangeTraitValidator extends AbstractValidator {
+public final class RangeTraitValidator extends AbstractValidator implements LocalValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
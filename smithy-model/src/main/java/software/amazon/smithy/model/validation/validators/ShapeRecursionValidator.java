@@ -11,6 +11,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.StringJoiner;
 import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.knowledge.StronglyConnectedComponentIndex;
 import software.amazon.smithy.model.selector.PathFinder;
 import software.amazon.smithy.model.shapes.ListShape;
 import software.amazon.smithy.model.shapes.MapShape;
@@ -22,6 +23,7 @@ import software.amazon.smithy.model.shapes.StructureShape;
 import software.amazon.smithy.model.shapes.UnionShape;
 import software.amazon.smithy.model.traits.RequiredTrait;
 import software.amazon.smithy.model.validation.AbstractValidator;
+import software.amazon.smithy.model.validation.LocalValidator;
 import software.amazon.smithy.model.validation.ValidationEvent;
 import software.amazon.smithy.utils.FunctionalUtils;
 
@@ -36,37 +38,53 @@ import software.amazon.smithy.utils.FunctionalUtils;
  * code generators where a list of itself or a list of maps of itself
  * is impossible to define.
  */
-public final class ShapeRecursionValidator extends AbstractValidator {
+public final class ShapeRecursionValidator extends AbstractValidator implements LocalValidator {
 
     @Override
     public List<ValidationEvent> validate(Model model) {
         PathFinder finder = PathFinder.create(model);
+        StronglyConnectedComponentIndex components = StronglyConnectedComponentIndex.of(model);
         List<ValidationEvent> events = new ArrayList<>();
-        validateListMapSetShapes(finder, model, events);
-        validateStructurePaths(finder, model, events);
+        validateListMapSetShapes(finder, components, model, events);
+        validateStructurePaths(finder, components, model, events);
         validateUnions(model, events);
         return events;
     }
 
-    private void validateListMapSetShapes(PathFinder finder, Model model, List<ValidationEvent> events) {
+    private void validateListMapSetShapes(
+            PathFinder finder,
+            StronglyConnectedComponentIndex components,
+            Model model,
+            List<ValidationEvent> events
+    ) {
         finder.relationshipFilter(rel -> !(rel.getShape().isStructureShape() || rel.getShape().isUnionShape()));
 
         for (ListShape shape : model.getListShapes()) {
-            validateListMapSetShapes(shape, finder, events);
+            validateListMapSetShapes(shape, finder, components, events);
         }
 
         for (SetShape shape : model.getSetShapes()) {
-            validateListMapSetShapes(shape, finder, events);
+            validateListMapSetShapes(shape, finder, components, events);
         }
 
         for (MapShape shape : model.getMapShapes()) {
-            validateListMapSetShapes(shape, finder, events);
+            validateListMapSetShapes(shape, finder, components, events);
         }
 
         finder.relationshipFilter(FunctionalUtils.alwaysTrue());
     }
 
-    private void validateListMapSetShapes(Shape shape, PathFinder finder, List<ValidationEvent> events) {
+    private void validateListMapSetShapes(
+            Shape shape,
+            PathFinder finder,
+            StronglyConnectedComponentIndex components,
+            List<ValidationEvent> events
+    ) {
+        // Only shapes that are part of a cycle can have a recursive path, so skip the search for everything else.
+        if (!components.isRecursive(shape)) {
+            return;
+        }
+
         for (PathFinder.Path path : finder.search(shape, Collections.singletonList(shape))) {
             events.add(error(shape,
                     String.format(
@@ -76,7 +94,12 @@ public final class ShapeRecursionValidator extends AbstractValidator {
         }
     }
 
-    private void validateStructurePaths(PathFinder finder, Model model, List<ValidationEvent> events) {
+    private void validateStructurePaths(
+            PathFinder finder,
+            StronglyConnectedComponentIndex components,
+            Model model,
+            List<ValidationEvent> events
+    ) {
         finder.relationshipFilter(rel -> {
             if (rel.getShape().isStructureShape()) {
                 return rel.getNeighborShape().get().hasTrait(RequiredTrait.ID);
@@ -86,6 +109,9 @@ public final class ShapeRecursionValidator extends AbstractValidator {
         });
 
         for (StructureShape shape : model.getStructureShapes()) {
+            if (!components.isRecursive(shape)) {
+                continue;
+            }
             for (PathFinder.Path path : finder.search(shape, Collections.singletonList(shape))) {
                 events.add(error(shape,
                         String.format(
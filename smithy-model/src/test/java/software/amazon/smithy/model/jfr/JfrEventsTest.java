@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.selector.Selector;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.transform.ModelTransformer;
+
+public class JfrEventsTest {
+    @Test
+    public void isAvailableOnModernRuntimes() {
+        assertThat(JfrEvents.isAvailable(), is(true));
+    }
+
+    @Test
+    public void doesNotCreateEventsWhenNotRecording() {
+        assertThat(JfrEvents.beginModelFileParsed(), nullValue());
+        assertThat(JfrEvents.beginTransformApplied(), nullValue());
+    }
+
+    @Test
+    public void recordsEvents() throws IOException {
+        Path file = Files.createTempFile("smithy-events", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("software.amazon.smithy.ModelFileParsed");
+            recording.enable("software.amazon.smithy.ValidatorRun");
+            recording.enable("software.amazon.smithy.TransformApplied").withThreshold(Duration.ZERO);
+            recording.enable("software.amazon.smithy.SelectorEvaluated").withThreshold(Duration.ZERO);
+            recording.start();
+
+            String contents = "$version: \"2.0\"\nnamespace smithy.example\nstring A\nstring B\n";
+            Model model = Model.assembler()
+                    .addUnparsedModel("example.smithy", contents)
+                    .assemble()
+                    .unwrap();
+            ModelTransformer.create().removeShapes(model, model.getShapesWithTrait(ShapeId.from("smithy.api#private")));
+            Selector.parse("string").select(model);
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<String> names = events.stream()
+                    .map(event -> event.getEventType().getName())
+                    .collect(Collectors.toList());
+
+            assertThat(names,
+                    hasItems("software.amazon.smithy.ModelFileParsed",
+                            "software.amazon.smithy.ValidatorRun",
+                            "software.amazon.smithy.TransformApplied",
+                            "software.amazon.smithy.SelectorEvaluated"));
+
+            RecordedEvent parsed = find(events, "software.amazon.smithy.ModelFileParsed");
+            assertThat(parsed.getString("file"), equalTo("example.smithy"));
+            assertThat(parsed.getLong("bytes"), equalTo((long) contents.length()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(AssertionError::new);
+    }
+}
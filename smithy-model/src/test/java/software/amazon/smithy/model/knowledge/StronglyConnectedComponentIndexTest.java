@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.knowledge;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.ListShape;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+
+public class StronglyConnectedComponentIndexTest {
+    private static Model model;
+
+    @BeforeAll
+    public static void before() {
+        model = Model.assembler()
+                .addImport(StronglyConnectedComponentIndexTest.class
+                        .getResource("strongly-connected-components.smithy"))
+                .assemble()
+                .unwrap();
+    }
+
+    @AfterAll
+    public static void after() {
+        model = null;
+    }
+
+    @Test
+    public void findsRecursiveComponents() {
+        StronglyConnectedComponentIndex index = StronglyConnectedComponentIndex.of(model);
+
+        assertThat(ids(index.getComponent(ShapeId.from("smithy.example#Node"))),
+                containsInAnyOrder(
+                        "smithy.example#Node",
+                        "smithy.example#Node$children",
+                        "smithy.example#NodeList",
+                        "smithy.example#NodeList$member"));
+        assertThat(ids(index.getComponent(ShapeId.from("smithy.example#Ping"))),
+                containsInAnyOrder(
+                        "smithy.example#Ping",
+                        "smithy.example#Ping$pong",
+                        "smithy.example#Pong",
+                        "smithy.example#Pong$ping"));
+        assertThat(ids(index.getComponent(ShapeId.from("smithy.example#Leaf"))),
+                containsInAnyOrder("smithy.example#Leaf"));
+    }
+
+    @Test
+    public void detectsRecursiveShapes() {
+        StronglyConnectedComponentIndex index = StronglyConnectedComponentIndex.of(model);
+
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#Node")), is(true));
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#NodeList$member")), is(true));
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#Node$value")), is(false));
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#UsesRecursion")), is(false));
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#Leaf")), is(false));
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#Missing")), is(false));
+        assertThat(ids(index.getRecursiveShapes()), containsInAnyOrder(
+                "smithy.example#Node",
+                "smithy.example#Node$children",
+                "smithy.example#NodeList",
+                "smithy.example#NodeList$member",
+                "smithy.example#Ping",
+                "smithy.example#Ping$pong",
+                "smithy.example#Pong",
+                "smithy.example#Pong$ping"));
+        assertThat(ids(index.getRecursiveMembers()), containsInAnyOrder(
+                "smithy.example#Node$children",
+                "smithy.example#NodeList$member",
+                "smithy.example#Ping$pong",
+                "smithy.example#Pong$ping"));
+    }
+
+    @Test
+    public void detectsShapesThatReachRecursiveShapes() {
+        StronglyConnectedComponentIndex index = StronglyConnectedComponentIndex.of(model);
+
+        assertThat(index.reachesRecursiveShape(ShapeId.from("smithy.example#Node")), is(true));
+        assertThat(index.reachesRecursiveShape(ShapeId.from("smithy.example#UsesRecursion")), is(true));
+        assertThat(index.reachesRecursiveShape(ShapeId.from("smithy.example#UsesRecursion$node")), is(true));
+        assertThat(index.reachesRecursiveShape(ShapeId.from("smithy.example#Node$value")), is(false));
+        assertThat(index.reachesRecursiveShape(ShapeId.from("smithy.example#Leaf")), is(false));
+    }
+
+    @Test
+    public void ordersComponentsAfterTheComponentsTheyReference() {
+        StronglyConnectedComponentIndex index = StronglyConnectedComponentIndex.of(model);
+        List<Set<Shape>> components = index.getComponents();
+        List<Shape> ordered = new ArrayList<>();
+        components.forEach(ordered::addAll);
+
+        assertThat(ordered.size(), equalTo(model.toSet().size()));
+        assertThat(ordered.indexOf(model.expectShape(ShapeId.from("smithy.example#Node"))),
+                lessThan(ordered.indexOf(model.expectShape(ShapeId.from("smithy.example#UsesRecursion$node")))));
+        assertThat(ordered.indexOf(model.expectShape(ShapeId.from("smithy.api#Integer"))),
+                lessThan(ordered.indexOf(model.expectShape(ShapeId.from("smithy.example#Leaf$value")))));
+    }
+
+    @Test
+    public void handlesDeeplyNestedShapesWithoutRecursion() {
+        Model.Builder builder = Model.builder();
+        ShapeId previous = null;
+        for (int i = 0; i < 10000; i++) {
+            ShapeId id = ShapeId.from("smithy.example#List" + i);
+            ListShape.Builder list = ListShape.builder().id(id);
+            if (previous == null) {
+                list.member(ShapeId.from("smithy.api#String"));
+            } else {
+                list.member(previous);
+            }
+            builder.addShape(list.build());
+            previous = id;
+        }
+        builder.addShape(StructureShape.builder()
+                .id("smithy.example#Cycle")
+                .addMember(MemberShape.builder()
+                        .id("smithy.example#Cycle$cycle")
+                        .target("smithy.example#Cycle")
+                        .build())
+                .build());
+        Model deep = builder.build();
+        StronglyConnectedComponentIndex index = StronglyConnectedComponentIndex.of(deep);
+
+        assertThat(index.getRecursiveShapes().stream().filter(s -> s.getId().getName().startsWith("List"))
+                .collect(Collectors.toList()), empty());
+        assertThat(index.isRecursive(ShapeId.from("smithy.example#Cycle")), is(true));
+    }
+
+    private static List<String> ids(Set<? extends Shape> shapes) {
+        return shapes.stream().map(shape -> shape.getId().toString()).collect(Collectors.toList());
+    }
+}
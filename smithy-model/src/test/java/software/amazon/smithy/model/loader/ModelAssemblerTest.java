@@ -81,6 +81,7 @@ import software.amazon.smithy.model.validation.Validator;
 import software.amazon.smithy.model.validation.ValidatorFactory;
 import software.amazon.smithy.utils.IoUtils;
 import software.amazon.smithy.utils.ListUtils;
+import software.amazon.smithy.utils.Tracer;
 
 public class ModelAssemblerTest {
 
@@ -246,6 +247,34 @@ public class ModelAssemblerTest {
         Assertions.assertThrows(RuntimeException.class, () -> new ModelAssembler().addImport("/bad/path"));
     }
 
+    @Test
+    public void parsesJsonModelsLazily() {
+        StringBuilder idl = new StringBuilder("$version: \"2.0\"\nnamespace smithy.example\n")
+                .append("@trait\ndocument config\n")
+                .append("@config({values: [");
+        for (int i = 0; i < 200; i++) {
+            idl.append("{name: \"value").append(i).append("\", enabled: true}, ");
+        }
+        idl.append("]})\nstring Configured\n");
+        Model model = Model.assembler().addUnparsedModel("test.smithy", idl.toString()).assemble().unwrap();
+        String json = Node.prettyPrintJson(ModelSerializer.builder().build().serialize(model));
+
+        Model eager = Model.assembler().addUnparsedModel("test.json", json).assemble().unwrap();
+        Model lazy = Model.assembler()
+                .putProperty(ModelAssembler.LAZY_JSON_PARSING, true)
+                .addUnparsedModel("test.json", json)
+                .assemble()
+                .unwrap();
+
+        assertThat(lazy, equalTo(eager));
+        ShapeId configured = ShapeId.from("smithy.example#Configured");
+        ShapeId config = ShapeId.from("smithy.example#config");
+        assertThat(lazy.expectShape(configured).findTrait(config).get().toNode(),
+                equalTo(eager.expectShape(configured).findTrait(config).get().toNode()));
+        assertThat(lazy.expectShape(configured).findTrait(config).get().getSourceLocation(),
+                equalTo(eager.expectShape(configured).findTrait(config).get().getSourceLocation()));
+    }
+
     @Test
     public void importsSymlinksDirectoryWithAllShapes() throws Exception {
         ValidatedResult<Model> result = new ModelAssembler()
@@ -1512,4 +1541,19 @@ public class ModelAssemblerTest {
 
         assertThat(fileContents, containsString("string ExampleString"));
     }
+
+    @Test
+    public void tracesLoadingAndValidation() {
+        List<String> spans = new ArrayList<>();
+        Model.assembler()
+                .addUnparsedModel("test.smithy", "$version: \"2.0\"\nnamespace smithy.example\nstring A\n")
+                .tracer((category, name, args) -> {
+                    spans.add(category + ":" + name);
+                    return Tracer.Span.NONE;
+                })
+                .assemble()
+                .unwrap();
+
+        assertThat(spans, contains("model:load", "model:validate"));
+    }
 }
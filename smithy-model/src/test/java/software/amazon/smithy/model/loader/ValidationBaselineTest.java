@@ -0,0 +1,185 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.loader;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.Node;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.DeprecatedTrait;
+import software.amazon.smithy.model.traits.DocumentationTrait;
+import software.amazon.smithy.model.validation.LocalValidator;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+
+public class ValidationBaselineTest {
+
+    private static final String MODEL = "$version: \"2.0\"\n"
+            + "namespace smithy.example\n"
+            + "@trait\n"
+            + "@deprecated\n"
+            + "structure oldTrait {}\n"
+            + "@oldTrait\n"
+            + "structure A {}\n"
+            + "@oldTrait\n"
+            + "structure B {}\n"
+            + "structure C {}\n";
+
+    @Test
+    public void recordsValidatedModels() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        Model.assembler().addUnparsedModel("test.smithy", MODEL).recordValidationBaseline(baseline).assemble();
+
+        assertTrue(baseline.isRecorded());
+    }
+
+    @Test
+    public void doesNotRecordUnvalidatedModels() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        Model.assembler()
+                .addUnparsedModel("test.smithy", MODEL)
+                .recordValidationBaseline(baseline)
+                .disableValidation()
+                .assemble();
+
+        assertFalse(baseline.isRecorded());
+    }
+
+    @Test
+    public void doesNotRecordModelsWhenValidationStopsEarly() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        Model.assembler()
+                .addUnparsedModel("test.smithy", "$version: \"2.0\"\nnamespace smithy.example\n"
+                        + "structure A { a: Missing }\n")
+                .recordValidationBaseline(baseline)
+                .assemble();
+
+        assertFalse(baseline.isRecorded());
+    }
+
+    @Test
+    public void onlyRevalidatesAffectedShapes() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        ShapeCollector collector = new ShapeCollector();
+        Model model = Model.assembler()
+                .addUnparsedModel("test.smithy", MODEL)
+                .addValidator(collector)
+                .recordValidationBaseline(baseline)
+                .assemble()
+                .unwrap();
+
+        StructureShape a = model.expectShape(ShapeId.from("smithy.example#A"), StructureShape.class);
+        Model derived = model.toBuilder()
+                .addShape(a.toBuilder().addTrait(new DocumentationTrait("Changed")).build())
+                .build();
+
+        collector.validated.clear();
+        List<ValidationEvent> events = Model.assembler()
+                .addModel(derived)
+                .addValidator(collector)
+                .validationBaseline(baseline)
+                .assemble()
+                .getValidationEvents();
+
+        assertThat(collector.validated, containsInAnyOrder(ShapeId.from("smithy.example#A")));
+        assertThat(shapesWithEvent(events, "ShapeCollector"), containsInAnyOrder(
+                ShapeId.from("smithy.example#A"),
+                ShapeId.from("smithy.example#B"),
+                ShapeId.from("smithy.example#C")));
+    }
+
+    @Test
+    public void revalidatesShapesThatReferToChangedShapes() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        Model model = Model.assembler()
+                .addUnparsedModel("test.smithy", MODEL)
+                .recordValidationBaseline(baseline)
+                .assemble()
+                .unwrap();
+
+        assertThat(shapesWithEvent(model, baseline, "DeprecatedTrait"), containsInAnyOrder(
+                ShapeId.from("smithy.example#A"),
+                ShapeId.from("smithy.example#B")));
+
+        StructureShape oldTrait = model.expectShape(ShapeId.from("smithy.example#oldTrait"), StructureShape.class);
+        Model derived = model.toBuilder()
+                .addShape(oldTrait.toBuilder().removeTrait(DeprecatedTrait.ID).build())
+                .build();
+
+        assertThat(shapesWithEvent(derived, baseline, "DeprecatedTrait"), empty());
+    }
+
+    @Test
+    public void revalidatesEverythingWhenMetadataChanges() {
+        ValidationBaseline baseline = new ValidationBaseline();
+        ShapeCollector collector = new ShapeCollector();
+        Model model = Model.assembler()
+                .addUnparsedModel("test.smithy", MODEL)
+                .addValidator(collector)
+                .recordValidationBaseline(baseline)
+                .assemble()
+                .unwrap();
+
+        Model derived = model.toBuilder().putMetadataProperty("foo", Node.from("bar")).build();
+
+        collector.validated.clear();
+        Model.assembler().addModel(derived).addValidator(collector).validationBaseline(baseline).assemble();
+
+        assertThat(collector.validated, containsInAnyOrder(
+                ShapeId.from("smithy.example#A"),
+                ShapeId.from("smithy.example#B"),
+                ShapeId.from("smithy.example#C")));
+    }
+
+    private static List<ShapeId> shapesWithEvent(Model model, ValidationBaseline baseline, String id) {
+        return shapesWithEvent(Model.assembler()
+                .addModel(model)
+                .validationBaseline(baseline)
+                .assemble()
+                .getValidationEvents(), id);
+    }
+
+    private static List<ShapeId> shapesWithEvent(List<ValidationEvent> events, String id) {
+        List<ShapeId> result = new ArrayList<>();
+        for (ValidationEvent event : events) {
+            if (event.getId().equals(id)) {
+                result.add(event.getShapeId().get());
+            }
+        }
+        return result;
+    }
+
+    private static final class ShapeCollector implements LocalValidator {
+        private final Set<ShapeId> validated = new HashSet<>();
+
+        @Override
+        public List<ValidationEvent> validate(Model model) {
+            List<ValidationEvent> events = new ArrayList<>();
+            for (StructureShape shape : model.getStructureShapes()) {
+                if (shape.getId().getNamespace().equals("smithy.example") && !shape.hasTrait("trait")) {
+                    validated.add(shape.getId());
+                    events.add(ValidationEvent.builder()
+                            .id("ShapeCollector")
+                            .severity(Severity.NOTE)
+                            .shape(shape)
+                            .message("Collected")
+                            .build());
+                }
+            }
+            return events;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.loader.ModelSyntaxException;
+
+public class CborNodeReaderTest {
+    @ParameterizedTest
+    @MethodSource("validItems")
+    public void readsDataItems(String hex, Node expected) {
+        assertThat(CborNodeReader.parse(fromHex(hex)), equalTo(expected));
+    }
+
+    // Examples from RFC 8949, Appendix A, and from the stringref specification.
+    public static Stream<Arguments> validItems() {
+        return Stream.of(
+                Arguments.of("00", Node.from(0)),
+                Arguments.of("17", Node.from(23)),
+                Arguments.of("1818", Node.from(24)),
+                Arguments.of("1903e8", Node.from(1000)),
+                Arguments.of("1a000f4240", Node.from(1000000)),
+                Arguments.of("1b000000e8d4a51000", Node.from(1000000000000L)),
+                Arguments.of("1bffffffffffffffff", Node.from(new BigInteger("18446744073709551615"))),
+                Arguments.of("c249010000000000000000", Node.from(new BigInteger("18446744073709551616"))),
+                Arguments.of("3bffffffffffffffff", Node.from(new BigInteger("-18446744073709551616"))),
+                Arguments.of("c349010000000000000000", Node.from(new BigInteger("-18446744073709551617"))),
+                Arguments.of("20", Node.from(-1)),
+                Arguments.of("3903e7", Node.from(-1000)),
+                Arguments.of("c48221196ab3", Node.from(new BigDecimal("273.15"))),
+                Arguments.of("f93c00", Node.from(1.0)),
+                Arguments.of("f97bff", Node.from(65504.0)),
+                Arguments.of("f90001", Node.from(5.960464477539063e-8)),
+                Arguments.of("f9fc00", Node.from(Double.NEGATIVE_INFINITY)),
+                Arguments.of("f97e00", Node.from(Double.NaN)),
+                Arguments.of("fa47c35000", Node.from(100000.0)),
+                Arguments.of("fb3ff199999999999a", Node.from(1.1)),
+                Arguments.of("f4", Node.from(false)),
+                Arguments.of("f5", Node.from(true)),
+                Arguments.of("f6", Node.nullNode()),
+                Arguments.of("f7", Node.nullNode()),
+                Arguments.of("d9d9f7f5", Node.from(true)),
+                Arguments.of("60", Node.from("")),
+                Arguments.of("6449455446", Node.from("IETF")),
+                Arguments.of("62225c", Node.from("\"\\")),
+                Arguments.of("62c3bc", Node.from("\u00fc")),
+                Arguments.of("7f657374726561646d696e67ff", Node.from("streaming")),
+                Arguments.of("80", Node.arrayNode()),
+                Arguments.of("83010203", Node.fromNodes(Node.from(1), Node.from(2), Node.from(3))),
+                Arguments.of("9f018202039f0405ffff", Node.fromNodes(
+                        Node.from(1),
+                        Node.fromNodes(Node.from(2), Node.from(3)),
+                        Node.fromNodes(Node.from(4), Node.from(5)))),
+                Arguments.of("a0", Node.objectNode()),
+                Arguments.of("a26161016162820203", Node.objectNode()
+                        .withMember("a", 1)
+                        .withMember("b", Node.fromNodes(Node.from(2), Node.from(3)))),
+                Arguments.of("bf61610161629f0203ffff", Node.objectNode()
+                        .withMember("a", 1)
+                        .withMember("b", Node.fromNodes(Node.from(2), Node.from(3)))),
+                Arguments.of("d901008363616161d81900d81900", Node.fromStrings("aaa", "aaa", "aaa")),
+                // Nested namespaces start with an empty table and don't change the enclosing table.
+                Arguments.of("d901008363616161d901008263626262d81900d81900", Node.fromNodes(
+                        Node.from("aaa"),
+                        Node.fromStrings("bbb", "bbb"),
+                        Node.from("aaa"))));
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidItems")
+    public void rejectsInvalidDataItems(String hex, String message) {
+        ModelSyntaxException e = Assertions.assertThrows(ModelSyntaxException.class,
+                () -> CborNodeReader.parse(fromHex(hex)));
+
+        assertThat(e.getMessage(), containsString(message));
+    }
+
+    public static Stream<Arguments> invalidItems() {
+        return Stream.of(
+                Arguments.of("", "Unexpected end of input"),
+                Arguments.of("8301", "Unexpected end of input"),
+                Arguments.of("0000", "Unexpected data after the end of the data item"),
+                Arguments.of("1c", "Invalid additional information 28"),
+                Arguments.of("4161", "Byte strings are not supported"),
+                Arguments.of("a10102", "Expected a text string"),
+                Arguments.of("c06161", "Unsupported tag 0"),
+                Arguments.of("f820", "Unsupported simple value 248"),
+                Arguments.of("d81900", "outside of a stringref namespace"),
+                Arguments.of("d90100d81900", "Invalid string reference 0"),
+                Arguments.of("a261610161610102", "Duplicate map key `a`"),
+                Arguments.of("c4823a7fffffff01", "Decimal fraction exponent is out of range"),
+                Arguments.of("ff", "Unsupported simple value 255"));
+    }
+
+    @Test
+    public void reportsErrorOffsets() {
+        ModelSyntaxException e = Assertions.assertThrows(ModelSyntaxException.class,
+                () -> CborNodeReader.parse(fromHex("8201c0")));
+
+        assertThat(e.getMessage(), containsString("at byte 3"));
+    }
+
+    @Test
+    public void rejectsDeeplyNestedItems() {
+        byte[] bytes = new byte[5000];
+        Arrays.fill(bytes, (byte) 0x81);
+        ModelSyntaxException e = Assertions.assertThrows(ModelSyntaxException.class,
+                () -> CborNodeReader.parse(bytes));
+
+        assertThat(e.getMessage(), containsString("Nesting too deep"));
+    }
+
+    @Test
+    public void doesNotAllocateDeclaredLengthsBeforeReadingThem() {
+        // A text string that claims to be almost 2 GB long.
+        CborNodeReader reader = new CborNodeReader(new ByteArrayInputStream(fromHex("7a7ffffff7")));
+        ModelSyntaxException e = Assertions.assertThrows(ModelSyntaxException.class, reader::read);
+
+        assertThat(e.getMessage(), containsString("Unexpected end of input"));
+    }
+
+    @Test
+    public void reportsSourceLocationsOfErrors() {
+        Node node = Node.parse("{\"foo\": [1, 2]}", "a.json");
+        byte[] bytes = CborNodeWriter.toBytes(node, true);
+        ModelSyntaxException e = Assertions.assertThrows(ModelSyntaxException.class,
+                () -> CborNodeReader.parse(Arrays.copyOf(bytes, bytes.length - 1)));
+
+        assertThat(e.getSourceLocation().getFilename(), equalTo("a.json"));
+    }
+
+    @Test
+    public void readsSourceLocations() {
+        Node node = Node.parse("{\"foo\": [1, 2]}", "a.json");
+        ObjectNode result = CborNodeReader.parse(CborNodeWriter.toBytes(node, true)).expectObjectNode();
+        StringNode key = result.getMembers().keySet().iterator().next();
+
+        assertThat(result.getSourceLocation().getFilename(), equalTo("a.json"));
+        assertThat(key.getSourceLocation().getColumn(), is(2));
+        assertThat(result.expectArrayMember("foo").get(1).get().getSourceLocation().getColumn(), is(13));
+    }
+
+    private static byte[] fromHex(String hex) {
+        byte[] result = new byte[hex.length() / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return result;
+    }
+}
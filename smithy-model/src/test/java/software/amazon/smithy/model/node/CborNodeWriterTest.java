@@ -0,0 +1,226 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.model.SourceLocation;
+import software.amazon.smithy.utils.ListUtils;
+
+public class CborNodeWriterTest {
+    @ParameterizedTest
+    @MethodSource("numbers")
+    public void roundTripsNumbers(Number value) {
+        Node node = new NumberNode(value, SourceLocation.none());
+        NumberNode result = CborNodeReader.parse(CborNodeWriter.toBytes(node)).expectNumberNode();
+
+        assertThat(result, equalTo(node));
+        assertThat(result.toString(), equalTo(node.toString()));
+    }
+
+    public static Stream<Number> numbers() {
+        return Stream.of(
+                0,
+                23,
+                24,
+                -1,
+                -25,
+                Integer.MAX_VALUE,
+                Integer.MIN_VALUE,
+                Long.MAX_VALUE,
+                Long.MIN_VALUE,
+                BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE),
+                BigInteger.ONE.shiftLeft(64),
+                BigInteger.ONE.shiftLeft(100).negate(),
+                new BigDecimal("1.50"),
+                new BigDecimal("-1E+5"),
+                new BigDecimal("123456789012345678901234567890.123456789"),
+                0.1,
+                -0.0,
+                Double.MAX_VALUE,
+                Double.NaN,
+                Double.NEGATIVE_INFINITY,
+                1.1f,
+                Float.POSITIVE_INFINITY);
+    }
+
+    @Test
+    public void keepsFloatingPointTypes() {
+        Node node = Node.arrayNode(Node.from(1.5), Node.from(1.5f), Node.from(new BigDecimal("1.5")));
+        List<Node> result = CborNodeReader.parse(CborNodeWriter.toBytes(node)).expectArrayNode().getElements();
+
+        assertThat(result.get(0).expectNumberNode().getValue(), instanceOf(Double.class));
+        assertThat(result.get(1).expectNumberNode().getValue(), instanceOf(Float.class));
+        assertThat(result.get(2).expectNumberNode().getValue(), equalTo(new BigDecimal("1.5")));
+    }
+
+    @Test
+    public void roundTripsModelsWithoutSourceLocations() {
+        Node node = Node.parse(createModel(), "model.json");
+        Node result = CborNodeReader.parse(CborNodeWriter.toBytes(node));
+
+        assertThat(result, equalTo(node));
+        assertLocations(result, result, false);
+    }
+
+    @Test
+    public void roundTripsModelsWithSourceLocations() {
+        Node node = Node.parse(createModel(), "model.json");
+        Node result = CborNodeReader.parse(CborNodeWriter.toBytes(node, true));
+
+        assertThat(result, equalTo(node));
+        assertLocations(result, node, true);
+    }
+
+    @Test
+    public void isSmallerThanJson() {
+        Node node = Node.parse(createModel());
+
+        assertThat(CborNodeWriter.toBytes(node).length, lessThan(Node.printJson(node).length()));
+    }
+
+    @Test
+    public void writesStringReferences() {
+        Node node = Node.objectNode()
+                .withMember("abc", "abc")
+                .withMember("ab", "ab");
+
+        // 256({"abc": 25(0), "ab": "ab"}), where "ab" is too short to be referenced.
+        assertThat(toHex(CborNodeWriter.toBytes(node)), equalTo("d90100a263616263d81900626162626162"));
+    }
+
+    @Test
+    public void roundTripsLargeStringTables() {
+        // Exercises each size of stringref index and the thresholds for adding strings to the table.
+        List<Node> elements = new ArrayList<>();
+        for (int i = 0; i < 70000; i++) {
+            elements.add(Node.from("s" + i));
+        }
+        elements.addAll(new ArrayList<>(elements));
+        Node node = Node.fromNodes(elements);
+
+        assertThat(CborNodeReader.parse(CborNodeWriter.toBytes(node)), equalTo(node));
+    }
+
+    @Test
+    public void roundTripsLargeStrings() {
+        StringBuilder ascii = new StringBuilder();
+        StringBuilder unicode = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            ascii.append((char) ('a' + i % 26));
+            unicode.append(i % 2 == 0 ? "\u00e9" : "\ud83d\ude00");
+        }
+        Node node = Node.arrayNode(Node.from(ascii.toString()), Node.from(unicode.toString()));
+
+        assertThat(readAll(new OneByteInputStream(CborNodeWriter.toBytes(node))), equalTo(ListUtils.of(node)));
+    }
+
+    @Test
+    public void writesAndReadsMultipleItemsFromStreams() {
+        Node first = Node.parse(createModel(), "a.json");
+        Node second = Node.objectNode().withMember("shapes", "shapes");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (CborNodeWriter writer = new CborNodeWriter(bytes, true)) {
+            writer.write(first);
+            writer.write(second);
+        }
+
+        List<Node> result = readAll(new OneByteInputStream(bytes.toByteArray()));
+
+        assertThat(result, equalTo(ListUtils.of(first, second)));
+        assertLocations(result.get(0), first, true);
+    }
+
+    private static List<Node> readAll(InputStream stream) {
+        CborNodeReader reader = new CborNodeReader(stream);
+        List<Node> result = new ArrayList<>();
+        Optional<Node> next;
+        while ((next = reader.read()).isPresent()) {
+            result.add(next.get());
+        }
+        return result;
+    }
+
+    private static void assertLocations(Node actual, Node expected, boolean includeLocations) {
+        SourceLocation location = includeLocations ? expected.getSourceLocation() : SourceLocation.none();
+        assertThat(actual.getSourceLocation(), equalTo(location));
+        if (actual.isObjectNode()) {
+            Map<StringNode, Node> expectedMembers = expected.expectObjectNode().getMembers();
+            for (Map.Entry<StringNode, Node> entry : actual.expectObjectNode().getMembers().entrySet()) {
+                StringNode expectedKey = findKey(expectedMembers, entry.getKey());
+                assertThat(entry.getKey().getSourceLocation(),
+                        equalTo(includeLocations ? expectedKey.getSourceLocation() : SourceLocation.none()));
+                assertLocations(entry.getValue(), expectedMembers.get(expectedKey), includeLocations);
+            }
+        } else if (actual.isArrayNode()) {
+            List<Node> expectedElements = expected.expectArrayNode().getElements();
+            List<Node> actualElements = actual.expectArrayNode().getElements();
+            for (int i = 0; i < actualElements.size(); i++) {
+                assertLocations(actualElements.get(i), expectedElements.get(i), includeLocations);
+            }
+        }
+    }
+
+    private static StringNode findKey(Map<StringNode, Node> members, StringNode key) {
+        for (StringNode candidate : members.keySet()) {
+            if (candidate.equals(key)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String createModel() {
+        StringBuilder builder = new StringBuilder("{\n  \"smithy\": \"2.0\",\n  \"shapes\": {\n");
+        for (int i = 0; i < 50; i++) {
+            builder.append("    \"smithy.example#Shape").append(i).append("\": {\n")
+                    .append("      \"type\": \"structure\",\n")
+                    .append("      \"members\": {\n")
+                    .append("        \"foo\": {\"target\": \"smithy.api#String\"},\n")
+                    .append("        \"bar\": {\"target\": \"smithy.api#Integer\", \"traits\": {")
+                    .append("\"smithy.api#range\": {\"min\": -").append(i).append(", \"max\": 1.5}}}\n")
+                    .append("      },\n")
+                    .append("      \"traits\": {\"smithy.api#tags\": [\"a\", \"b\", null, true, false]}\n")
+                    .append("    }").append(i < 49 ? ",\n" : "\n");
+        }
+        return builder.append("  }\n}\n").toString();
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder result = new StringBuilder();
+        for (byte b : bytes) {
+            result.append(String.format("%02x", b & 0xff));
+        }
+        return result.toString();
+    }
+
+    // Returns at most one byte from each read to test reading data items that span reads.
+    private static final class OneByteInputStream extends ByteArrayInputStream {
+        OneByteInputStream(byte[] bytes) {
+            super(bytes);
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.node;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+public class CompactNodeMapTest {
+
+    public static Stream<Integer> sizes() {
+        return Stream.of(0, 1, 2, CompactNodeMap.LINEAR_SCAN_THRESHOLD, CompactNodeMap.LINEAR_SCAN_THRESHOLD + 1, 100);
+    }
+
+    @ParameterizedTest
+    @MethodSource("sizes")
+    public void behavesLikeLinkedHashMap(int size) {
+        Map<StringNode, Node> expected = new LinkedHashMap<>();
+        // Insert in reverse order to ensure insertion order is kept rather than sorted.
+        for (int i = size - 1; i >= 0; i--) {
+            expected.put(Node.from("key" + i), Node.from(i));
+        }
+        CompactNodeMap map = CompactNodeMap.copyOf(expected);
+
+        assertThat(map, equalTo(expected));
+        assertThat(expected, equalTo(map));
+        assertThat(map.hashCode(), equalTo(expected.hashCode()));
+        assertThat(map.size(), equalTo(size));
+        assertThat(new ArrayList<>(map.keySet()), equalTo(new ArrayList<>(expected.keySet())));
+        assertThat(new ArrayList<>(map.values()), equalTo(new ArrayList<>(expected.values())));
+        assertThat(new ArrayList<>(map.getStringMap().keySet()), equalTo(keyNames(expected)));
+
+        for (int i = 0; i < size; i++) {
+            assertThat(map.get(Node.from("key" + i)), equalTo(Node.from(i)));
+            assertThat(map.getByName("key" + i), equalTo(Node.from(i)));
+            assertThat(map.getStringMap().get("key" + i), equalTo(Node.from(i)));
+            assertThat(map.containsKey(Node.from("key" + i)), is(true));
+        }
+
+        assertThat(map.get(Node.from("missing")), nullValue());
+        assertThat(map.get("key0"), nullValue());
+        assertThat(map.getByName("missing"), nullValue());
+        assertThat(map.indexOf("missing"), equalTo(-1));
+    }
+
+    @Test
+    public void findsCollidingKeys() {
+        // "Aa" and "BB" have the same hash code.
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            members.put(Node.from("Aa" + i), Node.from(i));
+            members.put(Node.from("BB" + i), Node.from(-i));
+        }
+        CompactNodeMap map = CompactNodeMap.copyOf(members);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(map.getByName("Aa" + i), equalTo(Node.from(i)));
+            assertThat(map.getByName("BB" + i), equalTo(Node.from(-i)));
+        }
+    }
+
+    @Test
+    public void isImmutable() {
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        members.put(Node.from("a"), Node.from(1));
+        CompactNodeMap map = CompactNodeMap.copyOf(members);
+
+        assertThrows(UnsupportedOperationException.class, () -> map.put(Node.from("b"), Node.from(2)));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove(Node.from("a")));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(null));
+        assertThrows(UnsupportedOperationException.class, () -> map.getStringMap().put("b", Node.from(2)));
+
+        // Changes to the copied map aren't visible.
+        members.put(Node.from("b"), Node.from(2));
+        assertThat(map.size(), equalTo(1));
+    }
+
+    @Test
+    public void reusesCompactMaps() {
+        Map<StringNode, Node> members = new LinkedHashMap<>();
+        members.put(Node.from("a"), Node.from(1));
+        CompactNodeMap map = CompactNodeMap.copyOf(members);
+
+        assertThat(CompactNodeMap.copyOf(map), sameInstance(map));
+        assertThat(CompactNodeMap.copyOf(new LinkedHashMap<>()), sameInstance(CompactNodeMap.EMPTY));
+    }
+
+    @Test
+    public void objectNodeKeepsMemberOrder() {
+        ObjectNode node = Node.objectNodeBuilder()
+                .withMember("z", 1)
+                .withMember("a", 2)
+                .withMember("m", 3)
+                .build()
+                .withMember("a", 4)
+                .withMember("b", 5);
+
+        assertThat(node.getStringMap().keySet(), contains("z", "a", "m", "b"));
+        assertThat(node.expectNumberMember("a").getValue(), equalTo(4));
+        assertThat(node.containsMember("m"), is(true));
+        assertThat(node.containsMember("q"), is(false));
+    }
+
+    @Test
+    public void appendsWithoutChangingPreviousMaps() {
+        List<CompactNodeMap> maps = new ArrayList<>();
+        CompactNodeMap map = CompactNodeMap.EMPTY;
+        maps.add(map);
+        for (int i = 0; i < CompactNodeMap.LINEAR_SCAN_THRESHOLD * 3; i++) {
+            map = map.with(Node.from("key" + i), Node.from(i));
+            maps.add(map);
+        }
+
+        for (int i = 0; i < maps.size(); i++) {
+            CompactNodeMap previous = maps.get(i);
+            assertThat(previous.size(), equalTo(i));
+            assertThat(previous.getByName("key" + i), nullValue());
+            assertThat(previous.indexOf("key" + i), equalTo(-1));
+            for (int j = 0; j < i; j++) {
+                assertThat(previous.getByName("key" + j), equalTo(Node.from(j)));
+            }
+        }
+    }
+
+    @Test
+    public void branchesFromSharedMaps() {
+        CompactNodeMap base = CompactNodeMap.EMPTY.with(Node.from("a"), Node.from(1));
+        CompactNodeMap left = base.with(Node.from("b"), Node.from(2));
+        CompactNodeMap right = base.with(Node.from("c"), Node.from(3));
+        CompactNodeMap leftAgain = left.with(Node.from("d"), Node.from(4));
+        CompactNodeMap rightAgain = base.with(Node.from("e"), Node.from(5));
+
+        assertThat(new ArrayList<>(base.getStringMap().keySet()), contains("a"));
+        assertThat(new ArrayList<>(left.getStringMap().keySet()), contains("a", "b"));
+        assertThat(new ArrayList<>(right.getStringMap().keySet()), contains("a", "c"));
+        assertThat(new ArrayList<>(leftAgain.getStringMap().keySet()), contains("a", "b", "d"));
+        assertThat(new ArrayList<>(rightAgain.getStringMap().keySet()), contains("a", "e"));
+        assertThat(right.getByName("b"), nullValue());
+        assertThat(rightAgain.getByName("c"), nullValue());
+    }
+
+    @Test
+    public void replacesValuesInPlace() {
+        StringNode key = Node.from("a");
+        CompactNodeMap map = CompactNodeMap.EMPTY
+                .with(key, Node.from(1))
+                .with(Node.from("b"), Node.from(2));
+        CompactNodeMap updated = map.with(Node.from("a"), Node.from(3));
+
+        assertThat(new ArrayList<>(updated.keySet()), contains(Node.from("a"), Node.from("b")));
+        assertThat(updated.keySet().iterator().next(), sameInstance(key));
+        assertThat(updated.getByName("a"), equalTo(Node.from(3)));
+        assertThat(map.getByName("a"), equalTo(Node.from(1)));
+        assertThat(updated.with(Node.from("a"), updated.getByName("a")), sameInstance(updated));
+    }
+
+    @Test
+    public void mergesMaps() {
+        CompactNodeMap left = CompactNodeMap.EMPTY
+                .with(Node.from("a"), Node.from(1))
+                .with(Node.from("b"), Node.from(2));
+        CompactNodeMap disjoint = CompactNodeMap.EMPTY.with(Node.from("c"), Node.from(3));
+        CompactNodeMap overlapping = CompactNodeMap.EMPTY
+                .with(Node.from("b"), Node.from(4))
+                .with(Node.from("d"), Node.from(5));
+
+        assertThat(new ArrayList<>(left.withAll(disjoint).getStringMap().keySet()), contains("a", "b", "c"));
+        CompactNodeMap merged = left.withAll(overlapping);
+        assertThat(new ArrayList<>(merged.getStringMap().keySet()), contains("a", "b", "d"));
+        assertThat(merged.getByName("b"), equalTo(Node.from(4)));
+        assertThat(left.size(), equalTo(2));
+        assertThat(left.withAll(CompactNodeMap.EMPTY), sameInstance(left));
+    }
+
+    @Test
+    public void removesMembers() {
+        CompactNodeMap map = CompactNodeMap.EMPTY
+                .with(Node.from("a"), Node.from(1))
+                .with(Node.from("b"), Node.from(2));
+
+        assertThat(new ArrayList<>(map.without("a").getStringMap().keySet()), contains("b"));
+        assertThat(map.without("a").without("b"), sameInstance(CompactNodeMap.EMPTY));
+        assertThat(map.without("c"), sameInstance(map));
+        assertThat(map.size(), equalTo(2));
+    }
+
+    private static List<String> keyNames(Map<StringNode, Node> map) {
+        List<String> result = new ArrayList<>();
+        map.keySet().forEach(key -> result.add(key.getValue()));
+        return result;
+    }
+}
@@ -7,7 +7,12 @@ package software.amazon.smithy.model.node;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 public class NodeDiffTest {
@@ -32,6 +37,14 @@ public class NodeDiffTest {
                 contains("[]: Expected `1` but found `2`"));
     }
 
+    @Test
+    public void comparesEqualNumbersOfDifferentTypes() {
+        Node actual = Node.objectNode().withMember("a", Node.fromNodes(Node.from(0.1f)));
+        Node expected = Node.objectNode().withMember("a", Node.fromNodes(Node.from(0.10000000149011612)));
+
+        assertThat(NodeDiff.diff(actual, expected), empty());
+    }
+
     @Test
     public void comparesStrings() {
         assertThat(NodeDiff.diff(Node.from("pop"), Node.from("pop")), empty());
@@ -151,4 +164,58 @@ public class NodeDiffTest {
                 contains(
                         "[/foo[1]/baz[1]/crackle]: Expected `\"pop\"` but found `\"quux\"`"));
     }
+
+    @Test
+    public void streamsDifferencesWithPointers() {
+        Node expected = Node.objectNode()
+                .withMember("a/b", Node.arrayNode(Node.from(1), Node.from(2)))
+                .withMember("same", Node.objectNode().withMember("x", 1))
+                .withMember("missing", true);
+        Node actual = Node.objectNode()
+                .withMember("a/b", Node.arrayNode(Node.from(1), Node.from(3), Node.from(4)))
+                .withMember("same", Node.objectNode().withMember("x", 1))
+                .withMember("extra~", "hi");
+        List<String> pointers = new ArrayList<>();
+        List<String> messages = new ArrayList<>();
+
+        Node.diff(actual, expected, Integer.MAX_VALUE, difference -> {
+            pointers.add(difference.getPointer().toString());
+            messages.add(difference.getMessage());
+        });
+
+        assertThat(pointers, contains("/a~1b/1", "/a~1b/2", "/extra~0", "/missing"));
+        assertThat(NodePointer.parse(pointers.get(0)).getValue(actual), equalTo(Node.from(3)));
+        Collections.sort(messages);
+        assertThat(messages, equalTo(NodeDiff.diff(actual, expected)));
+    }
+
+    @Test
+    public void reportsActualAndExpectedValues() {
+        List<NodeDifference> differences = new ArrayList<>();
+        Node.diff(Node.objectNode().withMember("a", 1),
+                Node.objectNode().withMember("b", 2),
+                Integer.MAX_VALUE,
+                differences::add);
+
+        assertThat(differences.get(0).getActual(), equalTo(Optional.of(Node.from(1))));
+        assertThat(differences.get(0).getExpected(), equalTo(Optional.empty()));
+        assertThat(differences.get(1).getActual(), equalTo(Optional.empty()));
+        assertThat(differences.get(1).getExpected(), equalTo(Optional.of(Node.from(2))));
+    }
+
+    @Test
+    public void stopsAfterMaxDifferences() {
+        ArrayNode.Builder actual = ArrayNode.builder();
+        ArrayNode.Builder expected = ArrayNode.builder();
+        for (int i = 0; i < 100; i++) {
+            actual.withValue(Node.objectNode().withMember("value", i));
+            expected.withValue(Node.objectNode().withMember("value", -i));
+        }
+        List<String> pointers = new ArrayList<>();
+
+        Node.diff(actual.build(), expected.build(), 2, difference -> pointers.add(difference.getPointer().toString()));
+        Node.diff(actual.build(), expected.build(), 0, difference -> pointers.add("unexpected"));
+
+        assertThat(pointers, contains("/1/value", "/2/value"));
+    }
 }
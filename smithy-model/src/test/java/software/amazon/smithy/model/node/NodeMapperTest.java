@@ -1666,4 +1666,54 @@ public class NodeMapperTest {
             this.bytes = bytes;
         }
     }
+
+    @Test
+    public void roundTripsPublicBeansWithPrimitives() {
+        NodeMapper mapper = new NodeMapper();
+        Node input = Node.objectNode().withMember("count", 10).withMember("enabled", true);
+        PrimitiveBean result = mapper.deserialize(input, PrimitiveBean.class);
+
+        assertThat(result.getCount(), equalTo(10));
+        assertThat(result.isEnabled(), is(true));
+        assertThat(mapper.serialize(result), equalTo(input));
+    }
+
+    @Test
+    public void reportsErrorsThrownBySettersOfPublicBeans() {
+        NodeMapper mapper = new NodeMapper();
+        Node input = Node.objectNode().withMember("count", -1);
+
+        NodeDeserializationException e = Assertions.assertThrows(
+                NodeDeserializationException.class,
+                () -> mapper.deserialize(input, PrimitiveBean.class));
+
+        assertThat(e.getMessage(),
+                equalTo("Deserialization error at (/): unable to create "
+                        + "software.amazon.smithy.model.node.NodeMapperTest$PrimitiveBean from {\"count\":-1}: "
+                        + "Unable to deserialize a Node when invoking target constructor: Invalid count"));
+    }
+
+    public static final class PrimitiveBean {
+        private int count;
+        private boolean enabled;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Invalid count");
+            }
+            this.count = count;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
 }
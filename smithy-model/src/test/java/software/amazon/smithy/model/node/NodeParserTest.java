@@ -9,9 +9,19 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
 
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.smithy.model.SourceLocation;
 import software.amazon.smithy.model.loader.ModelSyntaxException;
 
 public class NodeParserTest {
@@ -213,4 +223,145 @@ public class NodeParserTest {
 
         assertThat(e.getMessage(), startsWith("Error parsing JSON: "));
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"a\": [1, -2, 3.5, 1e3, 12345678901234567890, true, false, null]}",
+            "{\n  \"caf\u00e9\": \"\u4e2d\u6587\",\n  \"b\": \"\ud83d\ude00\", \"c\": \"x\\u00e9\\n\"\n}\n",
+            "[\"\u00e9\u00e9\", {\"key\": {\"key\": \"key\"}}, \"\\\"quoted\\\"\"]",
+            "{\"a\": \"\u00e9\u00e9\" x}",
+            "[\"\u00e9\", \"bad\u0001\"]",
+            "[\"\\q\"]",
+            "{\"a\":",
+            "[01]",
+            ""
+    })
+    public void parsesBytesLikeStrings(String json) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        String expected = describeParse(() -> Node.parse(json, "file.json"));
+
+        assertThat(describeParse(() -> Node.parse(new ByteArrayInputStream(bytes), "file.json")), equalTo(expected));
+        assertThat(describeParse(() -> Node.parse(ByteBuffer.wrap(bytes), "file.json")), equalTo(expected));
+        assertThat(describeParse(() -> Node.parseLazily(new ByteArrayInputStream(bytes), "file.json")),
+                equalTo(expected));
+    }
+
+    @Test
+    public void parsesLargeValuesLazily() {
+        String json = createLargeDocument("");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        Node expected = Node.parse(json, "file.json");
+        Node result = Node.parseLazily(new ByteArrayInputStream(bytes), "file.json");
+
+        // Compare hash codes and equality before any contents are accessed by describing them.
+        assertThat(result.hashCode(), equalTo(expected.hashCode()));
+        assertThat(result, equalTo(expected));
+        assertThat(describeParse(() -> Node.parseLazily(new ByteArrayInputStream(bytes), "file.json")),
+                equalTo(describeParse(() -> expected)));
+        assertThat(Node.printJson(Node.parseLazily(new ByteArrayInputStream(bytes), "file.json")),
+                equalTo(Node.printJson(expected)));
+    }
+
+    @Test
+    public void reportsErrorsInLargeValuesWhenParsingLazily() {
+        String json = createLargeDocument("\\q");
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        String expected = describeParse(() -> Node.parse(json, "file.json"));
+
+        assertThat(expected, startsWith("Error parsing JSON"));
+        assertThat(describeParse(() -> Node.parseLazily(new ByteArrayInputStream(bytes), "file.json")),
+                equalTo(expected));
+    }
+
+    @Test
+    public void parsesLazilyFromMultipleThreads() throws Exception {
+        byte[] bytes = createLargeDocument("").getBytes(StandardCharsets.UTF_8);
+        ObjectNode result = Node.parseLazily(new ByteArrayInputStream(bytes), "file.json").expectObjectNode();
+        List<Thread> threads = new ArrayList<>();
+        List<Node> values = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < 4; i++) {
+            threads.add(new Thread(() -> values.add(result.expectArrayMember("items").get(0).get())));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(values.size(), equalTo(4));
+        for (Node value : values) {
+            assertThat(value == values.get(0), is(true));
+        }
+    }
+
+    @Test
+    public void parsesByteBufferFromPosition() {
+        ByteBuffer buffer = ByteBuffer.wrap("xx[1]".getBytes(StandardCharsets.UTF_8));
+        buffer.position(2);
+        Node result = Node.parse(buffer.slice(), "file.json");
+
+        assertThat(result, equalTo(Node.arrayNode(Node.from(1))));
+        assertThat(result.getSourceLocation().getColumn(), equalTo(1));
+    }
+
+    @Test
+    public void decodesLazyNumbers() {
+        ArrayNode result = Node.parse("[0, -1, 123456789012345678, 1234567890123456789]").expectArrayNode();
+
+        assertThat(result.get(0).get().expectNumberNode().getValue(), equalTo(0L));
+        assertThat(result.get(1).get().expectNumberNode().isNegative(), is(true));
+        assertThat(result.get(2).get().expectNumberNode().getValue(), equalTo(123456789012345678L));
+        assertThat(result.get(3).get().expectNumberNode().getValue(), equalTo(1234567890123456789L));
+        assertThat(result.get(1).get(), equalTo(Node.from(-1L)));
+        assertThat(result.get(1).get().hashCode(), equalTo(Node.from(-1L).hashCode()));
+    }
+
+    // Creates a document with nested values that are large enough to be deferred, including
+    // groups of items that are deferred within the deferred list of groups. The given suffix
+    // is added to the last string of the document.
+    private static String createLargeDocument(String lastStringSuffix) {
+        StringBuilder json = new StringBuilder("{\n  \"items\": [");
+        for (int group = 0; group < 10; group++) {
+            json.append(group == 0 ? "\n    [" : ",\n    [");
+            for (int i = 0; i < 20; i++) {
+                json.append(i == 0 ? "\n" : ",\n")
+                        .append("      {\"name\": \"caf\u00e9 ")
+                        .append(i)
+                        .append("\", \"tags\": [\"\ud83d\ude00\", \"x\\n\"],")
+                        .append(" \"nested\": {\"values\": [1, 2.5, true, null], \"text\": \"")
+                        .append(group == 9 && i == 19 ? lastStringSuffix : "")
+                        .append("\"}}");
+            }
+            json.append("\n    ]");
+        }
+        return json.append("\n  ],\n  \"after\": {}\n}\n").toString();
+    }
+
+    private static String describeParse(Supplier<Node> parser) {
+        try {
+            List<String> result = new ArrayList<>();
+            describe(parser.get(), result);
+            return String.join("\n", result);
+        } catch (ModelSyntaxException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static void describe(Node node, List<String> result) {
+        SourceLocation location = node.getSourceLocation();
+        result.add(node.getType() + " " + location.getLine() + ":" + location.getColumn());
+        if (node.isObjectNode()) {
+            for (Map.Entry<StringNode, Node> entry : node.expectObjectNode().getMembers().entrySet()) {
+                result.add(entry.getKey().getValue() + " " + entry.getKey().getSourceLocation().getLine()
+                        + ":" + entry.getKey().getSourceLocation().getColumn());
+                describe(entry.getValue(), result);
+            }
+        } else if (node.isArrayNode()) {
+            for (Node element : node.expectArrayNode().getElements()) {
+                describe(element, result);
+            }
+        } else {
+            result.add(node.toString());
+        }
+    }
 }
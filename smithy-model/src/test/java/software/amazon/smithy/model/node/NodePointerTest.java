@@ -7,9 +7,13 @@ package software.amazon.smithy.model.node;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import software.amazon.smithy.utils.Pair;
 
 // See https://github.com/json-patch/json-patch-tests/blob/master/tests.json
 public class NodePointerTest {
@@ -321,4 +325,74 @@ public class NodePointerTest {
 
         assertThat(result, equalTo(Node.parse("{\"a\": {\"b\": {\"c\": true } } }")));
     }
+
+    @Test
+    public void addsManyValuesInOrder() {
+        Node node = Node.parse("{\"foo\": [1, 2], \"bar\": {\"baz\": true}}");
+        List<Pair<NodePointer, Node>> values = new ArrayList<>();
+        values.add(Pair.of(NodePointer.parse("/foo/0"), Node.from(0)));
+        values.add(Pair.of(NodePointer.parse("/foo/-"), Node.from(3)));
+        values.add(Pair.of(NodePointer.parse("/foo/1"), Node.from("a")));
+        values.add(Pair.of(NodePointer.parse("/bar/baz"), Node.from(false)));
+        values.add(Pair.of(NodePointer.parse("/bar/qux"), Node.objectNode()));
+        values.add(Pair.of(NodePointer.parse("/bar/qux/a"), Node.from(1)));
+        values.add(Pair.of(NodePointer.parse("/missing/a"), Node.from(1)));
+        values.add(Pair.of(NodePointer.parse("/foo/10"), Node.from(1)));
+        Node result = NodePointer.addValues(node, values);
+
+        Node expected = node;
+        for (Pair<NodePointer, Node> entry : values) {
+            expected = entry.getKey().addValue(expected, entry.getValue());
+        }
+
+        assertThat(result, equalTo(expected));
+        assertThat(result, equalTo(Node.parse(
+                "{\"foo\": [0, \"a\", 1, 2, 3], \"bar\": {\"baz\": false, \"qux\": {\"a\": 1}}}")));
+    }
+
+    @Test
+    public void addsManyValuesToTheSamePointer() {
+        List<Pair<NodePointer, Node>> values = new ArrayList<>();
+        values.add(Pair.of(NodePointer.parse("/arr/-"), Node.from(1)));
+        values.add(Pair.of(NodePointer.parse("/arr/-"), Node.from(2)));
+        Node result = NodePointer.addValues(Node.parse("{\"arr\": []}"), values);
+
+        assertThat(result, equalTo(Node.parse("{\"arr\": [1, 2]}")));
+    }
+
+    @Test
+    public void addsManyValuesWithIntermediateValues() {
+        List<Pair<NodePointer, Node>> values = new ArrayList<>();
+        values.add(Pair.of(NodePointer.parse("/definitions/A"), Node.from("a")));
+        values.add(Pair.of(NodePointer.parse("/definitions/B/c"), Node.from("c")));
+        values.add(Pair.of(NodePointer.parse("/components/schemas/C"), Node.from(true)));
+        Node result = NodePointer.addValuesWithIntermediateValues(Node.objectNode(), values);
+
+        assertThat(result, equalTo(Node.parse("{\"definitions\": {\"A\": \"a\", \"B\": {\"c\": \"c\"}}, "
+                + "\"components\": {\"schemas\": {\"C\": true}}}")));
+    }
+
+    @Test
+    public void addsManyValuesAfterReplacingDocument() {
+        List<Pair<NodePointer, Node>> values = new ArrayList<>();
+        values.add(Pair.of(NodePointer.parse("/a"), Node.from(1)));
+        values.add(Pair.of(NodePointer.empty(), Node.arrayNode()));
+        values.add(Pair.of(NodePointer.parse("/-"), Node.from(2)));
+        Node result = NodePointer.addValues(Node.objectNode(), values);
+
+        assertThat(result, equalTo(Node.fromNodes(Node.from(2))));
+    }
+
+    @Test
+    public void addingManyValuesKeepsSourceLocations() {
+        Node node = Node.parse("{\"foo\": {\"bar\": [1]}, \"baz\": 2}", "a.json");
+        List<Pair<NodePointer, Node>> values = new ArrayList<>();
+        values.add(Pair.of(NodePointer.parse("/foo/bar/-"), Node.from(2)));
+        ObjectNode result = NodePointer.addValues(node, values).expectObjectNode();
+
+        assertThat(result.getSourceLocation(), equalTo(node.getSourceLocation()));
+        assertThat(result.expectObjectMember("foo").getSourceLocation(),
+                equalTo(node.expectObjectNode().expectObjectMember("foo").getSourceLocation()));
+        assertThat(result.expectMember("baz"), sameInstance(node.expectObjectNode().expectMember("baz")));
+    }
 }
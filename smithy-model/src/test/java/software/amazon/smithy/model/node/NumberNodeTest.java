@@ -279,6 +279,26 @@ public class NumberNodeTest {
         assertThat(left, equalTo(right));
     }
 
+    @Test
+    public void equalNumbersOfDifferentTypesHaveEqualHashCodes() {
+        Node left = Node.from(0.1f);
+        Node right = Node.from(0.10000000149011612);
+
+        assertThat(left, equalTo(right));
+        assertThat(left.hashCode(), equalTo(right.hashCode()));
+        assertThat(Node.fromNodes(left), equalTo(Node.fromNodes(right)));
+        assertThat(Node.objectNode().withMember("a", left), equalTo(Node.objectNode().withMember("a", right)));
+    }
+
+    @Test
+    public void hashesNonFiniteNumbers() {
+        assertThat(Node.from(Double.NaN).hashCode(), equalTo(Node.from(Float.NaN).hashCode()));
+        assertThat(Node.from(Double.POSITIVE_INFINITY).hashCode(),
+                equalTo(Node.from(Float.POSITIVE_INFINITY).hashCode()));
+        assertThat(Node.from(Double.NEGATIVE_INFINITY).hashCode(),
+                equalTo(Node.from(Float.NEGATIVE_INFINITY).hashCode()));
+    }
+
     @Test
     public void detectsNegativeValues() {
         assertThat(NumberNode.from(Double.NEGATIVE_INFINITY).isNegative(), is(true));
@@ -290,6 +290,28 @@ public class ObjectNodeTest {
         assertFalse(o1.hashCode() == o3.hashCode());
     }
 
+    @Test
+    public void equalityIgnoresMemberOrderAndUsesDeepValues() {
+        ObjectNode o1 = Node.objectNode()
+                .withMember("a", Node.objectNode().withMember("nested", Node.arrayNode(Node.from(1))))
+                .withMember("b", true);
+        ObjectNode o2 = Node.objectNode()
+                .withMember("b", true)
+                .withMember("a", Node.objectNode().withMember("nested", Node.arrayNode(Node.from(1))));
+        ObjectNode o3 = Node.objectNode()
+                .withMember("a", Node.objectNode().withMember("nested", Node.arrayNode(Node.from(2))))
+                .withMember("b", true);
+
+        // Compute and cache hash codes before and after comparisons to ensure they're stable.
+        int hash = o1.hashCode();
+        assertTrue(o1.equals(o2));
+        assertTrue(o2.equals(o1));
+        assertFalse(o1.equals(o3));
+        assertFalse(o3.equals(o1));
+        assertTrue(o1.hashCode() == hash);
+        assertTrue(o1.hashCode() == o2.hashCode());
+    }
+
     @Test
     public void convertsToObjectNode() {
         assertTrue(Node.objectNode().asObjectNode().isPresent());
@@ -8,16 +8,22 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URISyntaxException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
@@ -48,6 +54,7 @@ public class ModelSerializerTest {
     private void testRoundTripV2(Path path) {
         testV2Serialization(path, path);
         testV1DowngradeSerialization(path, Paths.get(path.toString().replace(".json", ".1.0.json")));
+        testStreamingSerialization(path);
     }
 
     @TestFactory
@@ -61,6 +68,7 @@ public class ModelSerializerTest {
     private void testRoundTripV1(Path path) {
         testV2Serialization(path, Paths.get(path.toString().replace(".json", ".2.0.json")));
         testV1DowngradeSerialization(path, path);
+        testStreamingSerialization(path);
     }
 
     private void testV2Serialization(Path path, Path expectedV2Path) {
@@ -81,6 +89,55 @@ public class ModelSerializerTest {
         Node.assertEquals(model1, expectedDowngrade);
     }
 
+    private void testStreamingSerialization(Path path) {
+        Model model = Model.assembler().addImport(path).assemble().unwrap();
+
+        for (ModelSerializer serializer : Arrays.asList(
+                ModelSerializer.builder().build(),
+                ModelSerializer.builder().version("1.0").build())) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            serializer.serialize(model, out);
+
+            assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                    equalTo(Node.prettyPrintJson(serializer.serialize(model))));
+        }
+    }
+
+    @Test
+    public void streamsModelsWithNoShapes() {
+        Model model = Model.builder().putMetadataProperty("foo", Node.from("caf\u00e9")).build();
+        ModelSerializer serializer = ModelSerializer.builder().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(model, out);
+        String result = new String(out.toByteArray(), StandardCharsets.UTF_8);
+
+        assertThat(result, equalTo(Node.prettyPrintJson(serializer.serialize(model))));
+        assertThat(result, containsString("\"shapes\": {}"));
+    }
+
+    @Test
+    public void streamsSurrogatePairs() {
+        Model model = Model.builder().putMetadataProperty("foo", Node.from("\uD83D\uDE00")).build();
+        ModelSerializer serializer = ModelSerializer.builder().build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        serializer.serialize(model, out);
+
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8),
+                equalTo(Node.prettyPrintJson(serializer.serialize(model))));
+    }
+
+    @Test
+    public void rejectsUnpairedSurrogatesWhenStreaming() {
+        for (String value : Arrays.asList("a\uD83D", "\uDE00a", "\uD83Da")) {
+            Model model = Model.builder().putMetadataProperty("foo", Node.from(value)).build();
+            ModelSerializer serializer = ModelSerializer.builder().build();
+
+            UncheckedIOException e = Assertions.assertThrows(UncheckedIOException.class,
+                    () -> serializer.serialize(model, new ByteArrayOutputStream()));
+            assertThat(e.getCause(), instanceOf(MalformedInputException.class));
+        }
+    }
+
     @Test
     public void testSerializationDoesntChangeErrorSemanticEquality() throws URISyntaxException {
         String filename = "ast-serialization/out-of-order-errors.json";
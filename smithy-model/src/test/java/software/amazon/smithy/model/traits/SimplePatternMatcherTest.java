@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.traits;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.smithy.utils.ListUtils;
+
+public class SimplePatternMatcherTest {
+
+    private static final String[] VALUES = {
+            "",
+            "a",
+            "abc",
+            "ABC",
+            "abc123",
+            "abc-123_x",
+            "arn:aws:s3:::bucket",
+            "arn:aws",
+            "2024-01-01",
+            "2024-1-01",
+            "foo bar",
+            " ",
+            "\t",
+            "\u00e9",
+            "ab.cd",
+            "a\n",
+            "abc\r\n",
+            "\uD83D\uDE00",
+            "a\uD83D\uDE00b",
+            "0123456789012345678901234567890123456789012345678901234567890123456789"};
+
+    @ParameterizedTest
+    @MethodSource("simplePatterns")
+    public void matchesLikeRegex(String regex) {
+        SimplePatternMatcher matcher = SimplePatternMatcher.parse(regex);
+        PatternTrait trait = new PatternTrait(regex);
+
+        assertThat(regex, matcher, notNullValue());
+        for (String value : VALUES) {
+            boolean expected = Pattern.compile(regex).matcher(value).find();
+            assertThat(regex + " against " + value, trait.matches(value), equalTo(expected));
+            if (SimplePatternMatcher.canMatch(value)) {
+                assertThat(regex + " against " + value, matcher.find(value), equalTo(expected));
+            }
+        }
+    }
+
+    public static Stream<String> simplePatterns() {
+        return ListUtils.of(
+                "^",
+                "^$",
+                "^[a-z]+$",
+                "^[a-z]*$",
+                "^[a-zA-Z0-9]+$",
+                "^[a-zA-Z0-9_-]{1,64}$",
+                "^[A-Za-z0-9\\-_]{3}",
+                "^[^a-z]+$",
+                "^[^\\s]*$",
+                "^\\S+$",
+                "^\\w+$",
+                "^[\\w.-]+$",
+                "^\\d{4}-\\d{2}-\\d{2}$",
+                "^arn:",
+                "^arn:aws:[a-z0-9]+",
+                "^abc$",
+                "^a.c",
+                "^.*$",
+                "^.+",
+                "^[a-z]?$",
+                "^[a-z]{2,}$",
+                "^[\u00e0-\u00ff]+$",
+                "^[\\s]+$").stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("complexPatterns")
+    public void doesNotParseComplexPatterns(String regex) {
+        assertThat(regex, SimplePatternMatcher.parse(regex), nullValue());
+
+        // The trait still matches using the regular expression engine.
+        PatternTrait trait = new PatternTrait(regex);
+        for (String value : VALUES) {
+            assertThat(trait.matches(value), equalTo(Pattern.compile(regex).matcher(value).find()));
+        }
+    }
+
+    public static Stream<String> complexPatterns() {
+        return ListUtils.of(
+                "[a-z]+",
+                "^[a-z]+[0-9]+$",
+                "^(abc)+$",
+                "^a|b$",
+                "^[a-z&&[^b]]+$",
+                "^\\bfoo",
+                "^a+?$",
+                "^a*+$",
+                "(?i)^abc$",
+                "^abc$x").stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("simplePatterns")
+    public void sharesCompiledPatterns(String regex) {
+        assertThat(new PatternTrait(regex).getPattern() == new PatternTrait(regex).getPattern(), equalTo(true));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.shapes.MemberShape;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.shapes.StructureShape;
+import software.amazon.smithy.model.traits.LengthTrait;
+import software.amazon.smithy.model.traits.RequiredTrait;
+import software.amazon.smithy.model.validation.node.NodeValidatorPlugin;
+
+public class NodeValidationPlansTest {
+
+    private static final StringShape STRING = StringShape.builder()
+            .id("smithy.example#String")
+            .addTrait(LengthTrait.builder().min(1L).build())
+            .build();
+    private static final StructureShape STRUCT = StructureShape.builder()
+            .id("smithy.example#Struct")
+            .addMember("foo", STRING.getId(), b -> b.addTrait(new RequiredTrait()))
+            .addMember("bar", STRING.getId())
+            .build();
+    private static final Model MODEL = Model.builder().addShapes(STRING, STRUCT).build();
+
+    @Test
+    public void onlyIncludesApplicablePlugins() {
+        NodeValidationPlans plans = NodeValidationPlans.of(MODEL, NodeValidatorPlugin.getBuiltins());
+
+        assertThat(plans.getPlan(STRING).getPlugins(), not(empty()));
+        assertThat(plans.getPlan(STRUCT).getPlugins(), empty());
+    }
+
+    @Test
+    public void resolvesMemberTargetsAndRequiredMembers() {
+        NodeValidationPlans plans = NodeValidationPlans.of(MODEL, NodeValidatorPlugin.getBuiltins());
+        MemberShape foo = STRUCT.getMember("foo").get();
+
+        assertThat(plans.getPlan(foo).getTarget(), equalTo(STRING));
+        assertThat(plans.getPlan(STRUCT).getRequiredMembers(), contains(foo));
+    }
+
+    @Test
+    public void cachesPlansOfShapesInTheModel() {
+        NodeValidationPlans plans = NodeValidationPlans.of(MODEL, NodeValidatorPlugin.getBuiltins());
+
+        assertThat(plans.getPlan(STRUCT), sameInstance(plans.getPlan(STRUCT)));
+        assertThat(NodeValidationPlans.of(MODEL, NodeValidatorPlugin.getBuiltins()), sameInstance(plans));
+    }
+
+    @Test
+    public void doesNotSharePlansWithShapesOutsideOfTheModel() {
+        NodeValidationPlans plans = NodeValidationPlans.of(MODEL, NodeValidatorPlugin.getBuiltins());
+        Shape other = StructureShape.builder()
+                .id(STRUCT.getId())
+                .addMember("baz", ShapeId.from("smithy.api#String"), b -> b.addTrait(new RequiredTrait()))
+                .build();
+
+        assertThat(plans.getPlan(other).getRequiredMembers(), hasSize(1));
+        assertThat(plans.getPlan(other).getRequiredMembers().get(0).getMemberName(), equalTo("baz"));
+        assertThat(plans.getPlan(STRUCT).getRequiredMembers().get(0).getMemberName(), equalTo("foo"));
+    }
+}
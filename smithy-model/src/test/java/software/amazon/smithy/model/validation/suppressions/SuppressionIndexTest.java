@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.model.validation.suppressions;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Collections;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.smithy.model.shapes.Shape;
+import software.amazon.smithy.model.shapes.StringShape;
+import software.amazon.smithy.model.validation.Severity;
+import software.amazon.smithy.model.validation.ValidationEvent;
+import software.amazon.smithy.utils.ListUtils;
+
+public class SuppressionIndexTest {
+
+    private static final Shape SHAPE = StringShape.builder().id("smithy.example#String").build();
+
+    @Test
+    public void findsSuppressionsByHierarchicalId() {
+        Suppression a = new MetadataSuppression("Foo.Bar", "smithy.example", "a");
+        Suppression b = new MetadataSuppression("Baz", "*", "b");
+        SuppressionIndex index = new SuppressionIndex(ListUtils.of(a, b), Collections.emptyList());
+
+        assertThat(index.findSuppression(event("Foo.Bar.Qux", SHAPE)), sameInstance(a));
+        assertThat(index.findSuppression(event("Foo.Bar", SHAPE)), sameInstance(a));
+        assertThat(index.findSuppression(event("Foo", SHAPE)), nullValue());
+        assertThat(index.findSuppression(event("Foo.BarBam", SHAPE)), nullValue());
+        assertThat(index.findSuppression(event("Foo.Bar", null)), nullValue());
+        assertThat(index.findSuppression(event("Baz", null)), sameInstance(b));
+    }
+
+    @Test
+    public void returnsFirstMatchingSuppressionInOrder() {
+        Suppression custom = new Suppression() {
+            @Override
+            public boolean test(ValidationEvent event) {
+                return event.containsId("Foo");
+            }
+
+            @Override
+            public Optional<String> getReason() {
+                return Optional.of("custom");
+            }
+        };
+        Suppression first = new MetadataSuppression("Foo.Bar", "*", "first");
+        Suppression second = new MetadataSuppression("Foo", "smithy.example", "second");
+        SuppressionIndex index = new SuppressionIndex(ListUtils.of(first, custom, second), Collections.emptyList());
+
+        assertThat(index.findSuppression(event("Foo.Bar", SHAPE)), sameInstance(first));
+        assertThat(index.findSuppression(event("Foo.Baz", SHAPE)), sameInstance(custom));
+    }
+
+    @Test
+    public void appliesHighestMatchingSeverityOverride() {
+        SeverityOverride warning = new MetadataSeverityOverride("Foo", "*", Severity.WARNING);
+        SeverityOverride danger = new MetadataSeverityOverride("Foo.Bar", "smithy.example", Severity.DANGER);
+        SuppressionIndex index = new SuppressionIndex(Collections.emptyList(), ListUtils.of(danger, warning));
+
+        assertThat(index.applySeverityOverrides(event("Foo.Bar", SHAPE)), equalTo(Severity.DANGER));
+        assertThat(index.applySeverityOverrides(event("Foo.Baz", SHAPE)), equalTo(Severity.WARNING));
+        assertThat(index.applySeverityOverrides(event("Foo.Bar", null)), equalTo(Severity.WARNING));
+        assertThat(index.applySeverityOverrides(event("Qux", SHAPE)), equalTo(Severity.NOTE));
+    }
+
+    private static ValidationEvent event(String id, Shape shape) {
+        ValidationEvent.Builder builder = ValidationEvent.builder()
+                .id(id)
+                .severity(Severity.NOTE)
+                .message("test");
+        if (shape != null) {
+            builder.shape(shape);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.openapi.jmh;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.smithy.model.Model;
+import software.amazon.smithy.model.node.ObjectNode;
+import software.amazon.smithy.model.shapes.ShapeId;
+import software.amazon.smithy.openapi.OpenApiConfig;
+import software.amazon.smithy.openapi.fromsmithy.OpenApiConverter;
+
+@Warmup(iterations = 3)
+@Measurement(iterations = 3, timeUnit = TimeUnit.MILLISECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+public class OpenApiConversion {
+    @State(Scope.Thread)
+    public static class ConversionState {
+        public Model model;
+        public OpenApiConfig config;
+
+        @Setup
+        public void prepare() {
+            model = Model.assembler()
+                    .addUnparsedModel("large-service.smithy", createModel(1000))
+                    .discoverModels(OpenApiConversion.class.getClassLoader())
+                    .assemble()
+                    .unwrap();
+            config = new OpenApiConfig();
+            config.setService(ShapeId.from("smithy.example#LargeService"));
+        }
+    }
+
+    @Benchmark
+    public ObjectNode convertLargeService(ConversionState state) {
+        return OpenApiConverter.create().config(state.config).convertToNode(state.model);
+    }
+
+    // Creates a restJson1 service with the given number of operations that each have
+    // path, query, header, and payload members and a structured output.
+    private static String createModel(int operations) {
+        StringBuilder result = new StringBuilder();
+        result.append("$version: \"2.0\"\n")
+                .append("namespace smithy.example\n")
+                .append("use aws.protocols#restJson1\n")
+                .append("@restJson1\n")
+                .append("service LargeService {\n")
+                .append("    version: \"2024-01-01\"\n")
+                .append("    operations: [\n");
+        for (int i = 0; i < operations; i++) {
+            result.append("        Operation").append(i).append('\n');
+        }
+        result.append("    ]\n}\n");
+
+        for (int i = 0; i < operations; i++) {
+            result.append("@http(method: \"POST\", uri: \"/resource").append(i).append("/{id}\")\n")
+                    .append("@documentation(\"Operation number ").append(i).append("\")\n")
+                    .append("operation Operation").append(i).append(" {\n")
+                    .append("    input := {\n")
+                    .append("        @required\n")
+                    .append("        @httpLabel\n")
+                    .append("        id: String\n")
+                    .append("        @httpQuery(\"limit\")\n")
+                    .append("        limit: Integer\n")
+                    .append("        @httpHeader(\"X-Token\")\n")
+                    .append("        token: String\n")
+                    .append("        name: String\n")
+                    .append("        tags: TagList\n")
+                    .append("    }\n")
+                    .append("    output := {\n")
+                    .append("        id: String\n")
+                    .append("        created: Timestamp\n")
+                    .append("        details: Details\n")
+                    .append("    }\n")
+                    .append("    errors: [NotFound]\n")
+                    .append("}\n");
+        }
+
+        result.append("list TagList { member: String }\n")
+                .append("structure Details { description: String, size: Long, enabled: Boolean }\n")
+                .append("@error(\"client\")\n")
+                .append("@httpError(404)\n")
+                .append("structure NotFound { message: String }\n");
+        return result.toString();
+    }
+}
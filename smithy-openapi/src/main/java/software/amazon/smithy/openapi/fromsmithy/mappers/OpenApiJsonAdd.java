@@ -4,6 +4,8 @@
  */
 package software.amazon.smithy.openapi.fromsmithy.mappers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 import software.amazon.smithy.model.node.Node;
@@ -14,6 +16,7 @@ import software.amazon.smithy.openapi.OpenApiException;
 import software.amazon.smithy.openapi.fromsmithy.Context;
 import software.amazon.smithy.openapi.fromsmithy.OpenApiMapper;
 import software.amazon.smithy.openapi.model.OpenApi;
+import software.amazon.smithy.utils.Pair;
 import software.amazon.smithy.utils.SmithyInternalApi;
 
 /**
@@ -43,7 +46,7 @@ public final class OpenApiJsonAdd implements OpenApiMapper {
             return node;
         }
 
-        ObjectNode result = node;
+        List<Pair<NodePointer, Node>> additions = new ArrayList<>();
         for (Map.Entry<String, Node> entry : add.entrySet()) {
             try {
                 LOGGER.info(() -> "OpenAPI `jsonAdd`: adding `" + entry.getKey() + "`");
@@ -55,14 +58,12 @@ public final class OpenApiJsonAdd implements OpenApiMapper {
                             + "almost certainly should not do this.");
                 }
 
-                result = NodePointer.parse(entry.getKey())
-                        .addWithIntermediateValues(result, entry.getValue().toNode())
-                        .expectObjectNode();
+                additions.add(Pair.of(NodePointer.parse(entry.getKey()), entry.getValue().toNode()));
             } catch (IllegalArgumentException e) {
                 throw new OpenApiException(e.getMessage(), e);
             }
         }
 
-        return result;
+        return NodePointer.addValuesWithIntermediateValues(node, additions).expectObjectNode();
     }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package software.amazon.smithy.utils;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Records spans of time spent performing operations, like assembling a
+ * model or running a build plugin.
+ *
+ * <p>Spans can be started from any thread, and a span is closed by the
+ * thread that started it. Spans started by a thread while another span is
+ * open on the same thread are nested in that span.
+ *
+ * <pre>{@code
+ * try (Tracer.Span span = tracer.startSpan("plugin", "openapi")) {
+ *     plugin.execute(context);
+ * }
+ * }</pre>
+ */
+@SmithyUnstableApi
+@FunctionalInterface
+public interface Tracer {
+
+    /** A tracer that doesn't record anything. */
+    Tracer NONE = (category, name, args) -> Span.NONE;
+
+    /**
+     * Starts a span.
+     *
+     * @param category Category of the span, like "plugin" or "transform".
+     * @param name Name of the span.
+     * @param args Additional information about the span.
+     * @return Returns the started span.
+     */
+    Span startSpan(String category, String name, Map<String, String> args);
+
+    /**
+     * Starts a span.
+     *
+     * @param category Category of the span, like "plugin" or "transform".
+     * @param name Name of the span.
+     * @return Returns the started span.
+     */
+    default Span startSpan(String category, String name) {
+        return startSpan(category, name, Collections.emptyMap());
+    }
+
+    /**
+     * A span of time that ends when it's closed.
+     */
+    @FunctionalInterface
+    interface Span extends AutoCloseable {
+
+        /** A span that doesn't record anything. */
+        Span NONE = () -> { };
+
+        /**
+         * Ends the span.
+         */
+        @Override
+        void close();
+    }
+}